@@ -0,0 +1,117 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.embrapa.cnpaf.inmetdata.archive.CompressedHourlySeries;
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+import br.embrapa.cnpaf.inmetdata.codec.BitReader;
+import br.embrapa.cnpaf.inmetdata.codec.BitWriter;
+import br.embrapa.cnpaf.inmetdata.codec.DecimalDeltaCodec;
+import br.embrapa.cnpaf.inmetdata.codec.FloatDecoder;
+import br.embrapa.cnpaf.inmetdata.codec.FloatEncoder;
+import br.embrapa.cnpaf.inmetdata.codec.RunLengthCodec;
+import br.embrapa.cnpaf.inmetdata.codec.XorFloatCodec;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+
+/**
+ * <br>
+ * <p>
+ * <b>Benchmark of the codecs of the hourly series: a column encoded and decoded by each codec and a whole series in the compressed format
+ * (CompressedHourlySeries).</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecBenchmark {
+
+	@Param({ "xor", "decimal", "rle" })
+	public String codec;
+
+	@Param({ "INSTANT_TEMPERATURE", "RAIN" })
+	public String column;
+
+	private InmetStationEntity station;
+	private HourlyBatch batch;
+	private float[] values;
+	private byte[] encodedValues;
+	private byte[] encodedSeries;
+
+	@Setup
+	public void setup() throws IOException {
+		this.station = InmetSyntheticData.station(1L, InmetSyntheticData.DEFAULT_STATION_CODE);
+		this.batch = HourlyBatch.of(this.station, InmetSyntheticData.hourlyData(this.station, InmetSyntheticData.DEFAULT_START_DATE, 365, InmetSyntheticData.DEFAULT_SEED));
+
+		// values with one decimal digit, as published by INMET
+		int index = "RAIN".equals(this.column) ? HourlyBatch.RAIN : HourlyBatch.INSTANT_TEMPERATURE;
+		this.values = new float[this.batch.size()];
+		for (int row = 0; row < this.values.length; row++) {
+			this.values[row] = (float) (Math.rint(this.batch.getValue(index, row) * 10) / 10);
+		}
+		this.encodedValues = this.encodeValues().toByteArray();
+		ByteArrayOutputStream series = new ByteArrayOutputStream();
+		CompressedHourlySeries.write(series, this.batch, 0, this.batch.size());
+		this.encodedSeries = series.toByteArray();
+	}
+
+	@Benchmark
+	public ByteArrayOutputStream encodeValues() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(this.values.length * 4);
+		BitWriter bits = new BitWriter(out);
+		FloatEncoder encoder = "xor".equals(this.codec) ? new XorFloatCodec.Encoder(bits)
+				: "decimal".equals(this.codec) ? new DecimalDeltaCodec.Encoder(bits) : new RunLengthCodec.Encoder(bits, RunLengthCodec.FLOAT_BITS);
+		for (float value : this.values) {
+			encoder.write(value);
+		}
+		encoder.finish();
+		bits.flush();
+		return out;
+	}
+
+	@Benchmark
+	public float decodeValues() throws IOException {
+		BitReader bits = new BitReader(new ByteArrayInputStream(this.encodedValues));
+		FloatDecoder decoder = "xor".equals(this.codec) ? new XorFloatCodec.Decoder(bits)
+				: "decimal".equals(this.codec) ? new DecimalDeltaCodec.Decoder(bits) : new RunLengthCodec.Decoder(bits, RunLengthCodec.FLOAT_BITS);
+		float sum = 0;
+		for (int row = 0; row < this.values.length; row++) {
+			sum += decoder.read();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int encodeSeries() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(this.encodedSeries.length);
+		CompressedHourlySeries.write(out, this.batch, 0, this.batch.size());
+		return out.size();
+	}
+
+	@Benchmark
+	public HourlyBatch decodeSeries() throws IOException {
+		return CompressedHourlySeries.read(new ByteArrayInputStream(this.encodedSeries), this.station);
+	}
+}
@@ -0,0 +1,104 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+import br.embrapa.cnpaf.inmetdata.export.CsvWriter;
+
+/**
+ * <br>
+ * <p>
+ * <b>Benchmark of the formatting of a year of hourly data of a station as CSV: the CsvWriter, formatting in a direct buffer, against String.format()
+ * per line. The bytes are discarded, so only the formatting is measured.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvExportBenchmark {
+
+	private HourlyBatch batch;
+	private WritableByteChannel discard;
+
+	@Setup
+	public void setup() {
+		this.batch = HourlyBatch.of(InmetSyntheticData.station(1L, InmetSyntheticData.DEFAULT_STATION_CODE),
+				InmetSyntheticData.hourlyData(InmetSyntheticData.station(1L, InmetSyntheticData.DEFAULT_STATION_CODE), InmetSyntheticData.DEFAULT_START_DATE, 365, InmetSyntheticData.DEFAULT_SEED));
+		this.discard = new WritableByteChannel() {
+
+			@Override
+			public boolean isOpen() {
+				return true;
+			}
+
+			@Override
+			public void close() {
+			}
+
+			@Override
+			public int write(ByteBuffer source) {
+				int bytes = source.remaining();
+				source.position(source.limit());
+				return bytes;
+			}
+		};
+	}
+
+	@Benchmark
+	public long csvWriter() throws IOException {
+		CsvWriter writer = new CsvWriter(this.discard, CsvWriter.DEFAULT_BUFFER_SIZE);
+		for (int row = 0; row < this.batch.size(); row++) {
+			writer.writeDate(this.batch.getMeasurementDate(row)).writeInt(this.batch.getHour(row));
+			for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+				if (this.batch.isValid(column, row)) {
+					writer.writeFloat(this.batch.getValue(column, row));
+				} else {
+					writer.writeNull();
+				}
+			}
+			writer.endLine();
+		}
+		writer.close();
+		return writer.getBytes();
+	}
+
+	@Benchmark
+	public long stringFormat() throws IOException {
+		long bytes = 0;
+		for (int row = 0; row < this.batch.size(); row++) {
+			StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%s,%d", this.batch.getMeasurementDate(row), this.batch.getHour(row)));
+			for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+				line.append(',');
+				if (this.batch.isValid(column, row)) {
+					line.append(String.format(Locale.ROOT, "%s", this.batch.getValue(column, row)));
+				}
+			}
+			bytes += this.discard.write(ByteBuffer.wrap(line.append('\n').toString().getBytes(StandardCharsets.UTF_8)));
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,66 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+import br.embrapa.cnpaf.inmetdata.entity.InmetDiarlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetHourlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.service.InmetService;
+
+/**
+ * <br>
+ * <p>
+ * <b>Benchmark of the aggregation of the hourly data into daily data (InmetService.getDailyData), from a list of entities and from a columnar batch.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DailyDataBenchmark {
+
+	@Param({ "31", "365" })
+	public int days;
+
+	private InmetService inmetService;
+	private List<InmetHourlyDataEntity> hourlyData;
+	private HourlyBatch hourlyBatch;
+
+	@Setup
+	public void setup() throws ServiceException {
+		this.inmetService = InmetService.getInstanceOf();
+		this.hourlyData = InmetSyntheticData.hourlyData(InmetSyntheticData.station(1L, InmetSyntheticData.DEFAULT_STATION_CODE), InmetSyntheticData.DEFAULT_START_DATE, days, InmetSyntheticData.DEFAULT_SEED);
+		this.hourlyBatch = HourlyBatch.of(this.hourlyData.get(0).getEntilyStation(), this.hourlyData);
+	}
+
+	@Benchmark
+	public List<InmetDiarlyDataEntity> getDailyData() {
+		return this.inmetService.getDailyData(this.hourlyData);
+	}
+
+	@Benchmark
+	public List<InmetDiarlyDataEntity> getDailyDataFromBatch() {
+		return this.inmetService.getDailyData(this.hourlyBatch);
+	}
+}
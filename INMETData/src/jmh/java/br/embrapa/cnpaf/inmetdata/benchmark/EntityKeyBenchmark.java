@@ -0,0 +1,84 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetDiarlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetMeasurementKey;
+import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.service.InmetService;
+
+/**
+ * <br>
+ * <p>
+ * <b>Benchmark of the sorting and of the map lookups of a large result set of daily data, by the natural key of the entities.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityKeyBenchmark {
+
+	@Param({ "50", "550" })
+	public int stations;
+
+	private List<InmetDiarlyDataEntity> dailyData;
+
+	@Setup
+	public void setup() throws ServiceException {
+		InmetService inmetService = InmetService.getInstanceOf();
+		this.dailyData = new ArrayList<InmetDiarlyDataEntity>();
+		for (int station = 1; station <= stations; station++) {
+			this.dailyData.addAll(inmetService.getDailyData(InmetSyntheticData.hourlyData(InmetSyntheticData.station(station, String.format("A%03d", station)),
+					InmetSyntheticData.DEFAULT_START_DATE, 365, InmetSyntheticData.DEFAULT_SEED + station)));
+		}
+		Collections.shuffle(this.dailyData, new Random(InmetSyntheticData.DEFAULT_SEED));
+	}
+
+	@Benchmark
+	public List<InmetDiarlyDataEntity> sortByNaturalKey() {
+		List<InmetDiarlyDataEntity> sorted = new ArrayList<InmetDiarlyDataEntity>(this.dailyData);
+		sorted.sort(InmetDiarlyDataEntity.NATURAL_KEY_ORDER);
+		return sorted;
+	}
+
+	@Benchmark
+	public int mapByNaturalKey() {
+		Map<InmetMeasurementKey, InmetDiarlyDataEntity> map = new HashMap<InmetMeasurementKey, InmetDiarlyDataEntity>(this.dailyData.size() * 2);
+		for (InmetDiarlyDataEntity entity : this.dailyData) {
+			map.put(entity.getKey(), entity);
+		}
+		int found = 0;
+		for (InmetDiarlyDataEntity entity : this.dailyData) {
+			if (map.containsKey(entity.getKey())) {
+				found++;
+			}
+		}
+		return found;
+	}
+}
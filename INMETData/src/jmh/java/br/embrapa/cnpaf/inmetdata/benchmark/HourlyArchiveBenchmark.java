@@ -0,0 +1,78 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.embrapa.cnpaf.inmetdata.archive.HourlyArchive;
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+
+/**
+ * <br>
+ * <p>
+ * <b>Benchmark of the range scans of a memory-mapped columnar archive with a year of hourly data of a station.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HourlyArchiveBenchmark {
+
+	private Path file;
+	private HourlyArchive archive;
+	private int firstEpochDay;
+	private int lastEpochDay;
+
+	@Setup
+	public void setup() throws IOException {
+		HourlyBatch batch = HourlyBatch.of(InmetSyntheticData.station(1L, InmetSyntheticData.DEFAULT_STATION_CODE),
+				InmetSyntheticData.hourlyData(InmetSyntheticData.station(1L, InmetSyntheticData.DEFAULT_STATION_CODE), InmetSyntheticData.DEFAULT_START_DATE, 365, InmetSyntheticData.DEFAULT_SEED));
+		this.file = Files.createTempFile("hourly", HourlyArchive.FILE_EXTENSION);
+		HourlyArchive.write(this.file, batch, InmetSyntheticData.DEFAULT_START_DATE.getYear(), 0, batch.size());
+		this.archive = HourlyArchive.open(this.file);
+		this.firstEpochDay = (int) InmetSyntheticData.DEFAULT_START_DATE.toEpochDay();
+		this.lastEpochDay = this.firstEpochDay + 364;
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(this.file);
+	}
+
+	@Benchmark
+	public double meanTemperatureOfYear() {
+		double[] sum = new double[2];
+		this.archive.scan(this.firstEpochDay, this.lastEpochDay, HourlyBatch.INSTANT_TEMPERATURE, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, (archive, row) -> {
+			sum[0] += archive.getValue(HourlyBatch.INSTANT_TEMPERATURE, row);
+			sum[1]++;
+		});
+		return sum[0] / sum[1];
+	}
+
+	@Benchmark
+	public int hoursAboveThirtyDegrees() {
+		return this.archive.scan(this.firstEpochDay, this.lastEpochDay, HourlyBatch.MAXIMUM_TEMPERATURE, 30, Float.POSITIVE_INFINITY, (archive, row) -> {
+		});
+	}
+}
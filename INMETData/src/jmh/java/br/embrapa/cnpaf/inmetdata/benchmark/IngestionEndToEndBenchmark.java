@@ -0,0 +1,189 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import br.embrapa.cnpaf.inmetdata.dao.InmetStationDAO;
+import br.embrapa.cnpaf.inmetdata.dao.SchemaVersionDAO;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.main.InmetData;
+import br.embrapa.cnpaf.inmetdata.metric.MetricCounter;
+import br.embrapa.cnpaf.inmetdata.service.ConfigurationService;
+import br.embrapa.cnpaf.inmetdata.service.MetricsService;
+import br.embrapa.cnpaf.inmetdata.service.TimeService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * <br>
+ * <p>
+ * <b>End-to-end benchmark of the ingestion flow of InmetData.</b>
+ * </p>
+ * <p>
+ * The benchmark runs the whole ingestion (InmetData.run) against a local stand-in of the INMET web service, which serves generated hourly data with realistic
+ * sizes, gaps and null values, and against an embedded PostgreSQL server, so no external service is needed. At the end, it reports the stations per minute,
+ * the rows per second and the peak heap used.
+ * </p>
+ * <p>
+ * Usage (after <tt>mvn -P jmh package</tt>):<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt>java -cp target/benchmarks.jar br.embrapa.cnpaf.inmetdata.benchmark.IngestionEndToEndBenchmark [stations] [days]</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class IngestionEndToEndBenchmark {
+
+	public static final int DEFAULT_STATIONS = 5;
+	public static final int DEFAULT_DAYS = 365;
+	public static final String INMET_PATH = "/estacao";
+
+	/**
+	 * Private class constructor.
+	 */
+	private IngestionEndToEndBenchmark() {
+		super();
+	}
+
+	/**
+	 * Main method of the benchmark.
+	 *
+	 * @param args
+	 *            Number of stations and number of days to be ingested by station.
+	 * @throws Exception
+	 *             Occurrence of any problems in the benchmark.
+	 */
+	public static void main(String[] args) throws Exception {
+
+		// initializing variables
+		int stations = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_STATIONS;
+		int days = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_DAYS;
+		LocalDate startDate = InmetSyntheticData.DEFAULT_START_DATE;
+		LocalDate endDate = startDate.plusDays(days);
+
+		try (EmbeddedPostgres database = EmbeddedPostgres.builder().start()) {
+
+			// starting the stand-in of the INMET web service
+			HttpServer inmet = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			inmet.createContext(INMET_PATH, IngestionEndToEndBenchmark::handle);
+			inmet.start();
+
+			// configuring the system to use the local services
+			System.setProperty(ConfigurationService.INMET_URL_PROPERTY, "http://localhost:" + inmet.getAddress().getPort() + INMET_PATH);
+			System.setProperty(ConfigurationService.INMET_ATTEMPT_INTERVAL_PROPERTY, "0");
+			System.setProperty(ConfigurationService.DATABASE_URI_PROPERTY, database.getJdbcUrl("postgres", "postgres"));
+			System.setProperty(ConfigurationService.DATABASE_USER_PROPERTY, "postgres");
+			System.setProperty(ConfigurationService.DATABASE_PASSWORD_PROPERTY, "postgres");
+
+			// creating the stations and selecting the stations of the benchmark
+			SchemaVersionDAO.getInstanceOf().migrate();
+			List<String> codes = new ArrayList<String>();
+			for (InmetStationEntity station : InmetStationDAO.getInstanceOf().list()) {
+				if (codes.size() < stations) {
+					codes.add(station.getCode());
+				}
+			}
+			System.setProperty(ConfigurationService.STATIONS_PROPERTY, String.join(",", codes));
+			ConfigurationService.getInstanceOf().load();
+
+			// moving the start of the stations and the clock of the system to the period of the benchmark
+			try (Connection connection = database.getPostgresDatabase().getConnection(); //
+					PreparedStatement query = connection.prepareStatement("UPDATE station SET start_date = ?")) {
+				query.setDate(1, Date.valueOf(startDate));
+				query.executeUpdate();
+			}
+			TimeService.getInstanceOf().setStartDate(endDate.plusDays(1).atStartOfDay()).setTimeAcceleration(1);
+
+			// running the ingestion
+			for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+				pool.resetPeakUsage();
+			}
+			long start = System.nanoTime();
+			InmetData.run();
+			double seconds = (System.nanoTime() - start) / 1e9;
+
+			// reporting the results, the rows counted being the hourly ones
+			long rowsFetched = IngestionEndToEndBenchmark.sum(MetricsService.COUNTER_ROWS_FETCHED);
+			long rowsPersisted = IngestionEndToEndBenchmark.sum(MetricsService.COUNTER_ROWS_PERSISTED);
+			long peakHeap = 0;
+			for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+				if (pool.getType() == MemoryType.HEAP) {
+					peakHeap += pool.getPeakUsage().getUsed();
+				}
+			}
+			System.out.println(String.format(Locale.ROOT, "stations=%d days=%d elapsed=%.1fs", codes.size(), days, seconds));
+			System.out.println(String.format(Locale.ROOT, "stations/min=%.2f", codes.size() / seconds * 60));
+			System.out.println(String.format(Locale.ROOT, "hourly rows fetched=%d hourly rows persisted=%d rows/s=%.1f", rowsFetched, rowsPersisted, rowsPersisted / seconds));
+			System.out.println(String.format(Locale.ROOT, "peak heap=%.1f MB", peakHeap / (1024.0 * 1024.0)));
+			for (String metric : MetricsService.getInstanceOf().getSummary()) {
+				System.out.println(metric);
+			}
+
+			inmet.stop(0);
+		}
+	}
+
+	/**
+	 * Handles a request to the stand-in of the INMET web service (<tt>/estacao/{initDate}/{endDate}/{stationCode}</tt>).
+	 *
+	 * @param exchange
+	 *            Request and response of the HTTP server.
+	 * @throws IOException
+	 *             Error in writing the response.
+	 */
+	private static void handle(HttpExchange exchange) throws IOException {
+		try {
+			String[] path = exchange.getRequestURI().getPath().substring(INMET_PATH.length() + 1).split("/");
+			LocalDate initDate = LocalDate.parse(path[0]);
+			LocalDate endDate = LocalDate.parse(path[1]);
+			String code = path[2];
+			int days = (int) ChronoUnit.DAYS.between(initDate, endDate) + 1;
+			long seed = code.hashCode() * 31L + initDate.toEpochDay();
+			byte[] body = InmetSyntheticData.hourlyJson(code, initDate, days, InmetSyntheticData.DEFAULT_MISSING_RATIO, InmetSyntheticData.DEFAULT_GAP_RATIO, seed).getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		} catch (RuntimeException e) {
+			exchange.sendResponseHeaders(400, -1);
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Sums the counters with the informed name, for all tags.
+	 *
+	 * @param name
+	 *            Name of the counters.
+	 * @return Sum of the counters.
+	 */
+	private static long sum(String name) {
+		long total = 0;
+		for (MetricCounter counter : MetricsService.getInstanceOf().getCounters()) {
+			if (counter.getName().equals(name)) {
+				total += counter.getValue();
+			}
+		}
+		return total;
+	}
+}
@@ -0,0 +1,214 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetCityEntily;
+import br.embrapa.cnpaf.inmetdata.entity.InmetHourlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStateEntily;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+
+/**
+ * <br>
+ * <p>
+ * <b>Class responsible for generating synthetic INMET data for benchmarks.</b>
+ * </p>
+ * <p>
+ * The hourly data follows the format of the INMET web service (all values as strings, 24 measurements per day and some missing values), and is
+ * reproducible from the informed seed.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetSyntheticData {
+
+	public static final String DEFAULT_STATION_CODE = "A002";
+	public static final LocalDate DEFAULT_START_DATE = LocalDate.of(2019, 1, 1);
+	public static final double DEFAULT_MISSING_RATIO = 0.05;
+	public static final double DEFAULT_GAP_RATIO = 0.01;
+	public static final long DEFAULT_SEED = 42L;
+
+	/**
+	 * Private class constructor.
+	 */
+	private InmetSyntheticData() {
+		super();
+	}
+
+	/**
+	 * Creates a station with the informed code.
+	 *
+	 * @param id
+	 *            Identifier of the station.
+	 * @param code
+	 *            Code of the station.
+	 * @return Station entity.
+	 */
+	public static InmetStationEntity station(long id, String code) {
+		InmetStateEntily state = new InmetStateEntily(1L, "GO");
+		InmetCityEntily city = new InmetCityEntily(1L, -16.64, -49.22, "GOIANIA", state);
+		return new InmetStationEntity(id, code, city, DEFAULT_START_DATE);
+	}
+
+	/**
+	 * Generates the JSON returned by the INMET web service for a station and a period.
+	 *
+	 * @param code
+	 *            Code of the station.
+	 * @param start
+	 *            First day of the period.
+	 * @param days
+	 *            Number of days of the period.
+	 * @param missingRatio
+	 *            Ratio of missing (null) values.
+	 * @param seed
+	 *            Seed of the random generator.
+	 * @return JSON with the hourly data.
+	 */
+	public static String hourlyJson(String code, LocalDate start, int days, double missingRatio, long seed) {
+		return InmetSyntheticData.hourlyJson(code, start, days, missingRatio, 0, seed);
+	}
+
+	/**
+	 * Generates the JSON returned by the INMET web service for a station and a period, with gaps (hours without measurement).
+	 *
+	 * @param code
+	 *            Code of the station.
+	 * @param start
+	 *            First day of the period.
+	 * @param days
+	 *            Number of days of the period.
+	 * @param missingRatio
+	 *            Ratio of missing (null) values.
+	 * @param gapRatio
+	 *            Ratio of hours without measurement.
+	 * @param seed
+	 *            Seed of the random generator.
+	 * @return JSON with the hourly data.
+	 */
+	public static String hourlyJson(String code, LocalDate start, int days, double missingRatio, double gapRatio, long seed) {
+
+		// initializing variables
+		Random random = new Random(seed);
+		StringBuilder json = new StringBuilder(days * 24 * 640);
+
+		// generating the measurements
+		json.append('[');
+		boolean first = true;
+		for (int day = 0; day < days; day++) {
+			String date = start.plusDays(day).toString();
+			for (int hour = 0; hour < 24; hour++) {
+				if (random.nextDouble() < gapRatio) {
+					continue;
+				}
+				if (!first) {
+					json.append(',');
+				}
+				first = false;
+				double temperature = 22 + 8 * Math.sin((hour - 9) * Math.PI / 12) + random.nextGaussian();
+				double humidity = 60 - 25 * Math.sin((hour - 9) * Math.PI / 12) + 3 * random.nextGaussian();
+				double pressure = 920 + random.nextGaussian();
+				double dewPoint = temperature - (100 - humidity) / 5;
+				double radiation = (hour >= 9 && hour <= 21) ? 3000 * Math.sin((hour - 9) * Math.PI / 12) : -9999;
+				double rain = (random.nextDouble() < 0.1) ? 5 * random.nextDouble() : 0;
+				json.append('{');
+				field(json, "DC_NOME", "GOIANIA", false);
+				field(json, "PRE_INS", value(random, missingRatio, pressure), false);
+				field(json, "TEM_SEN", value(random, missingRatio, temperature), false);
+				field(json, "VL_LATITUDE", "-16.64", false);
+				field(json, "PRE_MAX", value(random, missingRatio, pressure + 0.3), false);
+				field(json, "UF", "GO", false);
+				field(json, "RAD_GLO", value(random, missingRatio, radiation), false);
+				field(json, "PTO_INS", value(random, missingRatio, dewPoint), false);
+				field(json, "TEM_MIN", value(random, missingRatio, temperature - 0.5), false);
+				field(json, "VL_LONGITUDE", "-49.22", false);
+				field(json, "UMD_MIN", value(random, missingRatio, humidity - 2), false);
+				field(json, "PTO_MAX", value(random, missingRatio, dewPoint + 0.4), false);
+				field(json, "VEN_DIR", value(random, missingRatio, random.nextInt(360)), false);
+				field(json, "DT_MEDICAO", date, false);
+				field(json, "CHUVA", value(random, missingRatio, rain), false);
+				field(json, "PRE_MIN", value(random, missingRatio, pressure - 0.3), false);
+				field(json, "UMD_MAX", value(random, missingRatio, humidity + 2), false);
+				field(json, "VEN_VEL", value(random, missingRatio, 3 * random.nextDouble()), false);
+				field(json, "PTO_MIN", value(random, missingRatio, dewPoint - 0.4), false);
+				field(json, "TEM_MAX", value(random, missingRatio, temperature + 0.5), false);
+				field(json, "VEN_RAJ", value(random, missingRatio, 6 * random.nextDouble()), false);
+				field(json, "TEM_INS", value(random, missingRatio, temperature), false);
+				field(json, "UMD_INS", value(random, missingRatio, humidity), false);
+				field(json, "CD_ESTACAO", code, false);
+				field(json, "HR_MEDICAO", String.format(Locale.ROOT, "%02d00", hour), true);
+				json.append('}');
+			}
+		}
+		json.append(']');
+		return json.toString();
+	}
+
+	/**
+	 * Generates the hourly data entities of a station and a period.
+	 *
+	 * @param station
+	 *            Station of the hourly data.
+	 * @param start
+	 *            First day of the period.
+	 * @param days
+	 *            Number of days of the period.
+	 * @param seed
+	 *            Seed of the random generator.
+	 * @return List of the hourly data.
+	 */
+	public static List<InmetHourlyDataEntity> hourlyData(InmetStationEntity station, LocalDate start, int days, long seed) {
+
+		// initializing variables
+		Random random = new Random(seed);
+		List<InmetHourlyDataEntity> hourlyData = new ArrayList<InmetHourlyDataEntity>(days * 24);
+
+		// generating the measurements
+		for (int day = 0; day < days; day++) {
+			LocalDate date = start.plusDays(day);
+			for (int hour = 0; hour < 24; hour++) {
+				float temperature = (float) (22 + 8 * Math.sin((hour - 9) * Math.PI / 12) + random.nextGaussian());
+				float humidity = (float) (60 - 25 * Math.sin((hour - 9) * Math.PI / 12) + 3 * random.nextGaussian());
+				float pressure = (float) (920 + random.nextGaussian());
+				float dewPoint = temperature - (100 - humidity) / 5;
+				float radiation = (hour >= 9 && hour <= 21) ? (float) (3000 * Math.sin((hour - 9) * Math.PI / 12)) : -9999;
+				float rain = (random.nextDouble() < 0.1) ? (float) (5 * random.nextDouble()) : 0;
+				hourlyData.add(new InmetHourlyDataEntity(null, station, date, String.format(Locale.ROOT, "%02d00", hour), //
+						temperature - 0.5f, temperature + 0.5f, temperature, //
+						pressure - 0.3f, pressure + 0.3f, pressure, //
+						humidity - 2, humidity + 2, humidity, //
+						(float) (3 * random.nextDouble()), random.nextInt(360), (float) (6 * random.nextDouble()), radiation, //
+						dewPoint - 0.4f, dewPoint + 0.4f, dewPoint, rain));
+			}
+		}
+		return hourlyData;
+	}
+
+	/**
+	 * Formats a measurement value, returning null according to the missing ratio.
+	 */
+	private static String value(Random random, double missingRatio, double value) {
+		return (random.nextDouble() < missingRatio) ? null : String.format(Locale.ROOT, "%.1f", value);
+	}
+
+	/**
+	 * Appends a JSON field with a string value (or null) to the builder.
+	 */
+	private static void field(StringBuilder json, String name, String value, boolean last) {
+		json.append('"').append(name).append("\":");
+		if (value == null) {
+			json.append("null");
+		} else {
+			json.append('"').append(value).append('"');
+		}
+		if (!last) {
+			json.append(',');
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.reflect.TypeToken;
+
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+import br.embrapa.cnpaf.inmetdata.entity.InmetHourlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.exception.FetchException;
+import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.service.InmetService;
+import br.embrapa.cnpaf.inmetdata.util.JsonUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Benchmark of the parsing of the INMET hourly JSON, into entities through JsonUtil and into a columnar batch (InmetService.parseHourlyBatch).</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonParseBenchmark {
+
+	private static final Type HOURLY_DATA_LIST = new TypeToken<List<InmetHourlyDataEntity>>() {
+	}.getType();
+
+	@Param({ "1", "365" })
+	public int days;
+
+	private String json;
+	private InmetService inmetService;
+	private InmetStationEntity station;
+
+	@Setup
+	public void setup() throws ServiceException {
+		this.inmetService = InmetService.getInstanceOf();
+		this.station = InmetSyntheticData.station(1L, InmetSyntheticData.DEFAULT_STATION_CODE);
+		this.json = InmetSyntheticData.hourlyJson(InmetSyntheticData.DEFAULT_STATION_CODE, InmetSyntheticData.DEFAULT_START_DATE, days, InmetSyntheticData.DEFAULT_MISSING_RATIO, InmetSyntheticData.DEFAULT_SEED);
+	}
+
+	@Benchmark
+	public List<InmetHourlyDataEntity> parseHourlyData() {
+		return JsonUtil.getJsonConverter().fromJson(this.json, HOURLY_DATA_LIST);
+	}
+
+	@Benchmark
+	public HourlyBatch parseHourlyBatch() throws FetchException {
+		return this.inmetService.parseHourlyBatch(this.station, InmetSyntheticData.DEFAULT_START_DATE, InmetSyntheticData.DEFAULT_START_DATE.plusDays(days - 1), this.json);
+	}
+}
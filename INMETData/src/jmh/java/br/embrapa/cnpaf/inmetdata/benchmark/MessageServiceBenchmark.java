@@ -0,0 +1,50 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.service.MessageService;
+
+/**
+ * <br>
+ * <p>
+ * <b>Benchmark of the formatting of the log messages (MessageService.getMessage).</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageServiceBenchmark {
+
+	private MessageService messageService;
+
+	@Setup
+	public void setup() throws ServiceException {
+		this.messageService = MessageService.getInstanceOf();
+	}
+
+	@Benchmark
+	public String getMessage() {
+		return this.messageService.getMessage(MessageEnum.INMET_SERVICE_INFO_SUCCESS_GET_HOURLY_DATA.name(), "127.0.0.1", InmetSyntheticData.DEFAULT_STATION_CODE, "01/01/2019", "31/12/2019");
+	}
+}
@@ -0,0 +1,85 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+import br.embrapa.cnpaf.inmetdata.export.ParquetWriter;
+
+/**
+ * <br>
+ * <p>
+ * <b>Benchmark of the export of a year of hourly data of a station to a Parquet file (ParquetWriter), with and without compression.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParquetExportBenchmark {
+
+	@Param({ "false", "true" })
+	public boolean compressed;
+
+	private HourlyBatch batch;
+	private List<ParquetWriter.Column> columns;
+
+	@Setup
+	public void setup() {
+		this.batch = HourlyBatch.of(InmetSyntheticData.station(1L, InmetSyntheticData.DEFAULT_STATION_CODE),
+				InmetSyntheticData.hourlyData(InmetSyntheticData.station(1L, InmetSyntheticData.DEFAULT_STATION_CODE), InmetSyntheticData.DEFAULT_START_DATE, 365, InmetSyntheticData.DEFAULT_SEED));
+		this.columns = new ArrayList<ParquetWriter.Column>();
+		this.columns.add(new ParquetWriter.Column("measurement_date", ParquetWriter.Type.DATE, false));
+		this.columns.add(new ParquetWriter.Column("hour", ParquetWriter.Type.INT32, false));
+		for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+			this.columns.add(new ParquetWriter.Column("column_" + column, ParquetWriter.Type.FLOAT, true));
+		}
+		this.columns.add(new ParquetWriter.Column("wind_direction", ParquetWriter.Type.INT32, true));
+	}
+
+	@Benchmark
+	public int writeYear() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ParquetWriter writer = new ParquetWriter(out, this.columns, ParquetWriter.DEFAULT_ROW_GROUP_ROWS, this.compressed);
+		for (int row = 0; row < this.batch.size(); row++) {
+			writer.writeDate(0, this.batch.getMeasurementDate(row)).writeInt(1, this.batch.getHour(row));
+			for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+				if (this.batch.isValid(column, row)) {
+					writer.writeFloat(column + 2, this.batch.getValue(column, row));
+				} else {
+					writer.writeNull(column + 2);
+				}
+			}
+			if (this.batch.isValid(HourlyBatch.WIND_DIRECTION, row)) {
+				writer.writeInt(HourlyBatch.FLOAT_COLUMNS + 2, this.batch.getWindDirection(row));
+			} else {
+				writer.writeNull(HourlyBatch.FLOAT_COLUMNS + 2);
+			}
+			writer.endRow();
+		}
+		writer.close();
+		return out.size();
+	}
+}
@@ -0,0 +1,70 @@
+package br.embrapa.cnpaf.inmetdata.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.period.period;
+import br.embrapa.cnpaf.inmetdata.service.TimeService;
+import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Benchmark of the date handling used in each ingestion (TimeService.intervalos and TimeUtil.stringToLocalDate).</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeBenchmark {
+
+	private TimeService timeService;
+	private LocalDate startPeriod;
+	private LocalDate endPeriod;
+	private String[] dates;
+
+	@Setup
+	public void setup() throws ServiceException {
+		this.timeService = TimeService.getInstanceOf();
+		this.startPeriod = LocalDate.of(2000, 5, 7);
+		this.endPeriod = LocalDate.of(2020, 8, 23);
+		this.dates = new String[365];
+		for (int i = 0; i < this.dates.length; i++) {
+			this.dates[i] = InmetSyntheticData.DEFAULT_START_DATE.plusDays(i).toString();
+		}
+	}
+
+	@Benchmark
+	public List<period> intervalos() {
+		return this.timeService.intervalos(this.startPeriod, this.endPeriod);
+	}
+
+	@Benchmark
+	public void stringToLocalDate(Blackhole blackhole) {
+		for (String date : this.dates) {
+			blackhole.consume(TimeUtil.stringToLocalDate(date));
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package br.embrapa.cnpaf.inmetdata.dao;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import br.embrapa.cnpaf.inmetdata.benchmark.InmetSyntheticData;
+import br.embrapa.cnpaf.inmetdata.entity.InmetHourlyDataEntity;
+
+/**
+ * <br>
+ * <p>
+ * <b>Benchmark of the building of the SQL queries used by InmetHourlyDataDAO.save, without accessing the database server.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InmetHourlyDataQueryBenchmark {
+
+	private List<InmetHourlyDataEntity> hourlyData;
+
+	@Setup
+	public void setup() {
+		this.hourlyData = InmetSyntheticData.hourlyData(InmetSyntheticData.station(1L, InmetSyntheticData.DEFAULT_STATION_CODE), InmetSyntheticData.DEFAULT_START_DATE, 1, InmetSyntheticData.DEFAULT_SEED);
+	}
+
+	@Benchmark
+	public void buildSaveQueries(Blackhole blackhole) {
+		for (InmetHourlyDataEntity entity : this.hourlyData) {
+			blackhole.consume(InmetHourlyDataDAO.getSaveQuery(entity));
+			blackhole.consume(InmetHourlyDataDAO.getUpdateQuery(entity));
+		}
+	}
+}
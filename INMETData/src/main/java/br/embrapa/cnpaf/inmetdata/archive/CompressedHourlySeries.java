@@ -0,0 +1,216 @@
+package br.embrapa.cnpaf.inmetdata.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+import br.embrapa.cnpaf.inmetdata.codec.BitReader;
+import br.embrapa.cnpaf.inmetdata.codec.BitWriter;
+import br.embrapa.cnpaf.inmetdata.codec.DecimalDeltaCodec;
+import br.embrapa.cnpaf.inmetdata.codec.DeltaOfDeltaCodec;
+import br.embrapa.cnpaf.inmetdata.codec.FloatDecoder;
+import br.embrapa.cnpaf.inmetdata.codec.FloatEncoder;
+import br.embrapa.cnpaf.inmetdata.codec.RunLengthCodec;
+import br.embrapa.cnpaf.inmetdata.codec.XorFloatCodec;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+
+/**
+ * <br>
+ * <p>
+ * <b>Compressed format of a series of hourly data of a station, for the backup and the export of the archives.</b>
+ * </p>
+ * <p>
+ * After a header with the station and the number of rows, the series has one section for the hours and one for each measured column, each one with its
+ * length in bytes, so a reader can skip the columns it does not need:
+ * </p>
+ * <ul>
+ * <li>the hours since 1970-01-01 of the rows, with the delta-of-delta codec, which writes a single bit per regular hour;</li>
+ * <li>for each column, the codec used, the flags of the valid values with the run-length codec and the valid values with the codec that results in the
+ * smaller section: the decimal delta codec for the usual measurements with one decimal digit, the run-length codec for the rain, zero most of the
+ * hours, or the XOR codec for any other values.</li>
+ * </ul>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class CompressedHourlySeries {
+
+	public static final int MAGIC = 0x494E4D5A; // "INMZ"
+	public static final int VERSION = 1;
+	public static final String FILE_EXTENSION = ".inmz";
+	public static final int CODEC_XOR = 0;
+	public static final int CODEC_RUN_LENGTH = 1;
+	public static final int CODEC_DECIMAL_DELTA = 2;
+
+	/**
+	 * Private class constructor.
+	 */
+	private CompressedHourlySeries() {
+		super();
+	}
+
+	/**
+	 * Writes the rows of a batch in the compressed format.
+	 *
+	 * @param out   Output stream of the series, which is not closed.
+	 * @param batch Batch with the hourly data of a station.
+	 * @param first First row of the batch.
+	 * @param end   Row after the last row of the batch.
+	 * @return Number of bytes written.
+	 * @throws IOException Occurrence of any problems in writing the stream.
+	 */
+	public static long write(OutputStream out, HourlyBatch batch, int first, int end) throws IOException {
+		DataOutputStream data = new DataOutputStream(out);
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeLong((batch.getStationId() != null) ? batch.getStationId() : 0);
+		data.writeInt(end - first);
+
+		// hours of the rows
+		ByteArrayOutputStream section = new ByteArrayOutputStream();
+		BitWriter bits = new BitWriter(section);
+		DeltaOfDeltaCodec.Encoder hours = new DeltaOfDeltaCodec.Encoder(bits);
+		for (int row = first; row < end; row++) {
+			hours.write(batch.getEpochDay(row) * 24L + batch.getHour(row));
+		}
+		bits.flush();
+		writeSection(data, -1, section);
+
+		// columns, with the smaller codec
+		for (int column = 0; column < HourlyBatch.COLUMNS; column++) {
+			ByteArrayOutputStream smallest = null;
+			int smallestCodec = CODEC_XOR;
+			for (int codec = CODEC_XOR; codec <= CODEC_DECIMAL_DELTA; codec++) {
+				ByteArrayOutputStream encoded = encodeColumn(batch, column, first, end, codec);
+				if (encoded != null && (smallest == null || encoded.size() < smallest.size())) {
+					smallest = encoded;
+					smallestCodec = codec;
+				}
+			}
+			writeSection(data, smallestCodec, smallest);
+		}
+		data.flush();
+		return data.size();
+	}
+
+	/**
+	 * Reads a series in the compressed format.
+	 *
+	 * @param in      Input stream of the series, which is not closed.
+	 * @param station Station of the series.
+	 * @return Batch with the hourly data of the series.
+	 * @throws IOException Occurrence of any problems in reading the stream or the stream is not a valid series.
+	 */
+	public static HourlyBatch read(InputStream in, InmetStationEntity station) throws IOException {
+		DataInputStream data = new DataInputStream(in);
+		if (data.readInt() != MAGIC) {
+			throw new IOException("Not a compressed hourly series");
+		}
+		int version = data.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported version " + version + " of the compressed hourly series");
+		}
+		data.readLong();
+		int rows = data.readInt();
+		if (rows < 0) {
+			throw new IOException("Corrupted compressed hourly series");
+		}
+
+		// hours of the rows
+		HourlyBatch batch = new HourlyBatch(station, rows);
+		BitReader bits = readSection(data);
+		DeltaOfDeltaCodec.Decoder hours = new DeltaOfDeltaCodec.Decoder(bits);
+		for (int row = 0; row < rows; row++) {
+			long hour = hours.read();
+			batch.add((int) Math.floorDiv(hour, 24L), (int) Math.floorMod(hour, 24L));
+		}
+
+		// columns
+		for (int column = 0; column < HourlyBatch.COLUMNS; column++) {
+			int codec = data.readByte();
+			if (codec < CODEC_XOR || codec > CODEC_DECIMAL_DELTA) {
+				throw new IOException("Unknown codec " + codec + " in the compressed hourly series");
+			}
+			bits = readSection(data);
+			RunLengthCodec.Decoder valid = new RunLengthCodec.Decoder(bits, RunLengthCodec.FLAG_BITS);
+			boolean[] flags = new boolean[rows];
+			for (int row = 0; row < rows; row++) {
+				flags[row] = valid.readFlag();
+			}
+			FloatDecoder values = (codec == CODEC_RUN_LENGTH) ? new RunLengthCodec.Decoder(bits, RunLengthCodec.FLOAT_BITS)
+					: (codec == CODEC_DECIMAL_DELTA) ? new DecimalDeltaCodec.Decoder(bits) : new XorFloatCodec.Decoder(bits);
+			for (int row = 0; row < rows; row++) {
+				if (flags[row]) {
+					float value = values.read();
+					if (column == HourlyBatch.WIND_DIRECTION) {
+						batch.setWindDirection(row, (int) value);
+					} else {
+						batch.setValue(column, row, value);
+					}
+				}
+			}
+		}
+		return batch;
+	}
+
+	/**
+	 * Encodes the flags of the valid values and the valid values of a column, or returns null if some value cannot be encoded by the codec.
+	 */
+	private static ByteArrayOutputStream encodeColumn(HourlyBatch batch, int column, int first, int end, int codec) throws IOException {
+		if (codec == CODEC_DECIMAL_DELTA) {
+			for (int row = first; row < end; row++) {
+				if (batch.isValid(column, row) && column != HourlyBatch.WIND_DIRECTION && !DecimalDeltaCodec.isEncodable(batch.getValue(column, row))) {
+					return null;
+				}
+			}
+		}
+		ByteArrayOutputStream section = new ByteArrayOutputStream();
+		BitWriter bits = new BitWriter(section);
+		RunLengthCodec.Encoder valid = new RunLengthCodec.Encoder(bits, RunLengthCodec.FLAG_BITS);
+		for (int row = first; row < end; row++) {
+			valid.writeFlag(batch.isValid(column, row));
+		}
+		valid.finish();
+		FloatEncoder values = (codec == CODEC_RUN_LENGTH) ? new RunLengthCodec.Encoder(bits, RunLengthCodec.FLOAT_BITS)
+				: (codec == CODEC_DECIMAL_DELTA) ? new DecimalDeltaCodec.Encoder(bits) : new XorFloatCodec.Encoder(bits);
+		for (int row = first; row < end; row++) {
+			if (batch.isValid(column, row)) {
+				values.write((column == HourlyBatch.WIND_DIRECTION) ? batch.getWindDirection(row) : batch.getValue(column, row));
+			}
+		}
+		values.finish();
+		bits.flush();
+		return section;
+	}
+
+	/**
+	 * Writes a section: the codec (except for the hours), the length and the encoded bytes.
+	 */
+	private static void writeSection(DataOutputStream data, int codec, ByteArrayOutputStream section) throws IOException {
+		if (codec >= 0) {
+			data.writeByte(codec);
+		}
+		data.writeInt(section.size());
+		section.writeTo(data);
+	}
+
+	/**
+	 * Reads the length and the encoded bytes of a section, after its codec.
+	 */
+	private static BitReader readSection(DataInputStream data) throws IOException {
+		int length = data.readInt();
+		if (length < 0) {
+			throw new IOException("Corrupted compressed hourly series");
+		}
+		byte[] section = new byte[length];
+		data.readFully(section);
+		return new BitReader(new ByteArrayInputStream(section));
+	}
+}
@@ -0,0 +1,469 @@
+package br.embrapa.cnpaf.inmetdata.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.util.TemporalKeyUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Columnar archive of the hourly data of a station in a year, read through a memory-mapped file.</b>
+ * </p>
+ * <p>
+ * The file has a fixed header, followed by the sections of fixed width, each one starting at the offset informed in the header: the 16 float columns and
+ * the wind direction in the order of the HourlyBatch columns, the time keys (see TemporalKeyUtil), sorted and without repetitions, the validity bitmaps
+ * of the 17 measured columns and the zone map. The zone map has, for each block of BLOCK_ROWS rows, the first and the last time key and the
+ * minimum and the maximum of the valid values of each column, so the range scans skip the blocks out of the range of time or of values without reading
+ * them. All values are little-endian.
+ * </p>
+ * <p>
+ * The reader does not deserialize the file: the accessors read the values directly from the mapped buffer, with absolute positions, so a reader can be
+ * shared by several threads. The file is replaced atomically by write(), so a reader keeps seeing the version that it opened.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class HourlyArchive {
+
+	public static final int MAGIC = 0x494E4D48; // "INMH"
+	public static final int VERSION = 1;
+	public static final String FILE_EXTENSION = ".inmh";
+	public static final int BLOCK_ROWS = 256;
+	public static final int HEADER_SIZE = 256;
+	public static final int TIME_COLUMN = HourlyBatch.COLUMNS; // index of the time keys in the offsets of the header
+	public static final int VALIDITY_SECTION = HourlyBatch.COLUMNS + 1; // index of the validity bitmaps in the offsets of the header
+	public static final int ZONE_MAP_SECTION = HourlyBatch.COLUMNS + 2; // index of the zone map in the offsets of the header
+	public static final int SECTIONS = HourlyBatch.COLUMNS + 3;
+
+	private static final int HEADER_ROWS = 20;
+	private static final int HEADER_BLOCKS = 24;
+	private static final int HEADER_OFFSETS = 40;
+	private static final int ZONE_MAP_ENTRY = 8 + HourlyBatch.COLUMNS * 8; // first and last time keys, minimum and maximum of each column
+
+	private final Path file;
+	private final ByteBuffer buffer;
+	private final long stationId;
+	private final int year;
+	private final int rows;
+	private final int blocks;
+	private final int words;
+	private final int[] offsets;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param file   Archive file.
+	 * @param buffer Buffer with the content of the file.
+	 * @throws IOException The content is not a valid archive.
+	 */
+	private HourlyArchive(Path file, ByteBuffer buffer) throws IOException {
+		this.file = file;
+		this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("Not an hourly archive: " + file);
+		}
+		if (buffer.getInt(4) != VERSION) {
+			throw new IOException("Unsupported version " + buffer.getInt(4) + " of the hourly archive: " + file);
+		}
+		this.stationId = buffer.getLong(8);
+		this.year = buffer.getInt(16);
+		this.rows = buffer.getInt(HEADER_ROWS);
+		this.blocks = buffer.getInt(HEADER_BLOCKS);
+		this.words = (rows + 63) >>> 6;
+		this.offsets = new int[SECTIONS];
+		for (int section = 0; section < SECTIONS; section++) {
+			long offset = buffer.getLong(HEADER_OFFSETS + section * 8);
+			if (offset < HEADER_SIZE || offset > buffer.capacity()) {
+				throw new IOException("Corrupted hourly archive: " + file);
+			}
+			this.offsets[section] = (int) offset;
+		}
+		if (blocks != (rows + BLOCK_ROWS - 1) / BLOCK_ROWS || (long) offsets[ZONE_MAP_SECTION] + (long) blocks * ZONE_MAP_ENTRY > buffer.capacity()) {
+			throw new IOException("Corrupted hourly archive: " + file);
+		}
+	}
+
+	/**
+	 * Opens an archive, mapping the file in memory. The file is only read when its values are accessed.
+	 *
+	 * @param file Archive file.
+	 * @return The archive.
+	 * @throws IOException The file cannot be read or it is not a valid archive.
+	 */
+	public static HourlyArchive open(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new HourlyArchive(file, buffer);
+		}
+	}
+
+	/**
+	 * Writes the rows of the batch of a year in an archive, replacing the file atomically. The rows must be sorted by time and without repetitions (see
+	 * HourlyBatch.removeDuplicates()).
+	 *
+	 * @param file  Archive file.
+	 * @param batch Batch with the hourly data of the station.
+	 * @param year  Year of the archive.
+	 * @param first First row of the year in the batch.
+	 * @param end   Row after the last row of the year in the batch.
+	 * @throws IOException Occurrence of any problems in writing the file.
+	 */
+	public static void write(Path file, HourlyBatch batch, int year, int first, int end) throws IOException {
+		if (!batch.isSortedByTime()) {
+			throw new IllegalArgumentException("The batch is not sorted by time");
+		}
+
+		// sections of the file
+		int rows = end - first;
+		int blocks = (rows + BLOCK_ROWS - 1) / BLOCK_ROWS;
+		int words = (rows + 63) >>> 6;
+		int[] offsets = new int[SECTIONS];
+		int offset = HEADER_SIZE;
+		for (int column = 0; column < HourlyBatch.COLUMNS; column++) {
+			offsets[column] = offset;
+			offset = align(offset + rows * 4);
+		}
+		offsets[TIME_COLUMN] = offset;
+		offset = align(offset + rows * 4);
+		offsets[VALIDITY_SECTION] = offset;
+		offset = align(offset + HourlyBatch.COLUMNS * words * 8);
+		offsets[ZONE_MAP_SECTION] = offset;
+		offset = align(offset + blocks * ZONE_MAP_ENTRY);
+
+		// header
+		ByteBuffer buffer = ByteBuffer.allocate(offset).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(0, MAGIC).putInt(4, VERSION).putLong(8, (batch.getStationId() != null) ? batch.getStationId() : 0).putInt(16, year);
+		buffer.putInt(HEADER_ROWS, rows).putInt(HEADER_BLOCKS, blocks);
+		for (int section = 0; section < SECTIONS; section++) {
+			buffer.putLong(HEADER_OFFSETS + section * 8, offsets[section]);
+		}
+
+		// columns and validity bitmaps
+		int firstEpochDay = (int) LocalDate.of(year, 1, 1).toEpochDay();
+		int lastEpochDay = (int) LocalDate.of(year, 12, 31).toEpochDay();
+		for (int row = 0; row < rows; row++) {
+			int epochDay = batch.getEpochDay(first + row);
+			if (epochDay < firstEpochDay || epochDay > lastEpochDay) {
+				throw new IllegalArgumentException("Measurement out of the year " + year + ": " + batch.getMeasurementDate(first + row));
+			}
+			buffer.putInt(offsets[TIME_COLUMN] + row * 4, batch.getTimeKey(first + row));
+			for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+				buffer.putFloat(offsets[column] + row * 4, batch.getValue(column, first + row));
+			}
+			buffer.putInt(offsets[HourlyBatch.WIND_DIRECTION] + row * 4, batch.getWindDirection(first + row));
+			for (int column = 0; column < HourlyBatch.COLUMNS; column++) {
+				if (batch.isValid(column, first + row)) {
+					int position = offsets[VALIDITY_SECTION] + (column * words + (row >>> 6)) * 8;
+					buffer.putLong(position, buffer.getLong(position) | (1L << row));
+				}
+			}
+		}
+
+		// zone map of the blocks
+		for (int block = 0; block < blocks; block++) {
+			int position = offsets[ZONE_MAP_SECTION] + block * ZONE_MAP_ENTRY;
+			int blockFirst = block * BLOCK_ROWS;
+			int blockEnd = Math.min(rows, blockFirst + BLOCK_ROWS);
+			buffer.putInt(position, batch.getTimeKey(first + blockFirst)).putInt(position + 4, batch.getTimeKey(first + blockEnd - 1));
+			for (int column = 0; column < HourlyBatch.COLUMNS; column++) {
+				float minimum = Float.POSITIVE_INFINITY;
+				float maximum = Float.NEGATIVE_INFINITY;
+				for (int row = first + blockFirst; row < first + blockEnd; row++) {
+					if (batch.isValid(column, row)) {
+						float value = (column == HourlyBatch.WIND_DIRECTION) ? batch.getWindDirection(row) : batch.getValue(column, row);
+						minimum = Math.min(minimum, value);
+						maximum = Math.max(maximum, value);
+					}
+				}
+				buffer.putFloat(position + 8 + column * 8, minimum).putFloat(position + 12 + column * 8, maximum);
+			}
+		}
+
+		// replacing the file atomically, so the readers never see a partial archive
+		Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(true);
+		}
+		Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Aligns the offset of a section to 64 bytes.
+	 */
+	private static int align(int offset) {
+		return (offset + 63) & ~63;
+	}
+
+	/**
+	 * Copies the rows of the archive to a batch.
+	 *
+	 * @param batch Batch that receives the rows.
+	 * @param first First row of the archive.
+	 * @param end   Row after the last row of the archive.
+	 * @return The batch.
+	 */
+	public HourlyBatch copyTo(HourlyBatch batch, int first, int end) {
+		for (int row = first; row < end; row++) {
+			int target = batch.add(this.getEpochDay(row), this.getHour(row));
+			for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+				if (this.isValid(column, row)) {
+					batch.setValue(column, target, this.getValue(column, row));
+				}
+			}
+			if (this.isValid(HourlyBatch.WIND_DIRECTION, row)) {
+				batch.setWindDirection(target, this.getWindDirection(row));
+			}
+		}
+		return batch;
+	}
+
+	/**
+	 * Copies all rows of the archive to a new batch.
+	 *
+	 * @param station Station of the archive.
+	 * @return The batch.
+	 */
+	public HourlyBatch toBatch(InmetStationEntity station) {
+		return this.copyTo(new HourlyBatch(station, Math.max(rows, 1)), 0, rows);
+	}
+
+	/**
+	 * Finds the first row whose time key is equal to or after the informed one, by a binary search over the time column.
+	 *
+	 * @param timeKey Time key (see TemporalKeyUtil.timeKey()).
+	 * @return The row, or size() if all rows are before the time key.
+	 */
+	public int findRow(int timeKey) {
+		int low = 0;
+		int high = rows;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (this.getTimeKey(middle) < timeKey) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Visits the rows of a period of time.
+	 *
+	 * @param firstEpochDay First date of the period, as the number of days since 1970-01-01.
+	 * @param lastEpochDay  Last date of the period, as the number of days since 1970-01-01.
+	 * @param visitor       Visitor of the rows.
+	 * @return Number of rows visited.
+	 */
+	public int scan(int firstEpochDay, int lastEpochDay, RowVisitor visitor) {
+		return this.scan(firstEpochDay, lastEpochDay, -1, 0, 0, visitor);
+	}
+
+	/**
+	 * Visits the rows of a period of time whose value of a column is valid and in a range. The blocks whose zone map is out of the period or of the range
+	 * are skipped without reading their rows.
+	 *
+	 * @param firstEpochDay First date of the period, as the number of days since 1970-01-01.
+	 * @param lastEpochDay  Last date of the period, as the number of days since 1970-01-01.
+	 * @param column        Column of the values (HourlyBatch.MINIMUM_TEMPERATURE to HourlyBatch.WIND_DIRECTION), or -1 for all rows of the period.
+	 * @param minimum       Minimum value of the column (inclusive).
+	 * @param maximum       Maximum value of the column (inclusive).
+	 * @param visitor       Visitor of the rows.
+	 * @return Number of rows visited.
+	 */
+	public int scan(int firstEpochDay, int lastEpochDay, int column, float minimum, float maximum, RowVisitor visitor) {
+		int firstKey = Math.max(firstEpochDay, 0) << TemporalKeyUtil.HOUR_BITS;
+		int lastKey = (Math.min(lastEpochDay, TemporalKeyUtil.MAXIMUM_EPOCH_DAY) << TemporalKeyUtil.HOUR_BITS) | 23;
+		int visited = 0;
+		int row = this.findRow(firstKey);
+		while (row < rows) {
+			int block = row / BLOCK_ROWS;
+			int end = Math.min(rows, (block + 1) * BLOCK_ROWS);
+			if (this.getBlockFirstTimeKey(block) > lastKey) {
+				break;
+			}
+
+			// skipping the block whose values are out of the range
+			if (column >= 0 && (this.getBlockMaximum(column, block) < minimum || this.getBlockMinimum(column, block) > maximum)) {
+				row = end;
+				continue;
+			}
+			for (; row < end; row++) {
+				if (this.getTimeKey(row) > lastKey) {
+					return visited;
+				}
+				if (column < 0 || (this.isValid(column, row) && this.isInRange(column, row, minimum, maximum))) {
+					visitor.visit(this, row);
+					visited++;
+				}
+			}
+		}
+		return visited;
+	}
+
+	/**
+	 * Checks if the value of a column is in a range.
+	 */
+	private boolean isInRange(int column, int row, float minimum, float maximum) {
+		float value = (column == HourlyBatch.WIND_DIRECTION) ? this.getWindDirection(row) : this.getValue(column, row);
+		return value >= minimum && value <= maximum;
+	}
+
+	/**
+	 * @return the file
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * @return the station id
+	 */
+	public long getStationId() {
+		return stationId;
+	}
+
+	/**
+	 * @return the year
+	 */
+	public int getYear() {
+		return year;
+	}
+
+	/**
+	 * @return Number of rows of the archive.
+	 */
+	public int size() {
+		return rows;
+	}
+
+	/**
+	 * @return Number of blocks of the zone map.
+	 */
+	public int getBlockCount() {
+		return blocks;
+	}
+
+	/**
+	 * @param row Row of the archive.
+	 * @return Time key of the row (see TemporalKeyUtil).
+	 */
+	public int getTimeKey(int row) {
+		return buffer.getInt(offsets[TIME_COLUMN] + row * 4);
+	}
+
+	/**
+	 * @param row Row of the archive.
+	 * @return Date of the row, as the number of days since 1970-01-01.
+	 */
+	public int getEpochDay(int row) {
+		return TemporalKeyUtil.getEpochDay(this.getTimeKey(row));
+	}
+
+	/**
+	 * @param row Row of the archive.
+	 * @return Hour of the day of the row.
+	 */
+	public int getHour(int row) {
+		return TemporalKeyUtil.getHour(this.getTimeKey(row));
+	}
+
+	/**
+	 * @param row Row of the archive.
+	 * @return Date of the row.
+	 */
+	public LocalDate getMeasurementDate(int row) {
+		return LocalDate.ofEpochDay(this.getEpochDay(row));
+	}
+
+	/**
+	 * @param column Float column (HourlyBatch.MINIMUM_TEMPERATURE to HourlyBatch.RAIN).
+	 * @param row    Row of the archive.
+	 * @return Value of the column in the row, zero when missing.
+	 */
+	public float getValue(int column, int row) {
+		return buffer.getFloat(offsets[column] + row * 4);
+	}
+
+	/**
+	 * @param row Row of the archive.
+	 * @return Wind direction of the row, zero when missing.
+	 */
+	public int getWindDirection(int row) {
+		return buffer.getInt(offsets[HourlyBatch.WIND_DIRECTION] + row * 4);
+	}
+
+	/**
+	 * @param column Column (HourlyBatch.MINIMUM_TEMPERATURE to HourlyBatch.WIND_DIRECTION).
+	 * @param row    Row of the archive.
+	 * @return True if the value of the column was measured in the row.
+	 */
+	public boolean isValid(int column, int row) {
+		return (buffer.getLong(offsets[VALIDITY_SECTION] + (column * words + (row >>> 6)) * 8) & (1L << row)) != 0;
+	}
+
+	/**
+	 * @param block Block of the zone map.
+	 * @return Time key of the first row of the block.
+	 */
+	public int getBlockFirstTimeKey(int block) {
+		return buffer.getInt(offsets[ZONE_MAP_SECTION] + block * ZONE_MAP_ENTRY);
+	}
+
+	/**
+	 * @param block Block of the zone map.
+	 * @return Time key of the last row of the block.
+	 */
+	public int getBlockLastTimeKey(int block) {
+		return buffer.getInt(offsets[ZONE_MAP_SECTION] + block * ZONE_MAP_ENTRY + 4);
+	}
+
+	/**
+	 * @param column Column (HourlyBatch.MINIMUM_TEMPERATURE to HourlyBatch.WIND_DIRECTION).
+	 * @param block  Block of the zone map.
+	 * @return Minimum of the valid values of the column in the block, or positive infinity if there is none.
+	 */
+	public float getBlockMinimum(int column, int block) {
+		return buffer.getFloat(offsets[ZONE_MAP_SECTION] + block * ZONE_MAP_ENTRY + 8 + column * 8);
+	}
+
+	/**
+	 * @param column Column (HourlyBatch.MINIMUM_TEMPERATURE to HourlyBatch.WIND_DIRECTION).
+	 * @param block  Block of the zone map.
+	 * @return Maximum of the valid values of the column in the block, or negative infinity if there is none.
+	 */
+	public float getBlockMaximum(int column, int block) {
+		return buffer.getFloat(offsets[ZONE_MAP_SECTION] + block * ZONE_MAP_ENTRY + 12 + column * 8);
+	}
+
+	/**
+	 * Visitor of the rows of a scan of the archive.
+	 */
+	public interface RowVisitor {
+
+		/**
+		 * Method called for each row of the scan.
+		 *
+		 * @param archive Archive being scanned.
+		 * @param row     Row of the archive.
+		 */
+		void visit(HourlyArchive archive, int row);
+	}
+}
@@ -0,0 +1,507 @@
+package br.embrapa.cnpaf.inmetdata.batch;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetHourlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.util.TemporalKeyUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Columnar batch of the hourly data of a single station.</b>
+ * </p>
+ * <p>
+ * Instead of one InmetHourlyDataEntity per measurement, the batch keeps each attribute in its own primitive array (struct of arrays): the date and hour
+ * as a packed time key (epoch day and hour of the day, see TemporalKeyUtil), the wind direction as an int and the other measurements as floats, indexed by
+ * the constants of this class. The station is kept once for the whole batch, and the rows are sorted, grouped by day and deduplicated comparing the time
+ * keys. So a station-year (about 8,760 measurements) takes a few dozen arrays instead of thousands of objects, and the
+ * aggregation scans each attribute linearly.
+ * </p>
+ * <p>
+ * Each measurement column also has a validity bitmap, with one bit per row: a measurement missing in INMET (null) keeps its bit clear, so it is told apart
+ * from a zero without boxing the values. A row appended with add() has all its measurements missing, until they are set.
+ * </p>
+ * <p>
+ * The rows are appended with add() and filled with the setters; the arrays grow as needed. The batch is not thread safe, but it is handed from one stage
+ * of the pipeline to the next, never shared.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class HourlyBatch {
+
+	public static final int MINIMUM_TEMPERATURE = 0;
+	public static final int MAXIMUM_TEMPERATURE = 1;
+	public static final int INSTANT_TEMPERATURE = 2;
+	public static final int MINIMUM_PRECIPITATION = 3;
+	public static final int MAXIMUM_PRECIPITATION = 4;
+	public static final int INSTANT_PRECIPITATION = 5;
+	public static final int MINIMUM_RELATIVE_AIR_HUMIDITY = 6;
+	public static final int MAXIMUM_RELATIVE_AIR_HUMIDITY = 7;
+	public static final int INSTANT_RELATIVE_AIR_HUMIDITY = 8;
+	public static final int WIND_SPEED = 9;
+	public static final int BLAST = 10;
+	public static final int GLOBAL_RADIATION = 11;
+	public static final int MINIMUM_DEW_POINT = 12;
+	public static final int MAXIMUM_DEW_POINT = 13;
+	public static final int INSTANT_DEW_POINT = 14;
+	public static final int RAIN = 15;
+	public static final int FLOAT_COLUMNS = 16;
+	public static final int WIND_DIRECTION = 16; // column of the validity of the wind direction, stored as int
+	public static final int COLUMNS = 17;
+	public static final int DEFAULT_CAPACITY = 24 * 31; // hours of a month
+
+	private final InmetStationEntity station;
+	private int size;
+	private int[] time;
+	private int[] windDirection;
+	private final float[][] values;
+	private final long[][] validity;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param station
+	 *            Station of the hourly data.
+	 * @param capacity
+	 *            Initial number of rows.
+	 */
+	public HourlyBatch(InmetStationEntity station, int capacity) {
+		super();
+		this.station = station;
+		this.time = new int[Math.max(capacity, 1)];
+		this.windDirection = new int[this.time.length];
+		this.values = new float[FLOAT_COLUMNS][this.time.length];
+		this.validity = new long[COLUMNS][words(this.time.length)];
+	}
+
+	/**
+	 * Creates a batch with the hourly data of the list, which must belong to the same station.
+	 *
+	 * @param station
+	 *            Station of the hourly data.
+	 * @param hourlyData
+	 *            List of the hourly data.
+	 * @return Batch with the hourly data.
+	 */
+	public static HourlyBatch of(InmetStationEntity station, List<InmetHourlyDataEntity> hourlyData) {
+		HourlyBatch batch = new HourlyBatch(station, hourlyData.size());
+		for (InmetHourlyDataEntity data : hourlyData) {
+			batch.add(data);
+		}
+		return batch;
+	}
+
+	/**
+	 * Appends a row with the values of an hourly data entity, whose measurements are all present.
+	 *
+	 * @param data
+	 *            Hourly data of the station of the batch.
+	 * @return Index of the new row.
+	 * @throws IllegalArgumentException
+	 *             The date or the measure time of the hourly data is invalid.
+	 */
+	public int add(InmetHourlyDataEntity data) {
+		int row = this.add((int) data.getMeasurementDate().toEpochDay(), TemporalKeyUtil.parseHour(data.getMeasureTime()));
+		this.setWindDirection(row, data.getWindDirection());
+		this.setValue(MINIMUM_TEMPERATURE, row, data.getMinimumTemperature());
+		this.setValue(MAXIMUM_TEMPERATURE, row, data.getMaximumTemperature());
+		this.setValue(INSTANT_TEMPERATURE, row, data.getInstantTemperature());
+		this.setValue(MINIMUM_PRECIPITATION, row, data.getMinimumPrecipitation());
+		this.setValue(MAXIMUM_PRECIPITATION, row, data.getMaximumPrecipitation());
+		this.setValue(INSTANT_PRECIPITATION, row, data.getInstantPrecipitation());
+		this.setValue(MINIMUM_RELATIVE_AIR_HUMIDITY, row, data.getMinimumRelativeAirHumidity());
+		this.setValue(MAXIMUM_RELATIVE_AIR_HUMIDITY, row, data.getMaximumRelativeAirHumidity());
+		this.setValue(INSTANT_RELATIVE_AIR_HUMIDITY, row, data.getInstantRelativeAirHumidity());
+		this.setValue(WIND_SPEED, row, data.getWindSpeed());
+		this.setValue(BLAST, row, data.getBlast());
+		this.setValue(GLOBAL_RADIATION, row, data.getGlobalRadiation());
+		this.setValue(MINIMUM_DEW_POINT, row, data.getMinimumDewPoint());
+		this.setValue(MAXIMUM_DEW_POINT, row, data.getMaximumDewPoint());
+		this.setValue(INSTANT_DEW_POINT, row, data.getInstantDewPoint());
+		this.setValue(RAIN, row, data.getRain());
+		return row;
+	}
+
+	/**
+	 * Appends a row to the batch, with all the measurements missing.
+	 *
+	 * @param epochDay
+	 *            Date of the measurement, as the number of days since 1970-01-01.
+	 * @param hour
+	 *            Hour of the day of the measurement (0 to 23).
+	 * @return Index of the new row.
+	 * @throws IllegalArgumentException
+	 *             The date or the hour does not fit in the time key.
+	 */
+	public int add(int epochDay, int hour) {
+		int time = TemporalKeyUtil.timeKey(epochDay, hour);
+		if (this.size == this.time.length) {
+			this.grow(this.size + (this.size >> 1) + 1);
+		}
+		int row = this.size++;
+		this.time[row] = time;
+		this.windDirection[row] = 0;
+		for (float[] column : this.values) {
+			column[row] = 0;
+		}
+		for (long[] column : this.validity) {
+			column[row >>> 6] &= ~(1L << row);
+		}
+		return row;
+	}
+
+	/**
+	 * Appends the rows of another batch, keeping their missing measurements.
+	 *
+	 * @param source
+	 *            Batch with the rows to be appended.
+	 * @param first
+	 *            First row of the source.
+	 * @param end
+	 *            Row after the last row of the source.
+	 * @return Batch instance.
+	 */
+	public HourlyBatch addAll(HourlyBatch source, int first, int end) {
+		for (int row = first; row < end; row++) {
+			int target = this.add(source.getEpochDay(row), source.getHour(row));
+			for (int column = 0; column < FLOAT_COLUMNS; column++) {
+				if (source.isValid(column, row)) {
+					this.setValue(column, target, source.getValue(column, row));
+				}
+			}
+			if (source.isValid(WIND_DIRECTION, row)) {
+				this.setWindDirection(target, source.getWindDirection(row));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Sorts the rows by date and hour, keeping the order of the rows with the same date and hour. Nothing is done if the rows are already sorted, which is
+	 * the usual case for the data of INMET.
+	 *
+	 * @return Batch instance.
+	 */
+	public HourlyBatch sortByTime() {
+		if (this.isSortedByTime()) {
+			return this;
+		}
+
+		// sorting the time keys with the original row as primitive longs
+		long[] keys = new long[this.size];
+		for (int row = 0; row < this.size; row++) {
+			keys[row] = ((long) this.time[row] << 32) | row;
+		}
+		Arrays.sort(keys);
+
+		// moving the rows to their new positions
+		int[] order = new int[this.size];
+		for (int row = 0; row < this.size; row++) {
+			order[row] = (int) keys[row];
+		}
+		this.time = permute(this.time, order);
+		this.windDirection = permute(this.windDirection, order);
+		for (int column = 0; column < FLOAT_COLUMNS; column++) {
+			this.values[column] = permute(this.values[column], order);
+		}
+		for (int column = 0; column < COLUMNS; column++) {
+			this.validity[column] = permute(this.validity[column], order);
+		}
+		return this;
+	}
+
+	/**
+	 * @return True if the rows are sorted by date and hour.
+	 */
+	public boolean isSortedByTime() {
+		for (int row = 1; row < this.size; row++) {
+			if (this.time[row] < this.time[row - 1]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Sorts the rows by date and hour and removes the repeated measurements of the same date and hour, keeping the first one.
+	 *
+	 * @return Number of rows removed.
+	 */
+	public int removeDuplicates() {
+		this.sortByTime();
+		int kept = Math.min(this.size, 1);
+		for (int row = 1; row < this.size; row++) {
+			if (this.time[row] != this.time[kept - 1]) {
+				if (row != kept) {
+					this.copyRow(row, kept);
+				}
+				kept++;
+			}
+		}
+		int removed = this.size - kept;
+		this.size = kept;
+		return removed;
+	}
+
+	/**
+	 * Converts the batch to a list of hourly data entities, for the code that still works with entities. Since their measurements are primitives, the missing
+	 * ones become zero.
+	 *
+	 * @return List of the hourly data.
+	 */
+	public List<InmetHourlyDataEntity> toEntities() {
+		List<InmetHourlyDataEntity> hourlyData = new ArrayList<InmetHourlyDataEntity>(this.size);
+		for (int row = 0; row < this.size; row++) {
+			hourlyData.add(new InmetHourlyDataEntity(null, this.station, this.getMeasurementDate(row), String.format(Locale.ROOT, "%02d00", this.getHour(row)), //
+					this.values[MINIMUM_TEMPERATURE][row], this.values[MAXIMUM_TEMPERATURE][row], this.values[INSTANT_TEMPERATURE][row], //
+					this.values[MINIMUM_PRECIPITATION][row], this.values[MAXIMUM_PRECIPITATION][row], this.values[INSTANT_PRECIPITATION][row], //
+					this.values[MINIMUM_RELATIVE_AIR_HUMIDITY][row], this.values[MAXIMUM_RELATIVE_AIR_HUMIDITY][row], this.values[INSTANT_RELATIVE_AIR_HUMIDITY][row], //
+					this.values[WIND_SPEED][row], this.windDirection[row], this.values[BLAST][row], this.values[GLOBAL_RADIATION][row], //
+					this.values[MINIMUM_DEW_POINT][row], this.values[MAXIMUM_DEW_POINT][row], this.values[INSTANT_DEW_POINT][row], //
+					this.values[RAIN][row]));
+		}
+		return hourlyData;
+	}
+
+	/**
+	 * @return the station
+	 */
+	public InmetStationEntity getStation() {
+		return station;
+	}
+
+	/**
+	 * @return Identifier of the station or null if the station was not persisted yet.
+	 */
+	public Long getStationId() {
+		return (station != null) ? station.getId() : null;
+	}
+
+	/**
+	 * @return Number of rows of the batch.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return True if the batch has no rows.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @param row
+	 *            Index of the row.
+	 * @return Date of the measurement, as the number of days since 1970-01-01.
+	 */
+	public int getEpochDay(int row) {
+		return TemporalKeyUtil.getEpochDay(time[row]);
+	}
+
+	/**
+	 * @param row
+	 *            Index of the row.
+	 * @return Time key of the measurement (epoch day and hour, see TemporalKeyUtil).
+	 */
+	public int getTimeKey(int row) {
+		return time[row];
+	}
+
+	/**
+	 * @param row
+	 *            Index of the row.
+	 * @return Temporal key of the measurement, with the station.
+	 */
+	public long getKey(int row) {
+		return TemporalKeyUtil.pack((station != null && station.getId() != null) ? station.getId() : 0, this.getEpochDay(row), this.getHour(row));
+	}
+
+	/**
+	 * @param row
+	 *            Index of the row.
+	 * @return Date of the measurement.
+	 */
+	public LocalDate getMeasurementDate(int row) {
+		return TemporalKeyUtil.toLocalDate(time[row]);
+	}
+
+	/**
+	 * @param row
+	 *            Index of the row.
+	 * @return Hour of the day of the measurement.
+	 */
+	public int getHour(int row) {
+		return TemporalKeyUtil.getHour(time[row]);
+	}
+
+	/**
+	 * @param row
+	 *            Index of the row.
+	 * @return the wind direction
+	 */
+	public int getWindDirection(int row) {
+		return windDirection[row];
+	}
+
+	/**
+	 * @param row
+	 *            Index of the row.
+	 * @param windDirection
+	 *            the wind direction to set
+	 */
+	public void setWindDirection(int row, int windDirection) {
+		this.windDirection[row] = windDirection;
+		this.validity[WIND_DIRECTION][row >>> 6] |= 1L << row;
+	}
+
+	/**
+	 * @param column
+	 *            Measurement, one of the float column constants of this class.
+	 * @param row
+	 *            Index of the row.
+	 * @return Value of the measurement.
+	 */
+	public float getValue(int column, int row) {
+		return values[column][row];
+	}
+
+	/**
+	 * @param column
+	 *            Measurement, one of the float column constants of this class.
+	 * @param row
+	 *            Index of the row.
+	 * @param value
+	 *            Value of the measurement to set.
+	 */
+	public void setValue(int column, int row, float value) {
+		this.values[column][row] = value;
+		this.validity[column][row >>> 6] |= 1L << row;
+	}
+
+	/**
+	 * @param column
+	 *            Measurement, one of the float column constants of this class or WIND_DIRECTION.
+	 * @param row
+	 *            Index of the row.
+	 * @return True if the measurement is present, or false if it is missing.
+	 */
+	public boolean isValid(int column, int row) {
+		return (validity[column][row >>> 6] & (1L << row)) != 0;
+	}
+
+	/**
+	 * Marks the measurement as missing.
+	 *
+	 * @param column
+	 *            Measurement, one of the float column constants of this class or WIND_DIRECTION.
+	 * @param row
+	 *            Index of the row.
+	 */
+	public void setMissing(int column, int row) {
+		this.validity[column][row >>> 6] &= ~(1L << row);
+		if (column == WIND_DIRECTION) {
+			this.windDirection[row] = 0;
+		} else {
+			this.values[column][row] = 0;
+		}
+	}
+
+	/**
+	 * Counts the missing measurements of a range of rows, a word of the bitmap at a time.
+	 *
+	 * @param column
+	 *            Measurement, one of the float column constants of this class or WIND_DIRECTION.
+	 * @param first
+	 *            First row of the range.
+	 * @param end
+	 *            Row after the last row of the range.
+	 * @return Number of missing measurements.
+	 */
+	public int countMissing(int column, int first, int end) {
+		long[] bits = validity[column];
+		int valid = 0;
+		for (int row = first; row < end;) {
+			int last = Math.min(end, ((row >>> 6) + 1) << 6);
+			long mask = (last - row == 64) ? -1L : ((1L << (last - row)) - 1) << row;
+			valid += Long.bitCount(bits[row >>> 6] & mask);
+			row = last;
+		}
+		return (end - first) - valid;
+	}
+
+	/**
+	 * Grows the arrays of the columns to the informed capacity.
+	 */
+	private void grow(int capacity) {
+		this.time = Arrays.copyOf(this.time, capacity);
+		this.windDirection = Arrays.copyOf(this.windDirection, capacity);
+		for (int column = 0; column < FLOAT_COLUMNS; column++) {
+			this.values[column] = Arrays.copyOf(this.values[column], capacity);
+		}
+		for (int column = 0; column < COLUMNS; column++) {
+			this.validity[column] = Arrays.copyOf(this.validity[column], words(capacity));
+		}
+	}
+
+	/**
+	 * Copies all the columns of a row to another one.
+	 */
+	private void copyRow(int from, int to) {
+		this.time[to] = this.time[from];
+		this.windDirection[to] = this.windDirection[from];
+		for (float[] column : this.values) {
+			column[to] = column[from];
+		}
+		for (long[] column : this.validity) {
+			if ((column[from >>> 6] & (1L << from)) != 0) {
+				column[to >>> 6] |= 1L << to;
+			} else {
+				column[to >>> 6] &= ~(1L << to);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the number of words of a bitmap with the informed number of rows.
+	 */
+	private static int words(int rows) {
+		return (rows + 63) >>> 6;
+	}
+
+	private static long[] permute(long[] bits, int[] order) {
+		long[] sorted = new long[bits.length];
+		for (int row = 0; row < order.length; row++) {
+			if ((bits[order[row] >>> 6] & (1L << order[row])) != 0) {
+				sorted[row >>> 6] |= 1L << row;
+			}
+		}
+		return sorted;
+	}
+
+	private static int[] permute(int[] column, int[] order) {
+		int[] sorted = new int[column.length];
+		for (int row = 0; row < order.length; row++) {
+			sorted[row] = column[order[row]];
+		}
+		return sorted;
+	}
+
+	private static float[] permute(float[] column, int[] order) {
+		float[] sorted = new float[column.length];
+		for (int row = 0; row < order.length; row++) {
+			sorted[row] = column[order[row]];
+		}
+		return sorted;
+	}
+}
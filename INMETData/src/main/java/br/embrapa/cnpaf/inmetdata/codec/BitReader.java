@@ -0,0 +1,97 @@
+package br.embrapa.cnpaf.inmetdata.codec;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <br>
+ * <p>
+ * <b>Reader of a stream of bits, most significant bit first, used by the decoders of the codecs.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class BitReader implements Closeable {
+
+	private final InputStream in;
+	private int buffer;
+	private int bits;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param in Input stream of the bits.
+	 */
+	public BitReader(InputStream in) {
+		super();
+		this.in = in;
+	}
+
+	/**
+	 * Reads a bit.
+	 *
+	 * @return The bit.
+	 * @throws IOException Occurrence of any problems in reading the stream or its end.
+	 */
+	public boolean readBit() throws IOException {
+		return this.readBits(1) != 0;
+	}
+
+	/**
+	 * Reads a value.
+	 *
+	 * @param count Number of bits of the value (0 to 64).
+	 * @return The value, in the lower bits.
+	 * @throws IOException Occurrence of any problems in reading the stream or its end.
+	 */
+	public long readBits(int count) throws IOException {
+		long value = 0;
+		while (count > 0) {
+			if (this.bits == 0) {
+				this.buffer = this.in.read();
+				if (this.buffer < 0) {
+					throw new EOFException("Unexpected end of the bit stream");
+				}
+				this.bits = 8;
+			}
+			int taken = Math.min(count, this.bits);
+			this.bits -= taken;
+			count -= taken;
+			value = (value << taken) | ((this.buffer >>> this.bits) & ((1 << taken) - 1));
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a positive number written with the Elias gamma code (see BitWriter.writeGamma()).
+	 *
+	 * @return The number.
+	 * @throws IOException Occurrence of any problems in reading the stream or its end.
+	 */
+	public long readGamma() throws IOException {
+		int zeros = 0;
+		while (!this.readBit()) {
+			if (++zeros > 63) {
+				throw new IOException("Invalid gamma code in the bit stream");
+			}
+		}
+		return (1L << zeros) | this.readBits(zeros);
+	}
+
+	/**
+	 * Discards the remaining bits of the current byte, as completed by BitWriter.flush().
+	 */
+	public void align() {
+		this.bits = 0;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.in.close();
+	}
+}
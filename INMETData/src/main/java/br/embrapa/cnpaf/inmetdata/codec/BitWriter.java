@@ -0,0 +1,121 @@
+package br.embrapa.cnpaf.inmetdata.codec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <br>
+ * <p>
+ * <b>Writer of a stream of bits, most significant bit first, used by the encoders of the codecs.</b>
+ * </p>
+ * <p>
+ * The bits are accumulated in a long and written to the output stream byte by byte. flush() completes the last byte with zeros, so a stream holds the
+ * bits of a single sequence of encoders.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class BitWriter implements Closeable {
+
+	private final OutputStream out;
+	private long buffer;
+	private int bits;
+	private long written;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param out Output stream of the bits.
+	 */
+	public BitWriter(OutputStream out) {
+		super();
+		this.out = out;
+	}
+
+	/**
+	 * Writes a bit.
+	 *
+	 * @param bit Bit to be written.
+	 * @throws IOException Occurrence of any problems in writing the stream.
+	 */
+	public void writeBit(boolean bit) throws IOException {
+		this.writeBits(bit ? 1 : 0, 1);
+	}
+
+	/**
+	 * Writes the lower bits of a value.
+	 *
+	 * @param value Value to be written.
+	 * @param count Number of lower bits of the value to be written (0 to 64).
+	 * @throws IOException Occurrence of any problems in writing the stream.
+	 */
+	public void writeBits(long value, int count) throws IOException {
+		if (count > 32) {
+			this.writeBits(value >>> 32, count - 32);
+			count = 32;
+		}
+		this.buffer = (this.buffer << count) | (value & mask(count));
+		this.bits += count;
+		this.written += count;
+		while (this.bits >= 8) {
+			this.bits -= 8;
+			this.out.write((int) (this.buffer >>> this.bits));
+		}
+		this.buffer &= mask(this.bits);
+	}
+
+	/**
+	 * Writes a positive number with the Elias gamma code: the number of bits of the value minus one as zeros, followed by the value. Small numbers use few
+	 * bits (1 uses one bit, 2 and 3 use three bits).
+	 *
+	 * @param value Positive number to be written.
+	 * @throws IOException Occurrence of any problems in writing the stream.
+	 */
+	public void writeGamma(long value) throws IOException {
+		if (value < 1) {
+			throw new IllegalArgumentException("The gamma code requires a positive number: " + value);
+		}
+		int length = 64 - Long.numberOfLeadingZeros(value);
+		this.writeBits(0, length - 1);
+		this.writeBits(value, length);
+	}
+
+	/**
+	 * Completes the last byte with zeros and flushes the output stream.
+	 *
+	 * @throws IOException Occurrence of any problems in writing the stream.
+	 */
+	public void flush() throws IOException {
+		if (this.bits > 0) {
+			this.out.write((int) (this.buffer << (8 - this.bits)));
+			this.written += 8 - this.bits;
+			this.buffer = 0;
+			this.bits = 0;
+		}
+		this.out.flush();
+	}
+
+	/**
+	 * @return Number of bits written, including the completion of the last byte.
+	 */
+	public long getBitCount() {
+		return written;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.flush();
+		this.out.close();
+	}
+
+	/**
+	 * @return Mask of the lower bits.
+	 */
+	static long mask(int count) {
+		return (count == 64) ? -1L : (1L << count) - 1;
+	}
+}
@@ -0,0 +1,106 @@
+package br.embrapa.cnpaf.inmetdata.codec;
+
+import java.io.IOException;
+
+/**
+ * <br>
+ * <p>
+ * <b>Delta codec of a series of float values with one decimal digit, as the measurements published by INMET (22.3, 1013.5).</b>
+ * </p>
+ * <p>
+ * The values are converted to tenths and the difference to the previous one is written as a zigzag in the Elias gamma code: a repeated value uses one
+ * bit and a change of up to 0.3 uses three bits. Since the decimal values are not exact in binary, the XOR of two close values changes many bits of the
+ * mantissa, so this codec is usually much smaller than XorFloatCodec for these series. Only the values that are restored exactly from their tenths can
+ * be encoded: the encoder rejects the others, and the caller uses another codec for the series.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class DecimalDeltaCodec {
+
+	public static final double SCALE = 10.0;
+
+	/**
+	 * Private class constructor.
+	 */
+	private DecimalDeltaCodec() {
+		super();
+	}
+
+	/**
+	 * Checks if a value is restored exactly from its tenths.
+	 *
+	 * @param value Value to be checked.
+	 * @return True if the value can be encoded by this codec.
+	 */
+	public static boolean isEncodable(float value) {
+		double tenths = Math.rint(value * SCALE);
+		return Math.abs(tenths) < (1L << 40) && Float.floatToRawIntBits((float) ((long) tenths / SCALE)) == Float.floatToRawIntBits(value);
+	}
+
+	/**
+	 * Streaming encoder of the codec.
+	 */
+	public static class Encoder implements FloatEncoder {
+
+		private final BitWriter out;
+		private long previous;
+
+		/**
+		 * Public class constructor.
+		 *
+		 * @param out Bit stream of the encoded values.
+		 */
+		public Encoder(BitWriter out) {
+			this.out = out;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @throws IllegalArgumentException The value is not restored exactly from its tenths (see isEncodable()).
+		 */
+		@Override
+		public void write(float value) throws IOException {
+			if (!isEncodable(value)) {
+				throw new IllegalArgumentException("Value without an exact decimal digit: " + value);
+			}
+			long tenths = (long) Math.rint(value * SCALE);
+			long delta = tenths - this.previous;
+			this.out.writeGamma(((delta << 1) ^ (delta >> 63)) + 1);
+			this.previous = tenths;
+		}
+
+		@Override
+		public void finish() {
+		}
+	}
+
+	/**
+	 * Streaming decoder of the codec.
+	 */
+	public static class Decoder implements FloatDecoder {
+
+		private final BitReader in;
+		private long previous;
+
+		/**
+		 * Public class constructor.
+		 *
+		 * @param in Bit stream of the encoded values.
+		 */
+		public Decoder(BitReader in) {
+			this.in = in;
+		}
+
+		@Override
+		public float read() throws IOException {
+			long zigzag = this.in.readGamma() - 1;
+			this.previous += (zigzag >>> 1) ^ -(zigzag & 1);
+			return (float) (this.previous / SCALE);
+		}
+	}
+}
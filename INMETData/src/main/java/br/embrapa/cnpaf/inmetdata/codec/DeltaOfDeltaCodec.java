@@ -0,0 +1,131 @@
+package br.embrapa.cnpaf.inmetdata.codec;
+
+import java.io.IOException;
+
+/**
+ * <br>
+ * <p>
+ * <b>Delta-of-delta codec of a series of long values, as the timestamps of the Gorilla compression of time series.</b>
+ * </p>
+ * <p>
+ * The first value is written with 64 bits. For the next ones, the difference between the current and the previous delta is written with a prefix of
+ * variable length: a single zero bit when the delta repeats, which is the case of the regular series (the hours of the INMET data), or the zigzag of the
+ * difference with 7, 9, 12 or 64 bits.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class DeltaOfDeltaCodec {
+
+	/**
+	 * Private class constructor.
+	 */
+	private DeltaOfDeltaCodec() {
+		super();
+	}
+
+	/**
+	 * Streaming encoder of the codec.
+	 */
+	public static class Encoder {
+
+		private final BitWriter out;
+		private long count;
+		private long previous;
+		private long previousDelta;
+
+		/**
+		 * Public class constructor.
+		 *
+		 * @param out Bit stream of the encoded values.
+		 */
+		public Encoder(BitWriter out) {
+			this.out = out;
+		}
+
+		/**
+		 * Encodes the next value of the series.
+		 *
+		 * @param value Value to be encoded.
+		 * @throws IOException Occurrence of any problems in writing the bit stream.
+		 */
+		public void write(long value) throws IOException {
+			if (this.count++ == 0) {
+				this.out.writeBits(value, 64);
+			} else {
+				long delta = value - this.previous;
+				long deltaOfDelta = delta - this.previousDelta;
+				long zigzag = (deltaOfDelta << 1) ^ (deltaOfDelta >> 63); // unsigned
+				if (zigzag == 0) {
+					this.out.writeBits(0b0, 1);
+				} else if ((zigzag >>> 7) == 0) {
+					this.out.writeBits(0b10, 2);
+					this.out.writeBits(zigzag, 7);
+				} else if ((zigzag >>> 9) == 0) {
+					this.out.writeBits(0b110, 3);
+					this.out.writeBits(zigzag, 9);
+				} else if ((zigzag >>> 12) == 0) {
+					this.out.writeBits(0b1110, 4);
+					this.out.writeBits(zigzag, 12);
+				} else {
+					this.out.writeBits(0b1111, 4);
+					this.out.writeBits(zigzag, 64);
+				}
+				this.previousDelta = delta;
+			}
+			this.previous = value;
+		}
+	}
+
+	/**
+	 * Streaming decoder of the codec.
+	 */
+	public static class Decoder {
+
+		private final BitReader in;
+		private long count;
+		private long previous;
+		private long previousDelta;
+
+		/**
+		 * Public class constructor.
+		 *
+		 * @param in Bit stream of the encoded values.
+		 */
+		public Decoder(BitReader in) {
+			this.in = in;
+		}
+
+		/**
+		 * Decodes the next value of the series.
+		 *
+		 * @return The value.
+		 * @throws IOException Occurrence of any problems in reading the bit stream.
+		 */
+		public long read() throws IOException {
+			if (this.count++ == 0) {
+				this.previous = this.in.readBits(64);
+				return this.previous;
+			}
+			long zigzag;
+			if (!this.in.readBit()) {
+				zigzag = 0;
+			} else if (!this.in.readBit()) {
+				zigzag = this.in.readBits(7);
+			} else if (!this.in.readBit()) {
+				zigzag = this.in.readBits(9);
+			} else if (!this.in.readBit()) {
+				zigzag = this.in.readBits(12);
+			} else {
+				zigzag = this.in.readBits(64);
+			}
+			long delta = this.previousDelta + ((zigzag >>> 1) ^ -(zigzag & 1));
+			this.previous += delta;
+			this.previousDelta = delta;
+			return this.previous;
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package br.embrapa.cnpaf.inmetdata.codec;
+
+import java.io.IOException;
+
+/**
+ * <br>
+ * <p>
+ * <b>Streaming decoder of a series of float values from a bit stream.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public interface FloatDecoder {
+
+	/**
+	 * Decodes the next value of the series. The number of values is known by the caller, the decoder does not detect the end of the series.
+	 *
+	 * @return The value.
+	 * @throws IOException Occurrence of any problems in reading the bit stream.
+	 */
+	float read() throws IOException;
+}
@@ -0,0 +1,32 @@
+package br.embrapa.cnpaf.inmetdata.codec;
+
+import java.io.IOException;
+
+/**
+ * <br>
+ * <p>
+ * <b>Streaming encoder of a series of float values into a bit stream.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public interface FloatEncoder {
+
+	/**
+	 * Encodes the next value of the series.
+	 *
+	 * @param value Value to be encoded.
+	 * @throws IOException Occurrence of any problems in writing the bit stream.
+	 */
+	void write(float value) throws IOException;
+
+	/**
+	 * Writes the values still held by the encoder. Must be called after the last value, before flushing the bit stream.
+	 *
+	 * @throws IOException Occurrence of any problems in writing the bit stream.
+	 */
+	void finish() throws IOException;
+}
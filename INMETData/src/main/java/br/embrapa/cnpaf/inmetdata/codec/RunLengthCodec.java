@@ -0,0 +1,145 @@
+package br.embrapa.cnpaf.inmetdata.codec;
+
+import java.io.IOException;
+
+/**
+ * <br>
+ * <p>
+ * <b>Run-length codec of a series of values, for the series with long runs of repeated values, as the hours without rain or the flags of the missing
+ * measurements.</b>
+ * </p>
+ * <p>
+ * Each run is written as its value, with the number of bits of the codec (32 for the floats, 1 for the flags), followed by its length in the Elias gamma
+ * code. The encoder holds the current run until a different value arrives, so finish() must be called after the last value.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class RunLengthCodec {
+
+	public static final int FLOAT_BITS = 32;
+	public static final int FLAG_BITS = 1;
+
+	/**
+	 * Private class constructor.
+	 */
+	private RunLengthCodec() {
+		super();
+	}
+
+	/**
+	 * Streaming encoder of the codec.
+	 */
+	public static class Encoder implements FloatEncoder {
+
+		private final BitWriter out;
+		private final int valueBits;
+		private int value;
+		private long length;
+
+		/**
+		 * Public class constructor.
+		 *
+		 * @param out       Bit stream of the encoded values.
+		 * @param valueBits Number of bits of the values (FLOAT_BITS or FLAG_BITS).
+		 */
+		public Encoder(BitWriter out, int valueBits) {
+			this.out = out;
+			this.valueBits = valueBits;
+		}
+
+		@Override
+		public void write(float value) throws IOException {
+			this.writeInt(Float.floatToRawIntBits(value));
+		}
+
+		/**
+		 * Encodes the next flag of the series.
+		 *
+		 * @param flag Flag to be encoded.
+		 * @throws IOException Occurrence of any problems in writing the bit stream.
+		 */
+		public void writeFlag(boolean flag) throws IOException {
+			this.writeInt(flag ? 1 : 0);
+		}
+
+		/**
+		 * Encodes the next value of the series, whose bits above the number of bits of the codec are ignored.
+		 *
+		 * @param value Value to be encoded.
+		 * @throws IOException Occurrence of any problems in writing the bit stream.
+		 */
+		public void writeInt(int value) throws IOException {
+			value &= (int) BitWriter.mask(this.valueBits);
+			if (this.length > 0 && value != this.value) {
+				this.finish();
+			}
+			this.value = value;
+			this.length++;
+		}
+
+		@Override
+		public void finish() throws IOException {
+			if (this.length > 0) {
+				this.out.writeBits(this.value, this.valueBits);
+				this.out.writeGamma(this.length);
+				this.length = 0;
+			}
+		}
+	}
+
+	/**
+	 * Streaming decoder of the codec.
+	 */
+	public static class Decoder implements FloatDecoder {
+
+		private final BitReader in;
+		private final int valueBits;
+		private int value;
+		private long remaining;
+
+		/**
+		 * Public class constructor.
+		 *
+		 * @param in        Bit stream of the encoded values.
+		 * @param valueBits Number of bits of the values (FLOAT_BITS or FLAG_BITS).
+		 */
+		public Decoder(BitReader in, int valueBits) {
+			this.in = in;
+			this.valueBits = valueBits;
+		}
+
+		@Override
+		public float read() throws IOException {
+			return Float.intBitsToFloat(this.readInt());
+		}
+
+		/**
+		 * Decodes the next flag of the series.
+		 *
+		 * @return The flag.
+		 * @throws IOException Occurrence of any problems in reading the bit stream.
+		 */
+		public boolean readFlag() throws IOException {
+			return this.readInt() != 0;
+		}
+
+		/**
+		 * Decodes the next value of the series.
+		 *
+		 * @return The value.
+		 * @throws IOException Occurrence of any problems in reading the bit stream.
+		 */
+		public int readInt() throws IOException {
+			if (this.remaining == 0) {
+				this.value = (int) this.in.readBits(this.valueBits);
+				this.remaining = this.in.readGamma();
+			}
+			this.remaining--;
+			return this.value;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package br.embrapa.cnpaf.inmetdata.codec;
+
+import java.io.IOException;
+
+/**
+ * <br>
+ * <p>
+ * <b>XOR codec of a series of float values, as the values of the Gorilla compression of time series.</b>
+ * </p>
+ * <p>
+ * The first value is written with 32 bits. Each next value is XORed with the previous one: a repeated value is written as a single zero bit. Otherwise
+ * only the meaningful bits of the XOR are written, reusing the window of leading and trailing zeros of the previous value when they fit in it, or
+ * informing a new window with 5 bits for the leading zeros and 5 bits for the length. Since the hourly measurements change slowly, the consecutive
+ * values share the sign, the exponent and the upper bits of the mantissa.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class XorFloatCodec {
+
+	/**
+	 * Private class constructor.
+	 */
+	private XorFloatCodec() {
+		super();
+	}
+
+	/**
+	 * Streaming encoder of the codec.
+	 */
+	public static class Encoder implements FloatEncoder {
+
+		private final BitWriter out;
+		private boolean first;
+		private int previous;
+		private int leading;
+		private int trailing;
+
+		/**
+		 * Public class constructor.
+		 *
+		 * @param out Bit stream of the encoded values.
+		 */
+		public Encoder(BitWriter out) {
+			this.out = out;
+			this.first = true;
+			this.leading = Integer.MAX_VALUE;
+		}
+
+		@Override
+		public void write(float value) throws IOException {
+			int bits = Float.floatToRawIntBits(value);
+			if (this.first) {
+				this.first = false;
+				this.out.writeBits(bits, 32);
+			} else {
+				int xor = bits ^ this.previous;
+				if (xor == 0) {
+					this.out.writeBits(0b0, 1);
+				} else {
+					int leading = Math.min(Integer.numberOfLeadingZeros(xor), 31);
+					int trailing = Integer.numberOfTrailingZeros(xor);
+					if (leading >= this.leading && trailing >= this.trailing) {
+
+						// inside the window of the previous value
+						this.out.writeBits(0b10, 2);
+						this.out.writeBits(xor >>> this.trailing, 32 - this.leading - this.trailing);
+					} else {
+
+						// new window
+						int length = 32 - leading - trailing;
+						this.out.writeBits(0b11, 2);
+						this.out.writeBits(leading, 5);
+						this.out.writeBits(length - 1, 5);
+						this.out.writeBits(xor >>> trailing, length);
+						this.leading = leading;
+						this.trailing = trailing;
+					}
+				}
+			}
+			this.previous = bits;
+		}
+
+		@Override
+		public void finish() {
+		}
+	}
+
+	/**
+	 * Streaming decoder of the codec.
+	 */
+	public static class Decoder implements FloatDecoder {
+
+		private final BitReader in;
+		private boolean first;
+		private int previous;
+		private int leading;
+		private int trailing;
+
+		/**
+		 * Public class constructor.
+		 *
+		 * @param in Bit stream of the encoded values.
+		 */
+		public Decoder(BitReader in) {
+			this.in = in;
+			this.first = true;
+		}
+
+		@Override
+		public float read() throws IOException {
+			if (this.first) {
+				this.first = false;
+				this.previous = (int) this.in.readBits(32);
+			} else if (this.in.readBit()) {
+				if (this.in.readBit()) {
+					this.leading = (int) this.in.readBits(5);
+					this.trailing = 32 - this.leading - ((int) this.in.readBits(5) + 1);
+				}
+				this.previous ^= (int) this.in.readBits(32 - this.leading - this.trailing) << this.trailing;
+			}
+			return Float.intBitsToFloat(this.previous);
+		}
+	}
+}
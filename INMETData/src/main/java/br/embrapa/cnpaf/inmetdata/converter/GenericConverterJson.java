@@ -0,0 +1,150 @@
+package br.embrapa.cnpaf.inmetdata.converter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Generic converter of entities to the Gson framework, reading and writing the tokens of the JSON directly into the attributes.</b>
+ * </p>
+ * <p>
+ * Unlike the reflective conversion of Gson, the subclasses read each field by its name with a switch, without looking up the @SerializedName of the
+ * attributes or creating intermediate JsonElement trees. The values are read and written the same way as Gson does by default: the numbers may come as
+ * strings, a null keeps the default value of a primitive attribute, the unknown fields are skipped and the null attributes are not written.
+ * </p>
+ * <br>
+ *
+ * @param <E> Type of the entity.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public abstract class GenericConverterJson<E> extends TypeAdapter<E> {
+
+	/**
+	 * Reads a float value.
+	 *
+	 * @param in           Reader positioned at the value.
+	 * @param defaultValue Value returned when the JSON value is null.
+	 * @return The value.
+	 * @throws IOException The value is not a number.
+	 */
+	protected static float readFloat(JsonReader in, float defaultValue) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return defaultValue;
+		}
+		return (float) in.nextDouble();
+	}
+
+	/**
+	 * Reads a nullable float value.
+	 *
+	 * @param in Reader positioned at the value.
+	 * @return The value or null.
+	 * @throws IOException The value is not a number.
+	 */
+	protected static Float readNullableFloat(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return (float) in.nextDouble();
+	}
+
+	/**
+	 * Reads an int value.
+	 *
+	 * @param in           Reader positioned at the value.
+	 * @param defaultValue Value returned when the JSON value is null.
+	 * @return The value.
+	 * @throws IOException The value is not an integer.
+	 */
+	protected static int readInt(JsonReader in, int defaultValue) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return defaultValue;
+		}
+		return in.nextInt();
+	}
+
+	/**
+	 * Reads a nullable long value.
+	 *
+	 * @param in Reader positioned at the value.
+	 * @return The value or null.
+	 * @throws IOException The value is not an integer.
+	 */
+	protected static Long readLong(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextLong();
+	}
+
+	/**
+	 * Reads a nullable string value.
+	 *
+	 * @param in Reader positioned at the value.
+	 * @return The value or null.
+	 * @throws IOException The value is not a string.
+	 */
+	protected static String readString(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextString();
+	}
+
+	/**
+	 * Reads a nullable date in the SQL format (yyyy-MM-dd).
+	 *
+	 * @param in Reader positioned at the value.
+	 * @return The date or null.
+	 * @throws IOException The value is not a string.
+	 */
+	protected static LocalDate readDate(JsonReader in) throws IOException {
+		String date = readString(in);
+		return (date != null) ? TimeUtil.parseSqlDate(date) : null;
+	}
+
+	/**
+	 * Writes a nullable float value, the same way as the Gson number converter.
+	 *
+	 * @param out   Writer positioned at the value.
+	 * @param value Value to be written.
+	 * @throws IOException Occurrence of any problems in writing the value.
+	 */
+	protected static void writeFloat(JsonWriter out, Float value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+		} else {
+			out.value(value);
+		}
+	}
+
+	/**
+	 * Writes a nullable date in the SQL format (yyyy-MM-dd).
+	 *
+	 * @param out   Writer positioned at the value.
+	 * @param value Date to be written.
+	 * @throws IOException Occurrence of any problems in writing the value.
+	 */
+	protected static void writeDate(JsonWriter out, LocalDate value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+		} else {
+			out.value(TimeUtil.formatSqlDate(value));
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package br.embrapa.cnpaf.inmetdata.converter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetDiarlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+
+/**
+ * <br>
+ * <p>
+ * <b> Converter for InmetDiarlyDataEntity type attributes to the Gson framework, without reflection.</b>
+ * </p>
+ * <p>
+ * The fields have the names of the INMET web service (DT_MEDICAO, TEM_MIN and so on). A null measurement stays null. It is created by InmetEntityConverterFactoryJson,
+ * which informs the converter of the station.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetDiarlyDataConverterJson extends GenericConverterJson<InmetDiarlyDataEntity> {
+
+	private final TypeAdapter<InmetStationEntity> stationConverter;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param stationConverter Converter of the station of the daily data.
+	 */
+	public InmetDiarlyDataConverterJson(TypeAdapter<InmetStationEntity> stationConverter) {
+		super();
+		this.stationConverter = stationConverter;
+	}
+
+	@Override
+	public void write(JsonWriter out, InmetDiarlyDataEntity entity) throws IOException {
+		if (entity == null) {
+			out.nullValue();
+			return;
+		}
+		out.beginObject();
+		out.name("id").value(entity.getId());
+		out.name("entilyStation");
+		this.stationConverter.write(out, entity.getEntilyStation());
+		out.name("DT_MEDICAO");
+		writeDate(out, entity.getMeasurementDate());
+		out.name("TEM_MIN");
+		writeFloat(out, entity.getMinimumTemperature());
+		out.name("TEM_MAX");
+		writeFloat(out, entity.getMaximumTemperature());
+		out.name("PRE_MIN");
+		writeFloat(out, entity.getMinimumPrecipitation());
+		out.name("PRE_MAX");
+		writeFloat(out, entity.getMaximumPrecipitation());
+		out.name("UMD_MIN");
+		writeFloat(out, entity.getMinimumRelativeAirHumidity());
+		out.name("UMD_MAX");
+		writeFloat(out, entity.getMaximumRelativeAirHumidity());
+		out.name("VEN_VEL");
+		writeFloat(out, entity.getWindSpeed());
+		out.name("VEN_DIR");
+		writeFloat(out, entity.getWindDirection());
+		out.name("RAD_GLO");
+		writeFloat(out, entity.getGlobalRadiation());
+		out.name("PTO_MIN");
+		writeFloat(out, entity.getMinimumDewPoint());
+		out.name("PTO_MAX");
+		writeFloat(out, entity.getMaximumDewPoint());
+		out.name("CHUVA");
+		writeFloat(out, entity.getRain());
+		out.endObject();
+	}
+
+	@Override
+	public InmetDiarlyDataEntity read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		// initializing variables
+		Long id = null;
+		InmetStationEntity entilyStation = null;
+		LocalDate measurementDate = null;
+		Float minimumTemperature = null;
+		Float maximumTemperature = null;
+		Float minimumPrecipitation = null;
+		Float maximumPrecipitation = null;
+		Float minimumRelativeAirHumidity = null;
+		Float maximumRelativeAirHumidity = null;
+		Float windSpeed = null;
+		Float windDirection = null;
+		Float globalRadiation = null;
+		Float minimumDewPoint = null;
+		Float maximumDewPoint = null;
+		Float rain = null;
+
+		// reading the fields
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+			case "id":
+				id = readLong(in);
+				break;
+			case "entilyStation":
+				entilyStation = this.stationConverter.read(in);
+				break;
+			case "DT_MEDICAO":
+				measurementDate = readDate(in);
+				break;
+			case "TEM_MIN":
+				minimumTemperature = readNullableFloat(in);
+				break;
+			case "TEM_MAX":
+				maximumTemperature = readNullableFloat(in);
+				break;
+			case "PRE_MIN":
+				minimumPrecipitation = readNullableFloat(in);
+				break;
+			case "PRE_MAX":
+				maximumPrecipitation = readNullableFloat(in);
+				break;
+			case "UMD_MIN":
+				minimumRelativeAirHumidity = readNullableFloat(in);
+				break;
+			case "UMD_MAX":
+				maximumRelativeAirHumidity = readNullableFloat(in);
+				break;
+			case "VEN_VEL":
+				windSpeed = readNullableFloat(in);
+				break;
+			case "VEN_DIR":
+				windDirection = readNullableFloat(in);
+				break;
+			case "RAD_GLO":
+				globalRadiation = readNullableFloat(in);
+				break;
+			case "PTO_MIN":
+				minimumDewPoint = readNullableFloat(in);
+				break;
+			case "PTO_MAX":
+				maximumDewPoint = readNullableFloat(in);
+				break;
+			case "CHUVA":
+				rain = readNullableFloat(in);
+				break;
+			default:
+				in.skipValue();
+			}
+		}
+		in.endObject();
+		return new InmetDiarlyDataEntity( //
+				id, //
+				entilyStation, //
+				measurementDate, //
+				minimumTemperature, //
+				maximumTemperature, //
+				minimumPrecipitation, //
+				maximumPrecipitation, //
+				minimumRelativeAirHumidity, //
+				maximumRelativeAirHumidity, //
+				windSpeed, //
+				windDirection, //
+				globalRadiation, //
+				minimumDewPoint, //
+				maximumDewPoint, //
+				rain);
+	}
+}
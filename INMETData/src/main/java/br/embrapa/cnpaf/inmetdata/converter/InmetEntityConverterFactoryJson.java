@@ -0,0 +1,46 @@
+package br.embrapa.cnpaf.inmetdata.converter;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetCityEntily;
+import br.embrapa.cnpaf.inmetdata.entity.InmetDiarlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetHourlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+
+/**
+ * <br>
+ * <p>
+ * <b> Factory of the reflection free converters of the INMET entities (hourly data, daily data and station) to the Gson framework.</b>
+ * </p>
+ * <p>
+ * The converters of the hourly and daily data share the converter of the station, which uses the converter of the city provided by Gson. To use this
+ * factory see example:
+ * </p>
+ * <p>
+ * Gson gson = new GsonBuilder() .registerTypeAdapterFactory(new InmetEntityConverterFactoryJson()) .create();
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetEntityConverterFactoryJson implements TypeAdapterFactory {
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+		if (rawType == InmetHourlyDataEntity.class) {
+			return (TypeAdapter<T>) new InmetHourlyDataConverterJson(gson.getAdapter(InmetStationEntity.class));
+		} else if (rawType == InmetDiarlyDataEntity.class) {
+			return (TypeAdapter<T>) new InmetDiarlyDataConverterJson(gson.getAdapter(InmetStationEntity.class));
+		} else if (rawType == InmetStationEntity.class) {
+			return (TypeAdapter<T>) new InmetStationConverterJson(gson.getAdapter(InmetCityEntily.class));
+		}
+		return null;
+	}
+}
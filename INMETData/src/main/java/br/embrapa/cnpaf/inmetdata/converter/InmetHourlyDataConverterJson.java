@@ -0,0 +1,217 @@
+package br.embrapa.cnpaf.inmetdata.converter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetHourlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+
+/**
+ * <br>
+ * <p>
+ * <b> Converter for InmetHourlyDataEntity type attributes to the Gson framework, without reflection.</b>
+ * </p>
+ * <p>
+ * The fields have the names of the INMET web service (DT_MEDICAO, TEM_MIN and so on). A null measurement keeps the value zero, as in the reflective conversion of Gson. It is created by InmetEntityConverterFactoryJson,
+ * which informs the converter of the station.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetHourlyDataConverterJson extends GenericConverterJson<InmetHourlyDataEntity> {
+
+	private final TypeAdapter<InmetStationEntity> stationConverter;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param stationConverter Converter of the station of the hourly data.
+	 */
+	public InmetHourlyDataConverterJson(TypeAdapter<InmetStationEntity> stationConverter) {
+		super();
+		this.stationConverter = stationConverter;
+	}
+
+	@Override
+	public void write(JsonWriter out, InmetHourlyDataEntity entity) throws IOException {
+		if (entity == null) {
+			out.nullValue();
+			return;
+		}
+		out.beginObject();
+		out.name("id").value(entity.getId());
+		out.name("entilyStation");
+		this.stationConverter.write(out, entity.getEntilyStation());
+		out.name("DT_MEDICAO");
+		writeDate(out, entity.getMeasurementDate());
+		out.name("HR_MEDICAO").value(entity.getMeasureTime());
+		out.name("TEM_MIN");
+		writeFloat(out, entity.getMinimumTemperature());
+		out.name("TEM_MAX");
+		writeFloat(out, entity.getMaximumTemperature());
+		out.name("TEM_INS");
+		writeFloat(out, entity.getInstantTemperature());
+		out.name("PRE_MIN");
+		writeFloat(out, entity.getMinimumPrecipitation());
+		out.name("PRE_MAX");
+		writeFloat(out, entity.getMaximumPrecipitation());
+		out.name("PRE_INS");
+		writeFloat(out, entity.getInstantPrecipitation());
+		out.name("UMD_MIN");
+		writeFloat(out, entity.getMinimumRelativeAirHumidity());
+		out.name("UMD_MAX");
+		writeFloat(out, entity.getMaximumRelativeAirHumidity());
+		out.name("UMD_INS");
+		writeFloat(out, entity.getInstantRelativeAirHumidity());
+		out.name("VEN_VEL");
+		writeFloat(out, entity.getWindSpeed());
+		out.name("VEN_DIR").value(entity.getWindDirection());
+		out.name("VEN_RAJ");
+		writeFloat(out, entity.getBlast());
+		out.name("RAD_GLO");
+		writeFloat(out, entity.getGlobalRadiation());
+		out.name("PTO_MIN");
+		writeFloat(out, entity.getMinimumDewPoint());
+		out.name("PTO_MAX");
+		writeFloat(out, entity.getMaximumDewPoint());
+		out.name("PTO_INS");
+		writeFloat(out, entity.getInstantDewPoint());
+		out.name("CHUVA");
+		writeFloat(out, entity.getRain());
+		out.endObject();
+	}
+
+	@Override
+	public InmetHourlyDataEntity read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		// initializing variables
+		Long id = null;
+		InmetStationEntity entilyStation = null;
+		LocalDate measurementDate = null;
+		String measureTime = null;
+		float minimumTemperature = 0;
+		float maximumTemperature = 0;
+		float instantTemperature = 0;
+		float minimumPrecipitation = 0;
+		float maximumPrecipitation = 0;
+		float instantPrecipitation = 0;
+		float minimumRelativeAirHumidity = 0;
+		float maximumRelativeAirHumidity = 0;
+		float instantRelativeAirHumidity = 0;
+		float windSpeed = 0;
+		int windDirection = 0;
+		float blast = 0;
+		float globalRadiation = 0;
+		float minimumDewPoint = 0;
+		float maximumDewPoint = 0;
+		float instantDewPoint = 0;
+		float rain = 0;
+
+		// reading the fields
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+			case "id":
+				id = readLong(in);
+				break;
+			case "entilyStation":
+				entilyStation = this.stationConverter.read(in);
+				break;
+			case "DT_MEDICAO":
+				measurementDate = readDate(in);
+				break;
+			case "HR_MEDICAO":
+				measureTime = readString(in);
+				break;
+			case "TEM_MIN":
+				minimumTemperature = readFloat(in, minimumTemperature);
+				break;
+			case "TEM_MAX":
+				maximumTemperature = readFloat(in, maximumTemperature);
+				break;
+			case "TEM_INS":
+				instantTemperature = readFloat(in, instantTemperature);
+				break;
+			case "PRE_MIN":
+				minimumPrecipitation = readFloat(in, minimumPrecipitation);
+				break;
+			case "PRE_MAX":
+				maximumPrecipitation = readFloat(in, maximumPrecipitation);
+				break;
+			case "PRE_INS":
+				instantPrecipitation = readFloat(in, instantPrecipitation);
+				break;
+			case "UMD_MIN":
+				minimumRelativeAirHumidity = readFloat(in, minimumRelativeAirHumidity);
+				break;
+			case "UMD_MAX":
+				maximumRelativeAirHumidity = readFloat(in, maximumRelativeAirHumidity);
+				break;
+			case "UMD_INS":
+				instantRelativeAirHumidity = readFloat(in, instantRelativeAirHumidity);
+				break;
+			case "VEN_VEL":
+				windSpeed = readFloat(in, windSpeed);
+				break;
+			case "VEN_DIR":
+				windDirection = readInt(in, windDirection);
+				break;
+			case "VEN_RAJ":
+				blast = readFloat(in, blast);
+				break;
+			case "RAD_GLO":
+				globalRadiation = readFloat(in, globalRadiation);
+				break;
+			case "PTO_MIN":
+				minimumDewPoint = readFloat(in, minimumDewPoint);
+				break;
+			case "PTO_MAX":
+				maximumDewPoint = readFloat(in, maximumDewPoint);
+				break;
+			case "PTO_INS":
+				instantDewPoint = readFloat(in, instantDewPoint);
+				break;
+			case "CHUVA":
+				rain = readFloat(in, rain);
+				break;
+			default:
+				in.skipValue();
+			}
+		}
+		in.endObject();
+		return new InmetHourlyDataEntity( //
+				id, //
+				entilyStation, //
+				measurementDate, //
+				measureTime, //
+				minimumTemperature, //
+				maximumTemperature, //
+				instantTemperature, //
+				minimumPrecipitation, //
+				maximumPrecipitation, //
+				instantPrecipitation, //
+				minimumRelativeAirHumidity, //
+				maximumRelativeAirHumidity, //
+				instantRelativeAirHumidity, //
+				windSpeed, //
+				windDirection, //
+				blast, //
+				globalRadiation, //
+				minimumDewPoint, //
+				maximumDewPoint, //
+				instantDewPoint, //
+				rain);
+	}
+}
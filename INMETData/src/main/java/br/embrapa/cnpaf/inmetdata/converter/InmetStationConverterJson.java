@@ -0,0 +1,94 @@
+package br.embrapa.cnpaf.inmetdata.converter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetCityEntily;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+
+/**
+ * <br>
+ * <p>
+ * <b> Converter for InmetStationEntity type attributes to the Gson framework, without reflection.</b>
+ * </p>
+ * <p>
+ * It is created by InmetEntityConverterFactoryJson, which informs the converter of the city of the station.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetStationConverterJson extends GenericConverterJson<InmetStationEntity> {
+
+	private final TypeAdapter<InmetCityEntily> cityConverter;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param cityConverter Converter of the city of the station.
+	 */
+	public InmetStationConverterJson(TypeAdapter<InmetCityEntily> cityConverter) {
+		super();
+		this.cityConverter = cityConverter;
+	}
+
+	@Override
+	public void write(JsonWriter out, InmetStationEntity entity) throws IOException {
+		if (entity == null) {
+			out.nullValue();
+			return;
+		}
+		out.beginObject();
+		out.name("id").value(entity.getId());
+		out.name("code").value(entity.getCode());
+		out.name("cityEntily");
+		this.cityConverter.write(out, entity.getCityEntily());
+		out.name("startDate");
+		writeDate(out, entity.getStartDate());
+		out.endObject();
+	}
+
+	@Override
+	public InmetStationEntity read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		// initializing variables
+		Long id = null;
+		String code = null;
+		InmetCityEntily cityEntily = null;
+		LocalDate startDate = null;
+
+		// reading the fields
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+			case "id":
+				id = readLong(in);
+				break;
+			case "code":
+				code = readString(in);
+				break;
+			case "cityEntily":
+				cityEntily = this.cityConverter.read(in);
+				break;
+			case "startDate":
+				startDate = readDate(in);
+				break;
+			default:
+				in.skipValue();
+			}
+		}
+		in.endObject();
+		return new InmetStationEntity(id, code, cityEntily, startDate);
+	}
+}
@@ -11,8 +11,7 @@ import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 
-import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
-import br.embrapa.cnpaf.inmetdata.service.TimeService;
+import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
 
 /**
  * <br>
@@ -36,21 +35,13 @@ public class LocalDateConverterJson implements JsonSerializer<LocalDate>, JsonDe
 
 	@Override
 	public JsonElement serialize(LocalDate localDate, Type type, JsonSerializationContext jsonSerializationContext) {
-		try {
-//			return new JsonPrimitive(TimeService.getInstanceOf().toMillis(localDate));
-			return new JsonPrimitive(TimeService.getInstanceOf().getFormatterSqlDate().format(localDate));
-		} catch (ServiceException e) {
-			return null;
-		}
+//		return new JsonPrimitive(TimeService.getInstanceOf().toMillis(localDate));
+		return new JsonPrimitive(TimeUtil.formatSqlDate(localDate));
 	}
 
 	@Override
 	public LocalDate deserialize(JsonElement json, Type type, JsonDeserializationContext context) throws JsonParseException {
-		try {
-//			return TimeService.getInstanceOf().toLocalDateTime(json.getAsJsonPrimitive().getAsLong()).toLocalDate();
-			return TimeService.getInstanceOf().toLocalDateFromSql(json.getAsJsonPrimitive().getAsString());
-		} catch (ServiceException e) {
-			return null;
-		}
+//		return TimeService.getInstanceOf().toLocalDateTime(json.getAsJsonPrimitive().getAsLong()).toLocalDate();
+		return TimeUtil.parseSqlDate(json.getAsJsonPrimitive().getAsString());
 	}
 }
@@ -18,9 +18,11 @@ import com.fasterxml.uuid.impl.TimeBasedGenerator;
 import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
 import br.embrapa.cnpaf.inmetdata.exception.GenericException;
 import br.embrapa.cnpaf.inmetdata.exception.PersistenceException;
+import br.embrapa.cnpaf.inmetdata.metric.MetricTimer;
 import br.embrapa.cnpaf.inmetdata.service.ConfigurationService;
 import br.embrapa.cnpaf.inmetdata.service.LogService;
 import br.embrapa.cnpaf.inmetdata.service.MessageService;
+import br.embrapa.cnpaf.inmetdata.service.MetricsService;
 import br.embrapa.cnpaf.inmetdata.service.TimeService;
 import br.embrapa.cnpaf.inmetdata.util.ErrorUtil;
 import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
@@ -54,20 +56,40 @@ public abstract class GenericDAO<D, E> {
 	public static final String INDEX_INMET_HOURLY_DATA_STATION_AND_MEASUREMENT_DATE = "idx_INMET_HOURLY_DATA_MEASUREMENT_DATE_AND_STATION_CODE";
 	public static final String TABLE_INMET_DAILY_DATA = "inmet_daily_data";
 	public static final String INDEX_INMET_DAILY_DATA_STATION_AND_MEASUREMENT_DATE = "idx_INMET_DAILY_DATA_MEASUREMENT_DATE_AND_STATION_CODE";
+	public static final String TABLE_INMET_JOURNAL = "inmet_journal";
+	public static final String TABLE_INMET_DEAD_LETTER = "inmet_dead_letter";
+	public static final String TABLE_INMET_DIRTY_DAY = "inmet_dirty_day";
+	public static final String TABLE_SCHEMA_VERSION = "schema_version";
 
 	public static final Level LOG_DEFAULT_LEVEL = Level.ERROR;
 	public static final int DUPLICATE_KEY_ERROR_CODE = 1555; // SQLITE_CONSTRAINT_PRIMARYKEY
 	public static final String DATABASE_JDBC_CLASS = "org.postgresql.Driver";
-	public static final String DATABASE_JDBC_URI = "jdbc:postgresql://localhost:5432/INMET";
-	public static final String DATABASE_JDBC_USER = "postgres";
-	public static final String DATABASE_JDBC_PASSWORD = "root";
+	public static final int STREAM_FETCH_ROWS = 10000; // rows of each round trip of a server-side cursor
 
 	private static Connection connection;
+	private static volatile boolean schemaCurrent;
+
+	/**
+	 * Visitor of the rows of a query streamed by stream().
+	 */
+	public interface RowVisitor {
+
+		/**
+		 * Visits a row of the query result.
+		 * 
+		 * @param queryResult
+		 *            Query result positioned at the row, valid only during the visit.
+		 * @throws Exception
+		 *             Occurrence of any problems in processing the row, which stops the query.
+		 */
+		void visit(ResultSet queryResult) throws Exception;
+	}
 
 	protected final ConfigurationService configurationService;
 	protected final MessageService messageService;
 	protected final LogService logService;
 	protected final TimeService timeService;
+	protected final MetricsService metricsService;
 	protected TimeBasedGenerator UUIDGenerator;
 
 	/**
@@ -87,7 +109,12 @@ public abstract class GenericDAO<D, E> {
 			this.configurationService = ConfigurationService.getInstanceOf();
 			this.messageService = MessageService.getInstanceOf();
 			this.logService = new LogService(messageService, logClientName, (logLevel != null) ? logLevel : this.getConfigurationService().getLogLevel());
+			if (logLevel == null) {
+				// following the log level of the configuration when it is reloaded
+				this.configurationService.addListener(configuration -> this.logService.setLogLevel(configuration.getLogLevel()));
+			}
 			this.timeService = TimeService.getInstanceOf();
+			this.metricsService = MetricsService.getInstanceOf();
 			this.UUIDGenerator = Generators.timeBasedGenerator(EthernetAddress.fromInterface());
 
 		} catch (Throwable e) {
@@ -205,6 +232,15 @@ public abstract class GenericDAO<D, E> {
 		return timeService;
 	}
 
+	/**
+	 * Retrieves the metrics service.
+	 * 
+	 * @return Metrics Service.
+	 */
+	protected MetricsService getMetricsService() {
+		return metricsService;
+	}
+
 	/**
 	 * Writing success message with the parameters informed.
 	 * 
@@ -268,7 +304,7 @@ public abstract class GenericDAO<D, E> {
 			Class.forName(DATABASE_JDBC_CLASS);
 
 			// get database connection
-			GenericDAO.connection = DriverManager.getConnection(DATABASE_JDBC_URI, DATABASE_JDBC_USER, DATABASE_JDBC_PASSWORD);
+			GenericDAO.connection = DriverManager.getConnection(this.getConfigurationService().getDatabaseUri(), this.getConfigurationService().getDatabaseUser(), this.getConfigurationService().getDatabasePassword());
 			GenericDAO.connection.setAutoCommit(false);
 
 		} catch (Throwable e) {
@@ -360,6 +396,8 @@ public abstract class GenericDAO<D, E> {
 		// initializing variables
 		Connection connection = this.getConnection();
 		Statement query = null;
+		MetricTimer writeTimer = this.getMetricsService().getTimer(MetricsService.TIMER_DB_WRITE, MetricsService.TAG_DAO, this.getDAODescriptor());
+		long writeStart = writeTimer.start();
 
 		try {
 			synchronized (this) {
@@ -411,6 +449,7 @@ public abstract class GenericDAO<D, E> {
 			}
 
 			// entity saving error
+			this.getMetricsService().getCounter(MetricsService.COUNTER_FAILURES, MetricsService.TAG_DAO, this.getDAODescriptor()).increment();
 			MessageEnum error = (e instanceof SQLException && ((SQLException) e).getErrorCode() == DUPLICATE_KEY_ERROR_CODE) ? MessageEnum.GENERIC_DAO_ERROR_DUPLICATE_KEY : MessageEnum.GENERIC_DAO_ERROR_SAVE;
 			throw this.error(NetworkUtil.getLocalIpAddress(), error, this.getClass().getSimpleName(), "save", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), String.valueOf(id));
 
@@ -418,6 +457,7 @@ public abstract class GenericDAO<D, E> {
 
 			// committing the transaction
 			this.commit(connection, query);
+			writeTimer.stop(writeStart);
 		}
 	}
 
@@ -585,6 +625,111 @@ public abstract class GenericDAO<D, E> {
 		return (D) this;
 	}
 
+	/**
+	 * Saves several entities with a single query (for example, an INSERT with many rows). Unlike save(Long, String, String), the ids of the new entities are
+	 * not retrieved.
+	 * 
+	 * @param description
+	 *            Description of the saved entities, used in the log messages.
+	 * @param saveQuery
+	 *            Query to save the entities in the database server.
+	 * @return Number of entities saved.
+	 * @throws PersistenceException
+	 *             An error occurred while saving the entities in the database server.
+	 */
+	protected int saveAll(String description, String saveQuery) throws PersistenceException {
+
+		// initializing variables
+		Connection connection = this.getConnection();
+		Statement query = null;
+		int queryResult = 0;
+		MetricTimer writeTimer = this.getMetricsService().getTimer(MetricsService.TIMER_DB_WRITE, MetricsService.TAG_DAO, this.getDAODescriptor());
+		long writeStart = writeTimer.start();
+
+		try {
+			synchronized (this) {
+
+				// execute sql query
+				query = connection.createStatement();
+				query.execute(saveQuery);
+				queryResult = query.getUpdateCount();
+			}
+
+		} catch (Throwable e) {
+
+			// canceling the transaction
+			if (connection != null) {
+				try {
+					connection.rollback();
+				} catch (SQLException e1) {
+				}
+			}
+
+			// entities saving error
+			this.getMetricsService().getCounter(MetricsService.COUNTER_FAILURES, MetricsService.TAG_DAO, this.getDAODescriptor()).increment();
+			MessageEnum error = (e instanceof SQLException && ((SQLException) e).getErrorCode() == DUPLICATE_KEY_ERROR_CODE) ? MessageEnum.GENERIC_DAO_ERROR_DUPLICATE_KEY : MessageEnum.GENERIC_DAO_ERROR_SAVE;
+			throw this.error(NetworkUtil.getLocalIpAddress(), error, this.getClass().getSimpleName(), "saveAll", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), description);
+
+		} finally {
+
+			// committing the transaction
+			this.commit(connection, query);
+			writeTimer.stop(writeStart);
+		}
+
+		// return number of entities saved
+		this.success(MessageEnum.GENERIC_DAO_INFO_SUCCESS_SAVE, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), description);
+		return queryResult;
+	}
+
+	/**
+	 * Remove all entities selected by the informed query. Unlike remove(Long, String), any number of entities (including none) can be removed.
+	 * 
+	 * @param description
+	 *            Description of the removed entities, used in the log messages.
+	 * @param removeQuery
+	 *            Query to remove the entities previously saved in the database server.
+	 * @return Number of entities removed.
+	 * @throws PersistenceException
+	 *             An error occurred while removing the entities in the database server.
+	 */
+	protected int removeAll(String description, String removeQuery) throws PersistenceException {
+
+		// initializing variables
+		Connection connection = this.getConnection();
+		Statement query = null;
+		int queryResult = 0;
+
+		try {
+			// execute sql query
+			query = connection.createStatement();
+			query.execute(removeQuery);
+			queryResult = query.getUpdateCount();
+
+		} catch (Throwable e) {
+
+			// canceling the transaction
+			if (connection != null) {
+				try {
+					connection.rollback();
+				} catch (SQLException e1) {
+				}
+			}
+
+			// entities removing error
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_REMOVE, this.getClass().getSimpleName(), "removeAll", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), description);
+
+		} finally {
+
+			// committing the transaction
+			this.commit(connection, query);
+		}
+
+		// return number of entities removed
+		this.success(MessageEnum.GENERIC_DAO_INFO_SUCCESS_REMOVE, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), description);
+		return queryResult;
+	}
+
 	/**
 	 * Remove an relationship keys by informed query.
 	 * 
@@ -697,6 +842,8 @@ public abstract class GenericDAO<D, E> {
 		// initializing variables
 		Connection connection = this.getConnection();
 		Statement query = null;
+		MetricTimer listTimer = this.getMetricsService().getTimer(MetricsService.TIMER_DB_LIST, MetricsService.TAG_DAO, this.getDAODescriptor());
+		long listStart = listTimer.start();
 
 		try {
 			// execute sql query
@@ -727,16 +874,78 @@ public abstract class GenericDAO<D, E> {
 			}
 
 			// list all entities error
+			this.getMetricsService().getCounter(MetricsService.COUNTER_FAILURES, MetricsService.TAG_DAO, this.getDAODescriptor()).increment();
 			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_LIST_ALL, this.getClass().getSimpleName(), "listAll", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor());
 
 		} finally {
 
 			// committing the transaction
 			this.commit(connection, query);
+			listTimer.stop(listStart);
 		}
 
 	}
 
+	/**
+	 * Streams the rows of the informed query to a visitor, through a server-side cursor: the rows are fetched STREAM_FETCH_ROWS at a time, so the
+	 * memory used does not depend on the number of rows of the query, unlike list(). As the connection is shared by the DAOs and a commit closes the
+	 * cursor, the visitor must not use other DAOs.
+	 * 
+	 * @param queryStream
+	 *            Query to retrieving the rows.
+	 * @param visitor
+	 *            Visitor of the rows.
+	 * @return Number of rows visited.
+	 * @throws PersistenceException
+	 *             An error occurred while retrieving the rows or in the visitor.
+	 */
+	protected int stream(String queryStream, RowVisitor visitor) throws PersistenceException {
+
+		// initializing variables
+		Connection connection = this.getConnection();
+		Statement query = null;
+		MetricTimer listTimer = this.getMetricsService().getTimer(MetricsService.TIMER_DB_LIST, MetricsService.TAG_DAO, this.getDAODescriptor());
+		long listStart = listTimer.start();
+
+		try {
+			// execute sql query with a cursor, in the transaction of the connection (auto-commit disabled)
+			query = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			query.setFetchSize(STREAM_FETCH_ROWS);
+			ResultSet queryResult = query.executeQuery(queryStream);
+
+			// visiting the rows, as they are fetched
+			int rows = 0;
+			while (queryResult.next()) {
+				visitor.visit(queryResult);
+				rows++;
+			}
+
+			// return the number of rows visited
+			this.success(MessageEnum.GENERIC_DAO_INFO_SUCCESS_LIST_ALL, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor());
+			return rows;
+
+		} catch (Throwable e) {
+
+			// canceling the transaction
+			if (connection != null) {
+				try {
+					connection.rollback();
+				} catch (SQLException e1) {
+				}
+			}
+
+			// stream entities error
+			this.getMetricsService().getCounter(MetricsService.COUNTER_FAILURES, MetricsService.TAG_DAO, this.getDAODescriptor()).increment();
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_LIST_ALL, this.getClass().getSimpleName(), "stream", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor());
+
+		} finally {
+
+			// committing the transaction, which closes the cursor
+			this.commit(connection, query);
+			listTimer.stop(listStart);
+		}
+	}
+
 	/**
 	 * Queries for creating tables, if there are in the database server.
 	 * 
@@ -816,6 +1025,41 @@ public abstract class GenericDAO<D, E> {
 		return (D) this;
 	}
 
+	/**
+	 * Retrieves a real column of the query result, keeping NULL as null instead of zero.
+	 * 
+	 * @param queryResult
+	 *            Query result positioned at the row.
+	 * @param column
+	 *            Name of the column.
+	 * @return Value of the column or null if it is NULL.
+	 * @throws SQLException
+	 *             An error occurred while reading the column.
+	 */
+	protected static Float getFloat(ResultSet queryResult, String column) throws SQLException {
+		float value = queryResult.getFloat(column);
+		return queryResult.wasNull() ? null : value;
+	}
+
+	/**
+	 * Checks whether the database schema is already at the current version, in which case the DAOs skip the creation of their tables.
+	 * 
+	 * @return True if the schema is at the current version, false otherwise.
+	 */
+	protected static boolean isSchemaCurrent() {
+		return GenericDAO.schemaCurrent;
+	}
+
+	/**
+	 * Informs whether the database schema is at the current version. Used by SchemaVersionDAO after checking or migrating the schema.
+	 * 
+	 * @param schemaCurrent
+	 *            True if the schema is at the current version, false otherwise.
+	 */
+	static void setSchemaCurrent(boolean schemaCurrent) {
+		GenericDAO.schemaCurrent = schemaCurrent;
+	}
+
 	/**
 	 * Generate unique ID (UUID).
 	 * 
@@ -0,0 +1,252 @@
+package br.embrapa.cnpaf.inmetdata.dao;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.Level;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetDeadLetterEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.enumerate.FailureClassEnum;
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.PersistenceException;
+import br.embrapa.cnpaf.inmetdata.period.period;
+import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b> Singleton Class responsible for by performing the persistence of the dead letters, the periods whose ingestion failed.</b>
+ * </p>
+ * <p>
+ * There is only one entry per (station, period): a new failure of the same period updates the class and the message of the last failure and accumulates
+ * the attempts and the failures. The entry is removed when the period is persisted, by a normal execution or by the replay of the dead letters.
+ * </p>
+ * <p>
+ * To retrieve an instance of this class use the static method getInstanceOf ():<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt> InmetDeadLetterDAO dao = InmetDeadLetterDAO.getInstanceOf();</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetDeadLetterDAO extends GenericDAO<InmetDeadLetterDAO, InmetDeadLetterEntity> {
+
+	public static final int MESSAGE_MAX_LENGTH = 2000;
+
+	private static InmetDeadLetterDAO instance;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param logClientName Name of the client object of the logging service.
+	 * @param logLevel      Log level to be used in log service.
+	 * @throws PersistenceException Occurrence of any problems in creating of the DAO.
+	 */
+	private InmetDeadLetterDAO(String logClientName, Level logLevel) throws PersistenceException {
+		super(logClientName, logLevel);
+
+		// initializing database, unless the schema is already at the current version
+		if (!isSchemaCurrent()) {
+			this.init();
+		}
+
+		// DAO create success
+		this.success(MessageEnum.GENERIC_DAO_INFO_SUCCESS_CREATE, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor());
+	}
+
+	/**
+	 * Method to retrieve the instance of DAO. This class has a single instance for any application (Singleton).
+	 *
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in creating of the DAO.
+	 */
+	public static synchronized InmetDeadLetterDAO getInstanceOf(String logClientName, Level logLevel) throws PersistenceException {
+		if (InmetDeadLetterDAO.instance == null) {
+			InmetDeadLetterDAO.instance = new InmetDeadLetterDAO(logClientName, logLevel);
+		}
+		return InmetDeadLetterDAO.instance;
+	}
+
+	/**
+	 * Method to retrieve the instance of DAO. This class has a single instance for any application (Singleton).<br>
+	 * To use this method, it is necessary that the DAO instance has already been created by executing the getInstanceOf(String logClientName, Level
+	 * logLevel) method.
+	 *
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in retrieving of the DAO instance.
+	 */
+	public static synchronized InmetDeadLetterDAO getInstanceOf() throws PersistenceException {
+		return InmetDeadLetterDAO.getInstanceOf(InmetDeadLetterDAO.class.getSimpleName(), LOG_DEFAULT_LEVEL);
+	}
+
+	@Override
+	public InmetDeadLetterDAO save(InmetDeadLetterEntity entity) throws PersistenceException {
+
+		// the message may contain any character
+		String message = (entity.getMessage() == null) ? null
+				: entity.getMessage().substring(0, Math.min(entity.getMessage().length(), MESSAGE_MAX_LENGTH)).replace("'", "''");
+
+		// save the entry or accumulate the new failure, there is only one entry per station and period start
+		Long id = super.save(//
+				entity.getId() //
+				, "INSERT INTO " + "public." + TABLE_INMET_DEAD_LETTER + "(" + //
+						"station_id," + //
+						"start_date," + //
+						"end_date," + //
+						"failure_class," + //
+						"attempts," + //
+						"failures," + //
+						"message," + //
+						"first_failure_date_time," + //
+						"last_failure_date_time)" + //
+						" VALUES (" //
+						+ entity.getStation().getId() + "," //
+						+ "'" + entity.getStartDate() + "'" + "," //
+						+ "'" + entity.getEndDate() + "'" + "," //
+						+ "'" + entity.getFailureClass() + "'" + "," //
+						+ entity.getAttempts() + "," //
+						+ entity.getFailures() + "," //
+						+ ((message != null) ? "'" + message + "'" : "NULL") + "," //
+						+ "'" + entity.getFirstFailureDateTime() + "'" + "," //
+						+ "'" + entity.getLastFailureDateTime() + "'" + ")" //
+						+ " ON CONFLICT (station_id, start_date) DO UPDATE SET " //
+						+ "end_date=EXCLUDED.end_date," //
+						+ "failure_class=EXCLUDED.failure_class," //
+						+ "attempts=" + TABLE_INMET_DEAD_LETTER + ".attempts+EXCLUDED.attempts," //
+						+ "failures=" + TABLE_INMET_DEAD_LETTER + ".failures+EXCLUDED.failures," //
+						+ "message=EXCLUDED.message," //
+						+ "last_failure_date_time=EXCLUDED.last_failure_date_time" + ";" //
+				, "UPDATE " + "public." + TABLE_INMET_DEAD_LETTER + " SET " //
+						+ "end_date=" + "'" + entity.getEndDate() + "'" + "," //
+						+ "failure_class=" + "'" + entity.getFailureClass() + "'" + "," //
+						+ "attempts=" + entity.getAttempts() + "," //
+						+ "failures=" + entity.getFailures() + "," //
+						+ "message=" + ((message != null) ? "'" + message + "'" : "NULL") + "," //
+						+ "last_failure_date_time=" + "'" + entity.getLastFailureDateTime() + "'" //
+						+ " WHERE id=" + entity.getId() + ";");
+		entity.setId(id);
+
+		// return DAO instance
+		return this;
+	}
+
+	/**
+	 * Records a failure in the ingestion of a period of the station.
+	 *
+	 * @param station      Station whose period failed.
+	 * @param period       Period that failed.
+	 * @param failureClass Class of the failure.
+	 * @param attempts     Number of attempts performed.
+	 * @param message      Message of the failure.
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in saving the dead letter.
+	 */
+	public InmetDeadLetterDAO record(InmetStationEntity station, period period, FailureClassEnum failureClass, int attempts, String message)
+			throws PersistenceException {
+		return this.save(new InmetDeadLetterEntity(null, station, period.getStart(), period.getEnd(), failureClass, attempts, 1, message,
+				this.getTimeService().getDateTime(), this.getTimeService().getDateTime()));
+	}
+
+	@Override
+	public InmetDeadLetterDAO remove(Long id) throws PersistenceException {
+
+		// verifying that the id is valid
+		if (id == null || id == 0) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_REMOVE, this.getClass().getSimpleName(), "remove", null, null, true,
+					NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), String.valueOf(id));
+		}
+
+		// removing entity
+		return super.remove(id, "DELETE FROM " + TABLE_INMET_DEAD_LETTER + " WHERE id=" + id + ";");
+	}
+
+	/**
+	 * Removes the dead letter of the period of the station, if any.
+	 *
+	 * @param idStation Station ID
+	 * @param startDate Start of the period.
+	 * @return Number of dead letters removed.
+	 * @throws PersistenceException Occurrence of any problems in removing the dead letter.
+	 */
+	public int removeByStationAndPeriod(Long idStation, LocalDate startDate) throws PersistenceException {
+		return super.removeAll(idStation + ":" + startDate, //
+				"DELETE FROM " + TABLE_INMET_DEAD_LETTER + //
+						" WHERE station_id = " + idStation + //
+						" AND start_date = " + "'" + startDate + "'" + ";");
+	}
+
+	@Override
+	public InmetDeadLetterEntity find(Long id) throws PersistenceException {
+		return super.find(id, "SELECT * FROM " + TABLE_INMET_DEAD_LETTER + " WHERE id=" + id + ";");
+	}
+
+	@Override
+	public List<InmetDeadLetterEntity> list() throws PersistenceException {
+		return super.list("SELECT * FROM " + TABLE_INMET_DEAD_LETTER + " ORDER BY station_id, start_date;");
+	}
+
+	@Override
+	protected InmetDeadLetterDAO init() throws PersistenceException {
+
+		// initializing variables
+		List<String> queries = new ArrayList<String>();
+
+		// SQL for entity table create
+		queries.add(//
+				"CREATE TABLE IF NOT EXISTS " + TABLE_INMET_DEAD_LETTER + " ( "//
+						+ "id bigserial primary key "//
+						+ ", station_id bigint REFERENCES " + TABLE_INMET_STATION + "(id) "//
+						+ ", start_date date NOT NULL "//
+						+ ", end_date date NOT NULL "//
+						+ ", failure_class character varying(16) NOT NULL "//
+						+ ", attempts integer NOT NULL "//
+						+ ", failures integer NOT NULL "//
+						+ ", message text DEFAULT NULL "//
+						+ ", first_failure_date_time timestamp DEFAULT NULL "//
+						+ ", last_failure_date_time timestamp DEFAULT NULL "//
+						+ ", unique (station_id, start_date) "//
+						+ "); "//
+		);
+
+		// initializing table
+		super.init(queries);
+		return this;
+	}
+
+	@Override
+	protected InmetDeadLetterEntity getEntity(ResultSet queryResult) throws PersistenceException {
+
+		Long id = null;
+		try {
+			// retrieving the attributes
+			id = queryResult.getObject("id") != null ? queryResult.getLong("id") : null;
+
+			InmetStationEntity station = InmetStationDAO.getInstanceOf().find(queryResult.getLong("station_id"));
+
+			// creating new entity with attributes retrieved from database
+			return new InmetDeadLetterEntity( //
+					id, //
+					station, //
+					TimeUtil.stringToLocalDate(queryResult.getString("start_date")), //
+					TimeUtil.stringToLocalDate(queryResult.getString("end_date")), //
+					FailureClassEnum.valueOf(queryResult.getString("failure_class")), //
+					queryResult.getInt("attempts"), //
+					queryResult.getInt("failures"), //
+					queryResult.getString("message"), //
+					queryResult.getTimestamp("first_failure_date_time") != null ? queryResult.getTimestamp("first_failure_date_time").toLocalDateTime() : null, //
+					queryResult.getTimestamp("last_failure_date_time") != null ? queryResult.getTimestamp("last_failure_date_time").toLocalDateTime() : null);
+
+		} catch (Throwable e) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_GET_ENTITY, this.getClass().getSimpleName(), "getEntity",
+					e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), String.valueOf(id));
+		}
+	}
+
+}
@@ -57,8 +57,10 @@ public class InmetDiarlyDataDAO extends GenericDAO<InmetDiarlyDataDAO, InmetDiar
 	private InmetDiarlyDataDAO(String logClientName, Level logLevel) throws PersistenceException {
 		super(logClientName, logLevel);
 
-		// initializing database
-		this.init();
+		// initializing database, unless the schema is already at the current version
+		if (!isSchemaCurrent()) {
+			this.init();
+		}
 
 		// DAO create success
 		this.success(MessageEnum.GENERIC_DAO_INFO_SUCCESS_CREATE, NetworkUtil.getLocalIpAddress(),
@@ -108,36 +110,7 @@ public class InmetDiarlyDataDAO extends GenericDAO<InmetDiarlyDataDAO, InmetDiar
 		// save ou update the entity
 		id = super.save(//
 				id //
-				, "INSERT INTO " + "public." + TABLE_INMET_DAILY_DATA + "(" + //
-						"station_id," + //
-						"measurement_date," + //
-						"minimum_temperature," + //
-						"maximum_temperature," + //
-						"minimum_precipitation," + //
-						"maximum_precipitation," + //
-						"minimum_relative_air_humidity," + //
-						"maximum_relative_air_humidity," + //
-						"wind_speed," + //
-						"wind_direction," + //
-						"global_radiation," + //
-						"minimum_dew_point," + //
-						"maximum_dew_point," + //
-						"rain)" + //
-						"VALUES (" //
-						+ "'" + entity.getEntilyStation().getId() + "'" + "," //
-						+ "'" + entity.getMeasurementDate() + "'" + ","//
-						+ entity.getMinimumTemperature() + ","//
-						+ entity.getMaximumTemperature() + ","//
-						+ entity.getMinimumPrecipitation() + "," //
-						+ entity.getMaximumPrecipitation() + "," //
-						+ entity.getMinimumRelativeAirHumidity() + "," //
-						+ entity.getMaximumRelativeAirHumidity() + ","//
-						+ entity.getWindSpeed() + ","//
-						+ entity.getWindDirection() + ","//
-						+ entity.getGlobalRadiation() + ","//
-						+ entity.getMinimumDewPoint() + ","//
-						+ entity.getMaximumDewPoint() + ","//
-						+ entity.getRain() + ")" + ";"//
+				, InmetDiarlyDataDAO.getSaveQueryHeader() + InmetDiarlyDataDAO.appendSaveValues(new StringBuilder(), entity) + ";"//
 				, "UPDATE" + "public." + TABLE_INMET_DAILY_DATA + "SET" //
 						+ "station_id=" + entity.getEntilyStation().getId() + "," //
 						+ "measurement_date=" + entity.getMeasurementDate() + "," ////
@@ -232,18 +205,18 @@ public class InmetDiarlyDataDAO extends GenericDAO<InmetDiarlyDataDAO, InmetDiar
 						resultSet.getLong("id"), //
 						entity, //
 						resultSet.getDate("measurement_date").toLocalDate(), //
-						resultSet.getFloat("minimum_temperature"), //
-						resultSet.getFloat("maximum_temperature"), //
-						resultSet.getFloat("minimum_precipitation"), //
-						resultSet.getFloat("maximum_precipitation"), //
-						resultSet.getFloat("minimum_relative_air_humidity"), //
-						resultSet.getFloat("maximum_relative_air_humidity"), //
-						resultSet.getFloat("wind_speed"), //
-						resultSet.getFloat("wind_direction"), //
-						resultSet.getFloat("global_radiation"), //
-						resultSet.getFloat("minimum_dew_point"), //
-						resultSet.getFloat("maximum_dew_point"), //
-						resultSet.getFloat("rain")));//
+						getFloat(resultSet, "minimum_temperature"), //
+						getFloat(resultSet, "maximum_temperature"), //
+						getFloat(resultSet, "minimum_precipitation"), //
+						getFloat(resultSet, "maximum_precipitation"), //
+						getFloat(resultSet, "minimum_relative_air_humidity"), //
+						getFloat(resultSet, "maximum_relative_air_humidity"), //
+						getFloat(resultSet, "wind_speed"), //
+						getFloat(resultSet, "wind_direction"), //
+						getFloat(resultSet, "global_radiation"), //
+						getFloat(resultSet, "minimum_dew_point"), //
+						getFloat(resultSet, "maximum_dew_point"), //
+						getFloat(resultSet, "rain")));//
 			}
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -286,17 +259,18 @@ public class InmetDiarlyDataDAO extends GenericDAO<InmetDiarlyDataDAO, InmetDiar
 						resultSet.getLong("id"), //
 						entity, //
 						resultSet.getDate("measurement_date").toLocalDate(), //
-						resultSet.getFloat("minimum_temperature"), //
-						resultSet.getFloat("maximum_temperature"), //
-						resultSet.getFloat("minimum_precipitation"), //
-						resultSet.getFloat("maximum_precipitation"), //
-						resultSet.getFloat("minimum_relative_air_humidity"), //
-						resultSet.getFloat("maximum_relative_air_humidity"), resultSet.getFloat("wind_speed"), //
-						resultSet.getFloat("wind_direction"), //
-						resultSet.getFloat("global_radiation"), //
-						resultSet.getFloat("minimum_dew_point"), //
-						resultSet.getFloat("maximum_dew_point"), //
-						resultSet.getFloat("rain")));//
+						getFloat(resultSet, "minimum_temperature"), //
+						getFloat(resultSet, "maximum_temperature"), //
+						getFloat(resultSet, "minimum_precipitation"), //
+						getFloat(resultSet, "maximum_precipitation"), //
+						getFloat(resultSet, "minimum_relative_air_humidity"), //
+						getFloat(resultSet, "maximum_relative_air_humidity"), //
+						getFloat(resultSet, "wind_speed"), //
+						getFloat(resultSet, "wind_direction"), //
+						getFloat(resultSet, "global_radiation"), //
+						getFloat(resultSet, "minimum_dew_point"), //
+						getFloat(resultSet, "maximum_dew_point"), //
+						getFloat(resultSet, "rain")));//
 			}
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -305,6 +279,47 @@ public class InmetDiarlyDataDAO extends GenericDAO<InmetDiarlyDataDAO, InmetDiar
 		return diarlyData;
 	}
 
+	/**
+	 * Streams the daily data of the station, in order of date, through a
+	 * server-side cursor (see GenericDAO.stream()), without keeping the rows in
+	 * memory. Used by the export of the data.
+	 * 
+	 * @param idStation Station ID
+	 * @param visitor   Visitor of the rows, with the columns of the table.
+	 * @return Number of rows visited.
+	 * @throws PersistenceException Occurrence of any problems in retrieving the
+	 *                              rows or in the visitor.
+	 */
+	public int streamByStation(long idStation, RowVisitor visitor) throws PersistenceException {
+		return super.stream("SELECT * FROM " + TABLE_INMET_DAILY_DATA + //
+				" WHERE station_id = " + idStation + //
+				" ORDER BY measurement_date;", visitor);
+	}
+
+	/**
+	 * Streams the daily data of the stations, in order of station and date,
+	 * through a single server-side cursor (see GenericDAO.stream()), without
+	 * keeping the rows in memory. Used by the export of the data.
+	 * 
+	 * @param idStations Stations IDs
+	 * @param visitor    Visitor of the rows, with the columns of the table.
+	 * @return Number of rows visited.
+	 * @throws PersistenceException Occurrence of any problems in retrieving the
+	 *                              rows or in the visitor.
+	 */
+	public int streamByStations(List<Long> idStations, RowVisitor visitor) throws PersistenceException {
+		if (idStations.isEmpty()) {
+			return 0;
+		}
+		StringBuilder ids = new StringBuilder();
+		for (Long idStation : idStations) {
+			ids.append((ids.length() > 0) ? "," : "").append(idStation);
+		}
+		return super.stream("SELECT * FROM " + TABLE_INMET_DAILY_DATA + //
+				" WHERE station_id IN (" + ids + ")" + //
+				" ORDER BY station_id, measurement_date;", visitor);
+	}
+
 	/**
 	 * this method returns the highest date in the bank
 	 * 
@@ -343,6 +358,113 @@ public class InmetDiarlyDataDAO extends GenericDAO<InmetDiarlyDataDAO, InmetDiar
 		return maxDate;
 	}
 
+	/**
+	 * Removes the daily data of the station measured in the informed period.
+	 * Used to discard the rows of a period whose ingestion was interrupted before
+	 * being completely persisted.
+	 * 
+	 * @param idStation Station ID
+	 * @param initDate  First day of the period.
+	 * @param endDate   Last day of the period.
+	 * @return Number of rows removed.
+	 * @throws PersistenceException Occurrence of any problems in removing the
+	 *                              data.
+	 */
+	public int removeByStationAndPeriod(Long idStation, LocalDate initDate, LocalDate endDate)
+			throws PersistenceException {
+		return super.removeAll(idStation + ":" + initDate + "/" + endDate, //
+				"DELETE FROM " + TABLE_INMET_DAILY_DATA + //
+						" WHERE station_id = " + idStation + //
+						" AND measurement_date >= " + "'" + initDate + "'" + //
+						" AND measurement_date <= " + "'" + endDate + "'" + ";");//
+	}
+
+	/**
+	 * Replaces the daily data of the station measured in the informed dates by
+	 * the new daily data, with a single query (a DELETE followed by one INSERT of
+	 * all the rows) committed as one transaction, so a failure keeps the old
+	 * daily data of the days instead of leaving them without daily data. Used to
+	 * replace the daily data of the dirty days by their recomputation.
+	 * 
+	 * @param idStation  Station ID
+	 * @param dates      Days of the daily data, at most
+	 *                   InmetDirtyDayDAO.DATES_PER_QUERY.
+	 * @param diarlyData New daily data of the station, measured in the dates.
+	 * @return Number of rows saved.
+	 * @throws PersistenceException Occurrence of any problems in replacing the
+	 *                              data.
+	 */
+	public int replaceByStationAndDates(Long idStation, List<LocalDate> dates, List<InmetDiarlyDataEntity> diarlyData)
+			throws PersistenceException {
+		if (dates.isEmpty()) {
+			return 0;
+		}
+
+		// removing the old rows and inserting the new ones in the same query
+		StringBuilder query = new StringBuilder("DELETE FROM " + TABLE_INMET_DAILY_DATA + //
+				" WHERE station_id = " + idStation + //
+				" AND measurement_date IN (" + InmetDirtyDayDAO.getDatesList(dates) + ")" + ";");//
+		for (int row = 0; row < diarlyData.size(); row++) {
+			InmetDiarlyDataDAO.appendSaveValues((row == 0) ? query.append(InmetDiarlyDataDAO.getSaveQueryHeader()) : query.append(","), diarlyData.get(row));
+		}
+		if (!diarlyData.isEmpty()) {
+			query.append(";");
+		}
+		super.saveAll(idStation + ":" + dates.get(0) + "/" + dates.get(dates.size() - 1), query.toString());
+		return diarlyData.size();
+	}
+
+	/**
+	 * Retrieves the beginning of the query to save new daily data in the database
+	 * server, up to the VALUES keyword.
+	 * 
+	 * @return Beginning of the query.
+	 */
+	private static String getSaveQueryHeader() {
+		return "INSERT INTO " + "public." + TABLE_INMET_DAILY_DATA + "(" + //
+				"station_id," + //
+				"measurement_date," + //
+				"minimum_temperature," + //
+				"maximum_temperature," + //
+				"minimum_precipitation," + //
+				"maximum_precipitation," + //
+				"minimum_relative_air_humidity," + //
+				"maximum_relative_air_humidity," + //
+				"wind_speed," + //
+				"wind_direction," + //
+				"global_radiation," + //
+				"minimum_dew_point," + //
+				"maximum_dew_point," + //
+				"rain)" + //
+				"VALUES ";
+	}
+
+	/**
+	 * Appends the values of a daily data to the query that saves it. The missing
+	 * measurements are saved as NULL.
+	 * 
+	 * @param query  Query being built.
+	 * @param entity Daily data.
+	 * @return The query.
+	 */
+	private static StringBuilder appendSaveValues(StringBuilder query, InmetDiarlyDataEntity entity) {
+		return query.append("(" //
+				+ "'" + entity.getEntilyStation().getId() + "'" + "," //
+				+ "'" + entity.getMeasurementDate() + "'" + ","//
+				+ entity.getMinimumTemperature() + ","//
+				+ entity.getMaximumTemperature() + ","//
+				+ entity.getMinimumPrecipitation() + "," //
+				+ entity.getMaximumPrecipitation() + "," //
+				+ entity.getMinimumRelativeAirHumidity() + "," //
+				+ entity.getMaximumRelativeAirHumidity() + ","//
+				+ entity.getWindSpeed() + ","//
+				+ entity.getWindDirection() + ","//
+				+ entity.getGlobalRadiation() + ","//
+				+ entity.getMinimumDewPoint() + ","//
+				+ entity.getMaximumDewPoint() + ","//
+				+ entity.getRain() + ")");
+	}
+
 	@Override
 	protected InmetDiarlyDataDAO init() throws PersistenceException {
 
@@ -391,18 +513,18 @@ public class InmetDiarlyDataDAO extends GenericDAO<InmetDiarlyDataDAO, InmetDiar
 			return new InmetDiarlyDataEntity( //
 					queryResult.getLong("id"), //
 					station, TimeUtil.stringToLocalDate(queryResult.getString("measurement_date")), //
-					queryResult.getFloat("minimum_temperature"), //
-					queryResult.getFloat("maximum_temperature"), //
-					queryResult.getFloat("minimum_precipitation"), //
-					queryResult.getFloat("maximum_precipitation"), //
-					queryResult.getFloat("minimum_relative_air_humidity"), //
-					queryResult.getFloat("maximum_relative_air_humidity"), //
-					queryResult.getFloat("wind_speed"), //
-					queryResult.getFloat("wind_direction"), //
-					queryResult.getFloat("global_radiation"), //
-					queryResult.getFloat("minimum_dew_point"), //
-					queryResult.getFloat("maximum_dew_point"), //
-					queryResult.getFloat("maximum_dew_point"));//
+					getFloat(queryResult, "minimum_temperature"), //
+					getFloat(queryResult, "maximum_temperature"), //
+					getFloat(queryResult, "minimum_precipitation"), //
+					getFloat(queryResult, "maximum_precipitation"), //
+					getFloat(queryResult, "minimum_relative_air_humidity"), //
+					getFloat(queryResult, "maximum_relative_air_humidity"), //
+					getFloat(queryResult, "wind_speed"), //
+					getFloat(queryResult, "wind_direction"), //
+					getFloat(queryResult, "global_radiation"), //
+					getFloat(queryResult, "minimum_dew_point"), //
+					getFloat(queryResult, "maximum_dew_point"), //
+					getFloat(queryResult, "maximum_dew_point"));//
 
 		} catch (Throwable e) {
 			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_GET_ENTITY,
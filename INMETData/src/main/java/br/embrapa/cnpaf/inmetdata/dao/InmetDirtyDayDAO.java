@@ -0,0 +1,324 @@
+package br.embrapa.cnpaf.inmetdata.dao;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.log4j.Level;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetDirtyDayEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.PersistenceException;
+import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b> Singleton Class responsible for by performing the persistence of the dirty days, the days of a station whose hourly data changed after its daily
+ * data was aggregated.</b>
+ * </p>
+ * <p>
+ * The days are marked by triggers of the hourly data table, once per statement, so the hourly data corrected or backfilled directly in the database is
+ * tracked as well as the data written by the system. There is only one entry per (station, day): a new change of the day only updates its mark date
+ * time. The ingestion removes the entries of the days it aggregates, and the recomputation of the dirty days removes the entries marked before it
+ * started, by the clock of the database, so a day changed during the recomputation stays dirty.
+ * </p>
+ * <p>
+ * The days are marked with clock_timestamp(), the time of the statement that changed the hourly data rather than the start of its transaction, but the
+ * mark is only visible when the transaction commits. So a window remains: a day changed by a statement executed before the recomputation started, whose
+ * transaction commits only after the recomputation read the hourly data of the day, has its mark removed without the change being recomputed. Short
+ * correction transactions keep this window small; such a day is recomputed again by any later change of it.
+ * </p>
+ * <p>
+ * To retrieve an instance of this class use the static method getInstanceOf ():<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt> InmetDirtyDayDAO dao = InmetDirtyDayDAO.getInstanceOf();</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetDirtyDayDAO extends GenericDAO<InmetDirtyDayDAO, InmetDirtyDayEntity> {
+
+	public static final String FUNCTION_MARK_DIRTY_DAYS = "inmet_mark_dirty_days";
+	public static final String TRIGGER_HOURLY_DATA_INSERT = "trg_inmet_hourly_data_dirty_insert";
+	public static final String TRIGGER_HOURLY_DATA_UPDATE = "trg_inmet_hourly_data_dirty_update";
+	public static final String TRIGGER_HOURLY_DATA_DELETE = "trg_inmet_hourly_data_dirty_delete";
+	public static final int DATES_PER_QUERY = 366; // days of each query of the dates of a station
+
+	private static InmetDirtyDayDAO instance;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param logClientName Name of the client object of the logging service.
+	 * @param logLevel      Log level to be used in log service.
+	 * @throws PersistenceException Occurrence of any problems in creating of the DAO.
+	 */
+	private InmetDirtyDayDAO(String logClientName, Level logLevel) throws PersistenceException {
+		super(logClientName, logLevel);
+
+		// initializing database, unless the schema is already at the current version
+		if (!isSchemaCurrent()) {
+			this.init();
+		}
+
+		// DAO create success
+		this.success(MessageEnum.GENERIC_DAO_INFO_SUCCESS_CREATE, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor());
+	}
+
+	/**
+	 * Method to retrieve the instance of DAO. This class has a single instance for any application (Singleton).
+	 *
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in creating of the DAO.
+	 */
+	public static synchronized InmetDirtyDayDAO getInstanceOf(String logClientName, Level logLevel) throws PersistenceException {
+		if (InmetDirtyDayDAO.instance == null) {
+			InmetDirtyDayDAO.instance = new InmetDirtyDayDAO(logClientName, logLevel);
+		}
+		return InmetDirtyDayDAO.instance;
+	}
+
+	/**
+	 * Method to retrieve the instance of DAO. This class has a single instance for any application (Singleton).<br>
+	 * To use this method, it is necessary that the DAO instance has already been created by executing the getInstanceOf(String logClientName, Level
+	 * logLevel) method.
+	 *
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in retrieving of the DAO instance.
+	 */
+	public static synchronized InmetDirtyDayDAO getInstanceOf() throws PersistenceException {
+		return InmetDirtyDayDAO.getInstanceOf(InmetDirtyDayDAO.class.getSimpleName(), LOG_DEFAULT_LEVEL);
+	}
+
+	@Override
+	public InmetDirtyDayDAO save(InmetDirtyDayEntity entity) throws PersistenceException {
+
+		// the day is marked now, by the clock of the database, if no mark date time is informed
+		String markedDateTime = (entity.getMarkedDateTime() != null) ? "'" + entity.getMarkedDateTime() + "'" : "clock_timestamp()";
+
+		// save the entry or update its mark, there is only one entry per station and day
+		Long id = super.save(//
+				entity.getId() //
+				, "INSERT INTO " + "public." + TABLE_INMET_DIRTY_DAY + "(" + //
+						"station_id," + //
+						"measurement_date," + //
+						"marked_date_time)" + //
+						" VALUES (" //
+						+ entity.getStation().getId() + "," //
+						+ "'" + entity.getMeasurementDate() + "'" + "," //
+						+ markedDateTime + ")" //
+						+ " ON CONFLICT (station_id, measurement_date) DO UPDATE SET " //
+						+ "marked_date_time=EXCLUDED.marked_date_time" + ";" //
+				, "UPDATE " + "public." + TABLE_INMET_DIRTY_DAY + " SET " //
+						+ "marked_date_time=" + markedDateTime //
+						+ " WHERE id=" + entity.getId() + ";");
+		entity.setId(id);
+
+		// return DAO instance
+		return this;
+	}
+
+	@Override
+	public InmetDirtyDayDAO remove(Long id) throws PersistenceException {
+
+		// verifying that the id is valid
+		if (id == null || id == 0) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_REMOVE, this.getClass().getSimpleName(), "remove", null, null, true,
+					NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), String.valueOf(id));
+		}
+
+		// removing entity
+		return super.remove(id, "DELETE FROM " + TABLE_INMET_DIRTY_DAY + " WHERE id=" + id + ";");
+	}
+
+	/**
+	 * Removes the dirty days of the station in the informed period. Used by the ingestion, once the daily data of the period is aggregated again from the
+	 * hourly data fetched.
+	 *
+	 * @param idStation Station ID
+	 * @param initDate  First day of the period.
+	 * @param endDate   Last day of the period.
+	 * @return Number of dirty days removed.
+	 * @throws PersistenceException Occurrence of any problems in removing the dirty days.
+	 */
+	public int removeByStationAndPeriod(Long idStation, LocalDate initDate, LocalDate endDate) throws PersistenceException {
+		return super.removeAll(idStation + ":" + initDate + "/" + endDate, //
+				"DELETE FROM " + TABLE_INMET_DIRTY_DAY + //
+						" WHERE station_id = " + idStation + //
+						" AND measurement_date >= " + "'" + initDate + "'" + //
+						" AND measurement_date <= " + "'" + endDate + "'" + ";");
+	}
+
+	/**
+	 * Removes the dirty days of the station in the informed dates marked until the informed date time. The days marked again later stay dirty.
+	 *
+	 * @param idStation      Station ID
+	 * @param dates          Days to be removed, at most DATES_PER_QUERY.
+	 * @param markedDateTime Last mark date time of the days removed.
+	 * @return Number of dirty days removed.
+	 * @throws PersistenceException Occurrence of any problems in removing the dirty days.
+	 */
+	public int removeByStationAndDates(Long idStation, List<LocalDate> dates, LocalDateTime markedDateTime) throws PersistenceException {
+		if (dates.isEmpty()) {
+			return 0;
+		}
+		return super.removeAll(idStation + ":" + dates.get(0) + "/" + dates.get(dates.size() - 1), //
+				"DELETE FROM " + TABLE_INMET_DIRTY_DAY + //
+						" WHERE station_id = " + idStation + //
+						" AND measurement_date IN (" + InmetDirtyDayDAO.getDatesList(dates) + ")" + //
+						" AND marked_date_time <= " + "'" + markedDateTime + "'" + ";");
+	}
+
+	/**
+	 * Retrieves the current date time of the database, the clock of the marks of the dirty days, used as the limit of the days to be recomputed.
+	 *
+	 * @return Current date time of the database.
+	 * @throws PersistenceException Occurrence of any problems in retrieving the date time.
+	 */
+	public LocalDateTime getDatabaseDateTime() throws PersistenceException {
+		List<LocalDateTime> dateTime = new ArrayList<LocalDateTime>(1);
+		super.stream("SELECT clock_timestamp() AS current_date_time;", row -> {
+			Timestamp timestamp = row.getTimestamp("current_date_time");
+			dateTime.add(timestamp.toLocalDateTime());
+		});
+		return dateTime.get(0);
+	}
+
+	/**
+	 * Retrieves the dirty days marked until the informed date time, grouped by station, in order of station and date. Only the IDs of the stations are
+	 * retrieved, so the days of many stations are listed with a single query.
+	 *
+	 * @param markedDateTime Last mark date time of the days retrieved.
+	 * @return Days of each station ID.
+	 * @throws PersistenceException Occurrence of any problems in retrieving the dirty days.
+	 */
+	public Map<Long, List<LocalDate>> listDatesByStation(LocalDateTime markedDateTime) throws PersistenceException {
+		Map<Long, List<LocalDate>> dates = new LinkedHashMap<Long, List<LocalDate>>();
+		super.stream("SELECT station_id, measurement_date FROM " + TABLE_INMET_DIRTY_DAY + //
+				" WHERE marked_date_time <= " + "'" + markedDateTime + "'" + //
+				" ORDER BY station_id, measurement_date;", row -> {
+					dates.computeIfAbsent(row.getLong("station_id"), key -> new ArrayList<LocalDate>())
+							.add(TimeUtil.stringToLocalDate(row.getString("measurement_date")));
+				});
+		return dates;
+	}
+
+	@Override
+	public InmetDirtyDayEntity find(Long id) throws PersistenceException {
+		return super.find(id, "SELECT * FROM " + TABLE_INMET_DIRTY_DAY + " WHERE id=" + id + ";");
+	}
+
+	@Override
+	public List<InmetDirtyDayEntity> list() throws PersistenceException {
+		return super.list("SELECT * FROM " + TABLE_INMET_DIRTY_DAY + " ORDER BY station_id, measurement_date;");
+	}
+
+	/**
+	 * Retrieves the list of dates of a query, as 'yyyy-MM-dd','yyyy-MM-dd',...
+	 *
+	 * @param dates Dates of the list.
+	 * @return List of dates.
+	 */
+	static String getDatesList(List<LocalDate> dates) {
+		StringBuilder list = new StringBuilder(dates.size() * 13);
+		for (LocalDate date : dates) {
+			list.append((list.length() > 0) ? "," : "").append("'").append(date).append("'");
+		}
+		return list.toString();
+	}
+
+	@Override
+	protected InmetDirtyDayDAO init() throws PersistenceException {
+
+		// initializing variables
+		List<String> queries = new ArrayList<String>();
+
+		// SQL for entity table create
+		queries.add(//
+				"CREATE TABLE IF NOT EXISTS " + TABLE_INMET_DIRTY_DAY + " ( "//
+						+ "id bigserial primary key "//
+						+ ", station_id bigint REFERENCES " + TABLE_INMET_STATION + "(id) "//
+						+ ", measurement_date date NOT NULL "//
+						+ ", marked_date_time timestamp with time zone NOT NULL "//
+						+ ", unique (station_id, measurement_date) "//
+						+ "); "//
+		);
+
+		// SQL for the function marking the days of the rows changed by a statement, read from its transition tables
+		queries.add(//
+				"CREATE OR REPLACE FUNCTION " + FUNCTION_MARK_DIRTY_DAYS + "() RETURNS trigger AS $$ "//
+						+ "BEGIN "//
+						+ "IF TG_OP IN ('INSERT', 'UPDATE') THEN "//
+						+ "INSERT INTO " + TABLE_INMET_DIRTY_DAY + " (station_id, measurement_date, marked_date_time) "//
+						+ "SELECT station_id, measurement_date, clock_timestamp() FROM (SELECT DISTINCT station_id, measurement_date FROM new_rows "//
+						+ "WHERE station_id IS NOT NULL AND measurement_date IS NOT NULL) AS days "//
+						+ "ON CONFLICT (station_id, measurement_date) DO UPDATE SET marked_date_time = EXCLUDED.marked_date_time; "//
+						+ "END IF; "//
+						+ "IF TG_OP IN ('UPDATE', 'DELETE') THEN "//
+						+ "INSERT INTO " + TABLE_INMET_DIRTY_DAY + " (station_id, measurement_date, marked_date_time) "//
+						+ "SELECT station_id, measurement_date, clock_timestamp() FROM (SELECT DISTINCT station_id, measurement_date FROM old_rows "//
+						+ "WHERE station_id IS NOT NULL AND measurement_date IS NOT NULL) AS days "//
+						+ "ON CONFLICT (station_id, measurement_date) DO UPDATE SET marked_date_time = EXCLUDED.marked_date_time; "//
+						+ "END IF; "//
+						+ "RETURN NULL; "//
+						+ "END; "//
+						+ "$$ LANGUAGE plpgsql; "//
+		);
+
+		// SQL for the triggers of the hourly data, one per event since a trigger with transition tables has a single event
+		queries.add("DROP TRIGGER IF EXISTS " + TRIGGER_HOURLY_DATA_INSERT + " ON " + TABLE_INMET_HOURLY_DATA + "; ");
+		queries.add(//
+				"CREATE TRIGGER " + TRIGGER_HOURLY_DATA_INSERT + " AFTER INSERT ON " + TABLE_INMET_HOURLY_DATA //
+						+ " REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE " + FUNCTION_MARK_DIRTY_DAYS + "(); "//
+		);
+		queries.add("DROP TRIGGER IF EXISTS " + TRIGGER_HOURLY_DATA_UPDATE + " ON " + TABLE_INMET_HOURLY_DATA + "; ");
+		queries.add(//
+				"CREATE TRIGGER " + TRIGGER_HOURLY_DATA_UPDATE + " AFTER UPDATE ON " + TABLE_INMET_HOURLY_DATA //
+						+ " REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE " + FUNCTION_MARK_DIRTY_DAYS + "(); "//
+		);
+		queries.add("DROP TRIGGER IF EXISTS " + TRIGGER_HOURLY_DATA_DELETE + " ON " + TABLE_INMET_HOURLY_DATA + "; ");
+		queries.add(//
+				"CREATE TRIGGER " + TRIGGER_HOURLY_DATA_DELETE + " AFTER DELETE ON " + TABLE_INMET_HOURLY_DATA //
+						+ " REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE " + FUNCTION_MARK_DIRTY_DAYS + "(); "//
+		);
+
+		// initializing table
+		super.init(queries);
+		return this;
+	}
+
+	@Override
+	protected InmetDirtyDayEntity getEntity(ResultSet queryResult) throws PersistenceException {
+
+		Long id = null;
+		try {
+			// retrieving the attributes
+			id = queryResult.getObject("id") != null ? queryResult.getLong("id") : null;
+
+			InmetStationEntity station = InmetStationDAO.getInstanceOf().find(queryResult.getLong("station_id"));
+
+			// creating new entity with attributes retrieved from database
+			return new InmetDirtyDayEntity( //
+					id, //
+					station, //
+					TimeUtil.stringToLocalDate(queryResult.getString("measurement_date")), //
+					queryResult.getTimestamp("marked_date_time") != null ? queryResult.getTimestamp("marked_date_time").toLocalDateTime() : null);
+
+		} catch (Throwable e) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_GET_ENTITY, this.getClass().getSimpleName(), "getEntity",
+					e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), String.valueOf(id));
+		}
+	}
+
+}
@@ -9,11 +9,13 @@ import java.util.List;
 
 import org.apache.log4j.Level;
 
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
 import br.embrapa.cnpaf.inmetdata.entity.InmetHourlyDataEntity;
 import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
 import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
 import br.embrapa.cnpaf.inmetdata.exception.PersistenceException;
 import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+import br.embrapa.cnpaf.inmetdata.util.TemporalKeyUtil;
 import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
 
 /**
@@ -44,6 +46,12 @@ import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
  */
 public class InmetHourlyDataDAO extends GenericDAO<InmetHourlyDataDAO, InmetHourlyDataEntity> {
 
+	// columns of the table of the float measurements of a batch, in the order of the column constants of HourlyBatch
+	private static final String[] BATCH_COLUMNS = { "minimum_temperature", "maximum_temperature", "instant_temperature", "minimum_precipitation",
+			"maximum_precipitation", "instant_precipitation", "minimum_relative_air_humidity", "maximum_relative_air_humidity",
+			"instant_relative_air_humidity", "wind_speed", "blast", "global_radiation", "minimum_dew_point", "maximum_dew_point", "instant_dew_point",
+			"rain" };
+
 	private static InmetHourlyDataDAO instance;
 
 	/**
@@ -57,8 +65,10 @@ public class InmetHourlyDataDAO extends GenericDAO<InmetHourlyDataDAO, InmetHour
 	private InmetHourlyDataDAO(String logClientName, Level logLevel) throws PersistenceException {
 		super(logClientName, logLevel);
 
-		// initializing database
-		this.init();
+		// initializing database, unless the schema is already at the current version
+		if (!isSchemaCurrent()) {
+			this.init();
+		}
 
 		// DAO create success
 		this.success(MessageEnum.GENERIC_DAO_INFO_SUCCESS_CREATE, NetworkUtil.getLocalIpAddress(),
@@ -218,6 +228,65 @@ public class InmetHourlyDataDAO extends GenericDAO<InmetHourlyDataDAO, InmetHour
 		return Data;
 	}
 
+	/**
+	 * Streams the hourly data of the station, in order of date and hour, through
+	 * a server-side cursor (see GenericDAO.stream()), without keeping the rows in
+	 * memory. Used by the export of the data.
+	 * 
+	 * @param idStation Station ID
+	 * @param visitor   Visitor of the rows, with the columns of the table.
+	 * @return Number of rows visited.
+	 * @throws PersistenceException Occurrence of any problems in retrieving the
+	 *                              rows or in the visitor.
+	 */
+	public int streamByStation(long idStation, RowVisitor visitor) throws PersistenceException {
+		return super.stream("SELECT * FROM " + TABLE_INMET_HOURLY_DATA + //
+				" WHERE station_id = " + idStation + //
+				" ORDER BY measurement_date, measure_time;", visitor);
+	}
+
+	/**
+	 * Retrieves the hourly data of the station measured in the informed dates
+	 * as a columnar batch, streamed through a server-side cursor (see
+	 * GenericDAO.stream()) without creating an entity per row. The measurements
+	 * saved as NULL are missing in the batch. The table does not prevent repeated
+	 * rows of the same date and hour, so the rows of each hour come from the last
+	 * inserted to the first, the one kept by HourlyBatch.removeDuplicates(). Used
+	 * by the recomputation of the daily data of the dirty days.
+	 * 
+	 * @param station Station of the hourly data.
+	 * @param dates   Days of the hourly data, at most
+	 *                InmetDirtyDayDAO.DATES_PER_QUERY.
+	 * @return Hourly data of the days, in order of date and hour.
+	 * @throws PersistenceException Occurrence of any problems in retrieving the
+	 *                              rows.
+	 */
+	public HourlyBatch getBatchByStationAndDates(InmetStationEntity station, List<LocalDate> dates)
+			throws PersistenceException {
+		HourlyBatch batch = new HourlyBatch(station, dates.size() * 24);
+		if (dates.isEmpty()) {
+			return batch;
+		}
+		super.stream("SELECT * FROM " + TABLE_INMET_HOURLY_DATA + //
+				" WHERE station_id = " + station.getId() + //
+				" AND measurement_date IN (" + InmetDirtyDayDAO.getDatesList(dates) + ")" + //
+				" ORDER BY measurement_date, measure_time, id DESC;", resultSet -> {
+					int row = batch.add((int) TimeUtil.stringToLocalDate(resultSet.getString("measurement_date")).toEpochDay(),
+							TemporalKeyUtil.parseHour(resultSet.getString("measure_time")));
+					for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+						float value = resultSet.getFloat(BATCH_COLUMNS[column]);
+						if (!resultSet.wasNull()) {
+							batch.setValue(column, row, value);
+						}
+					}
+					int windDirection = resultSet.getInt("wind_direction");
+					if (!resultSet.wasNull()) {
+						batch.setWindDirection(row, windDirection);
+					}
+				});
+		return batch;
+	}
+
 	@Override
 	public InmetHourlyDataDAO save(InmetHourlyDataEntity entity) throws PersistenceException {
 
@@ -228,77 +297,216 @@ public class InmetHourlyDataDAO extends GenericDAO<InmetHourlyDataDAO, InmetHour
 		this.saveStationRelationship(entity.getEntilyStation());
 
 		// save ou update the entity
-		id = super.save(//
-				id //
-				, "INSERT INTO " + "public." + TABLE_INMET_HOURLY_DATA + "(" + //
-						"station_id," + //
-						"measurement_date," + //
-						"measure_time," + //
-						"minimum_temperature," + //
-						"maximum_temperature," + //
-						"instant_temperature," + //
-						"minimum_precipitation," + //
-						"maximum_precipitation," + //
-						"instant_precipitation," + //
-						"minimum_relative_air_humidity," + //
-						"maximum_relative_air_humidity," + //
-						"instant_relative_air_humidity," + //
-						"wind_speed," + //
-						"wind_direction," + //
-						"blast," + //
-						"global_radiation," + //
-						"minimum_dew_point," + //
-						"maximum_dew_point," + //
-						"instant_dew_point," + //
-						"rain)" + //
-						"VALUES (" //
-						+ "'" + entity.getEntilyStation().getId() + "'" + "," //
-						+ "'" + entity.getMeasurementDate() + "'" + ","//
-						+ "'" + entity.getMeasureTime() + "'" + ","//
-						+ entity.getMinimumTemperature() + ","//
-						+ entity.getMaximumTemperature() + ","//
-						+ entity.getInstantTemperature() + ","//
-						+ entity.getMinimumPrecipitation() + "," //
-						+ entity.getMaximumPrecipitation() + "," //
-						+ entity.getInstantPrecipitation() + "," //
-						+ entity.getMinimumRelativeAirHumidity() + "," //
-						+ entity.getMaximumRelativeAirHumidity() + ","//
-						+ entity.getInstantRelativeAirHumidity() + ","//
-						+ entity.getWindSpeed() + ","//
-						+ entity.getWindDirection() + ","//
-						+ entity.getBlast() + ","//
-						+ entity.getGlobalRadiation() + ","//
-						+ entity.getMinimumDewPoint() + ","//
-						+ entity.getMaximumDewPoint() + ","//
-						+ entity.getInstantDewPoint() + ","//
-						+ entity.getBlast() + ")" + ";"//
-				, "UPDATE" + "public." + TABLE_INMET_HOURLY_DATA + "SET" //
-						+ "station_id=" + entity.getEntilyStation().getId() + "," //
-						+ "measurement_date=" + entity.getMeasurementDate() + "," //
-						+ "measure_time=" + entity.getMeasureTime() + "," //
-						+ "minimum_temperature=" + entity.getMinimumTemperature() + "," //
-						+ "maximum_temperature=" + entity.getMaximumTemperature() + "," //
-						+ "instant_temperature=" + entity.getInstantTemperature() + "," //
-						+ "minimum_precipitation=" + entity.getMinimumPrecipitation() + "," //
-						+ "maximum_precipitation=" + entity.getMaximumPrecipitation() + "," //
-						+ "instant_precipitation=" + entity.getInstantPrecipitation() + "," //
-						+ "minimum_relative_air_humidity=" + entity.getMinimumRelativeAirHumidity() + "," //
-						+ "maximum_relative_air_humidity=" + entity.getMaximumRelativeAirHumidity() + "," //
-						+ "instant_relative_air_humidity=" + entity.getInstantRelativeAirHumidity() + "," //
-						+ "wind_speed=" + entity.getWindSpeed() + "," //
-						+ "wind_direction=" + entity.getWindDirection() + "," //
-						+ "blast=" + entity.getBlast() + "," //
-						+ "global_radiation=" + entity.getGlobalRadiation() + "," //
-						+ "minimum_dew_point=" + entity.getMinimumDewPoint() + "," //
-						+ "maximum_dew_point=" + entity.getMaximumDewPoint() + "," //
-						+ "instant_dew_point=" + entity.getInstantDewPoint() + "," //
-						+ "rain=" + entity.getRain() + "," //
-						+ "WHERE station_id =" + entity.getEntilyStation().getId() + ";");
+		id = super.save(id, InmetHourlyDataDAO.getSaveQuery(entity), InmetHourlyDataDAO.getUpdateQuery(entity));
 
 		// return DAO instance
 		return this;
 	}
 
+	/**
+	 * Saves the hourly data of the batch, with one INSERT for up to the number of
+	 * rows of the configuration instead of one per row. The missing measurements are
+	 * saved as NULL.
+	 * 
+	 * @param batch Hourly data to be saved.
+	 * @param after Only the rows measured after this date are saved, or all of
+	 *              them if null.
+	 * @return Number of rows saved.
+	 * @throws PersistenceException Occurrence of any problems in saving the data.
+	 */
+	public int save(HourlyBatch batch, LocalDate after) throws PersistenceException {
+
+		// save Relationship
+		this.saveStationRelationship(batch.getStation());
+
+		// save the rows in chunks
+		int insertRows = this.getConfigurationService().getPipelineBatchInsertRows();
+		long afterEpochDay = (after != null) ? after.toEpochDay() : Long.MIN_VALUE;
+		StringBuilder query = new StringBuilder();
+		int rows = 0;
+		int saved = 0;
+		for (int row = 0; row < batch.size(); row++) {
+			if (batch.getEpochDay(row) > afterEpochDay) {
+				InmetHourlyDataDAO.appendSaveValues((rows == 0) ? query.append(InmetHourlyDataDAO.getSaveQueryHeader()) : query.append(","), batch, row);
+				if (++rows == insertRows) {
+					saved += super.saveAll(batch.getStationId() + ":" + rows, query.append(";").toString());
+					query.setLength(0);
+					rows = 0;
+				}
+			}
+		}
+		if (rows > 0) {
+			saved += super.saveAll(batch.getStationId() + ":" + rows, query.append(";").toString());
+		}
+
+		// return number of rows saved
+		return saved;
+	}
+
+	/**
+	 * Retrieves the beginning of the query to save new hourly data in the database
+	 * server, up to the VALUES keyword.
+	 * 
+	 * @return Beginning of the query.
+	 */
+	static String getSaveQueryHeader() {
+		return "INSERT INTO " + "public." + TABLE_INMET_HOURLY_DATA + "(" + //
+				"station_id," + //
+				"measurement_date," + //
+				"measure_time," + //
+				"minimum_temperature," + //
+				"maximum_temperature," + //
+				"instant_temperature," + //
+				"minimum_precipitation," + //
+				"maximum_precipitation," + //
+				"instant_precipitation," + //
+				"minimum_relative_air_humidity," + //
+				"maximum_relative_air_humidity," + //
+				"instant_relative_air_humidity," + //
+				"wind_speed," + //
+				"wind_direction," + //
+				"blast," + //
+				"global_radiation," + //
+				"minimum_dew_point," + //
+				"maximum_dew_point," + //
+				"instant_dew_point," + //
+				"rain)" + //
+				"VALUES ";
+	}
+
+	/**
+	 * Appends the values of a row of the batch to the query that saves it.
+	 * 
+	 * @param query Query being built.
+	 * @param batch Hourly data.
+	 * @param row   Index of the row.
+	 * @return The query.
+	 */
+	static StringBuilder appendSaveValues(StringBuilder query, HourlyBatch batch, int row) {
+		query.append("(").append(batch.getStationId()).append(",'");
+		TemporalKeyUtil.appendSqlDate(query, batch.getEpochDay(row)).append("','").append(batch.getHour(row)).append(":00'");
+		appendValue(query, batch, HourlyBatch.MINIMUM_TEMPERATURE, row);
+		appendValue(query, batch, HourlyBatch.MAXIMUM_TEMPERATURE, row);
+		appendValue(query, batch, HourlyBatch.INSTANT_TEMPERATURE, row);
+		appendValue(query, batch, HourlyBatch.MINIMUM_PRECIPITATION, row);
+		appendValue(query, batch, HourlyBatch.MAXIMUM_PRECIPITATION, row);
+		appendValue(query, batch, HourlyBatch.INSTANT_PRECIPITATION, row);
+		appendValue(query, batch, HourlyBatch.MINIMUM_RELATIVE_AIR_HUMIDITY, row);
+		appendValue(query, batch, HourlyBatch.MAXIMUM_RELATIVE_AIR_HUMIDITY, row);
+		appendValue(query, batch, HourlyBatch.INSTANT_RELATIVE_AIR_HUMIDITY, row);
+		appendValue(query, batch, HourlyBatch.WIND_SPEED, row);
+		appendValue(query, batch, HourlyBatch.WIND_DIRECTION, row);
+		appendValue(query, batch, HourlyBatch.BLAST, row);
+		appendValue(query, batch, HourlyBatch.GLOBAL_RADIATION, row);
+		appendValue(query, batch, HourlyBatch.MINIMUM_DEW_POINT, row);
+		appendValue(query, batch, HourlyBatch.MAXIMUM_DEW_POINT, row);
+		appendValue(query, batch, HourlyBatch.INSTANT_DEW_POINT, row);
+		appendValue(query, batch, HourlyBatch.RAIN, row);
+		return query.append(")");
+	}
+
+	/**
+	 * Appends the SQL value of a measurement of the batch to the query, preceded
+	 * by a comma.
+	 * 
+	 * @param query  Query being built.
+	 * @param batch  Hourly data.
+	 * @param column Measurement, one of the columns of the batch.
+	 * @param row    Index of the row.
+	 */
+	private static void appendValue(StringBuilder query, HourlyBatch batch, int column, int row) {
+		query.append(",");
+		if (!batch.isValid(column, row)) {
+			query.append("NULL");
+		} else if (column == HourlyBatch.WIND_DIRECTION) {
+			query.append(batch.getWindDirection(row));
+		} else {
+			query.append(batch.getValue(column, row));
+		}
+	}
+
+	/**
+	 * Retrieves the query to save a new hourly data in the database server.
+	 * 
+	 * @param entity Hourly data to be saved.
+	 * @return Query to save the hourly data.
+	 */
+	static String getSaveQuery(InmetHourlyDataEntity entity) {
+		return "INSERT INTO " + "public." + TABLE_INMET_HOURLY_DATA + "(" + //
+				"station_id," + //
+				"measurement_date," + //
+				"measure_time," + //
+				"minimum_temperature," + //
+				"maximum_temperature," + //
+				"instant_temperature," + //
+				"minimum_precipitation," + //
+				"maximum_precipitation," + //
+				"instant_precipitation," + //
+				"minimum_relative_air_humidity," + //
+				"maximum_relative_air_humidity," + //
+				"instant_relative_air_humidity," + //
+				"wind_speed," + //
+				"wind_direction," + //
+				"blast," + //
+				"global_radiation," + //
+				"minimum_dew_point," + //
+				"maximum_dew_point," + //
+				"instant_dew_point," + //
+				"rain)" + //
+				"VALUES (" //
+				+ "'" + entity.getEntilyStation().getId() + "'" + "," //
+				+ "'" + entity.getMeasurementDate() + "'" + ","//
+				+ "'" + entity.getMeasureTime() + "'" + ","//
+				+ entity.getMinimumTemperature() + ","//
+				+ entity.getMaximumTemperature() + ","//
+				+ entity.getInstantTemperature() + ","//
+				+ entity.getMinimumPrecipitation() + "," //
+				+ entity.getMaximumPrecipitation() + "," //
+				+ entity.getInstantPrecipitation() + "," //
+				+ entity.getMinimumRelativeAirHumidity() + "," //
+				+ entity.getMaximumRelativeAirHumidity() + ","//
+				+ entity.getInstantRelativeAirHumidity() + ","//
+				+ entity.getWindSpeed() + ","//
+				+ entity.getWindDirection() + ","//
+				+ entity.getBlast() + ","//
+				+ entity.getGlobalRadiation() + ","//
+				+ entity.getMinimumDewPoint() + ","//
+				+ entity.getMaximumDewPoint() + ","//
+				+ entity.getInstantDewPoint() + ","//
+				+ entity.getRain() + ")" + ";";
+	}
+
+	/**
+	 * Retrieves the query to update an hourly data previously saved in the database server.
+	 * 
+	 * @param entity Hourly data to be updated.
+	 * @return Query to update the hourly data.
+	 */
+	static String getUpdateQuery(InmetHourlyDataEntity entity) {
+		return "UPDATE " + "public." + TABLE_INMET_HOURLY_DATA + " SET " //
+				+ "station_id=" + entity.getEntilyStation().getId() + "," //
+				+ "measurement_date=" + "'" + entity.getMeasurementDate() + "'" + "," //
+				+ "measure_time=" + "'" + entity.getMeasureTime() + "'" + "," //
+				+ "minimum_temperature=" + entity.getMinimumTemperature() + "," //
+				+ "maximum_temperature=" + entity.getMaximumTemperature() + "," //
+				+ "instant_temperature=" + entity.getInstantTemperature() + "," //
+				+ "minimum_precipitation=" + entity.getMinimumPrecipitation() + "," //
+				+ "maximum_precipitation=" + entity.getMaximumPrecipitation() + "," //
+				+ "instant_precipitation=" + entity.getInstantPrecipitation() + "," //
+				+ "minimum_relative_air_humidity=" + entity.getMinimumRelativeAirHumidity() + "," //
+				+ "maximum_relative_air_humidity=" + entity.getMaximumRelativeAirHumidity() + "," //
+				+ "instant_relative_air_humidity=" + entity.getInstantRelativeAirHumidity() + "," //
+				+ "wind_speed=" + entity.getWindSpeed() + "," //
+				+ "wind_direction=" + entity.getWindDirection() + "," //
+				+ "blast=" + entity.getBlast() + "," //
+				+ "global_radiation=" + entity.getGlobalRadiation() + "," //
+				+ "minimum_dew_point=" + entity.getMinimumDewPoint() + "," //
+				+ "maximum_dew_point=" + entity.getMaximumDewPoint() + "," //
+				+ "instant_dew_point=" + entity.getInstantDewPoint() + "," //
+				+ "rain=" + entity.getRain() //
+				+ " WHERE id=" + entity.getId() + ";";
+	}
+
 	@Override
 	public InmetHourlyDataDAO remove(Long id) throws PersistenceException {
 
@@ -415,6 +623,27 @@ public class InmetHourlyDataDAO extends GenericDAO<InmetHourlyDataDAO, InmetHour
 		return maxDate;
 	}
 
+	/**
+	 * Removes the hourly data of the station measured in the informed period.
+	 * Used to discard the rows of a period whose ingestion was interrupted before
+	 * being completely persisted.
+	 * 
+	 * @param idStation Station ID
+	 * @param initDate  First day of the period.
+	 * @param endDate   Last day of the period.
+	 * @return Number of rows removed.
+	 * @throws PersistenceException Occurrence of any problems in removing the
+	 *                              data.
+	 */
+	public int removeByStationAndPeriod(Long idStation, LocalDate initDate, LocalDate endDate)
+			throws PersistenceException {
+		return super.removeAll(idStation + ":" + initDate + "/" + endDate, //
+				"DELETE FROM " + TABLE_INMET_HOURLY_DATA + //
+						" WHERE station_id = " + idStation + //
+						" AND measurement_date >= " + "'" + initDate + "'" + //
+						" AND measurement_date <= " + "'" + endDate + "'" + ";");//
+	}
+
 	@Override
 	protected InmetHourlyDataEntity getEntity(ResultSet queryResult) throws PersistenceException {
 
@@ -0,0 +1,246 @@
+package br.embrapa.cnpaf.inmetdata.dao;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.Level;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetJournalEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.enumerate.JournalStateEnum;
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.PersistenceException;
+import br.embrapa.cnpaf.inmetdata.period.period;
+import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b> Singleton Class responsible for by performing the persistence of the ingestion journal.</b>
+ * </p>
+ * <p>
+ * The journal keeps one entry per (station, period) with the state of its ingestion (planned, fetched, aggregated or persisted). Each state change is
+ * committed immediately, so after a crash or a kill the next execution knows exactly which periods were not completely persisted and must be redone.
+ * </p>
+ * <p>
+ * To retrieve an instance of this class use the static method getInstanceOf ():<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt> InmetJournalDAO dao = InmetJournalDAO.getInstanceOf();</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetJournalDAO extends GenericDAO<InmetJournalDAO, InmetJournalEntity> {
+
+	private static InmetJournalDAO instance;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param logClientName Name of the client object of the logging service.
+	 * @param logLevel      Log level to be used in log service.
+	 * @throws PersistenceException Occurrence of any problems in creating of the DAO.
+	 */
+	private InmetJournalDAO(String logClientName, Level logLevel) throws PersistenceException {
+		super(logClientName, logLevel);
+
+		// initializing database, unless the schema is already at the current version
+		if (!isSchemaCurrent()) {
+			this.init();
+		}
+
+		// DAO create success
+		this.success(MessageEnum.GENERIC_DAO_INFO_SUCCESS_CREATE, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor());
+	}
+
+	/**
+	 * Method to retrieve the instance of DAO. This class has a single instance for any application (Singleton).
+	 *
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in creating of the DAO.
+	 */
+	public static synchronized InmetJournalDAO getInstanceOf(String logClientName, Level logLevel) throws PersistenceException {
+		if (InmetJournalDAO.instance == null) {
+			InmetJournalDAO.instance = new InmetJournalDAO(logClientName, logLevel);
+		}
+		return InmetJournalDAO.instance;
+	}
+
+	/**
+	 * Method to retrieve the instance of DAO. This class has a single instance for any application (Singleton).<br>
+	 * To use this method, it is necessary that the DAO instance has already been created by executing the getInstanceOf(String logClientName, Level
+	 * logLevel) method.
+	 *
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in retrieving of the DAO instance.
+	 */
+	public static synchronized InmetJournalDAO getInstanceOf() throws PersistenceException {
+		return InmetJournalDAO.getInstanceOf(InmetJournalDAO.class.getSimpleName(), LOG_DEFAULT_LEVEL);
+	}
+
+	@Override
+	public InmetJournalDAO save(InmetJournalEntity entity) throws PersistenceException {
+
+		// save or update the entry, there is only one entry per station and period start
+		Long id = super.save(//
+				entity.getId() //
+				, "INSERT INTO " + "public." + TABLE_INMET_JOURNAL + "(" + //
+						"station_id," + //
+						"start_date," + //
+						"end_date," + //
+						"state," + //
+						"update_date_time)" + //
+						" VALUES (" //
+						+ entity.getStation().getId() + "," //
+						+ "'" + entity.getStartDate() + "'" + "," //
+						+ "'" + entity.getEndDate() + "'" + "," //
+						+ "'" + entity.getState() + "'" + "," //
+						+ "'" + entity.getUpdateDateTime() + "'" + ")" //
+						+ " ON CONFLICT (station_id, start_date) DO UPDATE SET " //
+						+ "end_date=EXCLUDED.end_date," //
+						+ "state=EXCLUDED.state," //
+						+ "update_date_time=EXCLUDED.update_date_time" + ";" //
+				, "UPDATE " + "public." + TABLE_INMET_JOURNAL + " SET " //
+						+ "end_date=" + "'" + entity.getEndDate() + "'" + "," //
+						+ "state=" + "'" + entity.getState() + "'" + "," //
+						+ "update_date_time=" + "'" + entity.getUpdateDateTime() + "'" //
+						+ " WHERE id=" + entity.getId() + ";");
+		entity.setId(id);
+
+		// return DAO instance
+		return this;
+	}
+
+	/**
+	 * Records the state of the ingestion of a period of the station.
+	 *
+	 * @param station Station whose period is being ingested.
+	 * @param period  Period being ingested.
+	 * @param state   New state of the period.
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in saving the journal entry.
+	 */
+	public InmetJournalDAO setState(InmetStationEntity station, period period, JournalStateEnum state) throws PersistenceException {
+		return this.save(new InmetJournalEntity(null, station, period.getStart(), period.getEnd(), state, this.getTimeService().getDateTime()));
+	}
+
+	/**
+	 * Records the periods of the station as planned.
+	 *
+	 * @param station Station whose periods will be ingested.
+	 * @param periods Periods to be ingested.
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in saving the journal entries.
+	 */
+	public InmetJournalDAO plan(InmetStationEntity station, List<period> periods) throws PersistenceException {
+		for (period period : periods) {
+			this.setState(station, period, JournalStateEnum.PLANNED);
+		}
+		return this;
+	}
+
+	@Override
+	public InmetJournalDAO remove(Long id) throws PersistenceException {
+
+		// verifying that the id is valid
+		if (id == null || id == 0) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_REMOVE, this.getClass().getSimpleName(), "remove", null, null, true,
+					NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), String.valueOf(id));
+		}
+
+		// removing entity
+		return super.remove(id, "DELETE FROM " + TABLE_INMET_JOURNAL + " WHERE id=" + id + ";");
+	}
+
+	@Override
+	public InmetJournalEntity find(Long id) throws PersistenceException {
+		return super.find(id, "SELECT * FROM " + TABLE_INMET_JOURNAL + " WHERE id=" + id + ";");
+	}
+
+	@Override
+	public List<InmetJournalEntity> list() throws PersistenceException {
+		return super.list("SELECT * FROM " + TABLE_INMET_JOURNAL + " ORDER BY station_id, start_date;");
+	}
+
+	/**
+	 * This method returns the journal entries of the station, ordered by the start of the period.
+	 *
+	 * @param idStation Station ID
+	 * @return Return a list with the journal entries of the station.
+	 * @throws PersistenceException Occurrence of any problems in retrieving the journal entries.
+	 */
+	public List<InmetJournalEntity> listByStation(Long idStation) throws PersistenceException {
+		return super.list("SELECT * FROM " + TABLE_INMET_JOURNAL + //
+				" WHERE station_id = " + idStation + //
+				" ORDER BY start_date;");
+	}
+
+	/**
+	 * This method returns the journal entries of the station whose periods were not completely persisted, ordered by the start of the period.
+	 *
+	 * @param idStation Station ID
+	 * @return Return a list with the pending journal entries of the station.
+	 * @throws PersistenceException Occurrence of any problems in retrieving the journal entries.
+	 */
+	public List<InmetJournalEntity> listPendingByStation(Long idStation) throws PersistenceException {
+		return super.list("SELECT * FROM " + TABLE_INMET_JOURNAL + //
+				" WHERE station_id = " + idStation + //
+				" AND state <> '" + JournalStateEnum.PERSISTED + "'" + //
+				" ORDER BY start_date;");
+	}
+
+	@Override
+	protected InmetJournalDAO init() throws PersistenceException {
+
+		// initializing variables
+		List<String> queries = new ArrayList<String>();
+
+		// SQL for entity table create
+		queries.add(//
+				"CREATE TABLE IF NOT EXISTS " + TABLE_INMET_JOURNAL + " ( "//
+						+ "id bigserial primary key "//
+						+ ", station_id bigint REFERENCES " + TABLE_INMET_STATION + "(id) "//
+						+ ", start_date date NOT NULL "//
+						+ ", end_date date NOT NULL "//
+						+ ", state character varying(16) NOT NULL "//
+						+ ", update_date_time timestamp DEFAULT NULL "//
+						+ ", unique (station_id, start_date) "//
+						+ "); "//
+		);
+
+		// initializing table
+		super.init(queries);
+		return this;
+	}
+
+	@Override
+	protected InmetJournalEntity getEntity(ResultSet queryResult) throws PersistenceException {
+
+		Long id = null;
+		try {
+			// retrieving the attributes
+			id = queryResult.getObject("id") != null ? queryResult.getLong("id") : null;
+
+			InmetStationEntity station = InmetStationDAO.getInstanceOf().find(queryResult.getLong("station_id"));
+
+			// creating new entity with attributes retrieved from database
+			return new InmetJournalEntity( //
+					id, //
+					station, //
+					TimeUtil.stringToLocalDate(queryResult.getString("start_date")), //
+					TimeUtil.stringToLocalDate(queryResult.getString("end_date")), //
+					JournalStateEnum.valueOf(queryResult.getString("state")), //
+					queryResult.getTimestamp("update_date_time") != null ? queryResult.getTimestamp("update_date_time").toLocalDateTime() : null);
+
+		} catch (Throwable e) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_GET_ENTITY, this.getClass().getSimpleName(), "getEntity",
+					e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), String.valueOf(id));
+		}
+	}
+
+}
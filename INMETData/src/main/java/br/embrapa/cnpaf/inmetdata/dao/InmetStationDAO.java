@@ -55,8 +55,10 @@ public class InmetStationDAO extends GenericDAO<InmetStationDAO, InmetStationEnt
 	private InmetStationDAO(String logClientName, Level logLevel) throws PersistenceException {
 		super(logClientName, logLevel);
 
-		// initializing database
-		this.init();
+		// initializing database, unless the schema is already at the current version
+		if (!isSchemaCurrent()) {
+			this.init();
+		}
 
 		// DAO create success
 		this.success(MessageEnum.GENERIC_DAO_INFO_SUCCESS_CREATE, NetworkUtil.getLocalIpAddress(),
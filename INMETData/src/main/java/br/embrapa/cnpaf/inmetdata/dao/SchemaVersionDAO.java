@@ -0,0 +1,291 @@
+package br.embrapa.cnpaf.inmetdata.dao;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.log4j.Level;
+
+import br.embrapa.cnpaf.inmetdata.entity.SchemaVersionEntity;
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.PersistenceException;
+import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b> Singleton Class responsible for the version of the database schema and for its migrations.</b>
+ * </p>
+ * <p>
+ * The applied migrations are recorded in the schema_version table. At startup, migrate() reads the current version with a single query: if it matches
+ * SCHEMA_VERSION, the DAOs skip the creation of their tables and the seed data is not checked again; otherwise the pending migrations are applied in order,
+ * each one recorded after its success. All migrations are idempotent, so a migration interrupted before being recorded can be safely applied again.
+ * </p>
+ * <p>
+ * To change the schema, add a new migration at the end of the list and increment SCHEMA_VERSION.
+ * </p>
+ * <p>
+ * To retrieve an instance of this class use the static method getInstanceOf ():<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt> SchemaVersionDAO.getInstanceOf().migrate();</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class SchemaVersionDAO extends GenericDAO<SchemaVersionDAO, SchemaVersionEntity> {
+
+	public static final int SCHEMA_VERSION = 4;
+
+	private static SchemaVersionDAO instance;
+	private final List<SchemaMigration> migrations;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param logClientName Name of the client object of the logging service.
+	 * @param logLevel      Log level to be used in log service.
+	 * @throws PersistenceException Occurrence of any problems in creating of the DAO.
+	 */
+	private SchemaVersionDAO(String logClientName, Level logLevel) throws PersistenceException {
+		super(logClientName, logLevel);
+
+		// migrations of the schema, in order
+		this.migrations = Arrays.asList( //
+				new SchemaMigration(1, "tables and seed data", () -> {
+					InmetStateDataDAO.getInstanceOf().init();
+					InmetCityDataDAO.getInstanceOf().init();
+					InmetStationDAO.getInstanceOf().init();
+					InmetHourlyDataDAO.getInstanceOf().init();
+					InmetDiarlyDataDAO.getInstanceOf().init();
+					InmetJournalDAO.getInstanceOf().init();
+					InmetStateDataDAO.getInstanceOf().startRecords();
+					InmetCityDataDAO.getInstanceOf().startRecords();
+					InmetStationDAO.getInstanceOf().startRecords();
+				}), //
+				new SchemaMigration(2, "indexes by station and measurement date", () -> {
+					this.init(Arrays.asList( //
+							"CREATE INDEX IF NOT EXISTS " + INDEX_INMET_HOURLY_DATA_STATION_AND_MEASUREMENT_DATE //
+									+ " ON " + TABLE_INMET_HOURLY_DATA + " (station_id, measurement_date);", //
+							"CREATE INDEX IF NOT EXISTS " + INDEX_INMET_DAILY_DATA_STATION_AND_MEASUREMENT_DATE //
+									+ " ON " + TABLE_INMET_DAILY_DATA + " (station_id, measurement_date);"));
+				}), //
+				new SchemaMigration(3, "dead letters of the failed periods", () -> {
+					InmetDeadLetterDAO.getInstanceOf().init();
+				}), //
+				new SchemaMigration(4, "dirty days marked by the changes of the hourly data", () -> {
+					InmetDirtyDayDAO.getInstanceOf().init();
+				}));
+
+		// DAO create success
+		this.success(MessageEnum.GENERIC_DAO_INFO_SUCCESS_CREATE, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor());
+	}
+
+	/**
+	 * Method to retrieve the instance of DAO. This class has a single instance for any application (Singleton).
+	 *
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in creating of the DAO.
+	 */
+	public static synchronized SchemaVersionDAO getInstanceOf(String logClientName, Level logLevel) throws PersistenceException {
+		if (SchemaVersionDAO.instance == null) {
+			SchemaVersionDAO.instance = new SchemaVersionDAO(logClientName, logLevel);
+		}
+		return SchemaVersionDAO.instance;
+	}
+
+	/**
+	 * Method to retrieve the instance of DAO. This class has a single instance for any application (Singleton).<br>
+	 * To use this method, it is necessary that the DAO instance has already been created by executing the getInstanceOf(String logClientName, Level
+	 * logLevel) method.
+	 *
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException Occurrence of any problems in retrieving of the DAO instance.
+	 */
+	public static synchronized SchemaVersionDAO getInstanceOf() throws PersistenceException {
+		return SchemaVersionDAO.getInstanceOf(SchemaVersionDAO.class.getSimpleName(), LOG_DEFAULT_LEVEL);
+	}
+
+	/**
+	 * Brings the database schema to the current version, applying the pending migrations. When the schema is already current, only one query is executed.
+	 *
+	 * @return Returns the instance of DAO.
+	 * @throws PersistenceException The schema is newer than the supported by the system or some migration failed.
+	 */
+	public synchronized SchemaVersionDAO migrate() throws PersistenceException {
+		int version = this.getVersion();
+
+		// the database was migrated by a newer version of the system
+		if (version > SCHEMA_VERSION) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.SCHEMA_VERSION_DAO_ERROR_NEWER_VERSION, this.getClass().getSimpleName(), "migrate", null, null, true, NetworkUtil.getLocalIpAddress(),
+					String.valueOf(version), String.valueOf(SCHEMA_VERSION));
+		}
+
+		// applying the pending migrations
+		if (version < SCHEMA_VERSION) {
+			this.init();
+			for (SchemaMigration migration : this.migrations) {
+				if (migration.version > version) {
+					try {
+						migration.action.apply();
+					} catch (Throwable e) {
+						throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.SCHEMA_VERSION_DAO_ERROR_MIGRATE, this.getClass().getSimpleName(), "migrate", e.getMessage(), null, true,
+								NetworkUtil.getLocalIpAddress(), String.valueOf(migration.version), migration.description);
+					}
+					this.save(new SchemaVersionEntity(migration.version, migration.description, this.getTimeService().getDateTime()));
+					this.success(MessageEnum.SCHEMA_VERSION_DAO_INFO_SUCCESS_MIGRATE, NetworkUtil.getLocalIpAddress(), String.valueOf(migration.version), migration.description);
+				}
+			}
+		}
+
+		// the DAOs no longer need to create their tables
+		setSchemaCurrent(true);
+		return this.success(MessageEnum.SCHEMA_VERSION_DAO_INFO_SUCCESS_CURRENT, NetworkUtil.getLocalIpAddress(), String.valueOf(SCHEMA_VERSION));
+	}
+
+	/**
+	 * Retrieves the version of the database schema.
+	 *
+	 * @return Version of the schema, or zero if no migration was applied yet.
+	 * @throws PersistenceException Occurrence of any problems in connecting to the database.
+	 */
+	public int getVersion() throws PersistenceException {
+
+		// initializing variables
+		Connection connection = this.getConnection();
+		Statement query = null;
+
+		try {
+			// execute sql query
+			query = connection.createStatement();
+			query.execute("SELECT max(version) AS version FROM " + TABLE_SCHEMA_VERSION + ";");
+			ResultSet queryResult = query.getResultSet();
+			return queryResult.next() ? queryResult.getInt("version") : 0;
+
+		} catch (SQLException e) {
+
+			// the table does not exist yet, canceling the failed transaction
+			try {
+				connection.rollback();
+			} catch (SQLException e1) {
+			}
+			return 0;
+
+		} finally {
+
+			// committing the transaction
+			this.commit(connection, query);
+		}
+	}
+
+	@Override
+	public SchemaVersionDAO save(SchemaVersionEntity entity) throws PersistenceException {
+		super.save(null //
+				, "INSERT INTO " + "public." + TABLE_SCHEMA_VERSION + "(" + //
+						"version," + //
+						"description," + //
+						"install_date_time)" + //
+						" VALUES (" //
+						+ entity.getVersion() + "," //
+						+ "'" + entity.getDescription() + "'" + "," //
+						+ "'" + entity.getInstallDateTime() + "'" + ")" //
+						+ " ON CONFLICT (version) DO UPDATE SET " //
+						+ "description=EXCLUDED.description," //
+						+ "install_date_time=EXCLUDED.install_date_time" + ";" //
+				, null);
+
+		// return DAO instance
+		return this;
+	}
+
+	@Override
+	public SchemaVersionDAO remove(Long id) throws PersistenceException {
+		return super.remove(id, "DELETE FROM " + TABLE_SCHEMA_VERSION + " WHERE version=" + id + ";");
+	}
+
+	@Override
+	public SchemaVersionEntity find(Long id) throws PersistenceException {
+		return super.find(id, "SELECT * FROM " + TABLE_SCHEMA_VERSION + " WHERE version=" + id + ";");
+	}
+
+	@Override
+	public List<SchemaVersionEntity> list() throws PersistenceException {
+		return super.list("SELECT * FROM " + TABLE_SCHEMA_VERSION + " ORDER BY version;");
+	}
+
+	@Override
+	protected SchemaVersionDAO init() throws PersistenceException {
+
+		// initializing variables
+		List<String> queries = new ArrayList<String>();
+
+		// SQL for entity table create
+		queries.add(//
+				"CREATE TABLE IF NOT EXISTS " + TABLE_SCHEMA_VERSION + " ( "//
+						+ "version integer primary key "//
+						+ ", description text NOT NULL "//
+						+ ", install_date_time timestamp DEFAULT NULL "//
+						+ "); "//
+		);
+
+		// initializing table
+		super.init(queries);
+		return this;
+	}
+
+	@Override
+	protected SchemaVersionEntity getEntity(ResultSet queryResult) throws PersistenceException {
+
+		Integer version = null;
+		try {
+			// retrieving the attributes
+			version = queryResult.getInt("version");
+
+			// creating new entity with attributes retrieved from database
+			return new SchemaVersionEntity( //
+					version, //
+					queryResult.getString("description"), //
+					queryResult.getTimestamp("install_date_time") != null ? queryResult.getTimestamp("install_date_time").toLocalDateTime() : null);
+
+		} catch (Throwable e) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_DAO_ERROR_GET_ENTITY, this.getClass().getSimpleName(), "getEntity",
+					e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), this.getDAODescriptor(), String.valueOf(version));
+		}
+	}
+
+	/**
+	 * Action of a migration of the schema.
+	 */
+	private interface MigrationAction {
+
+		/**
+		 * Applies the migration.
+		 *
+		 * @throws PersistenceException Occurrence of any problems in applying the migration.
+		 */
+		void apply() throws PersistenceException;
+	}
+
+	/**
+	 * Migration of the schema to a version.
+	 */
+	private static final class SchemaMigration {
+
+		private final int version;
+		private final String description;
+		private final MigrationAction action;
+
+		private SchemaMigration(int version, String description, MigrationAction action) {
+			this.version = version;
+			this.description = description;
+			this.action = action;
+		}
+	}
+
+}
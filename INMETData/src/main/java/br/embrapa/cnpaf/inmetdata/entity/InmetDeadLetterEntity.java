@@ -0,0 +1,298 @@
+package br.embrapa.cnpaf.inmetdata.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+
+import br.embrapa.cnpaf.inmetdata.enumerate.FailureClassEnum;
+import br.embrapa.cnpaf.inmetdata.period.period;
+import br.embrapa.cnpaf.inmetdata.util.JsonUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Entity containing a period of a station whose ingestion failed (dead letter).</b>
+ * </p>
+ * <p>
+ * The entry keeps the class of the last failure, the number of failed attempts and of failed ingestions, so the period can be replayed alone after the
+ * cause is solved. It is removed when the period is persisted.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetDeadLetterEntity implements Serializable, Comparable<InmetDeadLetterEntity> {
+
+	private static final long serialVersionUID = 1L;
+
+	@Expose
+	@SerializedName("id")
+	private Long id;
+
+	@Expose
+	@SerializedName("station")
+	private InmetStationEntity station;
+
+	@Expose
+	@SerializedName("startDate")
+	private LocalDate startDate;
+
+	@Expose
+	@SerializedName("endDate")
+	private LocalDate endDate;
+
+	@Expose
+	@SerializedName("failureClass")
+	private FailureClassEnum failureClass;
+
+	@Expose
+	@SerializedName("attempts")
+	private Integer attempts;
+
+	@Expose
+	@SerializedName("failures")
+	private Integer failures;
+
+	@Expose
+	@SerializedName("message")
+	private String message;
+
+	@Expose
+	@SerializedName("firstFailureDateTime")
+	private LocalDateTime firstFailureDateTime;
+
+	@Expose
+	@SerializedName("lastFailureDateTime")
+	private LocalDateTime lastFailureDateTime;
+
+	/**
+	 *
+	 */
+	public InmetDeadLetterEntity() {
+		super();
+	}
+
+	/**
+	 * @param id
+	 * @param station
+	 * @param startDate
+	 * @param endDate
+	 * @param failureClass
+	 * @param attempts
+	 * @param failures
+	 * @param message
+	 * @param firstFailureDateTime
+	 * @param lastFailureDateTime
+	 */
+	public InmetDeadLetterEntity(Long id, InmetStationEntity station, LocalDate startDate, LocalDate endDate, FailureClassEnum failureClass, Integer attempts,
+			Integer failures, String message, LocalDateTime firstFailureDateTime, LocalDateTime lastFailureDateTime) {
+		super();
+		this.id = id;
+		this.station = station;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.failureClass = failureClass;
+		this.attempts = attempts;
+		this.failures = failures;
+		this.message = message;
+		this.firstFailureDateTime = firstFailureDateTime;
+		this.lastFailureDateTime = lastFailureDateTime;
+	}
+
+	/**
+	 * @return the id
+	 */
+	public Long getId() {
+		return id;
+	}
+
+	/**
+	 * @param id the id to set
+	 */
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	/**
+	 * @return the station
+	 */
+	public InmetStationEntity getStation() {
+		return station;
+	}
+
+	/**
+	 * @param station the station to set
+	 */
+	public void setStation(InmetStationEntity station) {
+		this.station = station;
+	}
+
+	/**
+	 * @return the startDate
+	 */
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	/**
+	 * @param startDate the startDate to set
+	 */
+	public void setStartDate(LocalDate startDate) {
+		this.startDate = startDate;
+	}
+
+	/**
+	 * @return the endDate
+	 */
+	public LocalDate getEndDate() {
+		return endDate;
+	}
+
+	/**
+	 * @param endDate the endDate to set
+	 */
+	public void setEndDate(LocalDate endDate) {
+		this.endDate = endDate;
+	}
+
+	/**
+	 * @return the failureClass
+	 */
+	public FailureClassEnum getFailureClass() {
+		return failureClass;
+	}
+
+	/**
+	 * @param failureClass the failureClass to set
+	 */
+	public void setFailureClass(FailureClassEnum failureClass) {
+		this.failureClass = failureClass;
+	}
+
+	/**
+	 * @return the attempts
+	 */
+	public Integer getAttempts() {
+		return attempts;
+	}
+
+	/**
+	 * @param attempts the attempts to set
+	 */
+	public void setAttempts(Integer attempts) {
+		this.attempts = attempts;
+	}
+
+	/**
+	 * @return the failures
+	 */
+	public Integer getFailures() {
+		return failures;
+	}
+
+	/**
+	 * @param failures the failures to set
+	 */
+	public void setFailures(Integer failures) {
+		this.failures = failures;
+	}
+
+	/**
+	 * @return the message
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * @param message the message to set
+	 */
+	public void setMessage(String message) {
+		this.message = message;
+	}
+
+	/**
+	 * @return the firstFailureDateTime
+	 */
+	public LocalDateTime getFirstFailureDateTime() {
+		return firstFailureDateTime;
+	}
+
+	/**
+	 * @param firstFailureDateTime the firstFailureDateTime to set
+	 */
+	public void setFirstFailureDateTime(LocalDateTime firstFailureDateTime) {
+		this.firstFailureDateTime = firstFailureDateTime;
+	}
+
+	/**
+	 * @return the lastFailureDateTime
+	 */
+	public LocalDateTime getLastFailureDateTime() {
+		return lastFailureDateTime;
+	}
+
+	/**
+	 * @param lastFailureDateTime the lastFailureDateTime to set
+	 */
+	public void setLastFailureDateTime(LocalDateTime lastFailureDateTime) {
+		this.lastFailureDateTime = lastFailureDateTime;
+	}
+
+	/**
+	 * @return Period of the entry.
+	 */
+	public period getPeriod() {
+		return new period(startDate, endDate);
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((station == null || station.getId() == null) ? 0 : station.getId().hashCode());
+		result = prime * result + ((startDate == null) ? 0 : startDate.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		InmetDeadLetterEntity other = (InmetDeadLetterEntity) obj;
+		Long stationId = (station == null) ? null : station.getId();
+		Long otherStationId = (other.station == null) ? null : other.station.getId();
+		if (stationId == null) {
+			if (otherStationId != null)
+				return false;
+		} else if (!stationId.equals(otherStationId))
+			return false;
+		if (startDate == null) {
+			if (other.startDate != null)
+				return false;
+		} else if (!startDate.equals(other.startDate))
+			return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		String json = JsonUtil.getJsonConverterWithExposeAnnotation().toJson(this);
+		return json;
+	}
+
+	@Override
+	public int compareTo(InmetDeadLetterEntity entity) {
+		return this.getStartDate().compareTo(entity.getStartDate());
+	}
+
+}
@@ -2,6 +2,7 @@ package br.embrapa.cnpaf.inmetdata.entity;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.Comparator;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -13,8 +14,7 @@ import br.embrapa.cnpaf.inmetdata.exception.ParameterValueInvalidException;
 import br.embrapa.cnpaf.inmetdata.util.ErrorUtil;
 import br.embrapa.cnpaf.inmetdata.util.JsonUtil;
 import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
-import br.embrapa.cnpaf.inmetdata.util.StringUtil;
-import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
+import br.embrapa.cnpaf.inmetdata.util.TemporalKeyUtil;
 
 /**
  * <br>
@@ -36,6 +36,20 @@ public class InmetDiarlyDataEntity implements Serializable, Comparable<InmetDiar
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Order of the natural key (station and measurement date), comparing the packed temporal keys. All the keys must fit in the packed key (see
+	 * getTemporalKey()); otherwise use the natural order of the entity.
+	 */
+	public static final Comparator<InmetDiarlyDataEntity> NATURAL_KEY_ORDER = Comparator.comparingLong(InmetDiarlyDataEntity::getTemporalKey);
+
+	/**
+	 * Order of the natural key comparing the fields one by one, with the missing values first, for the keys that do not fit in the packed key. For the
+	 * keys that fit, it is the same order of the packed keys.
+	 */
+	private static final Comparator<InmetDiarlyDataEntity> FIELD_ORDER = Comparator
+			.comparing(InmetDiarlyDataEntity::getStationId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+			.thenComparing(InmetDiarlyDataEntity::getMeasurementDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()));
+
 	@Expose
 	@SerializedName("id")
 	private Long id;
@@ -391,35 +405,73 @@ public class InmetDiarlyDataEntity implements Serializable, Comparable<InmetDiar
 		return null;
 	}
 
+	/**
+	 * Packs the natural key of the entity (station id and epoch day of the measurement date, with the hour zero), without creating any object.
+	 *
+	 * @return Packed temporal key (see TemporalKeyUtil).
+	 * @throws IllegalArgumentException Some of the values does not fit in the key.
+	 */
+	public long getTemporalKey() {
+		return TemporalKeyUtil.pack(this.getEntilyStation().getId(), (int) this.getMeasurementDate().toEpochDay(), 0);
+	}
+
+	/**
+	 * @return the natural key of the entity, to be used as the key of maps and sets
+	 */
+	public InmetMeasurementKey getKey() {
+		return InmetMeasurementKey.of(this.getTemporalKey());
+	}
+
+	/**
+	 * Compares the entities in ascending order of the natural key (station id and measurement date). When both natural keys fit in the packed temporal
+	 * key, the packed keys are compared; otherwise (a station without id or a date before 1970) the fields are compared one by one, with the missing
+	 * values first, in the same order.<br>
+	 * This order is inconsistent with equals(), which also compares the id, the station entity and the measurements: two entities with the same natural
+	 * key compare as equal even if they are not equal, so a sorted set or map keeps only one of them.
+	 */
 	@Override
 	public int compareTo(InmetDiarlyDataEntity entity) {
-		// For ascending order
-		String ownEntity = StringUtil.removeAccent(this.getEntilyStation().getCode() + ";"
-				+ TimeUtil.formatterLocalDateToYYYYMMDD(this.getMeasurementDate()));
-		String otherEntity = StringUtil.removeAccent(this.getEntilyStation().getCode() + ";"
-				+ TimeUtil.formatterLocalDateToYYYYMMDD(entity.getMeasurementDate()));
-		return ownEntity.compareTo(otherEntity);
+		// For ascending order of the natural key
+		long key = this.packTemporalKey();
+		long otherKey = entity.packTemporalKey();
+		if (key >= 0 && otherKey >= 0) {
+			return Long.compare(key, otherKey);
+		}
+		return FIELD_ORDER.compare(this, entity);
+	}
+
+	/**
+	 * Packs the natural key of the entity, without throwing when it does not fit in the packed key.
+	 *
+	 * @return Packed temporal key or -1 if some of the values is missing or does not fit in the key.
+	 */
+	private long packTemporalKey() {
+		Long stationId = this.getStationId();
+		if (stationId == null || stationId < 0 || stationId > TemporalKeyUtil.MAXIMUM_STATION_ID || this.measurementDate == null) {
+			return -1;
+		}
+		long epochDay = this.measurementDate.toEpochDay();
+		if (epochDay < 0 || epochDay > TemporalKeyUtil.MAXIMUM_EPOCH_DAY) {
+			return -1;
+		}
+		return TemporalKeyUtil.pack(stationId, (int) epochDay, 0);
+	}
+
+	/**
+	 * @return Id of the station or null if the station or its id is missing.
+	 */
+	private Long getStationId() {
+		return (this.entilyStation == null) ? null : this.entilyStation.getId();
 	}
 
 	@Override
 	public int hashCode() {
+		// only the natural key, the entities with equal attributes still have equal hashes
+		Long stationId = (entilyStation == null) ? null : entilyStation.getId();
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((entilyStation == null) ? 0 : entilyStation.hashCode());
-		result = prime * result + ((globalRadiation == null) ? 0 : globalRadiation.hashCode());
-		result = prime * result + ((id == null) ? 0 : id.hashCode());
-		result = prime * result + ((maximumDewPoint == null) ? 0 : maximumDewPoint.hashCode());
-		result = prime * result + ((maximumPrecipitation == null) ? 0 : maximumPrecipitation.hashCode());
-		result = prime * result + ((maximumRelativeAirHumidity == null) ? 0 : maximumRelativeAirHumidity.hashCode());
-		result = prime * result + ((maximumTemperature == null) ? 0 : maximumTemperature.hashCode());
+		result = prime * result + ((stationId == null) ? 0 : stationId.hashCode());
 		result = prime * result + ((measurementDate == null) ? 0 : measurementDate.hashCode());
-		result = prime * result + ((minimumDewPoint == null) ? 0 : minimumDewPoint.hashCode());
-		result = prime * result + ((minimumPrecipitation == null) ? 0 : minimumPrecipitation.hashCode());
-		result = prime * result + ((minimumRelativeAirHumidity == null) ? 0 : minimumRelativeAirHumidity.hashCode());
-		result = prime * result + ((minimumTemperature == null) ? 0 : minimumTemperature.hashCode());
-		result = prime * result + ((rain == null) ? 0 : rain.hashCode());
-		result = prime * result + ((windDirection == null) ? 0 : windDirection.hashCode());
-		result = prime * result + ((windSpeed == null) ? 0 : windSpeed.hashCode());
 		return result;
 	}
 
@@ -432,6 +484,12 @@ public class InmetDiarlyDataEntity implements Serializable, Comparable<InmetDiar
 		if (getClass() != obj.getClass())
 			return false;
 		InmetDiarlyDataEntity other = (InmetDiarlyDataEntity) obj;
+		// the natural key first, which tells apart the rows of a result set
+		if (measurementDate == null) {
+			if (other.measurementDate != null)
+				return false;
+		} else if (!measurementDate.equals(other.measurementDate))
+			return false;
 		if (entilyStation == null) {
 			if (other.entilyStation != null)
 				return false;
@@ -467,11 +525,6 @@ public class InmetDiarlyDataEntity implements Serializable, Comparable<InmetDiar
 				return false;
 		} else if (!maximumTemperature.equals(other.maximumTemperature))
 			return false;
-		if (measurementDate == null) {
-			if (other.measurementDate != null)
-				return false;
-		} else if (!measurementDate.equals(other.measurementDate))
-			return false;
 		if (minimumDewPoint == null) {
 			if (other.minimumDewPoint != null)
 				return false;
@@ -0,0 +1,168 @@
+package br.embrapa.cnpaf.inmetdata.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+
+import br.embrapa.cnpaf.inmetdata.util.JsonUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Entity containing a day of a station whose hourly data changed after its daily data was aggregated (dirty day).</b>
+ * </p>
+ * <p>
+ * The entry is created by the database whenever hourly data of the day is inserted, updated or removed, and it is removed when the daily data of the
+ * day is aggregated again, by the ingestion or by the recomputation of the dirty days.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetDirtyDayEntity implements Serializable, Comparable<InmetDirtyDayEntity> {
+
+	private static final long serialVersionUID = 1L;
+
+	@Expose
+	@SerializedName("id")
+	private Long id;
+
+	@Expose
+	@SerializedName("station")
+	private InmetStationEntity station;
+
+	@Expose
+	@SerializedName("measurementDate")
+	private LocalDate measurementDate;
+
+	@Expose
+	@SerializedName("markedDateTime")
+	private LocalDateTime markedDateTime;
+
+	/**
+	 *
+	 */
+	public InmetDirtyDayEntity() {
+		super();
+	}
+
+	/**
+	 * @param id
+	 * @param station
+	 * @param measurementDate
+	 * @param markedDateTime
+	 */
+	public InmetDirtyDayEntity(Long id, InmetStationEntity station, LocalDate measurementDate, LocalDateTime markedDateTime) {
+		super();
+		this.id = id;
+		this.station = station;
+		this.measurementDate = measurementDate;
+		this.markedDateTime = markedDateTime;
+	}
+
+	/**
+	 * @return the id
+	 */
+	public Long getId() {
+		return id;
+	}
+
+	/**
+	 * @param id the id to set
+	 */
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	/**
+	 * @return the station
+	 */
+	public InmetStationEntity getStation() {
+		return station;
+	}
+
+	/**
+	 * @param station the station to set
+	 */
+	public void setStation(InmetStationEntity station) {
+		this.station = station;
+	}
+
+	/**
+	 * @return the measurementDate
+	 */
+	public LocalDate getMeasurementDate() {
+		return measurementDate;
+	}
+
+	/**
+	 * @param measurementDate the measurementDate to set
+	 */
+	public void setMeasurementDate(LocalDate measurementDate) {
+		this.measurementDate = measurementDate;
+	}
+
+	/**
+	 * @return the markedDateTime
+	 */
+	public LocalDateTime getMarkedDateTime() {
+		return markedDateTime;
+	}
+
+	/**
+	 * @param markedDateTime the markedDateTime to set
+	 */
+	public void setMarkedDateTime(LocalDateTime markedDateTime) {
+		this.markedDateTime = markedDateTime;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((station == null || station.getId() == null) ? 0 : station.getId().hashCode());
+		result = prime * result + ((measurementDate == null) ? 0 : measurementDate.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		InmetDirtyDayEntity other = (InmetDirtyDayEntity) obj;
+		Long stationId = (station == null) ? null : station.getId();
+		Long otherStationId = (other.station == null) ? null : other.station.getId();
+		if (stationId == null) {
+			if (otherStationId != null)
+				return false;
+		} else if (!stationId.equals(otherStationId))
+			return false;
+		if (measurementDate == null) {
+			if (other.measurementDate != null)
+				return false;
+		} else if (!measurementDate.equals(other.measurementDate))
+			return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		String json = JsonUtil.getJsonConverterWithExposeAnnotation().toJson(this);
+		return json;
+	}
+
+	@Override
+	public int compareTo(InmetDirtyDayEntity entity) {
+		return this.getMeasurementDate().compareTo(entity.getMeasurementDate());
+	}
+
+}
@@ -2,6 +2,7 @@ package br.embrapa.cnpaf.inmetdata.entity;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.Comparator;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -12,8 +13,7 @@ import br.embrapa.cnpaf.inmetdata.exception.ParameterValueInvalidException;
 import br.embrapa.cnpaf.inmetdata.util.ErrorUtil;
 import br.embrapa.cnpaf.inmetdata.util.JsonUtil;
 import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
-import br.embrapa.cnpaf.inmetdata.util.StringUtil;
-import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
+import br.embrapa.cnpaf.inmetdata.util.TemporalKeyUtil;
 
 /**
  * <br>
@@ -35,6 +35,22 @@ public class InmetHourlyDataEntity implements Serializable, Comparable<InmetHour
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Order of the natural key (station, measurement date and measure time), comparing the packed temporal keys. All the keys must fit in the packed
+	 * key (see getTemporalKey()); otherwise use the natural order of the entity.
+	 */
+	public static final Comparator<InmetHourlyDataEntity> NATURAL_KEY_ORDER = Comparator.comparingLong(InmetHourlyDataEntity::getTemporalKey);
+
+	/**
+	 * Order of the natural key comparing the fields one by one, with the missing values first, for the keys that do not fit in the packed key. For the
+	 * keys that fit, it is the same order of the packed keys.
+	 */
+	private static final Comparator<InmetHourlyDataEntity> FIELD_ORDER = Comparator
+			.comparing(InmetHourlyDataEntity::getStationId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+			.thenComparing(InmetHourlyDataEntity::getMeasurementDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+			.thenComparingInt(InmetHourlyDataEntity::getHour)
+			.thenComparing(entity -> (entity.getHour() < 0) ? entity.getMeasureTime() : null, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+
 	@Expose
 	@SerializedName("id")
 	private Long id;
@@ -516,41 +532,86 @@ public class InmetHourlyDataEntity implements Serializable, Comparable<InmetHour
 		return null;
 	}
 
+	/**
+	 * Packs the natural key of the entity (station id, epoch day of the measurement date and hour of the measure time), without creating any object.
+	 *
+	 * @return Packed temporal key (see TemporalKeyUtil).
+	 * @throws IllegalArgumentException Some of the values does not fit in the key.
+	 */
+	public long getTemporalKey() {
+		return TemporalKeyUtil.pack(this.getEntilyStation().getId(), (int) this.getMeasurementDate().toEpochDay(), TemporalKeyUtil.parseHour(this.getMeasureTime()));
+	}
+
+	/**
+	 * @return the natural key of the entity, to be used as the key of maps and sets
+	 */
+	public InmetMeasurementKey getKey() {
+		return InmetMeasurementKey.of(this.getTemporalKey());
+	}
+
+	/**
+	 * Compares the entities in ascending order of the natural key (station id, measurement date and hour of the measure time). When both natural keys fit
+	 * in the packed temporal key, the packed keys are compared; otherwise (a station without id, a date before 1970 or a measure time out of the format)
+	 * the fields are compared one by one, with the missing values first, in the same order.<br>
+	 * This order is inconsistent with equals(), which also compares the id and the station entity: two entities with the same natural key compare as
+	 * equal even if they are not equal, so a sorted set or map keeps only one of them.
+	 */
 	@Override
 	public int compareTo(InmetHourlyDataEntity entity) {
-		// For ascending order
-		String ownEntity = StringUtil.removeAccent(this.getEntilyStation().getCode() + ";"
-				+ TimeUtil.formatterLocalDateToYYYYMMDD(this.getMeasurementDate()));
-		String otherEntity = StringUtil.removeAccent(this.getEntilyStation().getCode() + ";"
-				+ TimeUtil.formatterLocalDateToYYYYMMDD(entity.getMeasurementDate()));
-		return ownEntity.compareTo(otherEntity);
+		// For ascending order of the natural key
+		long key = this.packTemporalKey();
+		long otherKey = entity.packTemporalKey();
+		if (key >= 0 && otherKey >= 0) {
+			return Long.compare(key, otherKey);
+		}
+		return FIELD_ORDER.compare(this, entity);
+	}
+
+	/**
+	 * Packs the natural key of the entity, without throwing when it does not fit in the packed key.
+	 *
+	 * @return Packed temporal key or -1 if some of the values is missing or does not fit in the key.
+	 */
+	private long packTemporalKey() {
+		Long stationId = this.getStationId();
+		if (stationId == null || stationId < 0 || stationId > TemporalKeyUtil.MAXIMUM_STATION_ID || this.measurementDate == null) {
+			return -1;
+		}
+		long epochDay = this.measurementDate.toEpochDay();
+		int hour = this.getHour();
+		if (epochDay < 0 || epochDay > TemporalKeyUtil.MAXIMUM_EPOCH_DAY || hour < 0) {
+			return -1;
+		}
+		return TemporalKeyUtil.pack(stationId, (int) epochDay, hour);
+	}
+
+	/**
+	 * @return Id of the station or null if the station or its id is missing.
+	 */
+	private Long getStationId() {
+		return (this.entilyStation == null) ? null : this.entilyStation.getId();
+	}
+
+	/**
+	 * @return Hour of the measure time or -1 if it is missing or out of the format.
+	 */
+	private int getHour() {
+		try {
+			return TemporalKeyUtil.parseHour(this.measureTime);
+		} catch (IllegalArgumentException e) {
+			return -1;
+		}
 	}
 
 	@Override
 	public int hashCode() {
+		// only the natural key, the entities with equal attributes still have equal hashes
+		Long stationId = (entilyStation == null) ? null : entilyStation.getId();
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + Float.floatToIntBits(blast);
-		result = prime * result + ((entilyStation == null) ? 0 : entilyStation.hashCode());
-		result = prime * result + Float.floatToIntBits(globalRadiation);
-		result = prime * result + ((id == null) ? 0 : id.hashCode());
-		result = prime * result + Float.floatToIntBits(instantDewPoint);
-		result = prime * result + Float.floatToIntBits(instantPrecipitation);
-		result = prime * result + Float.floatToIntBits(instantRelativeAirHumidity);
-		result = prime * result + Float.floatToIntBits(instantTemperature);
-		result = prime * result + Float.floatToIntBits(maximumDewPoint);
-		result = prime * result + Float.floatToIntBits(maximumPrecipitation);
-		result = prime * result + Float.floatToIntBits(maximumRelativeAirHumidity);
-		result = prime * result + Float.floatToIntBits(maximumTemperature);
+		result = prime * result + ((stationId == null) ? 0 : stationId.hashCode());
 		result = prime * result + ((measureTime == null) ? 0 : measureTime.hashCode());
 		result = prime * result + ((measurementDate == null) ? 0 : measurementDate.hashCode());
-		result = prime * result + Float.floatToIntBits(minimumDewPoint);
-		result = prime * result + Float.floatToIntBits(minimumPrecipitation);
-		result = prime * result + Float.floatToIntBits(minimumRelativeAirHumidity);
-		result = prime * result + Float.floatToIntBits(minimumTemperature);
-		result = prime * result + Float.floatToIntBits(rain);
-		result = prime * result + windDirection;
-		result = prime * result + Float.floatToIntBits(windSpeed);
 		return result;
 	}
 
@@ -563,6 +624,17 @@ public class InmetHourlyDataEntity implements Serializable, Comparable<InmetHour
 		if (getClass() != obj.getClass())
 			return false;
 		InmetHourlyDataEntity other = (InmetHourlyDataEntity) obj;
+		// the natural key first, which tells apart the rows of a result set
+		if (measureTime == null) {
+			if (other.measureTime != null)
+				return false;
+		} else if (!measureTime.equals(other.measureTime))
+			return false;
+		if (measurementDate == null) {
+			if (other.measurementDate != null)
+				return false;
+		} else if (!measurementDate.equals(other.measurementDate))
+			return false;
 		if (Float.floatToIntBits(blast) != Float.floatToIntBits(other.blast))
 			return false;
 		if (entilyStation == null) {
@@ -593,16 +665,6 @@ public class InmetHourlyDataEntity implements Serializable, Comparable<InmetHour
 			return false;
 		if (Float.floatToIntBits(maximumTemperature) != Float.floatToIntBits(other.maximumTemperature))
 			return false;
-		if (measureTime == null) {
-			if (other.measureTime != null)
-				return false;
-		} else if (!measureTime.equals(other.measureTime))
-			return false;
-		if (measurementDate == null) {
-			if (other.measurementDate != null)
-				return false;
-		} else if (!measurementDate.equals(other.measurementDate))
-			return false;
 		if (Float.floatToIntBits(minimumDewPoint) != Float.floatToIntBits(other.minimumDewPoint))
 			return false;
 		if (Float.floatToIntBits(minimumPrecipitation) != Float.floatToIntBits(other.minimumPrecipitation))
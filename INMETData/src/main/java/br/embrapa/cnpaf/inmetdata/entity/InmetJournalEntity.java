@@ -0,0 +1,218 @@
+package br.embrapa.cnpaf.inmetdata.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+
+import br.embrapa.cnpaf.inmetdata.enumerate.JournalStateEnum;
+import br.embrapa.cnpaf.inmetdata.period.period;
+import br.embrapa.cnpaf.inmetdata.util.JsonUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Entity containing an entry of the ingestion journal.</b>
+ * </p>
+ * <p>
+ * Each entry records the state of the ingestion of one period of a station, so that an interrupted backfill can be resumed from the last period not yet
+ * persisted.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetJournalEntity implements Serializable, Comparable<InmetJournalEntity> {
+
+	private static final long serialVersionUID = 1L;
+
+	@Expose
+	@SerializedName("id")
+	private Long id;
+
+	@Expose
+	@SerializedName("station")
+	private InmetStationEntity station;
+
+	@Expose
+	@SerializedName("startDate")
+	private LocalDate startDate;
+
+	@Expose
+	@SerializedName("endDate")
+	private LocalDate endDate;
+
+	@Expose
+	@SerializedName("state")
+	private JournalStateEnum state;
+
+	@Expose
+	@SerializedName("updateDateTime")
+	private LocalDateTime updateDateTime;
+
+	/**
+	 *
+	 */
+	public InmetJournalEntity() {
+		super();
+	}
+
+	/**
+	 * @param id
+	 * @param station
+	 * @param startDate
+	 * @param endDate
+	 * @param state
+	 * @param updateDateTime
+	 */
+	public InmetJournalEntity(Long id, InmetStationEntity station, LocalDate startDate, LocalDate endDate, JournalStateEnum state,
+			LocalDateTime updateDateTime) {
+		super();
+		this.id = id;
+		this.station = station;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.state = state;
+		this.updateDateTime = updateDateTime;
+	}
+
+	/**
+	 * @return the id
+	 */
+	public Long getId() {
+		return id;
+	}
+
+	/**
+	 * @param id the id to set
+	 */
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	/**
+	 * @return the station
+	 */
+	public InmetStationEntity getStation() {
+		return station;
+	}
+
+	/**
+	 * @param station the station to set
+	 */
+	public void setStation(InmetStationEntity station) {
+		this.station = station;
+	}
+
+	/**
+	 * @return the startDate
+	 */
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	/**
+	 * @param startDate the startDate to set
+	 */
+	public void setStartDate(LocalDate startDate) {
+		this.startDate = startDate;
+	}
+
+	/**
+	 * @return the endDate
+	 */
+	public LocalDate getEndDate() {
+		return endDate;
+	}
+
+	/**
+	 * @param endDate the endDate to set
+	 */
+	public void setEndDate(LocalDate endDate) {
+		this.endDate = endDate;
+	}
+
+	/**
+	 * @return the state
+	 */
+	public JournalStateEnum getState() {
+		return state;
+	}
+
+	/**
+	 * @param state the state to set
+	 */
+	public void setState(JournalStateEnum state) {
+		this.state = state;
+	}
+
+	/**
+	 * @return the updateDateTime
+	 */
+	public LocalDateTime getUpdateDateTime() {
+		return updateDateTime;
+	}
+
+	/**
+	 * @param updateDateTime the updateDateTime to set
+	 */
+	public void setUpdateDateTime(LocalDateTime updateDateTime) {
+		this.updateDateTime = updateDateTime;
+	}
+
+	/**
+	 * @return Period of the entry.
+	 */
+	public period getPeriod() {
+		return new period(startDate, endDate);
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((station == null || station.getId() == null) ? 0 : station.getId().hashCode());
+		result = prime * result + ((startDate == null) ? 0 : startDate.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		InmetJournalEntity other = (InmetJournalEntity) obj;
+		Long stationId = (station == null) ? null : station.getId();
+		Long otherStationId = (other.station == null) ? null : other.station.getId();
+		if (stationId == null) {
+			if (otherStationId != null)
+				return false;
+		} else if (!stationId.equals(otherStationId))
+			return false;
+		if (startDate == null) {
+			if (other.startDate != null)
+				return false;
+		} else if (!startDate.equals(other.startDate))
+			return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		String json = JsonUtil.getJsonConverterWithExposeAnnotation().toJson(this);
+		return json;
+	}
+
+	@Override
+	public int compareTo(InmetJournalEntity entity) {
+		return this.getStartDate().compareTo(entity.getStartDate());
+	}
+
+}
@@ -0,0 +1,134 @@
+package br.embrapa.cnpaf.inmetdata.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import br.embrapa.cnpaf.inmetdata.util.TemporalKeyUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Immutable natural key of a measurement of a station: station id, date and hour of the day (zero for the daily data).</b>
+ * </p>
+ * <p>
+ * The key holds only the packed temporal key (see TemporalKeyUtil), so the ordering, the equality and the hash are arithmetic over a single long. It
+ * can be used as the key of maps and sets of large result sets, instead of the entities, whose equality compares every measured value.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public final class InmetMeasurementKey implements Serializable, Comparable<InmetMeasurementKey> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long key;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param key Packed temporal key.
+	 */
+	private InmetMeasurementKey(long key) {
+		this.key = key;
+	}
+
+	/**
+	 * Creates the key of a packed temporal key.
+	 *
+	 * @param key Packed temporal key.
+	 * @return The key.
+	 */
+	public static InmetMeasurementKey of(long key) {
+		return new InmetMeasurementKey(key);
+	}
+
+	/**
+	 * Creates the key of a measurement.
+	 *
+	 * @param stationId Identifier of the station.
+	 * @param date      Date of the measurement.
+	 * @param hour      Hour of the day of the measurement (0 to 23).
+	 * @return The key.
+	 * @throws IllegalArgumentException Some of the values does not fit in the key.
+	 */
+	public static InmetMeasurementKey of(long stationId, LocalDate date, int hour) {
+		return new InmetMeasurementKey(TemporalKeyUtil.pack(stationId, (int) date.toEpochDay(), hour));
+	}
+
+	/**
+	 * Mixes the bits of a temporal key into a hash. The bits of the station, the date and the hour are spread over the whole int, so the keys of a
+	 * single station do not collide in the low bits used by the hash tables.
+	 *
+	 * @param key Packed temporal key.
+	 * @return Hash of the key.
+	 */
+	public static int hash(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	/**
+	 * @return the packed temporal key
+	 */
+	public long getKey() {
+		return key;
+	}
+
+	/**
+	 * @return the station id
+	 */
+	public long getStationId() {
+		return TemporalKeyUtil.getStationId(key);
+	}
+
+	/**
+	 * @return the date, as the number of days since 1970-01-01
+	 */
+	public int getEpochDay() {
+		return TemporalKeyUtil.getEpochDay(key);
+	}
+
+	/**
+	 * @return the measurementDate
+	 */
+	public LocalDate getMeasurementDate() {
+		return TemporalKeyUtil.toLocalDate(key);
+	}
+
+	/**
+	 * @return the hour of the day
+	 */
+	public int getHour() {
+		return TemporalKeyUtil.getHour(key);
+	}
+
+	@Override
+	public int compareTo(InmetMeasurementKey entity) {
+		return Long.compare(this.key, entity.key);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash(key);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		InmetMeasurementKey other = (InmetMeasurementKey) obj;
+		return key == other.key;
+	}
+
+	@Override
+	public String toString() {
+		return getStationId() + ";" + TemporalKeyUtil.appendSqlDate(new StringBuilder(10), getEpochDay()) + ";" + getHour();
+	}
+}
@@ -0,0 +1,135 @@
+package br.embrapa.cnpaf.inmetdata.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+
+import br.embrapa.cnpaf.inmetdata.util.JsonUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Entity containing a migration applied to the database schema.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class SchemaVersionEntity implements Serializable, Comparable<SchemaVersionEntity> {
+
+	private static final long serialVersionUID = 1L;
+
+	@Expose
+	@SerializedName("version")
+	private Integer version;
+
+	@Expose
+	@SerializedName("description")
+	private String description;
+
+	@Expose
+	@SerializedName("installDateTime")
+	private LocalDateTime installDateTime;
+
+	/**
+	 *
+	 */
+	public SchemaVersionEntity() {
+		super();
+	}
+
+	/**
+	 * @param version
+	 * @param description
+	 * @param installDateTime
+	 */
+	public SchemaVersionEntity(Integer version, String description, LocalDateTime installDateTime) {
+		super();
+		this.version = version;
+		this.description = description;
+		this.installDateTime = installDateTime;
+	}
+
+	/**
+	 * @return the version
+	 */
+	public Integer getVersion() {
+		return version;
+	}
+
+	/**
+	 * @param version the version to set
+	 */
+	public void setVersion(Integer version) {
+		this.version = version;
+	}
+
+	/**
+	 * @return the description
+	 */
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * @param description the description to set
+	 */
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	/**
+	 * @return the installDateTime
+	 */
+	public LocalDateTime getInstallDateTime() {
+		return installDateTime;
+	}
+
+	/**
+	 * @param installDateTime the installDateTime to set
+	 */
+	public void setInstallDateTime(LocalDateTime installDateTime) {
+		this.installDateTime = installDateTime;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((version == null) ? 0 : version.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SchemaVersionEntity other = (SchemaVersionEntity) obj;
+		if (version == null) {
+			if (other.version != null)
+				return false;
+		} else if (!version.equals(other.version))
+			return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		String json = JsonUtil.getJsonConverterWithExposeAnnotation().toJson(this);
+		return json;
+	}
+
+	@Override
+	public int compareTo(SchemaVersionEntity entity) {
+		return this.getVersion().compareTo(entity.getVersion());
+	}
+
+}
@@ -0,0 +1,68 @@
+package br.embrapa.cnpaf.inmetdata.enumerate;
+
+import java.io.Serializable;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * <br>
+ * <p>
+ * <b>Enum with the classes of the failures in the ingestion of a period from the INMET web service.</b>
+ * </p>
+ * <p>
+ * The class decides whether a new attempt of the request makes sense: failures of the network or of the server are transient and are retried, while a
+ * request rejected by the server or a response that cannot be parsed fails the same way again.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public enum FailureClassEnum implements Serializable {
+
+	@SerializedName("TIMEOUT")
+	TIMEOUT(true),
+
+	@SerializedName("CONNECTION")
+	CONNECTION(true),
+
+	@SerializedName("RATE_LIMITED")
+	RATE_LIMITED(true),
+
+	@SerializedName("HTTP_SERVER")
+	HTTP_SERVER(true),
+
+	@SerializedName("HTTP_CLIENT")
+	HTTP_CLIENT(false),
+
+	@SerializedName("EMPTY_RESPONSE")
+	EMPTY_RESPONSE(false),
+
+	@SerializedName("PARSE")
+	PARSE(false),
+
+	@SerializedName("UNKNOWN")
+	UNKNOWN(true);
+
+	private final boolean retryable;
+
+	/**
+	 * Private enum constructor.
+	 *
+	 * @param retryable
+	 *            True if a new attempt may succeed.
+	 */
+	private FailureClassEnum(boolean retryable) {
+		this.retryable = retryable;
+	}
+
+	/**
+	 * Checking whether a new attempt of the request may succeed.
+	 *
+	 * @return True, if the failure is transient, false otherwise.
+	 */
+	public boolean isRetryable() {
+		return this.retryable;
+	}
+}
@@ -0,0 +1,44 @@
+package br.embrapa.cnpaf.inmetdata.enumerate;
+
+import java.io.Serializable;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * <br>
+ * <p>
+ * <b>Enum with the states of a period in the ingestion journal.</b>
+ * </p>
+ * <p>
+ * A period of a station goes through the states in the declaration order: it is planned, its hourly data is fetched from the INMET web service, the daily
+ * data is aggregated and finally both are persisted. Only persisted periods are complete; any other state means the ingestion of the period was interrupted.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public enum JournalStateEnum implements Serializable {
+
+	@SerializedName("PLANNED")
+	PLANNED,
+
+	@SerializedName("FETCHED")
+	FETCHED,
+
+	@SerializedName("AGGREGATED")
+	AGGREGATED,
+
+	@SerializedName("PERSISTED")
+	PERSISTED;
+
+	/**
+	 * Checking whether the period associated with the state was completely ingested.
+	 *
+	 * @return True, if the state is "PERSISTED", false otherwise.
+	 */
+	public boolean isComplete() {
+		return this == PERSISTED;
+	}
+}
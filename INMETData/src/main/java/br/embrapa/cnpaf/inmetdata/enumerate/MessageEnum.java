@@ -127,6 +127,19 @@ public enum MessageEnum implements Serializable {
 
 	@SerializedName("20028")
 	GENERIC_DAO_INFO_SUCCESS_SAVE_ATTRIBUTE(20028),
+
+	// -------------------------- SchemaVersionDAO -------------------------------
+	@SerializedName("20100")
+	SCHEMA_VERSION_DAO_INFO_SUCCESS_CURRENT(20100),
+
+	@SerializedName("20101")
+	SCHEMA_VERSION_DAO_INFO_SUCCESS_MIGRATE(20101),
+
+	@SerializedName("20102")
+	SCHEMA_VERSION_DAO_ERROR_MIGRATE(20102),
+
+	@SerializedName("20103")
+	SCHEMA_VERSION_DAO_ERROR_NEWER_VERSION(20103),
 	
 	// --------------------------- InmetHourlyDataEntity ---------------------------
 	@SerializedName("30000")
@@ -154,6 +167,24 @@ public enum MessageEnum implements Serializable {
 	@SerializedName("60000")
 	INMETDATA_INFO_SUCCESS_CREATE(60000),
 
+	@SerializedName("60001")
+	INMETDATA_INFO_METRICS_SUMMARY(60001),
+
+	@SerializedName("60002")
+	INMETDATA_INFO_RESUME_PERIODS(60002),
+
+	@SerializedName("60003")
+	INMETDATA_INFO_VIRTUAL_THREADS_UNSUPPORTED(60003),
+
+	@SerializedName("60004")
+	INMETDATA_INFO_REPLAY_DEAD_LETTERS(60004),
+
+	@SerializedName("60005")
+	INMETDATA_INFO_RECOMPUTE_DIRTY_DAYS(60005),
+
+	@SerializedName("60006")
+	INMETDATA_INFO_SUCCESS_RECOMPUTE(60006),
+
 	// -----------------------------------------------------------------------------
 	// SERVICES (70000 - 79999)
 	// -----------------------------------------------------------------------------
@@ -170,9 +201,6 @@ public enum MessageEnum implements Serializable {
 	@SerializedName("70101")
 	LOG_SERVICE_ERROR_INVALID_MESSAGING_SERVICE(70101),
 
-	@SerializedName("70102")
-	LOG_SERVICE_ERROR_UNABLE_RETRIEVE_LOG_SERVICE_LIST(70102),
-
 	@SerializedName("70103")
 	LOG_SERVICE_ERROR_LOG_FILE_NOT_FOUND(70103),
 
@@ -205,11 +233,90 @@ public enum MessageEnum implements Serializable {
 	@SerializedName("70303")
 	INMET_SERVICE_ERROR_EMPTY_HOURLY_DATA(70303),
 
+	// ------------------------- MetricsHttpService ------------------------
+	@SerializedName("70400")
+	METRICS_HTTP_SERVICE_INFO_SUCCESS_START(70400),
+
+	@SerializedName("70401")
+	METRICS_HTTP_SERVICE_ERROR_START(70401),
+
+	// ------------------------- SchedulerService --------------------------
+	@SerializedName("70500")
+	SCHEDULER_SERVICE_INFO_SUCCESS_START(70500),
+
+	@SerializedName("70501")
+	SCHEDULER_SERVICE_INFO_NEXT_EXECUTION(70501),
+
+	@SerializedName("70502")
+	SCHEDULER_SERVICE_ERROR_EXECUTION(70502),
+
+	@SerializedName("70503")
+	SCHEDULER_SERVICE_INFO_SUCCESS_STOP(70503),
+
+	@SerializedName("70504")
+	SCHEDULER_SERVICE_ERROR_NO_NEXT_EXECUTION(70504),
+
+	// ---------------------- ConfigurationService -------------------------
+	@SerializedName("70600")
+	CONFIGURATION_SERVICE_ERROR_INVALID_CONFIGURATION(70600),
+
+	@SerializedName("70601")
+	CONFIGURATION_SERVICE_ERROR_LOAD_FILE(70601),
+
+	@SerializedName("70602")
+	CONFIGURATION_SERVICE_INFO_SUCCESS_RELOAD(70602),
+
+	// ----------------------- IngestionPipeline ---------------------------
+	@SerializedName("70700")
+	INGESTION_PIPELINE_ERROR_STAGE(70700),
+
+	// ------------------------- ArchiveService ----------------------------
+	@SerializedName("70800")
+	ARCHIVE_SERVICE_INFO_SUCCESS_CREATING_SERVICE(70800),
+
+	@SerializedName("70801")
+	ARCHIVE_SERVICE_INFO_SUCCESS_WRITE(70801),
+
+	@SerializedName("70802")
+	ARCHIVE_SERVICE_ERROR_WRITE(70802),
+
+	@SerializedName("70803")
+	ARCHIVE_SERVICE_ERROR_READ(70803),
+
+	@SerializedName("70804")
+	ARCHIVE_SERVICE_ERROR_BACKUP(70804),
+
+	@SerializedName("70805")
+	ARCHIVE_SERVICE_ERROR_RESTORE(70805),
+
+	// ------------------------- ExportService -----------------------------
+	@SerializedName("70900")
+	EXPORT_SERVICE_INFO_SUCCESS_CREATING_SERVICE(70900),
+
+	@SerializedName("70901")
+	EXPORT_SERVICE_INFO_SUCCESS_EXPORT(70901),
+
+	@SerializedName("70902")
+	EXPORT_SERVICE_ERROR_EXPORT(70902),
+
+	@SerializedName("70903")
+	EXPORT_SERVICE_INFO_SUCCESS_EXPORT_CSV(70903),
+
+	@SerializedName("70904")
+	EXPORT_SERVICE_ERROR_EXPORT_CSV(70904),
+
+	@SerializedName("70905")
+	EXPORT_SERVICE_ERROR_EXPORT_CSV_QUERY(70905),
+
 	// -----------------------------------------------------------------------------
 	// UTIL (80000 - 89999)
 	// -----------------------------------------------------------------------------
 	//
 
+	// ------------------------------ CronExpression -------------------------------
+	@SerializedName("80000")
+	CRON_EXPRESSION_ERROR_INVALID_EXPRESSION(80000),
+
 	;
 
 	private int value;
@@ -340,6 +447,19 @@ public enum MessageEnum implements Serializable {
 			case 20028:
 				return MessageEnum.GENERIC_DAO_INFO_SUCCESS_SAVE_ATTRIBUTE;
 
+			// -------------------------- SchemaVersionDAO -------------------------------
+			case 20100:
+				return MessageEnum.SCHEMA_VERSION_DAO_INFO_SUCCESS_CURRENT;
+
+			case 20101:
+				return MessageEnum.SCHEMA_VERSION_DAO_INFO_SUCCESS_MIGRATE;
+
+			case 20102:
+				return MessageEnum.SCHEMA_VERSION_DAO_ERROR_MIGRATE;
+
+			case 20103:
+				return MessageEnum.SCHEMA_VERSION_DAO_ERROR_NEWER_VERSION;
+
 			// -------------------------- InmetHourlyDataDAO -------------------------------
 
 			// -----------------------------------------------------------------------------
@@ -372,6 +492,24 @@ public enum MessageEnum implements Serializable {
 			case 60000:
 				return MessageEnum.INMETDATA_INFO_SUCCESS_CREATE;
 
+			case 60001:
+				return MessageEnum.INMETDATA_INFO_METRICS_SUMMARY;
+
+			case 60002:
+				return MessageEnum.INMETDATA_INFO_RESUME_PERIODS;
+
+			case 60003:
+				return MessageEnum.INMETDATA_INFO_VIRTUAL_THREADS_UNSUPPORTED;
+
+			case 60004:
+				return MessageEnum.INMETDATA_INFO_REPLAY_DEAD_LETTERS;
+
+			case 60005:
+				return MessageEnum.INMETDATA_INFO_RECOMPUTE_DIRTY_DAYS;
+
+			case 60006:
+				return MessageEnum.INMETDATA_INFO_SUCCESS_RECOMPUTE;
+
 			// -----------------------------------------------------------------------------
 			// SERVICES (70000 - 79999)
 			// -----------------------------------------------------------------------------
@@ -388,9 +526,6 @@ public enum MessageEnum implements Serializable {
 			case 70101:
 				return MessageEnum.LOG_SERVICE_ERROR_INVALID_MESSAGING_SERVICE;
 
-			case 70102:
-				return MessageEnum.LOG_SERVICE_ERROR_UNABLE_RETRIEVE_LOG_SERVICE_LIST;
-
 			case 70103:
 				return MessageEnum.LOG_SERVICE_ERROR_LOG_FILE_NOT_FOUND;
 
@@ -422,12 +557,91 @@ public enum MessageEnum implements Serializable {
 
 			case 70303:
 				return MessageEnum.INMET_SERVICE_ERROR_EMPTY_HOURLY_DATA;
+
+			// ------------------------- MetricsHttpService ------------------------
+			case 70400:
+				return MessageEnum.METRICS_HTTP_SERVICE_INFO_SUCCESS_START;
+
+			case 70401:
+				return MessageEnum.METRICS_HTTP_SERVICE_ERROR_START;
+
+			// ------------------------- SchedulerService --------------------------
+			case 70500:
+				return MessageEnum.SCHEDULER_SERVICE_INFO_SUCCESS_START;
+
+			case 70501:
+				return MessageEnum.SCHEDULER_SERVICE_INFO_NEXT_EXECUTION;
+
+			case 70502:
+				return MessageEnum.SCHEDULER_SERVICE_ERROR_EXECUTION;
+
+			case 70503:
+				return MessageEnum.SCHEDULER_SERVICE_INFO_SUCCESS_STOP;
+
+			case 70504:
+				return MessageEnum.SCHEDULER_SERVICE_ERROR_NO_NEXT_EXECUTION;
+
+			// ---------------------- ConfigurationService -------------------------
+			case 70600:
+				return MessageEnum.CONFIGURATION_SERVICE_ERROR_INVALID_CONFIGURATION;
+
+			case 70601:
+				return MessageEnum.CONFIGURATION_SERVICE_ERROR_LOAD_FILE;
+
+			case 70602:
+				return MessageEnum.CONFIGURATION_SERVICE_INFO_SUCCESS_RELOAD;
+
+			// ----------------------- IngestionPipeline ---------------------------
+			case 70700:
+				return MessageEnum.INGESTION_PIPELINE_ERROR_STAGE;
+
+			// ------------------------- ArchiveService ----------------------------
+			case 70800:
+				return MessageEnum.ARCHIVE_SERVICE_INFO_SUCCESS_CREATING_SERVICE;
+
+			case 70801:
+				return MessageEnum.ARCHIVE_SERVICE_INFO_SUCCESS_WRITE;
+
+			case 70802:
+				return MessageEnum.ARCHIVE_SERVICE_ERROR_WRITE;
+
+			case 70803:
+				return MessageEnum.ARCHIVE_SERVICE_ERROR_READ;
+
+			case 70804:
+				return MessageEnum.ARCHIVE_SERVICE_ERROR_BACKUP;
+
+			case 70805:
+				return MessageEnum.ARCHIVE_SERVICE_ERROR_RESTORE;
+
+			// ------------------------- ExportService -----------------------------
+			case 70900:
+				return MessageEnum.EXPORT_SERVICE_INFO_SUCCESS_CREATING_SERVICE;
+
+			case 70901:
+				return MessageEnum.EXPORT_SERVICE_INFO_SUCCESS_EXPORT;
+
+			case 70902:
+				return MessageEnum.EXPORT_SERVICE_ERROR_EXPORT;
+
+			case 70903:
+				return MessageEnum.EXPORT_SERVICE_INFO_SUCCESS_EXPORT_CSV;
+
+			case 70904:
+				return MessageEnum.EXPORT_SERVICE_ERROR_EXPORT_CSV;
+
+			case 70905:
+				return MessageEnum.EXPORT_SERVICE_ERROR_EXPORT_CSV_QUERY;
 				
 
 			// -----------------------------------------------------------------------------
 			// UTIL (80000 - 89999)
 			// -----------------------------------------------------------------------------
 			//
+
+			// ------------------------------ CronExpression -------------------------------
+			case 80000:
+				return MessageEnum.CRON_EXPRESSION_ERROR_INVALID_EXPRESSION;
 			
 
 			// -----------------------------------------------------------------------------
@@ -0,0 +1,51 @@
+package br.embrapa.cnpaf.inmetdata.exception;
+
+import br.embrapa.cnpaf.inmetdata.enumerate.FailureClassEnum;
+
+/**
+ * <br>
+ * <p>
+ * <b> Error occurred in fetching or parsing the data of a period from the INMET web service, after all the attempts.</b>
+ * </p>
+ * 
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ * 
+ */
+public class FetchException extends ServiceException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final FailureClassEnum failureClass;
+	private final int attempts;
+
+	/**
+	 * Public class constructor.
+	 * 
+	 * @param exception
+	 *            Except for the parameters for setting this exception.
+	 * @param failureClass
+	 *            Class of the failure of the last attempt.
+	 * @param attempts
+	 *            Number of attempts performed.
+	 */
+	public FetchException(GenericException exception, FailureClassEnum failureClass, int attempts) {
+		super(exception);
+		this.failureClass = failureClass;
+		this.attempts = attempts;
+	}
+
+	/**
+	 * @return Class of the failure of the last attempt.
+	 */
+	public FailureClassEnum getFailureClass() {
+		return failureClass;
+	}
+
+	/**
+	 * @return Number of attempts performed.
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+}
@@ -0,0 +1,254 @@
+package br.embrapa.cnpaf.inmetdata.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * <br>
+ * <p>
+ * <b>Writer of CSV files that formats the cells directly in a direct ByteBuffer, written to a channel (usually a FileChannel) when full.</b>
+ * </p>
+ * <p>
+ * The numbers and dates are converted to ASCII digit by digit, without String.format(), Float.toString() or any String per cell, and the buffer is
+ * written to the channel without an intermediate copy, so the export is limited by the disk rather than by the formatting. A float is written with the
+ * fewest decimal digits (up to MAXIMUM_DECIMALS) that read back as the same float, as 23.4 instead of 23.399999618530273, and only very large or very
+ * small values fall back to Float.toString(). A null is written as an empty cell.
+ * </p>
+ * <p>
+ * The writer is not thread safe.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class CsvWriter implements Closeable {
+
+	public static final String FILE_EXTENSION = ".csv";
+	public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+	public static final int MAXIMUM_DECIMALS = 6;
+	public static final byte SEPARATOR = ',';
+	public static final byte LINE_SEPARATOR = '\n';
+
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L };
+	private static final double MAXIMUM_FIXED = 1e9; // larger values are written by Float.toString()
+	private static final int MAXIMUM_CELL = 48; // bytes of the largest cell formatted in the buffer
+
+	private final WritableByteChannel channel;
+	private final ByteBuffer buffer;
+	private final byte[] digits = new byte[20];
+	private boolean firstCell = true;
+	private long bytes;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param channel    Channel of the file, closed by close().
+	 * @param bufferSize Size of the buffer, in bytes.
+	 */
+	public CsvWriter(WritableByteChannel channel, int bufferSize) {
+		super();
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, MAXIMUM_CELL * 2));
+	}
+
+	/**
+	 * Writes a cell with a text, in UTF-8, without quoting.
+	 *
+	 * @param value Text of the cell.
+	 * @return Writer instance.
+	 * @throws IOException Occurrence of any problems in writing the channel.
+	 */
+	public CsvWriter writeText(String value) throws IOException {
+		return this.writeText(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Writes a cell with a text already encoded in UTF-8, without quoting. Useful for the texts repeated in every line.
+	 *
+	 * @param value Bytes of the text of the cell.
+	 * @return Writer instance.
+	 * @throws IOException Occurrence of any problems in writing the channel.
+	 */
+	public CsvWriter writeText(byte[] value) throws IOException {
+		this.beginCell();
+		if (value.length > this.buffer.remaining()) {
+			this.flush();
+			if (value.length > this.buffer.remaining()) {
+				this.write(ByteBuffer.wrap(value));
+				return this;
+			}
+		}
+		this.buffer.put(value);
+		return this;
+	}
+
+	/**
+	 * Writes a cell with an integer.
+	 *
+	 * @param value Value of the cell.
+	 * @return Writer instance.
+	 * @throws IOException Occurrence of any problems in writing the channel.
+	 */
+	public CsvWriter writeInt(int value) throws IOException {
+		this.beginCell();
+		this.putFixed(value, 0);
+		return this;
+	}
+
+	/**
+	 * Writes a cell with a float, with the fewest decimal digits that read back as the same value.
+	 *
+	 * @param value Value of the cell.
+	 * @return Writer instance.
+	 * @throws IOException Occurrence of any problems in writing the channel.
+	 */
+	public CsvWriter writeFloat(float value) throws IOException {
+		if (!Float.isNaN(value) && Math.abs(value) < MAXIMUM_FIXED) {
+			for (int decimals = 0; decimals <= MAXIMUM_DECIMALS; decimals++) {
+				long scaled = Math.round((double) value * POWERS_OF_TEN[decimals]);
+				if ((float) ((double) scaled / POWERS_OF_TEN[decimals]) == value) {
+					this.beginCell();
+					this.putFixed(scaled, decimals);
+					return this;
+				}
+			}
+		}
+		return this.writeText(Float.toString(value));
+	}
+
+	/**
+	 * Writes a cell with a date, as yyyy-MM-dd.
+	 *
+	 * @param date Value of the cell.
+	 * @return Writer instance.
+	 * @throws IOException Occurrence of any problems in writing the channel.
+	 */
+	public CsvWriter writeDate(LocalDate date) throws IOException {
+		this.beginCell();
+		this.putDigits(date.getYear(), 4);
+		this.buffer.put((byte) '-');
+		this.putDigits(date.getMonthValue(), 2);
+		this.buffer.put((byte) '-');
+		this.putDigits(date.getDayOfMonth(), 2);
+		return this;
+	}
+
+	/**
+	 * Writes an empty cell, for a null.
+	 *
+	 * @return Writer instance.
+	 * @throws IOException Occurrence of any problems in writing the channel.
+	 */
+	public CsvWriter writeNull() throws IOException {
+		this.beginCell();
+		return this;
+	}
+
+	/**
+	 * Ends the current line.
+	 *
+	 * @return Writer instance.
+	 * @throws IOException Occurrence of any problems in writing the channel.
+	 */
+	public CsvWriter endLine() throws IOException {
+		if (!this.buffer.hasRemaining()) {
+			this.flush();
+		}
+		this.buffer.put(LINE_SEPARATOR);
+		this.firstCell = true;
+		return this;
+	}
+
+	/**
+	 * @return Number of bytes written, including the bytes still in the buffer.
+	 */
+	public long getBytes() {
+		return this.bytes + this.buffer.position();
+	}
+
+	/**
+	 * Writes the bytes of the buffer to the channel.
+	 *
+	 * @throws IOException Occurrence of any problems in writing the channel.
+	 */
+	public void flush() throws IOException {
+		this.buffer.flip();
+		this.write(this.buffer);
+		this.buffer.clear();
+	}
+
+	/**
+	 * Writes the bytes of the buffer and closes the channel.
+	 *
+	 * @throws IOException Occurrence of any problems in writing the channel.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			this.flush();
+		} finally {
+			this.channel.close();
+		}
+	}
+
+	/**
+	 * Writes the separator before the cell, except for the first cell of the line, and makes room in the buffer for the cell.
+	 */
+	private void beginCell() throws IOException {
+		if (this.buffer.remaining() < MAXIMUM_CELL) {
+			this.flush();
+		}
+		if (this.firstCell) {
+			this.firstCell = false;
+		} else {
+			this.buffer.put(SEPARATOR);
+		}
+	}
+
+	/**
+	 * Puts a scaled integer with the informed number of decimal digits, as 234 with 1 decimal for 23.4.
+	 */
+	private void putFixed(long scaled, int decimals) {
+		if (scaled < 0) {
+			this.buffer.put((byte) '-');
+			scaled = -scaled;
+		}
+		int count = 0;
+		do {
+			this.digits[count++] = (byte) ('0' + (scaled % 10));
+			scaled /= 10;
+		} while (scaled != 0 || count <= decimals);
+		while (count > 0) {
+			if (count-- == decimals) {
+				this.buffer.put((byte) '.');
+			}
+			this.buffer.put(this.digits[count]);
+		}
+	}
+
+	/**
+	 * Puts a non-negative integer with at least the informed number of digits, padded with zeros.
+	 */
+	private void putDigits(int value, int width) {
+		int count = 0;
+		do {
+			this.digits[count++] = (byte) ('0' + (value % 10));
+			value /= 10;
+		} while (value != 0 || count < width);
+		while (count > 0) {
+			this.buffer.put(this.digits[--count]);
+		}
+	}
+
+	private void write(ByteBuffer source) throws IOException {
+		while (source.hasRemaining()) {
+			this.bytes += this.channel.write(source);
+		}
+	}
+}
@@ -0,0 +1,497 @@
+package br.embrapa.cnpaf.inmetdata.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <br>
+ * <p>
+ * <b>Writer of Parquet files with a flat schema of INT32, FLOAT and DATE columns, for the export of the hourly and daily data.</b>
+ * </p>
+ * <p>
+ * The rows are written one value per column (or null, for the optional columns) followed by endRow(), and kept by column in primitive arrays until
+ * <tt>rowGroupRows</tt> rows are buffered. Then they are written as a row group, with one data page (version 1, PLAIN encoding, optionally compressed
+ * with GZIP) per column, whose definition levels mark the nulls, and the arrays are reused. So the memory used does not depend on the number of rows of
+ * the file. The footer has the schema, the offsets and the statistics (minimum, maximum and number of nulls) of the column chunks, so the readers can
+ * skip the row groups out of the range of a filter.
+ * </p>
+ * <p>
+ * The Thrift metadata is written by ThriftCompactWriter, without depending on the Parquet and Hadoop libraries: the files follow the format
+ * specification and are read by any Parquet reader (Spark, pandas/pyarrow, DuckDB, R arrow).
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class ParquetWriter implements Closeable {
+
+	public static final String FILE_EXTENSION = ".parquet";
+	public static final int DEFAULT_ROW_GROUP_ROWS = 65536;
+	public static final String CREATED_BY = "INMETData";
+
+	private static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+	private static final int PAGE_TYPE_DATA = 0;
+	private static final int ENCODING_PLAIN = 0;
+	private static final int ENCODING_RLE = 3;
+	private static final int CODEC_UNCOMPRESSED = 0;
+	private static final int CODEC_GZIP = 2;
+	private static final int REPETITION_REQUIRED = 0;
+	private static final int REPETITION_OPTIONAL = 1;
+
+	/**
+	 * Types of the columns, with their physical and converted (logical) types in the Parquet format.
+	 */
+	public enum Type {
+		INT32(1, -1), FLOAT(4, -1), DATE(1, 6); // DATE: days since 1970-01-01
+
+		private final int physicalType;
+		private final int convertedType;
+
+		private Type(int physicalType, int convertedType) {
+			this.physicalType = physicalType;
+			this.convertedType = convertedType;
+		}
+	}
+
+	/**
+	 * Column of the schema.
+	 */
+	public static class Column {
+
+		private final String name;
+		private final Type type;
+		private final boolean optional;
+
+		/**
+		 * Public class constructor.
+		 *
+		 * @param name     Name of the column.
+		 * @param type     Type of the column.
+		 * @param optional If true, the column accepts nulls.
+		 */
+		public Column(String name, Type type, boolean optional) {
+			super();
+			this.name = name;
+			this.type = type;
+			this.optional = optional;
+		}
+
+		/**
+		 * @return the name
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the type
+		 */
+		public Type getType() {
+			return type;
+		}
+
+		/**
+		 * @return True if the column accepts nulls.
+		 */
+		public boolean isOptional() {
+			return optional;
+		}
+	}
+
+	/**
+	 * Values of a column in the current row group.
+	 */
+	private static class ColumnBuffer {
+
+		private final Column column;
+		private final int[] values; // values not null, floats as their bits
+		private final byte[] defined; // definition level of each row
+		private int rows;
+		private int count;
+		private int minimum;
+		private int maximum;
+		private boolean ranged;
+
+		private ColumnBuffer(Column column, int capacity) {
+			this.column = column;
+			this.values = new int[capacity];
+			this.defined = new byte[capacity];
+		}
+	}
+
+	/**
+	 * Metadata of a column chunk already written, for the footer.
+	 */
+	private static class ChunkMetadata {
+
+		private long offset;
+		private long uncompressedSize;
+		private long compressedSize;
+		private int values;
+		private int nulls;
+		private int minimum;
+		private int maximum;
+		private boolean ranged;
+	}
+
+	private final OutputStream out;
+	private final List<Column> columns;
+	private final int rowGroupRows;
+	private final boolean compressed;
+	private final ColumnBuffer[] buffers;
+	private final ByteArrayOutputStream page;
+	private final List<ChunkMetadata[]> rowGroups = new ArrayList<ChunkMetadata[]>();
+	private final List<Integer> rowGroupSizes = new ArrayList<Integer>();
+	private long position;
+	private int rows;
+	private long totalRows;
+	private boolean closed;
+
+	/**
+	 * Public class constructor, which writes the header of the file.
+	 *
+	 * @param out          Output stream of the file, closed by close().
+	 * @param columns      Columns of the schema.
+	 * @param rowGroupRows Maximum number of rows of each row group, which are buffered in memory.
+	 * @param compressed   If true, the pages are compressed with GZIP.
+	 * @throws IOException Occurrence of any problems in writing the stream.
+	 */
+	public ParquetWriter(OutputStream out, List<Column> columns, int rowGroupRows, boolean compressed) throws IOException {
+		super();
+		this.out = out;
+		this.columns = new ArrayList<Column>(columns);
+		this.rowGroupRows = rowGroupRows;
+		this.compressed = compressed;
+		this.buffers = new ColumnBuffer[columns.size()];
+		for (int column = 0; column < this.buffers.length; column++) {
+			this.buffers[column] = new ColumnBuffer(columns.get(column), rowGroupRows);
+		}
+		this.page = new ByteArrayOutputStream(rowGroupRows * 4 + 64);
+		this.write(MAGIC);
+	}
+
+	/**
+	 * Writes the value of an INT32 column in the current row.
+	 *
+	 * @param column Index of the column.
+	 * @param value  Value of the column.
+	 * @return Writer instance.
+	 */
+	public ParquetWriter writeInt(int column, int value) {
+		ColumnBuffer buffer = this.getBuffer(column, Type.INT32);
+		this.append(buffer, value, true);
+		return this;
+	}
+
+	/**
+	 * Writes the value of a FLOAT column in the current row.
+	 *
+	 * @param column Index of the column.
+	 * @param value  Value of the column.
+	 * @return Writer instance.
+	 */
+	public ParquetWriter writeFloat(int column, float value) {
+		ColumnBuffer buffer = this.getBuffer(column, Type.FLOAT);
+		this.append(buffer, Float.floatToRawIntBits(value), false);
+		if (Float.isNaN(value)) {
+			return this;
+		}
+		if (!buffer.ranged || value < Float.intBitsToFloat(buffer.minimum)) {
+			buffer.minimum = Float.floatToRawIntBits(value);
+		}
+		if (!buffer.ranged || value > Float.intBitsToFloat(buffer.maximum)) {
+			buffer.maximum = Float.floatToRawIntBits(value);
+		}
+		buffer.ranged = true;
+		return this;
+	}
+
+	/**
+	 * Writes the value of a DATE column in the current row.
+	 *
+	 * @param column Index of the column.
+	 * @param date   Value of the column.
+	 * @return Writer instance.
+	 */
+	public ParquetWriter writeDate(int column, LocalDate date) {
+		ColumnBuffer buffer = this.getBuffer(column, Type.DATE);
+		this.append(buffer, (int) date.toEpochDay(), true);
+		return this;
+	}
+
+	/**
+	 * Writes a null in an optional column in the current row.
+	 *
+	 * @param column Index of the column.
+	 * @return Writer instance.
+	 */
+	public ParquetWriter writeNull(int column) {
+		ColumnBuffer buffer = this.getBuffer(column, null);
+		if (!buffer.column.isOptional()) {
+			throw new IllegalArgumentException("Column " + buffer.column.getName() + " does not accept nulls");
+		}
+		buffer.defined[buffer.rows++] = 0;
+		return this;
+	}
+
+	/**
+	 * Ends the current row, after a value was written in each column. When the row group is full, it is written in the file.
+	 *
+	 * @return Writer instance.
+	 * @throws IOException Occurrence of any problems in writing the stream.
+	 */
+	public ParquetWriter endRow() throws IOException {
+		for (ColumnBuffer buffer : this.buffers) {
+			if (buffer.rows != this.rows + 1) {
+				throw new IllegalStateException("Column " + buffer.column.getName() + " not written in row " + this.totalRows);
+			}
+		}
+		this.rows++;
+		this.totalRows++;
+		if (this.rows == this.rowGroupRows) {
+			this.writeRowGroup();
+		}
+		return this;
+	}
+
+	/**
+	 * @return Number of rows written.
+	 */
+	public long getRows() {
+		return this.totalRows;
+	}
+
+	/**
+	 * @return Number of bytes written, without the footer.
+	 */
+	public long getPosition() {
+		return this.position;
+	}
+
+	/**
+	 * @return Columns of the schema.
+	 */
+	public List<Column> getColumns() {
+		return this.columns;
+	}
+
+	/**
+	 * Writes the rows buffered and the footer, and closes the stream.
+	 *
+	 * @throws IOException Occurrence of any problems in writing the stream.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		try {
+			if (this.rows > 0) {
+				this.writeRowGroup();
+			}
+			byte[] footer = this.getFooter();
+			this.write(footer);
+			this.write(new byte[] { (byte) footer.length, (byte) (footer.length >>> 8), (byte) (footer.length >>> 16), (byte) (footer.length >>> 24) });
+			this.write(MAGIC);
+		} finally {
+			this.out.close();
+		}
+	}
+
+	/**
+	 * Retrieves the buffer of a column, checking its type and that it was not written in the current row yet.
+	 */
+	private ColumnBuffer getBuffer(int column, Type type) {
+		ColumnBuffer buffer = this.buffers[column];
+		if (type != null && buffer.column.getType() != type) {
+			throw new IllegalArgumentException("Column " + buffer.column.getName() + " is not of type " + type);
+		}
+		if (buffer.rows != this.rows) {
+			throw new IllegalStateException("Column " + buffer.column.getName() + " already written in row " + this.totalRows);
+		}
+		return buffer;
+	}
+
+	/**
+	 * Appends a value not null to a column, updating its range if the value is an integer.
+	 */
+	private void append(ColumnBuffer buffer, int value, boolean integer) {
+		buffer.defined[buffer.rows++] = 1;
+		buffer.values[buffer.count++] = value;
+		if (integer) {
+			buffer.minimum = (!buffer.ranged || value < buffer.minimum) ? value : buffer.minimum;
+			buffer.maximum = (!buffer.ranged || value > buffer.maximum) ? value : buffer.maximum;
+			buffer.ranged = true;
+		}
+	}
+
+	/**
+	 * Writes the buffered rows as a row group, with a column chunk of a single data page per column, and clears the buffers.
+	 */
+	private void writeRowGroup() throws IOException {
+		ChunkMetadata[] chunks = new ChunkMetadata[this.buffers.length];
+		for (int column = 0; column < this.buffers.length; column++) {
+			ColumnBuffer buffer = this.buffers[column];
+			ChunkMetadata chunk = new ChunkMetadata();
+			chunk.offset = this.position;
+			chunk.values = buffer.rows;
+			chunk.nulls = buffer.rows - buffer.count;
+			chunk.minimum = buffer.minimum;
+			chunk.maximum = buffer.maximum;
+			chunk.ranged = buffer.ranged;
+
+			// definition levels (nulls) and values
+			this.page.reset();
+			if (buffer.column.isOptional()) {
+				byte[] levels = encodeLevels(buffer.defined, buffer.rows);
+				writeIntLE(this.page, levels.length);
+				this.page.write(levels, 0, levels.length);
+			}
+			for (int index = 0; index < buffer.count; index++) {
+				writeIntLE(this.page, buffer.values[index]);
+			}
+			byte[] body = this.page.toByteArray();
+			int uncompressedSize = body.length;
+			if (this.compressed) {
+				ByteArrayOutputStream gzipped = new ByteArrayOutputStream(body.length / 2 + 32);
+				try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+					gzip.write(body);
+				}
+				body = gzipped.toByteArray();
+			}
+
+			// page header and page
+			byte[] header = new ThriftCompactWriter().beginStruct() //
+					.writeI32(1, PAGE_TYPE_DATA) //
+					.writeI32(2, uncompressedSize) //
+					.writeI32(3, body.length) //
+					.beginStruct(5) //
+					.writeI32(1, buffer.rows) //
+					.writeI32(2, ENCODING_PLAIN) //
+					.writeI32(3, ENCODING_RLE) //
+					.writeI32(4, ENCODING_RLE) //
+					.endStruct() //
+					.endStruct().toByteArray();
+			this.write(header);
+			this.write(body);
+			chunk.uncompressedSize = header.length + uncompressedSize;
+			chunk.compressedSize = header.length + body.length;
+			chunks[column] = chunk;
+
+			// reusing the buffer in the next row group
+			buffer.rows = 0;
+			buffer.count = 0;
+			buffer.ranged = false;
+		}
+		this.rowGroups.add(chunks);
+		this.rowGroupSizes.add(this.rows);
+		this.rows = 0;
+	}
+
+	/**
+	 * Encodes the definition levels (0 for null, 1 for a value) in runs of the RLE/bit-packing hybrid encoding with bit width 1.
+	 */
+	private static byte[] encodeLevels(byte[] defined, int rows) {
+		ByteArrayOutputStream levels = new ByteArrayOutputStream();
+		int first = 0;
+		while (first < rows) {
+			int end = first + 1;
+			while (end < rows && defined[end] == defined[first]) {
+				end++;
+			}
+			writeVarint(levels, (long) (end - first) << 1);
+			levels.write(defined[first]);
+			first = end;
+		}
+		return levels.toByteArray();
+	}
+
+	/**
+	 * Builds the footer (FileMetaData) with the schema and the row groups written.
+	 */
+	private byte[] getFooter() {
+		ThriftCompactWriter footer = new ThriftCompactWriter().beginStruct();
+		footer.writeI32(1, 1);
+
+		// schema: the root and its columns
+		footer.beginList(2, ThriftCompactWriter.TYPE_STRUCT, this.columns.size() + 1);
+		footer.beginStruct().writeString(4, "schema").writeI32(5, this.columns.size()).endStruct();
+		for (Column column : this.columns) {
+			footer.beginStruct() //
+					.writeI32(1, column.getType().physicalType) //
+					.writeI32(3, column.isOptional() ? REPETITION_OPTIONAL : REPETITION_REQUIRED) //
+					.writeString(4, column.getName());
+			if (column.getType().convertedType >= 0) {
+				footer.writeI32(6, column.getType().convertedType);
+			}
+			footer.endStruct();
+		}
+		footer.writeI64(3, this.totalRows);
+
+		// row groups
+		footer.beginList(4, ThriftCompactWriter.TYPE_STRUCT, this.rowGroups.size());
+		for (int group = 0; group < this.rowGroups.size(); group++) {
+			ChunkMetadata[] chunks = this.rowGroups.get(group);
+			long totalSize = 0;
+			footer.beginStruct().beginList(1, ThriftCompactWriter.TYPE_STRUCT, chunks.length);
+			for (int column = 0; column < chunks.length; column++) {
+				ChunkMetadata chunk = chunks[column];
+				Column schema = this.columns.get(column);
+				totalSize += chunk.uncompressedSize;
+				footer.beginStruct().writeI64(2, chunk.offset).beginStruct(3);
+				footer.writeI32(1, schema.getType().physicalType);
+				footer.beginList(2, ThriftCompactWriter.TYPE_I32, 2).writeI32Element(ENCODING_PLAIN).writeI32Element(ENCODING_RLE);
+				footer.beginList(3, ThriftCompactWriter.TYPE_BINARY, 1).writeStringElement(schema.getName());
+				footer.writeI32(4, this.compressed ? CODEC_GZIP : CODEC_UNCOMPRESSED);
+				footer.writeI64(5, chunk.values);
+				footer.writeI64(6, chunk.uncompressedSize);
+				footer.writeI64(7, chunk.compressedSize);
+				footer.writeI64(9, chunk.offset);
+
+				// statistics: number of nulls, maximum and minimum
+				footer.beginStruct(12).writeI64(3, chunk.nulls);
+				if (chunk.ranged) {
+					footer.writeBinary(5, toBytesLE(chunk.maximum)).writeBinary(6, toBytesLE(chunk.minimum));
+				}
+				footer.endStruct().endStruct().endStruct();
+			}
+			footer.writeI64(2, totalSize).writeI64(3, this.rowGroupSizes.get(group)).endStruct();
+		}
+		footer.writeString(6, CREATED_BY);
+		return footer.endStruct().toByteArray();
+	}
+
+	private void write(byte[] bytes) throws IOException {
+		this.out.write(bytes);
+		this.position += bytes.length;
+	}
+
+	private static void writeIntLE(ByteArrayOutputStream out, int value) {
+		out.write(value);
+		out.write(value >>> 8);
+		out.write(value >>> 16);
+		out.write(value >>> 24);
+	}
+
+	private static byte[] toBytesLE(int value) {
+		return new byte[] { (byte) value, (byte) (value >>> 8), (byte) (value >>> 16), (byte) (value >>> 24) };
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+}
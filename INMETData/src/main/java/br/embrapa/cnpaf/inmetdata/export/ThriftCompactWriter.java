@@ -0,0 +1,160 @@
+package br.embrapa.cnpaf.inmetdata.export;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <br>
+ * <p>
+ * <b>Writer of the Thrift compact protocol, used for the page headers and the footer of the Parquet files (ParquetWriter).</b>
+ * </p>
+ * <p>
+ * Only the types used by the Parquet metadata are written: i32 (and enums), i64, binary (and strings), lists and structs. Each field header has the
+ * difference from the identifier of the previous field of the same struct, so the identifiers of each struct must be written in increasing order.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+class ThriftCompactWriter {
+
+	static final int TYPE_I32 = 5;
+	static final int TYPE_I64 = 6;
+	static final int TYPE_BINARY = 8;
+	static final int TYPE_LIST = 9;
+	static final int TYPE_STRUCT = 12;
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+	private int[] lastField = new int[8];
+	private int depth;
+
+	/**
+	 * Writes an i32 (or enum) field.
+	 */
+	ThriftCompactWriter writeI32(int field, int value) {
+		this.writeFieldHeader(field, TYPE_I32);
+		this.writeVarint(zigzag(value));
+		return this;
+	}
+
+	/**
+	 * Writes an i64 field.
+	 */
+	ThriftCompactWriter writeI64(int field, long value) {
+		this.writeFieldHeader(field, TYPE_I64);
+		this.writeVarint(zigzag(value));
+		return this;
+	}
+
+	/**
+	 * Writes a binary field.
+	 */
+	ThriftCompactWriter writeBinary(int field, byte[] value) {
+		this.writeFieldHeader(field, TYPE_BINARY);
+		this.writeBinary(value);
+		return this;
+	}
+
+	/**
+	 * Writes a string field, in UTF-8.
+	 */
+	ThriftCompactWriter writeString(int field, String value) {
+		return this.writeBinary(field, value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Writes the header of a list field, to be followed by its elements.
+	 */
+	ThriftCompactWriter beginList(int field, int elementType, int size) {
+		this.writeFieldHeader(field, TYPE_LIST);
+		if (size < 15) {
+			this.out.write((size << 4) | elementType);
+		} else {
+			this.out.write(0xF0 | elementType);
+			this.writeVarint(size);
+		}
+		return this;
+	}
+
+	/**
+	 * Writes an i32 (or enum) element of a list.
+	 */
+	ThriftCompactWriter writeI32Element(int value) {
+		this.writeVarint(zigzag(value));
+		return this;
+	}
+
+	/**
+	 * Writes a string element of a list, in UTF-8.
+	 */
+	ThriftCompactWriter writeStringElement(String value) {
+		this.writeBinary(value.getBytes(StandardCharsets.UTF_8));
+		return this;
+	}
+
+	/**
+	 * Begins a struct field, whose fields are written until endStruct().
+	 */
+	ThriftCompactWriter beginStruct(int field) {
+		this.writeFieldHeader(field, TYPE_STRUCT);
+		return this.beginStruct();
+	}
+
+	/**
+	 * Begins a struct, the top-level one or an element of a list, whose fields are written until endStruct().
+	 */
+	ThriftCompactWriter beginStruct() {
+		if (++this.depth == this.lastField.length) {
+			this.lastField = Arrays.copyOf(this.lastField, this.depth * 2);
+		}
+		this.lastField[this.depth] = 0;
+		return this;
+	}
+
+	/**
+	 * Ends the current struct.
+	 */
+	ThriftCompactWriter endStruct() {
+		this.out.write(0);
+		this.depth--;
+		return this;
+	}
+
+	/**
+	 * @return Bytes written.
+	 */
+	byte[] toByteArray() {
+		return this.out.toByteArray();
+	}
+
+	private void writeFieldHeader(int field, int type) {
+		int delta = field - this.lastField[this.depth];
+		if (delta > 0 && delta <= 15) {
+			this.out.write((delta << 4) | type);
+		} else {
+			this.out.write(type);
+			this.writeVarint(zigzag(field));
+		}
+		this.lastField[this.depth] = field;
+	}
+
+	private void writeBinary(byte[] value) {
+		this.writeVarint(value.length);
+		this.out.write(value, 0, value.length);
+	}
+
+	private void writeVarint(long value) {
+		while ((value & ~0x7FL) != 0) {
+			this.out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		this.out.write((int) value);
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+}
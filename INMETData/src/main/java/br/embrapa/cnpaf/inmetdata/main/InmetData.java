@@ -1,29 +1,51 @@
 package br.embrapa.cnpaf.inmetdata.main;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
 import br.embrapa.cnpaf.inmetdata.dao.InmetCityDataDAO;
+import br.embrapa.cnpaf.inmetdata.dao.InmetDeadLetterDAO;
 import br.embrapa.cnpaf.inmetdata.dao.InmetDiarlyDataDAO;
+import br.embrapa.cnpaf.inmetdata.dao.InmetDirtyDayDAO;
 import br.embrapa.cnpaf.inmetdata.dao.InmetHourlyDataDAO;
+import br.embrapa.cnpaf.inmetdata.dao.InmetJournalDAO;
 import br.embrapa.cnpaf.inmetdata.dao.InmetStateDataDAO;
 import br.embrapa.cnpaf.inmetdata.dao.InmetStationDAO;
+import br.embrapa.cnpaf.inmetdata.dao.SchemaVersionDAO;
+import br.embrapa.cnpaf.inmetdata.entity.InmetDeadLetterEntity;
 import br.embrapa.cnpaf.inmetdata.entity.InmetDiarlyDataEntity;
-import br.embrapa.cnpaf.inmetdata.entity.InmetHourlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetJournalEntity;
 import br.embrapa.cnpaf.inmetdata.entity.InmetStateEntily;
 import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
 import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
 import br.embrapa.cnpaf.inmetdata.exception.GenericException;
 import br.embrapa.cnpaf.inmetdata.exception.PersistenceException;
 import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.metric.MetricGauge;
 import br.embrapa.cnpaf.inmetdata.period.period;
+import br.embrapa.cnpaf.inmetdata.pipeline.IngestionPipeline;
+import br.embrapa.cnpaf.inmetdata.queue.IngestionQueue;
 import br.embrapa.cnpaf.inmetdata.service.ConfigurationService;
+import br.embrapa.cnpaf.inmetdata.service.ExportService;
 import br.embrapa.cnpaf.inmetdata.service.InmetService;
 import br.embrapa.cnpaf.inmetdata.service.LogService;
 import br.embrapa.cnpaf.inmetdata.service.MessageService;
+import br.embrapa.cnpaf.inmetdata.service.MetricsHttpService;
+import br.embrapa.cnpaf.inmetdata.service.MetricsService;
+import br.embrapa.cnpaf.inmetdata.service.SchedulerService;
 import br.embrapa.cnpaf.inmetdata.service.TimeService;
+import br.embrapa.cnpaf.inmetdata.util.CronExpression;
 import br.embrapa.cnpaf.inmetdata.util.ErrorUtil;
 import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+import br.embrapa.cnpaf.inmetdata.util.ThreadUtil;
 
 /**
  * <br>
@@ -40,8 +62,13 @@ import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
 public class InmetData {
 
 	public static final String MSG_ERROR_INIT_SYSTEM = "Could not start the system: ";
+	public static final Duration SHUTDOWN_TIMEOUT = Duration.ofMinutes(5);
+	public static final String REPLAY_ARGUMENT = "--replay";
+	public static final String EXPORT_ARGUMENT = "--export";
+	public static final String RECOMPUTE_ARGUMENT = "--recompute";
 
 	private static InmetData instance;
+	private static volatile boolean stopRequested;
 	private LogService logService;
 
 	/**
@@ -58,6 +85,7 @@ public class InmetData {
 		// initializing log service
 		this.logService = new LogService(MessageService.getInstanceOf(), InmetData.class.getSimpleName(),
 				ConfigurationService.getInstanceOf().getLogLevel());
+		ConfigurationService.getInstanceOf().addListener(configuration -> this.logService.setLogLevel(configuration.getLogLevel()));
 
 		// writing of the system activation details in log
 		this.success(MessageEnum.INMETDATA_INFO_SUCCESS_CREATE, NetworkUtil.getLocalIpAddress());
@@ -85,12 +113,21 @@ public class InmetData {
 	 */
 	private static void init() throws ServiceException {
 		try {
+			// validating the configuration and watching its file for changes
+			ConfigurationService.getInstanceOf().validate().startReload();
+
+			// checking the database schema, creating or migrating it only when needed
+			SchemaVersionDAO.getInstanceOf().migrate();
+
 			// initializing DAOs
 			InmetStateDataDAO.getInstanceOf();
 			InmetCityDataDAO.getInstanceOf();
 			InmetStationDAO.getInstanceOf();
 			InmetHourlyDataDAO.getInstanceOf();
 			InmetDiarlyDataDAO.getInstanceOf();
+			InmetJournalDAO.getInstanceOf();
+			InmetDeadLetterDAO.getInstanceOf();
+			InmetDirtyDayDAO.getInstanceOf();
 
 			// initializing services
 			TimeService.getInstanceOf();
@@ -157,7 +194,66 @@ public class InmetData {
 	}
 
 	/**
-	 * Main method for system activation
+	 * Writes in log the summary of the metrics collected during the execution.
+	 * 
+	 * @return InmetData instance.
+	 */
+	private InmetData writeMetricsSummary() {
+		for (String metric : MetricsService.getInstanceOf().getSummary()) {
+			this.success(MessageEnum.INMETDATA_INFO_METRICS_SUMMARY, NetworkUtil.getLocalIpAddress(), metric);
+		}
+		return this;
+	}
+
+	/**
+	 * Runs the ingestion at the times of the cron expression until the JVM is
+	 * terminated (SIGTERM or Ctrl+C). The JVM, the INMET client and the database
+	 * connection are kept between the executions, and on termination the execution
+	 * in progress stops after writing the periods already fetched, and the
+	 * ingestion journal allows to resume the remaining ones in the next execution.
+	 * 
+	 * @param expression Cron expression with the times of the executions.
+	 * @throws GenericException Occurrence of any problems in starting the
+	 *                          scheduler.
+	 */
+	private static void daemon(CronExpression expression) throws GenericException {
+		SchedulerService scheduler = SchedulerService.getInstanceOf();
+
+		// stopping gracefully on termination
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			stopRequested = true;
+			scheduler.stop(SHUTDOWN_TIMEOUT);
+			try {
+				InmetData.getInstanceOf().writeMetricsSummary();
+				MetricsHttpService.getInstanceOf().stop();
+			} catch (GenericException e) {
+			}
+		}, InmetData.class.getSimpleName() + "Shutdown"));
+
+		// scheduling the ingestion
+		scheduler.start(expression, () -> {
+			try {
+				run();
+			} catch (GenericException e) {
+				throw new IllegalStateException(e.getMessage(), e);
+			}
+		});
+		try {
+			scheduler.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Main method for system activation.<br>
+	 * If the system property <tt>inmetdata.schedule</tt> is informed, the system
+	 * runs in daemon mode, otherwise it runs the ingestion once and exits. With
+	 * the argument <tt>--replay</tt>, only the periods recorded as dead letters
+	 * are ingested again, once, with the argument <tt>--export</tt>, the data
+	 * already ingested are exported to Parquet files, without ingesting, and with
+	 * the argument <tt>--recompute</tt>, only the daily data of the dirty days
+	 * are recomputed from the hourly data stored, without downloading.
 	 * 
 	 * @param args Command-Line Arguments.
 	 * @throws PersistenceException Occurrence of any problems at start of system
@@ -168,61 +264,301 @@ public class InmetData {
 			// Starting services
 			init();
 
-			// Starting variables
-			List<InmetStationEntity> inmetStationEntities;
-			List<InmetHourlyDataEntity> hourlyData;
-			List<InmetDiarlyDataEntity> diarlyData;
-			List<period> periods;
-			LocalDate maxDate;
-			LocalDate yesterday;
-			
-			//populando tabela
-			InmetStateDataDAO.getInstanceOf().startRecords();
-			InmetCityDataDAO.getInstanceOf().startRecords();
-			InmetStationDAO.getInstanceOf().startRecords();
-
-			// Getting information to start
-			inmetStationEntities = InmetStationDAO.getInstanceOf().list();
-			yesterday = TimeService.getInstanceOf().getDate().minusDays(1);
-
-			// Scrolling through stations list
-			for (InmetStationEntity entity : inmetStationEntities) {
-				// Getting periods
-				maxDate = InmetDiarlyDataDAO.getInstanceOf().getBiggerDateByStation(entity.getId());
-				maxDate = (maxDate != null) ? maxDate : entity.getStartDate();
-				periods = TimeService.getInstanceOf().intervalos(maxDate, yesterday);
-
-				// Scrolling through periods
-				for (period period : periods) {
-
-					// getting daily data
-					hourlyData = InmetService.getInstanceOf().getHourlyData(entity, period.getStart(), period.getEnd());
-					if (hourlyData != null) {
-						// getting daily data
-						diarlyData = InmetService.getInstanceOf().getDailyData(hourlyData);
-
-						// inserting hourly data
-						for (int i = 0; i < hourlyData.size(); i++) {
-							if (hourlyData.get(i).getMeasurementDate().isAfter(maxDate)) {
-								InmetHourlyDataDAO.getInstanceOf().save(hourlyData.get(i));
-							}
-						}
-
-						// inserting daily data
-						for (int i = 0; i < diarlyData.size(); i++) {
-							if (diarlyData.get(i).getMeasurementDate().isAfter(maxDate)) {
-								InmetDiarlyDataDAO.getInstanceOf().save(diarlyData.get(i));
-							}
-						}
-					} else {
-						break;
-					}
-				}
+			// starting the metrics endpoint, if enabled
+			int metricsPort = ConfigurationService.getInstanceOf().getMetricsPort();
+			if (metricsPort > 0) {
+				MetricsHttpService.getInstanceOf().start(metricsPort);
+			}
+
+			// replaying only the failed periods or running as daemon, if a schedule is informed
+			String schedule = ConfigurationService.getInstanceOf().getSchedule();
+			if (Arrays.asList(args).contains(REPLAY_ARGUMENT)) {
+				replay();
+			} else if (Arrays.asList(args).contains(EXPORT_ARGUMENT)) {
+				export();
+			} else if (Arrays.asList(args).contains(RECOMPUTE_ARGUMENT)) {
+				recompute();
+			} else if (!schedule.isEmpty()) {
+				daemon(CronExpression.parse(schedule));
+				return;
+			} else {
+				// ingesting the data of all stations
+				run();
 			}
+
 		} catch (GenericException e) {
 			new GenericException(e);
 		}
-		// ending execution
-		System.exit(0);
+
+		// writing the metrics collected during the execution
+		try {
+			InmetData.getInstanceOf().writeMetricsSummary();
+			MetricsHttpService.getInstanceOf().stop();
+		} catch (GenericException e) {
+		}
+	}
+
+	/**
+	 * Ingests the hourly and daily data of the stations, from the last date saved
+	 * in the database server until yesterday.<br>
+	 * The state of each period is recorded in the ingestion journal, so if a
+	 * previous execution was interrupted, the periods not completely persisted are
+	 * cleaned and ingested again before the new ones.<br>
+	 * If the system property <tt>inmetdata.stations</tt> is informed, only the
+	 * listed stations are ingested.
+	 * 
+	 * @throws GenericException Occurrence of any problems in the ingestion of the
+	 *                          data.
+	 */
+	public static void run() throws GenericException {
+
+		// Starting services
+		init();
+
+		// Starting variables
+		List<InmetStationEntity> inmetStationEntities = new ArrayList<InmetStationEntity>();
+		List<period> periods;
+		List<InmetJournalEntity> pendingPeriods;
+		LocalDate maxDate;
+		LocalDate yesterday;
+		Set<String> stations = ConfigurationService.getInstanceOf().getStations();
+		Map<String, Integer> priorities = ConfigurationService.getInstanceOf().getStationPriorities();
+		IngestionQueue queue = new IngestionQueue();
+
+		// Getting information to start
+		for (InmetStationEntity entity : InmetStationDAO.getInstanceOf().list()) {
+			if (stations.isEmpty() || stations.contains(entity.getCode())) {
+				inmetStationEntities.add(entity);
+			}
+		}
+		yesterday = TimeService.getInstanceOf().getDate().minusDays(1);
+		MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_STATIONS).set(inmetStationEntities.size());
+		MetricGauge stationsCompleted = MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_STATIONS_COMPLETED);
+		stationsCompleted.set(0);
+		MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_QUEUE_WORK_ITEMS).setSupplier(queue::size);
+
+		// Planning the periods of the stations
+		for (InmetStationEntity entity : inmetStationEntities) {
+			MetricGauge stationLastDate = MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_STATION_LAST_DATE, MetricsService.TAG_STATION, entity.getCode());
+
+			// discarding the rows of the periods interrupted in a previous execution
+			periods = new ArrayList<period>();
+			pendingPeriods = InmetJournalDAO.getInstanceOf().listPendingByStation(entity.getId());
+			for (InmetJournalEntity pendingPeriod : pendingPeriods) {
+				InmetHourlyDataDAO.getInstanceOf().removeByStationAndPeriod(entity.getId(), pendingPeriod.getStartDate(), pendingPeriod.getEndDate());
+				InmetDiarlyDataDAO.getInstanceOf().removeByStationAndPeriod(entity.getId(), pendingPeriod.getStartDate(), pendingPeriod.getEndDate());
+				periods.add(pendingPeriod.getPeriod());
+			}
+			if (!pendingPeriods.isEmpty()) {
+				InmetData.getInstanceOf().success(MessageEnum.INMETDATA_INFO_RESUME_PERIODS, NetworkUtil.getLocalIpAddress(), entity.getCode(), String.valueOf(pendingPeriods.size()));
+			}
+
+			// Getting periods
+			maxDate = InmetDiarlyDataDAO.getInstanceOf().getBiggerDateByStation(entity.getId());
+			maxDate = (maxDate != null) ? maxDate : entity.getStartDate();
+			stationLastDate.set(maxDate.toEpochDay() * 86400L);
+			if (periods.isEmpty() || !maxDate.isBefore(periods.get(periods.size() - 1).getEnd())) {
+				// periods written out of order may have left data after the resumed ones
+				periods.addAll(TimeService.getInstanceOf().intervalos(maxDate, yesterday));
+			} else {
+				periods.addAll(TimeService.getInstanceOf().intervalos(periods.get(periods.size() - 1).getEnd().plusDays(1), yesterday));
+			}
+			InmetJournalDAO.getInstanceOf().plan(entity, periods);
+
+			// queueing the periods by priority, state and staleness
+			queue.add(entity, priorities.getOrDefault(entity.getCode(), ConfigurationService.STATION_PRIORITY_DEFAULT), maxDate, periods);
+			if (periods.isEmpty()) {
+				stationsCompleted.set(stationsCompleted.getValue() + 1);
+			}
+		}
+
+		// Ingesting the queued periods, overlapping the downloads with the parse, aggregation and writes
+		ConfigurationService configuration = ConfigurationService.getInstanceOf();
+		IngestionPipeline pipeline = new IngestionPipeline(queue, () -> stopRequested, configuration.getPipelineFetchThreads(), configuration.getPipelineParseThreads(),
+				configuration.getPipelineAggregateThreads(), configuration.getPipelineQueueCapacity());
+		if (ConfigurationService.PIPELINE_FETCH_MODE_VIRTUAL.equals(configuration.getPipelineFetchMode())) {
+			if (ThreadUtil.isVirtualThreadSupported()) {
+				pipeline.setVirtualFetch(configuration.getPipelineFetchConcurrency());
+			} else {
+				InmetData.getInstanceOf().success(MessageEnum.INMETDATA_INFO_VIRTUAL_THREADS_UNSUPPORTED, NetworkUtil.getLocalIpAddress(), System.getProperty("java.version"));
+			}
+		}
+		pipeline.run();
+	}
+
+	/**
+	 * Exports the hourly and daily data of the stations to Parquet files,
+	 * partitioned by state, station and year, in the directory informed by
+	 * <tt>inmetdata.export.directory</tt> (see ExportService). With
+	 * <tt>inmetdata.export.format=csv</tt>, only the daily data are exported, to a
+	 * CSV file per station, written in parallel. If the system property
+	 * <tt>inmetdata.stations</tt> is informed, only the listed stations are
+	 * exported. The failure of a station is logged and the export continues with
+	 * the next ones.
+	 * 
+	 * @throws GenericException Occurrence of any problems in retrieving the
+	 *                          stations.
+	 */
+	public static void export() throws GenericException {
+
+		// Starting services
+		init();
+
+		// Getting the stations
+		Set<String> stations = ConfigurationService.getInstanceOf().getStations();
+		List<InmetStationEntity> inmetStationEntities = new ArrayList<InmetStationEntity>();
+		for (InmetStationEntity entity : InmetStationDAO.getInstanceOf().list()) {
+			if (stations.isEmpty() || stations.contains(entity.getCode())) {
+				inmetStationEntities.add(entity);
+			}
+		}
+
+		// Exporting the daily data of all stations at once to CSV
+		if (ConfigurationService.EXPORT_FORMAT_CSV.equals(ConfigurationService.getInstanceOf().getExportFormat())) {
+			ExportService.getInstanceOf().exportDailyCsv(inmetStationEntities);
+			return;
+		}
+
+		// Exporting the stations to Parquet, one at a time
+		for (InmetStationEntity entity : inmetStationEntities) {
+			try {
+				ExportService.getInstanceOf().export(entity);
+			} catch (ServiceException e) {
+				// already written in log, the next stations are exported
+			}
+		}
+	}
+
+	/**
+	 * Ingests again only the periods recorded as dead letters, for example, after
+	 * an outage of the INMET web service, using <tt>inmetdata.replay.threads</tt>
+	 * threads in the fetch stage. The rows of the periods are removed before, so
+	 * they are written again from scratch. The periods that fail again have their
+	 * dead letters updated.
+	 * 
+	 * @throws GenericException Occurrence of any problems in the ingestion of the
+	 *                          data.
+	 */
+	public static void replay() throws GenericException {
+
+		// Starting services
+		init();
+
+		// Starting variables
+		Map<Long, List<InmetDeadLetterEntity>> deadLetters = new LinkedHashMap<Long, List<InmetDeadLetterEntity>>();
+		Map<String, Integer> priorities = ConfigurationService.getInstanceOf().getStationPriorities();
+		IngestionQueue queue = new IngestionQueue();
+		List<period> periods;
+
+		// Grouping the dead letters by station, in the order of the periods
+		List<InmetDeadLetterEntity> entities = InmetDeadLetterDAO.getInstanceOf().list();
+		for (InmetDeadLetterEntity deadLetter : entities) {
+			deadLetters.computeIfAbsent(deadLetter.getStation().getId(), key -> new ArrayList<InmetDeadLetterEntity>()).add(deadLetter);
+		}
+		InmetData.getInstanceOf().success(MessageEnum.INMETDATA_INFO_REPLAY_DEAD_LETTERS, NetworkUtil.getLocalIpAddress(), String.valueOf(entities.size()),
+				String.valueOf(deadLetters.size()));
+		MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_STATIONS).set(deadLetters.size());
+		MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_STATIONS_COMPLETED).set(0);
+		MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_QUEUE_WORK_ITEMS).setSupplier(queue::size);
+
+		// Planning the failed periods of the stations
+		for (List<InmetDeadLetterEntity> stationDeadLetters : deadLetters.values()) {
+			InmetStationEntity entity = stationDeadLetters.get(0).getStation();
+			periods = new ArrayList<period>();
+			for (InmetDeadLetterEntity deadLetter : stationDeadLetters) {
+				InmetHourlyDataDAO.getInstanceOf().removeByStationAndPeriod(entity.getId(), deadLetter.getStartDate(), deadLetter.getEndDate());
+				InmetDiarlyDataDAO.getInstanceOf().removeByStationAndPeriod(entity.getId(), deadLetter.getStartDate(), deadLetter.getEndDate());
+				periods.add(deadLetter.getPeriod());
+			}
+			InmetJournalDAO.getInstanceOf().plan(entity, periods);
+
+			// no period contains the last date, so all the rows fetched are written
+			queue.add(entity, priorities.getOrDefault(entity.getCode(), ConfigurationService.STATION_PRIORITY_DEFAULT), periods.get(0).getStart().minusDays(1),
+					periods);
+		}
+
+		// Ingesting the failed periods with the concurrency of the replay
+		ConfigurationService configuration = ConfigurationService.getInstanceOf();
+		new IngestionPipeline(queue, () -> stopRequested, configuration.getReplayThreads(), configuration.getPipelineParseThreads(),
+				configuration.getPipelineAggregateThreads(), configuration.getPipelineQueueCapacity()).run();
+	}
+
+	/**
+	 * Recomputes only the daily data of the dirty days, the days whose hourly
+	 * data was inserted, corrected or removed in the database after their daily
+	 * data was aggregated, from the hourly data stored instead of downloading the
+	 * whole years again. The hourly data of the days are aggregated by
+	 * InmetService.getDailyData(HourlyBatch), with the same rules of the
+	 * ingestion, so the work is proportional to the days changed. The days
+	 * changed again during the recomputation stay dirty, except for a change
+	 * committed after its day was recomputed by a transaction whose statement ran
+	 * before the recomputation started (see InmetDirtyDayDAO).
+	 * 
+	 * @throws GenericException Occurrence of any problems in retrieving the
+	 *                          dirty days.
+	 */
+	public static void recompute() throws GenericException {
+
+		// Starting services
+		init();
+
+		// Getting the days marked until now, by the clock of the database, grouped by station
+		LocalDateTime markedDateTime = InmetDirtyDayDAO.getInstanceOf().getDatabaseDateTime();
+		Map<Long, List<LocalDate>> dirtyDays = InmetDirtyDayDAO.getInstanceOf().listDatesByStation(markedDateTime);
+
+		// Getting the stations with dirty days
+		Set<String> stations = ConfigurationService.getInstanceOf().getStations();
+		List<InmetStationEntity> inmetStationEntities = new ArrayList<InmetStationEntity>();
+		int days = 0;
+		for (InmetStationEntity entity : InmetStationDAO.getInstanceOf().list()) {
+			List<LocalDate> dates = dirtyDays.get(entity.getId());
+			if (dates != null && (stations.isEmpty() || stations.contains(entity.getCode()))) {
+				inmetStationEntities.add(entity);
+				days += dates.size();
+			}
+		}
+		InmetData.getInstanceOf().success(MessageEnum.INMETDATA_INFO_RECOMPUTE_DIRTY_DAYS, NetworkUtil.getLocalIpAddress(), String.valueOf(days),
+				String.valueOf(inmetStationEntities.size()));
+
+		// Recomputing the stations, one at a time
+		for (InmetStationEntity entity : inmetStationEntities) {
+			try {
+				recompute(entity, dirtyDays.get(entity.getId()), markedDateTime);
+			} catch (GenericException e) {
+				// already written in log, the next stations are recomputed
+			}
+		}
+	}
+
+	/**
+	 * Recomputes the daily data of the dirty days of the station,
+	 * InmetDirtyDayDAO.DATES_PER_QUERY days at a time: the hourly data stored of
+	 * the days is aggregated and replaces their daily data, in the same
+	 * transaction that removes the old one, and the days are no longer dirty. A day without hourly data is left without daily data.
+	 * 
+	 * @param entity         Station of the days.
+	 * @param dates          Dirty days of the station, in order.
+	 * @param markedDateTime Last mark date time of the days.
+	 * @return Number of daily data saved.
+	 * @throws GenericException Occurrence of any problems in recomputing the
+	 *                          days.
+	 */
+	private static int recompute(InmetStationEntity entity, List<LocalDate> dates, LocalDateTime markedDateTime) throws GenericException {
+		int saved = 0;
+		for (int first = 0; first < dates.size(); first += InmetDirtyDayDAO.DATES_PER_QUERY) {
+			List<LocalDate> chunk = dates.subList(first, Math.min(first + InmetDirtyDayDAO.DATES_PER_QUERY, dates.size()));
+
+			// aggregating the hourly data stored of the days, whose repeated hours (from a backfill, for example) are counted once, as in the ingestion
+			HourlyBatch batch = InmetHourlyDataDAO.getInstanceOf().getBatchByStationAndDates(entity, chunk);
+			batch.removeDuplicates();
+			List<InmetDiarlyDataEntity> diarlyData = InmetService.getInstanceOf().getDailyData(batch);
+
+			// replacing the daily data of the days in one transaction, so a failure keeps the old daily data and the days dirty
+			saved += InmetDiarlyDataDAO.getInstanceOf().replaceByStationAndDates(entity.getId(), chunk, diarlyData);
+			InmetDirtyDayDAO.getInstanceOf().removeByStationAndDates(entity.getId(), chunk, markedDateTime);
+		}
+		InmetData.getInstanceOf().success(MessageEnum.INMETDATA_INFO_SUCCESS_RECOMPUTE, NetworkUtil.getLocalIpAddress(), entity.getCode(),
+				String.valueOf(dates.size()), String.valueOf(saved));
+		return saved;
 	}
 }
@@ -0,0 +1,86 @@
+package br.embrapa.cnpaf.inmetdata.metric;
+
+/**
+ * <br>
+ * <p>
+ * <b>Abstract class with the identification of the metrics collected by the system.</b>
+ * </p>
+ * <p>
+ * A metric is identified by its name and by an optional tag (for example, the station code or the DAO descriptor). The key of the metric follows the format
+ * <tt>name{tag="value"}</tt>.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public abstract class Metric {
+
+	private final String name;
+	private final String tagName;
+	private final String tagValue;
+
+	/**
+	 * Protected class constructor.
+	 *
+	 * @param name
+	 *            Name of the metric.
+	 * @param tagName
+	 *            Name of the tag of the metric or null if the metric is not tagged.
+	 * @param tagValue
+	 *            Value of the tag of the metric or null if the metric is not tagged.
+	 */
+	protected Metric(String name, String tagName, String tagValue) {
+		super();
+		this.name = name;
+		this.tagName = tagName;
+		this.tagValue = tagValue;
+	}
+
+	/**
+	 * Retrieves the key that identifies a metric.
+	 *
+	 * @param name
+	 *            Name of the metric.
+	 * @param tagName
+	 *            Name of the tag of the metric or null if the metric is not tagged.
+	 * @param tagValue
+	 *            Value of the tag of the metric or null if the metric is not tagged.
+	 * @return Key of the metric.
+	 */
+	public static String getKey(String name, String tagName, String tagValue) {
+		if (tagName == null) {
+			return name;
+		}
+		return name + "{" + tagName + "=\"" + tagValue + "\"}";
+	}
+
+	/**
+	 * @return Key of the metric.
+	 */
+	public String getKey() {
+		return Metric.getKey(name, tagName, tagValue);
+	}
+
+	/**
+	 * @return Name of the metric.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return Name of the tag of the metric or null if the metric is not tagged.
+	 */
+	public String getTagName() {
+		return tagName;
+	}
+
+	/**
+	 * @return Value of the tag of the metric or null if the metric is not tagged.
+	 */
+	public String getTagValue() {
+		return tagValue;
+	}
+}
@@ -0,0 +1,71 @@
+package br.embrapa.cnpaf.inmetdata.metric;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <br>
+ * <p>
+ * <b>Monotonic counter of the metrics service.</b>
+ * </p>
+ * <p>
+ * The counter is lock-free (LongAdder), so it can be incremented by several threads at the same time without contention.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class MetricCounter extends Metric {
+
+	private final LongAdder value;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param name
+	 *            Name of the metric.
+	 * @param tagName
+	 *            Name of the tag of the metric or null if the metric is not tagged.
+	 * @param tagValue
+	 *            Value of the tag of the metric or null if the metric is not tagged.
+	 */
+	public MetricCounter(String name, String tagName, String tagValue) {
+		super(name, tagName, tagValue);
+		this.value = new LongAdder();
+	}
+
+	/**
+	 * Increments the counter by one.
+	 *
+	 * @return Counter instance.
+	 */
+	public MetricCounter increment() {
+		this.value.increment();
+		return this;
+	}
+
+	/**
+	 * Increments the counter by the informed amount.
+	 *
+	 * @param amount
+	 *            Amount to be added to the counter.
+	 * @return Counter instance.
+	 */
+	public MetricCounter add(long amount) {
+		this.value.add(amount);
+		return this;
+	}
+
+	/**
+	 * @return Current value of the counter.
+	 */
+	public long getValue() {
+		return this.value.sum();
+	}
+
+	@Override
+	public String toString() {
+		return this.getKey() + " = " + this.getValue();
+	}
+}
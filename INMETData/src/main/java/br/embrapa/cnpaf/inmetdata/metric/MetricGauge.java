@@ -0,0 +1,74 @@
+package br.embrapa.cnpaf.inmetdata.metric;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * <br>
+ * <p>
+ * <b>Gauge of the metrics service, representing a value that can go up and down.</b>
+ * </p>
+ * <p>
+ * The value of the gauge is either set directly by the client or read from a supplier at the moment it is requested (for example, the depth of a queue).
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class MetricGauge extends Metric {
+
+	private volatile double value;
+	private volatile DoubleSupplier supplier;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param name
+	 *            Name of the metric.
+	 * @param tagName
+	 *            Name of the tag of the metric or null if the metric is not tagged.
+	 * @param tagValue
+	 *            Value of the tag of the metric or null if the metric is not tagged.
+	 */
+	public MetricGauge(String name, String tagName, String tagValue) {
+		super(name, tagName, tagValue);
+	}
+
+	/**
+	 * Sets the current value of the gauge.
+	 *
+	 * @param value
+	 *            Current value of the gauge.
+	 * @return Gauge instance.
+	 */
+	public MetricGauge set(double value) {
+		this.value = value;
+		return this;
+	}
+
+	/**
+	 * Sets the supplier from which the value of the gauge is read.
+	 *
+	 * @param supplier
+	 *            Supplier of the value of the gauge.
+	 * @return Gauge instance.
+	 */
+	public MetricGauge setSupplier(DoubleSupplier supplier) {
+		this.supplier = supplier;
+		return this;
+	}
+
+	/**
+	 * @return Current value of the gauge.
+	 */
+	public double getValue() {
+		DoubleSupplier currentSupplier = this.supplier;
+		return (currentSupplier != null) ? currentSupplier.getAsDouble() : this.value;
+	}
+
+	@Override
+	public String toString() {
+		return this.getKey() + " = " + this.getValue();
+	}
+}
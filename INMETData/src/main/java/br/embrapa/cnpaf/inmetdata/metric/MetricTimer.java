@@ -0,0 +1,204 @@
+package br.embrapa.cnpaf.inmetdata.metric;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <br>
+ * <p>
+ * <b>Timer of the metrics service, recording the duration of an operation in a histogram.</b>
+ * </p>
+ * <p>
+ * The durations are recorded in nanoseconds into a histogram with base 2 exponential buckets (bucket <tt>i</tt> holds the durations lower than
+ * <tt>2<sup>i</sup></tt> nanoseconds), in the style of the HDR histograms but with a fixed relative error. All the structures are lock-free, so the timer can
+ * be updated by several threads at the same time without contention.
+ * </p>
+ * <p>
+ * Usage:<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt>long start = timer.start();</tt><br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt>...</tt><br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt>timer.stop(start);</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class MetricTimer extends Metric {
+
+	public static final int HISTOGRAM_BUCKETS = 64;
+
+	private final LongAdder count;
+	private final LongAdder sum;
+	private final LongAccumulator max;
+	private final LongAdder[] buckets;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param name
+	 *            Name of the metric.
+	 * @param tagName
+	 *            Name of the tag of the metric or null if the metric is not tagged.
+	 * @param tagValue
+	 *            Value of the tag of the metric or null if the metric is not tagged.
+	 */
+	public MetricTimer(String name, String tagName, String tagValue) {
+		super(name, tagName, tagValue);
+		this.count = new LongAdder();
+		this.sum = new LongAdder();
+		this.max = new LongAccumulator(Long::max, 0);
+		this.buckets = new LongAdder[HISTOGRAM_BUCKETS];
+		for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+			this.buckets[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Starts the timing of an operation.
+	 *
+	 * @return Start time in nanoseconds, to be informed to method stop.
+	 */
+	public long start() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Stops the timing of an operation, recording its duration.
+	 *
+	 * @param start
+	 *            Start time in nanoseconds returned by the method start.
+	 * @return Duration of the operation in nanoseconds.
+	 */
+	public long stop(long start) {
+		long duration = System.nanoTime() - start;
+		this.record(duration);
+		return duration;
+	}
+
+	/**
+	 * Records the duration of an operation.
+	 *
+	 * @param nanos
+	 *            Duration of the operation in nanoseconds.
+	 * @return Timer instance.
+	 */
+	public MetricTimer record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		this.count.increment();
+		this.sum.add(nanos);
+		this.max.accumulate(nanos);
+		this.buckets[MetricTimer.getBucket(nanos)].increment();
+		return this;
+	}
+
+	/**
+	 * Retrieves the histogram bucket of a duration.
+	 *
+	 * @param nanos
+	 *            Duration in nanoseconds.
+	 * @return Index of the bucket.
+	 */
+	private static int getBucket(long nanos) {
+		return Math.min(HISTOGRAM_BUCKETS - Long.numberOfLeadingZeros(nanos), HISTOGRAM_BUCKETS - 1);
+	}
+
+	/**
+	 * Retrieves the upper bound of a histogram bucket.
+	 *
+	 * @param bucket
+	 *            Index of the bucket.
+	 * @return Upper bound in nanoseconds of the durations recorded in the bucket.
+	 */
+	public static long getBucketUpperBound(int bucket) {
+		return (bucket >= HISTOGRAM_BUCKETS - 1) ? Long.MAX_VALUE : (1L << bucket);
+	}
+
+	/**
+	 * @return Number of operations recorded.
+	 */
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	/**
+	 * @return Sum of durations recorded in nanoseconds.
+	 */
+	public long getSum() {
+		return this.sum.sum();
+	}
+
+	/**
+	 * @return Maximum duration recorded in nanoseconds.
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/**
+	 * @return Number of operations recorded in each bucket of the histogram.
+	 */
+	public long[] getBuckets() {
+		long[] values = new long[HISTOGRAM_BUCKETS];
+		for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+			values[i] = this.buckets[i].sum();
+		}
+		return values;
+	}
+
+	/**
+	 * Retrieves an estimate of the informed percentile of the durations (upper bound of the bucket that contains the percentile).
+	 *
+	 * @param percentile
+	 *            Percentile between 0 and 1.
+	 * @return Estimate of the percentile in nanoseconds.
+	 */
+	public long getPercentile(double percentile) {
+
+		// initializing variables
+		long[] values = this.getBuckets();
+		long total = 0;
+		for (long value : values) {
+			total += value;
+		}
+		if (total == 0) {
+			return 0;
+		}
+
+		// searching the bucket of the percentile
+		long rank = (long) Math.ceil(percentile * total);
+		long accumulated = 0;
+		for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+			accumulated += values[i];
+			if (accumulated >= rank) {
+				return Math.min(MetricTimer.getBucketUpperBound(i), this.getMax());
+			}
+		}
+		return this.getMax();
+	}
+
+	@Override
+	public String toString() {
+		long count = this.getCount();
+		long mean = (count > 0) ? this.getSum() / count : 0;
+		return String.format("%s = count %d ; total %d ms ; mean %.3f ms ; p50 %.3f ms ; p99 %.3f ms ; max %.3f ms", //
+				this.getKey(), count, TimeUnit.NANOSECONDS.toMillis(this.getSum()), toMillis(mean), //
+				toMillis(this.getPercentile(0.5)), toMillis(this.getPercentile(0.99)), toMillis(this.getMax()));
+	}
+
+	/**
+	 * Converts nanoseconds into milliseconds.
+	 *
+	 * @param nanos
+	 *            Duration in nanoseconds.
+	 * @return Duration in milliseconds.
+	 */
+	private static double toMillis(long nanos) {
+		return nanos / 1000000.0;
+	}
+}
@@ -0,0 +1,209 @@
+package br.embrapa.cnpaf.inmetdata.period;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <br>
+ * <p>
+ * <b>Class responsible for splitting a range of dates into the periods requested to INMET.</b>
+ * </p>
+ * <p>
+ * The range is split into consecutive periods of the same length (the chunk), the last one ending at the end of the range. The chunk can be defined in
+ * days, months or years, or from the maximum number of rows of a response of the INMET web service (24 hourly rows per day). The planner is immutable and
+ * built only on java.time, so it can be shared between threads, and the periods can be retrieved as a list or lazily, one by one, for very long ranges.
+ * </p>
+ * <p>
+ * Usage:<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt>for (period period : PeriodPlanner.ofMonths(1).iterable(start, end)) { ... }</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public final class PeriodPlanner {
+
+	public static final int HOURLY_ROWS_PER_DAY = 24;
+
+	private final Period chunk;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param chunk
+	 *            Length of each period.
+	 */
+	private PeriodPlanner(Period chunk) {
+		super();
+		if (chunk == null || chunk.isNegative() || chunk.isZero()) {
+			throw new IllegalArgumentException("Invalid period chunk: " + chunk);
+		}
+		this.chunk = chunk;
+	}
+
+	/**
+	 * Creates a planner with periods of the informed length.
+	 *
+	 * @param chunk
+	 *            Length of each period.
+	 * @return Period planner.
+	 */
+	public static PeriodPlanner of(Period chunk) {
+		return new PeriodPlanner(chunk);
+	}
+
+	/**
+	 * Creates a planner with periods of the informed number of days.
+	 *
+	 * @param days
+	 *            Number of days of each period.
+	 * @return Period planner.
+	 */
+	public static PeriodPlanner ofDays(int days) {
+		return new PeriodPlanner(Period.ofDays(days));
+	}
+
+	/**
+	 * Creates a planner with periods of the informed number of months.
+	 *
+	 * @param months
+	 *            Number of months of each period.
+	 * @return Period planner.
+	 */
+	public static PeriodPlanner ofMonths(int months) {
+		return new PeriodPlanner(Period.ofMonths(months));
+	}
+
+	/**
+	 * Creates a planner with periods of the informed number of years.
+	 *
+	 * @param years
+	 *            Number of years of each period.
+	 * @return Period planner.
+	 */
+	public static PeriodPlanner ofYears(int years) {
+		return new PeriodPlanner(Period.ofYears(years));
+	}
+
+	/**
+	 * Creates a planner whose periods do not exceed the informed number of hourly rows in the response of the INMET web service.
+	 *
+	 * @param rows
+	 *            Maximum number of hourly rows of each period.
+	 * @return Period planner.
+	 */
+	public static PeriodPlanner ofRows(int rows) {
+		return new PeriodPlanner(Period.ofDays(Math.max(1, rows / HOURLY_ROWS_PER_DAY)));
+	}
+
+	/**
+	 * @return Length of each period.
+	 */
+	public Period getChunk() {
+		return chunk;
+	}
+
+	/**
+	 * Retrieves the end of the period that starts at the informed date.
+	 *
+	 * @param start
+	 *            Start of the period.
+	 * @param end
+	 *            End of the range.
+	 * @return End of the period.
+	 */
+	private LocalDate getPeriodEnd(LocalDate start, LocalDate end) {
+		LocalDate periodEnd = start.plus(this.chunk).minusDays(1);
+		return periodEnd.isBefore(end) ? periodEnd : end;
+	}
+
+	/**
+	 * Splits the range into periods.
+	 *
+	 * @param start
+	 *            Start of the range (included).
+	 * @param end
+	 *            End of the range (included).
+	 * @return List of the periods, empty if the start is after the end.
+	 */
+	public List<period> plan(LocalDate start, LocalDate end) {
+		List<period> periods = new ArrayList<period>();
+		for (LocalDate current = start; !current.isAfter(end); current = current.plus(this.chunk)) {
+			periods.add(new period(current, this.getPeriodEnd(current, end)));
+		}
+		return periods;
+	}
+
+	/**
+	 * Retrieves an iterator that creates the periods of the range one by one, as they are requested.
+	 *
+	 * @param start
+	 *            Start of the range (included).
+	 * @param end
+	 *            End of the range (included).
+	 * @return Iterator over the periods of the range.
+	 */
+	public Iterator<period> iterator(LocalDate start, LocalDate end) {
+		return new Iterator<period>() {
+
+			private LocalDate current = start;
+
+			@Override
+			public boolean hasNext() {
+				return !this.current.isAfter(end);
+			}
+
+			@Override
+			public period next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				period next = new period(this.current, PeriodPlanner.this.getPeriodEnd(this.current, end));
+				this.current = this.current.plus(PeriodPlanner.this.chunk);
+				return next;
+			}
+		};
+	}
+
+	/**
+	 * Retrieves the periods of the range lazily, to be used in a for-each loop.
+	 *
+	 * @param start
+	 *            Start of the range (included).
+	 * @param end
+	 *            End of the range (included).
+	 * @return Iterable over the periods of the range.
+	 */
+	public Iterable<period> iterable(LocalDate start, LocalDate end) {
+		return () -> this.iterator(start, end);
+	}
+
+	/**
+	 * Retrieves the periods of the range as a sequential stream.
+	 *
+	 * @param start
+	 *            Start of the range (included).
+	 * @param end
+	 *            End of the range (included).
+	 * @return Stream of the periods of the range.
+	 */
+	public Stream<period> stream(LocalDate start, LocalDate end) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this.iterator(start, end), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+	}
+
+	@Override
+	public String toString() {
+		return "PeriodPlanner[" + chunk + "]";
+	}
+}
@@ -2,10 +2,17 @@ package br.embrapa.cnpaf.inmetdata.period;
 
 import java.time.LocalDate;
 
-public class period {
-
-	private LocalDate start;
-	private LocalDate end;
+/**
+ * <br>
+ * <p>
+ * <b>Immutable period of dates (start and end included) to be retrieved from INMET.</b>
+ * </p>
+ * <br>
+ */
+public final class period {
+
+	private final LocalDate start;
+	private final LocalDate end;
 
 	/**
 	 * @param start
@@ -17,13 +24,6 @@ public class period {
 		this.end = end;
 	}
 
-	/**
-	 * 
-	 */
-	public period() {
-		super();
-	}
-
 	/**
 	 * @return the start
 	 */
@@ -31,13 +31,6 @@ public class period {
 		return start;
 	}
 
-	/**
-	 * @param start the start to set
-	 */
-	public void setStart(LocalDate start) {
-		this.start = start;
-	}
-
 	/**
 	 * @return the end
 	 */
@@ -45,11 +38,26 @@ public class period {
 		return end;
 	}
 
-	/**
-	 * @param end the end to set
-	 */
-	public void setEnd(LocalDate end) {
-		this.end = end;
+	@Override
+	public int hashCode() {
+		return 31 * ((start == null) ? 0 : start.hashCode()) + ((end == null) ? 0 : end.hashCode());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof period)) {
+			return false;
+		}
+		period other = (period) obj;
+		return (start == null ? other.start == null : start.equals(other.start)) && (end == null ? other.end == null : end.equals(other.end));
+	}
+
+	@Override
+	public String toString() {
+		return start + "/" + end;
 	}
 
 }
@@ -0,0 +1,538 @@
+package br.embrapa.cnpaf.inmetdata.pipeline;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+import br.embrapa.cnpaf.inmetdata.dao.InmetDeadLetterDAO;
+import br.embrapa.cnpaf.inmetdata.dao.InmetDiarlyDataDAO;
+import br.embrapa.cnpaf.inmetdata.dao.InmetDirtyDayDAO;
+import br.embrapa.cnpaf.inmetdata.dao.InmetHourlyDataDAO;
+import br.embrapa.cnpaf.inmetdata.dao.InmetJournalDAO;
+import br.embrapa.cnpaf.inmetdata.entity.InmetDiarlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.enumerate.JournalStateEnum;
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.FetchException;
+import br.embrapa.cnpaf.inmetdata.exception.GenericException;
+import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.metric.MetricCounter;
+import br.embrapa.cnpaf.inmetdata.metric.MetricGauge;
+import br.embrapa.cnpaf.inmetdata.period.period;
+import br.embrapa.cnpaf.inmetdata.queue.IngestionQueue;
+import br.embrapa.cnpaf.inmetdata.queue.IngestionWorkItem;
+import br.embrapa.cnpaf.inmetdata.service.ArchiveService;
+import br.embrapa.cnpaf.inmetdata.service.InmetService;
+import br.embrapa.cnpaf.inmetdata.service.MetricsService;
+import br.embrapa.cnpaf.inmetdata.util.ErrorUtil;
+import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+import br.embrapa.cnpaf.inmetdata.util.ThreadUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Staged pipeline of the ingestion of the periods of the ingestion queue: fetch, parse, aggregate and write.</b>
+ * </p>
+ * <p>
+ * Each stage has its own threads and hands the periods to the next one through a bounded queue. When a queue is full, the previous stage waits
+ * (backpressure), so the memory used is limited by the capacity of the queues, while the download of a period overlaps with the parse, the daily
+ * aggregation and the database writes of the previous ones. The hourly data of a period travels between the stages as a columnar batch (HourlyBatch),
+ * from the parse of the JSON to the database writes. The write stage has a single thread, because all DAOs share the same database
+ * connection; the journal states are recorded only by it. When the local archive is enabled (ArchiveService), the write stage also merges the hourly
+ * data of each persisted period into the archive files of the station.
+ * </p>
+ * <p>
+ * A failure in the fetch or parse of a period is recorded by the write stage as a dead letter, with its classification and attempts, to be replayed
+ * later, and the remaining periods of the station are discarded, staying planned in the journal. A persisted period removes its dead letter, if any. An
+ * unexpected error in
+ * any stage aborts the pipeline: the periods in progress are abandoned, to be resumed from the journal, and the error is thrown by run(). When the
+ * stop is requested, no new period is fetched and the periods in progress are written before run() returns.
+ * </p>
+ * <p>
+ * In the virtual mode (setVirtualFetch()), available on Java 21 or newer, the fetch stage runs each period in its own virtual thread instead of a pool of
+ * platform threads, with a semaphore limiting the fetches in flight, since the downloads spend almost all their time waiting for the network.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class IngestionPipeline {
+
+	public static final String STAGE_FETCH = "fetch";
+	public static final String STAGE_PARSE = "parse";
+	public static final String STAGE_AGGREGATE = "aggregate";
+	public static final String STAGE_WRITE = "write";
+	public static final long POLL_TIMEOUT = 100; // milliseconds between the checks of the abort of the pipeline
+
+	private static final PipelineItem END = new PipelineItem(null);
+
+	private final IngestionQueue queue;
+	private final BooleanSupplier stopRequested;
+	private final int fetchThreads;
+	private final int parseThreads;
+	private final int aggregateThreads;
+	private final int capacity;
+	private final Set<Long> completedStations;
+	private final AtomicReference<GenericException> failure;
+	private final MetricGauge stationsCompleted;
+	private int virtualFetchConcurrency;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param queue
+	 *            Queue of the periods to be ingested.
+	 * @param stopRequested
+	 *            Checks if the stop of the ingestion was requested.
+	 * @param fetchThreads
+	 *            Number of threads of the fetch stage.
+	 * @param parseThreads
+	 *            Number of threads of the parse stage.
+	 * @param aggregateThreads
+	 *            Number of threads of the aggregate stage.
+	 * @param capacity
+	 *            Capacity of the queues between the stages.
+	 */
+	public IngestionPipeline(IngestionQueue queue, BooleanSupplier stopRequested, int fetchThreads, int parseThreads, int aggregateThreads, int capacity) {
+		super();
+		this.queue = queue;
+		this.stopRequested = stopRequested;
+		this.fetchThreads = fetchThreads;
+		this.parseThreads = parseThreads;
+		this.aggregateThreads = aggregateThreads;
+		this.capacity = capacity;
+		this.completedStations = ConcurrentHashMap.newKeySet();
+		this.failure = new AtomicReference<GenericException>();
+		this.stationsCompleted = MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_STATIONS_COMPLETED);
+	}
+
+	/**
+	 * Runs each fetch in its own virtual thread, instead of a pool of platform threads.
+	 *
+	 * @param concurrency
+	 *            Maximum number of fetches in flight.
+	 * @return Pipeline instance.
+	 * @throws UnsupportedOperationException
+	 *             The runtime does not support virtual threads.
+	 */
+	public IngestionPipeline setVirtualFetch(int concurrency) {
+		if (!ThreadUtil.isVirtualThreadSupported()) {
+			throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+		}
+		this.virtualFetchConcurrency = concurrency;
+		return this;
+	}
+
+	/**
+	 * Ingests all the periods of the queue, returning when the queue is empty or the stop is requested and the periods in progress are written.
+	 *
+	 * @throws GenericException
+	 *             Occurrence of any unexpected error in a stage of the pipeline.
+	 */
+	public void run() throws GenericException {
+
+		// creating the queues between the stages
+		BlockingQueue<PipelineItem> fetched = this.createQueue(STAGE_PARSE);
+		BlockingQueue<PipelineItem> parsed = this.createQueue(STAGE_AGGREGATE);
+		BlockingQueue<PipelineItem> aggregated = this.createQueue(STAGE_WRITE);
+
+		// starting the stages
+		List<ExecutorService> stages = new ArrayList<ExecutorService>();
+		stages.add((this.virtualFetchConcurrency > 0) ? this.startVirtualFetchStage(fetched)
+				: this.startStage(STAGE_FETCH, this.fetchThreads, null, fetched, this::fetch));
+		stages.add(this.startStage(STAGE_PARSE, this.parseThreads, fetched, parsed, this::parse));
+		stages.add(this.startStage(STAGE_AGGREGATE, this.aggregateThreads, parsed, aggregated, this::aggregate));
+		stages.add(this.startStage(STAGE_WRITE, 1, aggregated, null, this::write));
+
+		// waiting for the end of the stages
+		try {
+			for (ExecutorService stage : stages) {
+				stage.shutdown();
+				while (!stage.awaitTermination(1, TimeUnit.MINUTES)) {
+				}
+			}
+		} catch (InterruptedException e) {
+			this.abort("run", e);
+			for (ExecutorService stage : stages) {
+				stage.shutdownNow();
+			}
+			Thread.currentThread().interrupt();
+		}
+
+		// throwing the error that aborted the pipeline
+		if (this.failure.get() != null) {
+			throw this.failure.get();
+		}
+	}
+
+	/**
+	 * Fetches the hourly data of the period from INMET.
+	 */
+	private PipelineItem fetch(PipelineItem item) throws GenericException {
+		period period = item.workItem.getPeriod();
+		try {
+			item.response = InmetService.getInstanceOf().fetchHourlyData(item.workItem.getStation(), period.getStart(), period.getEnd());
+		} catch (FetchException e) {
+			return this.fail(item, e);
+		}
+		return item;
+	}
+
+	/**
+	 * Parses the hourly data of the period.
+	 */
+	private PipelineItem parse(PipelineItem item) throws GenericException {
+		if (item.error == null) {
+			period period = item.workItem.getPeriod();
+			try {
+				item.hourlyData = InmetService.getInstanceOf().parseHourlyBatch(item.workItem.getStation(), period.getStart(), period.getEnd(), item.response);
+			} catch (FetchException e) {
+				this.fail(item, e);
+			}
+			item.response = null;
+		}
+		return item;
+	}
+
+	/**
+	 * Aggregates the hourly data of the period into daily data, after removing the measurements repeated by INMET.
+	 */
+	private PipelineItem aggregate(PipelineItem item) throws GenericException {
+		if (item.error == null) {
+			item.hourlyData.removeDuplicates();
+			item.diarlyData = InmetService.getInstanceOf().getDailyData(item.hourlyData);
+		}
+		return item;
+	}
+
+	/**
+	 * Writes the hourly and daily data of the period in the database, skipping the data already persisted before the ingestion started, and in the local
+	 * archive, or the dead letter of the failed period.
+	 */
+	private PipelineItem write(PipelineItem item) throws GenericException {
+		InmetStationEntity entity = item.workItem.getStation();
+		period period = item.workItem.getPeriod();
+
+		// recording the failed period to be replayed
+		if (item.error != null) {
+			InmetDeadLetterDAO.getInstanceOf().record(entity, period, item.error.getFailureClass(), item.error.getAttempts(), item.error.getMessage());
+			MetricsService.getInstanceOf().getCounter(MetricsService.COUNTER_DEAD_LETTERS, MetricsService.TAG_STATION, entity.getCode()).increment();
+			this.complete(entity);
+			return null;
+		}
+
+		LocalDate lastDate = item.workItem.getLastDate();
+		MetricCounter rowsPersisted = MetricsService.getInstanceOf().getCounter(MetricsService.COUNTER_ROWS_PERSISTED, MetricsService.TAG_STATION, entity.getCode());
+		MetricGauge stationLastDate = MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_STATION_LAST_DATE, MetricsService.TAG_STATION, entity.getCode());
+
+		// only the period containing the last date persisted has data already in the database, since the rows of the periods resumed were removed
+		boolean overlaps = !period.getStart().isAfter(lastDate) && !period.getEnd().isBefore(lastDate);
+		InmetJournalDAO.getInstanceOf().setState(entity, period, JournalStateEnum.AGGREGATED);
+
+		// inserting hourly data, the only rows counted, like the rows fetched
+		rowsPersisted.add(InmetHourlyDataDAO.getInstanceOf().save(item.hourlyData, overlaps ? lastDate : null));
+
+		// inserting daily data
+		for (InmetDiarlyDataEntity diarlyData : item.diarlyData) {
+			if (!overlaps || diarlyData.getMeasurementDate().isAfter(lastDate)) {
+				InmetDiarlyDataDAO.getInstanceOf().save(diarlyData);
+			}
+		}
+		InmetJournalDAO.getInstanceOf().setState(entity, period, JournalStateEnum.PERSISTED);
+
+		// the days aggregated from the data fetched are no longer dirty, unlike the days persisted before, whose corrections are not in the data fetched
+		InmetDirtyDayDAO.getInstanceOf().removeByStationAndPeriod(entity.getId(), overlaps ? lastDate.plusDays(1) : period.getStart(), period.getEnd());
+		InmetDeadLetterDAO.getInstanceOf().removeByStationAndPeriod(entity.getId(), period.getStart());
+
+		// merging the hourly data into the local archive, whose failure is logged without stopping the ingestion, since the database keeps the data
+		if (ArchiveService.getInstanceOf().isEnabled()) {
+			try {
+				ArchiveService.getInstanceOf().archive(item.hourlyData);
+			} catch (ServiceException e) {
+			}
+		}
+
+		// the periods of a station may be written out of order
+		stationLastDate.set(Math.max(stationLastDate.getValue(), period.getEnd().toEpochDay() * 86400L));
+		if (item.workItem.isLast()) {
+			this.complete(entity);
+		}
+		return null;
+	}
+
+	/**
+	 * Marks the period as failed, to be recorded as a dead letter by the write stage, and discards the remaining periods of the station, which stay planned
+	 * for the next execution.
+	 *
+	 * @param item
+	 *            Failed period.
+	 * @param error
+	 *            Failure of the period.
+	 * @return The failed period.
+	 */
+	private PipelineItem fail(PipelineItem item, FetchException error) {
+		this.queue.discard(item.workItem.getStation());
+		item.error = error;
+		return item;
+	}
+
+	/**
+	 * Counts the station as completed, once.
+	 *
+	 * @param station
+	 *            Completed station.
+	 */
+	private void complete(InmetStationEntity station) {
+		if (this.completedStations.add(station.getId())) {
+			synchronized (this.stationsCompleted) {
+				this.stationsCompleted.set(this.stationsCompleted.getValue() + 1);
+			}
+		}
+	}
+
+	/**
+	 * Aborts the pipeline, keeping only the first error.
+	 *
+	 * @param stage
+	 *            Name of the stage where the error occurred.
+	 * @param error
+	 *            Error that aborted the pipeline.
+	 */
+	private void abort(String stage, Throwable error) {
+		this.failure.compareAndSet(null, (error instanceof GenericException) ? (GenericException) error
+				: ErrorUtil.getServiceExceptionError(NetworkUtil.getLocalIpAddress(), MessageEnum.INGESTION_PIPELINE_ERROR_STAGE, this.getClass().getSimpleName(), "abort",
+						error.getMessage(), null, NetworkUtil.getLocalIpAddress(), stage));
+	}
+
+	/**
+	 * Creates the bounded queue of the input of the stage, publishing its depth as a gauge.
+	 *
+	 * @param stage
+	 *            Name of the stage that consumes the queue.
+	 * @return Queue created.
+	 */
+	private BlockingQueue<PipelineItem> createQueue(String stage) {
+		BlockingQueue<PipelineItem> queue = new ArrayBlockingQueue<PipelineItem>(this.capacity);
+		MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_PIPELINE_QUEUE_DEPTH, MetricsService.TAG_STAGE, stage).setSupplier(queue::size);
+		return queue;
+	}
+
+	/**
+	 * Starts the threads of the stage. Each thread takes the periods of the input queue (or of the ingestion queue, in the first stage), processes them
+	 * and puts the result in the output queue, until the end of the input. The last thread of the stage to finish signals the end to the next stage.
+	 *
+	 * @param name
+	 *            Name of the stage.
+	 * @param threads
+	 *            Number of threads of the stage.
+	 * @param input
+	 *            Input queue or null in the first stage.
+	 * @param output
+	 *            Output queue or null in the last stage.
+	 * @param step
+	 *            Processing of each period.
+	 * @return Executor of the stage.
+	 */
+	private ExecutorService startStage(String name, int threads, BlockingQueue<PipelineItem> input, BlockingQueue<PipelineItem> output, Step step) {
+		AtomicInteger running = new AtomicInteger(threads);
+		AtomicInteger count = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads,
+				runnable -> new Thread(runnable, IngestionPipeline.class.getSimpleName() + "-" + name + "-" + count.incrementAndGet()));
+
+		for (int i = 0; i < threads; i++) {
+			executor.execute(() -> {
+				try {
+					PipelineItem item;
+					while ((item = this.take(input)) != END) {
+						item = step.apply(item);
+						if (item != null && output != null && !this.put(output, item)) {
+							break;
+						}
+					}
+
+					// leaving the end in the input to the other threads of the stage
+					if (input != null) {
+						input.offer(END);
+					}
+
+				} catch (Throwable e) {
+					this.abort(name, e);
+				} finally {
+					if (running.decrementAndGet() == 0 && output != null) {
+						try {
+							this.put(output, END);
+						} catch (InterruptedException e) {
+							this.abort(name, e);
+						}
+					}
+				}
+			});
+		}
+		return executor;
+	}
+
+	/**
+	 * Starts the fetch stage in the virtual mode. A dispatcher thread takes the periods of the ingestion queue and starts a virtual thread for each one, after
+	 * acquiring a permit of the semaphore, which is released when the fetched period is put in the output queue. So the fetches in flight and the periods
+	 * waiting for the parse stage never exceed the concurrency. When the ingestion queue ends, the dispatcher waits for the virtual threads and signals the
+	 * end to the next stage.
+	 *
+	 * @param output
+	 *            Output queue.
+	 * @return Executor of the dispatcher.
+	 */
+	private ExecutorService startVirtualFetchStage(BlockingQueue<PipelineItem> output) {
+		Semaphore permits = new Semaphore(this.virtualFetchConcurrency);
+		MetricsService.getInstanceOf().getGauge(MetricsService.GAUGE_PIPELINE_FETCHES_IN_FLIGHT)
+				.setSupplier(() -> this.virtualFetchConcurrency - permits.availablePermits());
+		ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, IngestionPipeline.class.getSimpleName() + "-" + STAGE_FETCH));
+
+		dispatcher.execute(() -> {
+			ExecutorService fetchers = ThreadUtil.newVirtualThreadPerTaskExecutor(IngestionPipeline.class.getSimpleName() + "-" + STAGE_FETCH);
+			try {
+				while (this.acquire(permits)) {
+					PipelineItem item = this.take(null);
+					if (item == END) {
+						permits.release();
+						break;
+					}
+
+					// fetching the period in its own virtual thread
+					fetchers.execute(() -> {
+						try {
+							this.put(output, this.fetch(item));
+						} catch (Throwable e) {
+							this.abort(STAGE_FETCH, e);
+						} finally {
+							permits.release();
+						}
+					});
+				}
+
+				// waiting for the fetches in flight
+				fetchers.shutdown();
+				while (!fetchers.awaitTermination(1, TimeUnit.MINUTES)) {
+				}
+
+			} catch (Throwable e) {
+				this.abort(STAGE_FETCH, e);
+				fetchers.shutdownNow();
+			} finally {
+				try {
+					this.put(output, END);
+				} catch (InterruptedException e) {
+					this.abort(STAGE_FETCH, e);
+				}
+			}
+		});
+		return dispatcher;
+	}
+
+	/**
+	 * Acquires a permit of the semaphore, waiting while there is none.
+	 *
+	 * @param permits
+	 *            Semaphore of the fetches in flight.
+	 * @return True if the permit was acquired or false if the pipeline was aborted.
+	 * @throws InterruptedException
+	 *             The thread was interrupted.
+	 */
+	private boolean acquire(Semaphore permits) throws InterruptedException {
+		while (this.failure.get() == null) {
+			if (permits.tryAcquire(POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Takes the next period of the input queue or, in the first stage, of the ingestion queue.
+	 *
+	 * @param input
+	 *            Input queue or null in the first stage.
+	 * @return Next period or END if the input ended or the pipeline was aborted.
+	 * @throws InterruptedException
+	 *             The thread was interrupted.
+	 */
+	private PipelineItem take(BlockingQueue<PipelineItem> input) throws InterruptedException {
+		if (input == null) {
+			IngestionWorkItem workItem = (this.failure.get() == null && !this.stopRequested.getAsBoolean()) ? this.queue.poll() : null;
+			return (workItem != null) ? new PipelineItem(workItem) : END;
+		}
+		while (this.failure.get() == null) {
+			PipelineItem item = input.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+			if (item != null) {
+				return item;
+			}
+		}
+		return END;
+	}
+
+	/**
+	 * Puts the period in the output queue, waiting while it is full.
+	 *
+	 * @param output
+	 *            Output queue.
+	 * @param item
+	 *            Period to be put.
+	 * @return True if the period was put or false if the pipeline was aborted.
+	 * @throws InterruptedException
+	 *             The thread was interrupted.
+	 */
+	private boolean put(BlockingQueue<PipelineItem> output, PipelineItem item) throws InterruptedException {
+		while (this.failure.get() == null) {
+			if (output.offer(item, POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Processing of a period in a stage.
+	 */
+	private interface Step {
+
+		/**
+		 * Processes the period.
+		 *
+		 * @param item
+		 *            Period to be processed.
+		 * @return Period to be handed to the next stage or null to drop it.
+		 * @throws GenericException
+		 *             Occurrence of any unexpected error, aborting the pipeline.
+		 */
+		PipelineItem apply(PipelineItem item) throws GenericException;
+	}
+
+	/**
+	 * Period in progress in the pipeline, with the data produced by each stage.
+	 */
+	private static final class PipelineItem {
+
+		private final IngestionWorkItem workItem;
+		private String response;
+		private HourlyBatch hourlyData;
+		private List<InmetDiarlyDataEntity> diarlyData;
+		private FetchException error;
+
+		private PipelineItem(IngestionWorkItem workItem) {
+			this.workItem = workItem;
+		}
+	}
+}
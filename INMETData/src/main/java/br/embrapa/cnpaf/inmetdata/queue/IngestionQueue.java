@@ -0,0 +1,242 @@
+package br.embrapa.cnpaf.inmetdata.queue;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.period.period;
+
+/**
+ * <br>
+ * <p>
+ * <b>Priority queue of the station-period work items of the ingestion.</b>
+ * </p>
+ * <p>
+ * The items are handed out in the following order:
+ * <ul>
+ * <li>Priority: all the periods of the stations with greater priority come before any period of a station with lower priority.</li>
+ * <li>Fair share: inside the same priority, the states (UF) of the stations take turns (round-robin), so a state with many stations does not delay the
+ * others.</li>
+ * <li>Staleness: inside the same state, the station with fewer periods already handed out comes first and, among them, the one whose next period is the
+ * oldest.</li>
+ * </ul>
+ * The periods of the same station are always handed out in chronological order, one at a time: after a period is taken, the next one competes again with
+ * the other stations, so a long backfill does not block the daily update of the remaining stations.
+ * </p>
+ * <p>
+ * The queue is thread safe.
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class IngestionQueue {
+
+	public static final String GROUP_UNKNOWN = "";
+
+	private static final Comparator<StationWork> STALENESS_ORDER = Comparator.comparingInt((StationWork work) -> work.served)
+			.thenComparing(work -> work.periods.peekFirst().getStart())
+			.thenComparing(work -> work.station.getId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+	private final TreeMap<Integer, Tier> tiers;
+	private final Map<Long, StationWork> stations;
+	private int size;
+
+	/**
+	 * Public class constructor.
+	 */
+	public IngestionQueue() {
+		super();
+		this.tiers = new TreeMap<Integer, Tier>(Collections.reverseOrder());
+		this.stations = new HashMap<Long, StationWork>();
+	}
+
+	/**
+	 * Adds the periods of the station to the queue. Stations without periods are ignored.
+	 *
+	 * @param station
+	 *            Station to be ingested.
+	 * @param priority
+	 *            Priority of the station (the greater, the sooner).
+	 * @param lastDate
+	 *            Last date of the station already persisted.
+	 * @param periods
+	 *            Periods of the station, in chronological order.
+	 * @return Queue instance.
+	 */
+	public synchronized IngestionQueue add(InmetStationEntity station, int priority, LocalDate lastDate, List<period> periods) {
+		if (periods.isEmpty()) {
+			return this;
+		}
+		this.discard(station);
+
+		// creating the work of the station
+		StationWork work = new StationWork(station, priority, getGroup(station), lastDate, new ArrayDeque<period>(periods));
+		this.stations.put(station.getId(), work);
+		this.tiers.computeIfAbsent(priority, key -> new Tier()).offer(work);
+		this.size += periods.size();
+		return this;
+	}
+
+	/**
+	 * Retrieves and removes the next work item of the queue.
+	 *
+	 * @return Next work item or null if the queue is empty.
+	 */
+	public synchronized IngestionWorkItem poll() {
+		if (this.tiers.isEmpty()) {
+			return null;
+		}
+
+		// taking the next station of the highest priority
+		Map.Entry<Integer, Tier> tier = this.tiers.firstEntry();
+		StationWork work = tier.getValue().poll();
+		period period = work.periods.pollFirst();
+		this.size--;
+
+		// the next period of the station competes again with the other stations
+		boolean last = work.periods.isEmpty();
+		work.served++;
+		if (last) {
+			this.stations.remove(work.station.getId());
+		} else {
+			tier.getValue().offer(work);
+		}
+		if (tier.getValue().isEmpty()) {
+			this.tiers.remove(tier.getKey());
+		}
+		return new IngestionWorkItem(work.station, period, work.priority, work.lastDate, last);
+	}
+
+	/**
+	 * Removes from the queue all the remaining periods of the station, for example, after a failure in one of them.
+	 *
+	 * @param station
+	 *            Station whose periods will be removed.
+	 * @return Number of periods removed.
+	 */
+	public synchronized int discard(InmetStationEntity station) {
+		StationWork work = this.stations.remove(station.getId());
+		if (work == null) {
+			return 0;
+		}
+
+		// removing the station from its tier
+		Tier tier = this.tiers.get(work.priority);
+		tier.remove(work);
+		if (tier.isEmpty()) {
+			this.tiers.remove(work.priority);
+		}
+		this.size -= work.periods.size();
+		return work.periods.size();
+	}
+
+	/**
+	 * @return Number of work items in the queue.
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return True if the queue has no work items.
+	 */
+	public synchronized boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Retrieves the group used in the fair share of the station, that is, the name of its state.
+	 *
+	 * @param station
+	 *            Station of the group.
+	 * @return Name of the state of the station or GROUP_UNKNOWN if the station has no state.
+	 */
+	public static String getGroup(InmetStationEntity station) {
+		if (station.getCityEntily() == null || station.getCityEntily().getStateEntily() == null || station.getCityEntily().getStateEntily().getName() == null) {
+			return GROUP_UNKNOWN;
+		}
+		return station.getCityEntily().getStateEntily().getName();
+	}
+
+	/**
+	 * Remaining periods of a station.
+	 */
+	private static final class StationWork {
+
+		private final InmetStationEntity station;
+		private final int priority;
+		private final String group;
+		private final LocalDate lastDate;
+		private final Deque<period> periods;
+		private int served;
+
+		private StationWork(InmetStationEntity station, int priority, String group, LocalDate lastDate, Deque<period> periods) {
+			this.station = station;
+			this.priority = priority;
+			this.group = group;
+			this.lastDate = lastDate;
+			this.periods = periods;
+		}
+	}
+
+	/**
+	 * Stations of the same priority, grouped by state, with the states taking turns.
+	 */
+	private static final class Tier {
+
+		private final LinkedHashMap<String, PriorityQueue<StationWork>> groups = new LinkedHashMap<String, PriorityQueue<StationWork>>();
+		private final Deque<String> turns = new ArrayDeque<String>();
+
+		private void offer(StationWork work) {
+			PriorityQueue<StationWork> group = this.groups.get(work.group);
+			if (group == null) {
+				group = new PriorityQueue<StationWork>(STALENESS_ORDER);
+				this.groups.put(work.group, group);
+				this.turns.addLast(work.group);
+			}
+			group.offer(work);
+		}
+
+		private StationWork poll() {
+			// the state of the turn goes to the end of the line
+			String name = this.turns.pollFirst();
+			PriorityQueue<StationWork> group = this.groups.get(name);
+			StationWork work = group.poll();
+			if (group.isEmpty()) {
+				this.groups.remove(name);
+			} else {
+				this.turns.addLast(name);
+			}
+			return work;
+		}
+
+		private void remove(StationWork work) {
+			PriorityQueue<StationWork> group = this.groups.get(work.group);
+			if (group != null && group.remove(work) && group.isEmpty()) {
+				this.groups.remove(work.group);
+				for (Iterator<String> iterator = this.turns.iterator(); iterator.hasNext();) {
+					if (iterator.next().equals(work.group)) {
+						iterator.remove();
+					}
+				}
+			}
+		}
+
+		private boolean isEmpty() {
+			return this.groups.isEmpty();
+		}
+	}
+}
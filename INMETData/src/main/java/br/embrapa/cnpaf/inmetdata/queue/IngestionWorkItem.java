@@ -0,0 +1,89 @@
+package br.embrapa.cnpaf.inmetdata.queue;
+
+import java.time.LocalDate;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.period.period;
+
+/**
+ * <br>
+ * <p>
+ * <b>Immutable work item of the ingestion queue: one period of one station.</b>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public final class IngestionWorkItem {
+
+	private final InmetStationEntity station;
+	private final period period;
+	private final int priority;
+	private final LocalDate lastDate;
+	private final boolean last;
+
+	/**
+	 * Public class constructor.
+	 *
+	 * @param station
+	 *            Station to be ingested.
+	 * @param period
+	 *            Period to be ingested.
+	 * @param priority
+	 *            Priority of the station (the greater, the sooner).
+	 * @param lastDate
+	 *            Last date of the station already persisted before the ingestion started; data up to this date is not saved again.
+	 * @param last
+	 *            True if this is the last period of the station in the queue.
+	 */
+	public IngestionWorkItem(InmetStationEntity station, period period, int priority, LocalDate lastDate, boolean last) {
+		super();
+		this.station = station;
+		this.period = period;
+		this.priority = priority;
+		this.lastDate = lastDate;
+		this.last = last;
+	}
+
+	/**
+	 * @return the station
+	 */
+	public InmetStationEntity getStation() {
+		return station;
+	}
+
+	/**
+	 * @return the period
+	 */
+	public period getPeriod() {
+		return period;
+	}
+
+	/**
+	 * @return the priority
+	 */
+	public int getPriority() {
+		return priority;
+	}
+
+	/**
+	 * @return the lastDate
+	 */
+	public LocalDate getLastDate() {
+		return lastDate;
+	}
+
+	/**
+	 * @return True if this is the last period of the station in the queue.
+	 */
+	public boolean isLast() {
+		return last;
+	}
+
+	@Override
+	public String toString() {
+		return this.station.getCode() + " " + this.period + " (priority " + this.priority + ")";
+	}
+}
@@ -0,0 +1,269 @@
+package br.embrapa.cnpaf.inmetdata.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.apache.log4j.Level;
+
+import br.embrapa.cnpaf.inmetdata.archive.CompressedHourlySeries;
+import br.embrapa.cnpaf.inmetdata.archive.HourlyArchive;
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Singleton class responsible for the local columnar archive of the hourly data, with one file (HourlyArchive) per station and year.</b>
+ * </p>
+ * <p>
+ * The files are kept in the directory informed by <tt>inmetdata.archive.directory</tt>, as <tt>&lt;station code&gt;/&lt;year&gt;.inmh</tt>. After
+ * the ingestion of a period, its hourly data are merged into the archives of its years, so the analyses over the history of a station are served by
+ * range scans of memory-mapped files, without querying the database. The database remains the source of the data: the archive only contains the
+ * periods ingested while it is enabled.
+ * </p>
+ * <p>
+ * For backup and export, backup() writes a compressed copy of an archive (CompressedHourlySeries), usually a fraction of its size, which is merged back
+ * by restore().
+ * </p>
+ * <p>
+ * To retrieve an instance of this class use the static method getInstanceOf ():<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt> ArchiveService archiveService = ArchiveService.getInstanceOf();</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class ArchiveService extends GenericService<ArchiveService> {
+
+	private static ArchiveService instance;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param logClientName Name of the client object of the logging service.
+	 * @param logLevel      Log level to be used in log service.
+	 * @throws ServiceException Occurrence of any problems at start of system service.
+	 */
+	private ArchiveService(String logClientName, Level logLevel) throws ServiceException {
+		super(logClientName, logLevel);
+
+		// writing of the service creation details in log
+		this.success(MessageEnum.ARCHIVE_SERVICE_INFO_SUCCESS_CREATING_SERVICE, NetworkUtil.getLocalIpAddress(), this.getConfigurationService().getArchiveDirectory());
+	}
+
+	/**
+	 * Method to retrieve the instance of service. This class has a single instance for any application (Singleton).
+	 *
+	 * @param logClientName Name of the client object of the logging service.
+	 * @param logLevel      Log level to be used in log service.
+	 * @return Returns the instance of service.
+	 * @throws ServiceException Occurrence of any problems in creating of the service.
+	 */
+	public static synchronized ArchiveService getInstanceOf(String logClientName, Level logLevel) throws ServiceException {
+		if (ArchiveService.instance == null) {
+			ArchiveService.instance = new ArchiveService(logClientName, logLevel);
+		}
+		return ArchiveService.instance;
+	}
+
+	/**
+	 * Method to retrieve the instance of service. This class has a single instance for any application (Singleton).
+	 *
+	 * @return Returns the instance of service.
+	 * @throws ServiceException Occurrence of any problems in creating of the service.
+	 */
+	public static synchronized ArchiveService getInstanceOf() throws ServiceException {
+		return ArchiveService.getInstanceOf(ArchiveService.class.getSimpleName(), null);
+	}
+
+	/**
+	 * @return True if the directory of the archive is informed.
+	 */
+	public boolean isEnabled() {
+		return !this.getConfigurationService().getArchiveDirectory().isEmpty();
+	}
+
+	/**
+	 * Retrieves the archive file of a station and year.
+	 *
+	 * @param station Station of the archive.
+	 * @param year    Year of the archive.
+	 * @return Path of the archive file, which may not exist.
+	 */
+	public Path getFile(InmetStationEntity station, int year) {
+		return Paths.get(this.getConfigurationService().getArchiveDirectory(), station.getCode(), year + HourlyArchive.FILE_EXTENSION);
+	}
+
+	/**
+	 * Merges the hourly data of a batch into the archives of the station, one for each year of the data. The rows of the batch replace the rows of the
+	 * archive with the same date and hour. Called only by a single thread, the write stage of the ingestion.
+	 *
+	 * @param batch Batch with the hourly data of a station, without repeated measurements (see HourlyBatch.removeDuplicates()).
+	 * @return Service instance.
+	 * @throws ServiceException Occurrence of any problems in reading or writing the archives.
+	 */
+	public synchronized ArchiveService archive(HourlyBatch batch) throws ServiceException {
+		batch.sortByTime();
+		int first = 0;
+		while (first < batch.size()) {
+
+			// rows of the same year
+			int year = batch.getMeasurementDate(first).getYear();
+			long nextYear = LocalDate.of(year + 1, 1, 1).toEpochDay();
+			int end = first;
+			while (end < batch.size() && batch.getEpochDay(end) < nextYear) {
+				end++;
+			}
+			this.archive(batch, year, first, end);
+			first = end;
+		}
+		return this;
+	}
+
+	/**
+	 * Merges the rows of a year of the batch into its archive.
+	 */
+	private void archive(HourlyBatch batch, int year, int first, int end) throws ServiceException {
+		InmetStationEntity station = batch.getStation();
+		Path file = this.getFile(station, year);
+		try {
+			// the new rows first, so they are kept in place of the archived ones
+			HourlyBatch merged = batch;
+			int mergedFirst = first;
+			int mergedEnd = end;
+			if (Files.exists(file)) {
+				HourlyArchive archive = HourlyArchive.open(file);
+				merged = new HourlyBatch(station, end - first + archive.size()).addAll(batch, first, end);
+				archive.copyTo(merged, 0, archive.size());
+				merged.removeDuplicates();
+				mergedFirst = 0;
+				mergedEnd = merged.size();
+			}
+			Files.createDirectories(file.getParent());
+			HourlyArchive.write(file, merged, year, mergedFirst, mergedEnd);
+			this.success(MessageEnum.ARCHIVE_SERVICE_INFO_SUCCESS_WRITE, NetworkUtil.getLocalIpAddress(), station.getCode(), String.valueOf(year),
+					String.valueOf(mergedEnd - mergedFirst));
+
+		} catch (IOException | RuntimeException e) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.ARCHIVE_SERVICE_ERROR_WRITE, this.getClass().getSimpleName(), "archive", e.getMessage(), null, true,
+					NetworkUtil.getLocalIpAddress(), station.getCode(), String.valueOf(year), e.getMessage());
+		}
+	}
+
+	/**
+	 * Writes a compressed copy (CompressedHourlySeries) of the archive of a station and year, for backup or export.
+	 *
+	 * @param station Station of the archive.
+	 * @param year    Year of the archive.
+	 * @param file    File of the compressed copy.
+	 * @return Number of bytes of the compressed copy, or zero if the station has no data archived in the year.
+	 * @throws ServiceException Occurrence of any problems in reading the archive or writing the copy.
+	 */
+	public long backup(InmetStationEntity station, int year, Path file) throws ServiceException {
+		HourlyArchive archive = this.open(station, year);
+		if (archive == null) {
+			return 0;
+		}
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+			return CompressedHourlySeries.write(out, archive.toBatch(station), 0, archive.size());
+		} catch (IOException e) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.ARCHIVE_SERVICE_ERROR_BACKUP, this.getClass().getSimpleName(), "backup", e.getMessage(), null, true,
+					NetworkUtil.getLocalIpAddress(), station.getCode(), String.valueOf(year), e.getMessage());
+		}
+	}
+
+	/**
+	 * Merges a compressed copy (CompressedHourlySeries) of the hourly data of a station into its archives.
+	 *
+	 * @param station Station of the data.
+	 * @param file    File of the compressed copy.
+	 * @return Number of rows restored.
+	 * @throws ServiceException Occurrence of any problems in reading the copy or writing the archives.
+	 */
+	public int restore(InmetStationEntity station, Path file) throws ServiceException {
+		HourlyBatch batch;
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			batch = CompressedHourlySeries.read(in, station);
+		} catch (IOException | RuntimeException e) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.ARCHIVE_SERVICE_ERROR_RESTORE, this.getClass().getSimpleName(), "restore", e.getMessage(), null, true,
+					NetworkUtil.getLocalIpAddress(), station.getCode(), file.toString(), e.getMessage());
+		}
+		batch.removeDuplicates();
+		this.archive(batch);
+		return batch.size();
+	}
+
+	/**
+	 * Opens the archive of a station and year.
+	 *
+	 * @param station Station of the archive.
+	 * @param year    Year of the archive.
+	 * @return The archive, or null if the station has no data archived in the year.
+	 * @throws ServiceException The archive file cannot be read or it is corrupted.
+	 */
+	public HourlyArchive open(InmetStationEntity station, int year) throws ServiceException {
+		Path file = this.getFile(station, year);
+		if (!Files.exists(file)) {
+			return null;
+		}
+		try {
+			return HourlyArchive.open(file);
+		} catch (IOException e) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.ARCHIVE_SERVICE_ERROR_READ, this.getClass().getSimpleName(), "open", e.getMessage(), null, true,
+					NetworkUtil.getLocalIpAddress(), station.getCode(), String.valueOf(year), e.getMessage());
+		}
+	}
+
+	/**
+	 * Visits the archived rows of a station in a period, in order of date and hour.
+	 *
+	 * @param station   Station of the data.
+	 * @param startDate First date of the period.
+	 * @param endDate   Last date of the period.
+	 * @param visitor   Visitor of the rows.
+	 * @return Number of rows visited.
+	 * @throws ServiceException Some archive file cannot be read or it is corrupted.
+	 */
+	public int scan(InmetStationEntity station, LocalDate startDate, LocalDate endDate, HourlyArchive.RowVisitor visitor) throws ServiceException {
+		return this.scan(station, startDate, endDate, -1, 0, 0, visitor);
+	}
+
+	/**
+	 * Visits the archived rows of a station in a period whose value of a column is valid and in a range, in order of date and hour. The blocks of the
+	 * archives whose zone map is out of the range are skipped.
+	 *
+	 * @param station   Station of the data.
+	 * @param startDate First date of the period.
+	 * @param endDate   Last date of the period.
+	 * @param column    Column of the values (HourlyBatch.MINIMUM_TEMPERATURE to HourlyBatch.WIND_DIRECTION), or -1 for all rows of the period.
+	 * @param minimum   Minimum value of the column (inclusive).
+	 * @param maximum   Maximum value of the column (inclusive).
+	 * @param visitor   Visitor of the rows.
+	 * @return Number of rows visited.
+	 * @throws ServiceException Some archive file cannot be read or it is corrupted.
+	 */
+	public int scan(InmetStationEntity station, LocalDate startDate, LocalDate endDate, int column, float minimum, float maximum, HourlyArchive.RowVisitor visitor)
+			throws ServiceException {
+		int visited = 0;
+		for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+			HourlyArchive archive = this.open(station, year);
+			if (archive != null) {
+				visited += archive.scan((int) startDate.toEpochDay(), (int) endDate.toEpochDay(), column, minimum, maximum, visitor);
+			}
+		}
+		return visited;
+	}
+}
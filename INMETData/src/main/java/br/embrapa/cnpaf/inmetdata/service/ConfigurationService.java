@@ -1,13 +1,37 @@
 package br.embrapa.cnpaf.inmetdata.service;
 
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.apache.log4j.Level;
 
 import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.ParameterValueInvalidException;
 import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.util.CronExpression;
+import br.embrapa.cnpaf.inmetdata.util.ErrorUtil;
 import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
 
 /**
@@ -16,6 +40,16 @@ import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
  * <b>Singleton class responsible for system settings.</b>
  * </p>
  * <p>
+ * Each parameter is searched, in this order, in the system properties (<tt>-Dinmetdata.database.uri=...</tt>), in the environment variables
+ * (<tt>INMETDATA_DATABASE_URI=...</tt>) and in the configuration file, a properties file informed by <tt>inmetdata.config</tt> (or
+ * <tt>INMETDATA_CONFIG</tt>) whose default is <tt>inmetdata.properties</tt> in the working directory. All the parameters are parsed at once into an
+ * immutable snapshot, at startup, at each reload and by load(), and the snapshot is replaced as a whole, so the getters only read a field and never see
+ * a mix of old and new values. The values are validated at startup by validate().
+ * </p>
+ * <p>
+ * After startReload(), the configuration file is checked periodically and, when modified and valid, its new values take effect without restarting the
+ * system. Only the parameters read at each use are affected: the log level, the attempts and pacing of the requests to the INMET web service, the
+ * priorities of the stations and the directory of the local archive. The database connection, the metrics port and the schedule still require a restart.
  * </p>
  * <p>
  * To retrieve an instance of this class use the static method getInstanceOf ():<br>
@@ -32,10 +66,108 @@ import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
 public class ConfigurationService {
 
 	public static final Locale LANGUAGE_DEFAULT = new Locale("pt", "BR");
-	public static final Level LOG_LEVEL_DEFAULT = Level.ALL; // Level.ERROR;
 	public static final ZoneId TIME_ZONE_DEFAULT = ZoneOffset.UTC;
+	public static final String CONFIGURATION_FILE_PROPERTY = "inmetdata.config";
+	public static final String CONFIGURATION_FILE_DEFAULT = "inmetdata.properties";
+	public static final String CONFIGURATION_RELOAD_INTERVAL_PROPERTY = "inmetdata.config.reload.interval";
+	public static final int CONFIGURATION_RELOAD_INTERVAL_DEFAULT = 30; // seconds, zero disables the hot reload
+	public static final String LOG_LEVEL_PROPERTY = "inmetdata.log.level";
+	public static final Level LOG_LEVEL_DEFAULT = Level.ALL; // Level.ERROR;
+	public static final String METRICS_PORT_PROPERTY = "inmetdata.metrics.port";
+	public static final int METRICS_PORT_DEFAULT = 0; // metrics endpoint disabled
+	public static final String INMET_URL_PROPERTY = "inmetdata.inmet.url";
+	public static final String INMET_URL_DEFAULT = "https://apitempo.inmet.gov.br/estacao";
+	public static final String INMET_ATTEMPTS_PROPERTY = "inmetdata.inmet.attempts";
+	public static final int INMET_ATTEMPTS_DEFAULT = 6;
+	public static final String INMET_ATTEMPT_INTERVAL_PROPERTY = "inmetdata.inmet.attempt.interval";
+	public static final int INMET_ATTEMPT_INTERVAL_DEFAULT = 20; // milliseconds
+	public static final String INMET_ATTEMPT_RANDOMIZE_PROPERTY = "inmetdata.inmet.attempt.randomize";
+	public static final int INMET_ATTEMPT_RANDOMIZE_DEFAULT = 20; // maximum multiple (exclusive) of the attempt interval
+	public static final String DATABASE_URI_PROPERTY = "inmetdata.database.uri";
+	public static final String DATABASE_URI_DEFAULT = "jdbc:postgresql://localhost:5432/INMET";
+	public static final String DATABASE_USER_PROPERTY = "inmetdata.database.user";
+	public static final String DATABASE_USER_DEFAULT = "postgres";
+	public static final String DATABASE_PASSWORD_PROPERTY = "inmetdata.database.password";
+	public static final String DATABASE_PASSWORD_DEFAULT = "root";
+	public static final String STATIONS_PROPERTY = "inmetdata.stations";
+	public static final String STATIONS_PRIORITY_PROPERTY = "inmetdata.stations.priority";
+	public static final int STATION_PRIORITY_DEFAULT = 0;
+	public static final String SCHEDULE_PROPERTY = "inmetdata.schedule";
+	public static final String SCHEDULE_DEFAULT = ""; // one-shot execution
+	public static final String PIPELINE_FETCH_THREADS_PROPERTY = "inmetdata.pipeline.fetch.threads";
+	public static final int PIPELINE_FETCH_THREADS_DEFAULT = 1;
+	public static final String PIPELINE_FETCH_MODE_PROPERTY = "inmetdata.pipeline.fetch.mode";
+	public static final String PIPELINE_FETCH_MODE_PLATFORM = "platform";
+	public static final String PIPELINE_FETCH_MODE_VIRTUAL = "virtual"; // one virtual thread per fetch, requires Java 21
+	public static final String PIPELINE_FETCH_MODE_DEFAULT = PIPELINE_FETCH_MODE_PLATFORM;
+	public static final String PIPELINE_FETCH_CONCURRENCY_PROPERTY = "inmetdata.pipeline.fetch.concurrency";
+	public static final int PIPELINE_FETCH_CONCURRENCY_DEFAULT = 256; // fetches in flight in the virtual mode
+	public static final String PIPELINE_PARSE_THREADS_PROPERTY = "inmetdata.pipeline.parse.threads";
+	public static final int PIPELINE_PARSE_THREADS_DEFAULT = 1;
+	public static final String PIPELINE_AGGREGATE_THREADS_PROPERTY = "inmetdata.pipeline.aggregate.threads";
+	public static final int PIPELINE_AGGREGATE_THREADS_DEFAULT = 1;
+	public static final String PIPELINE_QUEUE_CAPACITY_PROPERTY = "inmetdata.pipeline.queue.capacity";
+	public static final int PIPELINE_QUEUE_CAPACITY_DEFAULT = 4; // periods waiting between two stages
+	public static final String PIPELINE_BATCH_INSERT_ROWS_PROPERTY = "inmetdata.pipeline.batch.insert.rows";
+	public static final int PIPELINE_BATCH_INSERT_ROWS_DEFAULT = 500; // rows of each INSERT of a batch
+	public static final String REPLAY_THREADS_PROPERTY = "inmetdata.replay.threads";
+	public static final int REPLAY_THREADS_DEFAULT = 4;
+	public static final String ARCHIVE_DIRECTORY_PROPERTY = "inmetdata.archive.directory";
+	public static final String ARCHIVE_DIRECTORY_DEFAULT = ""; // local archive disabled
+	public static final String EXPORT_DIRECTORY_PROPERTY = "inmetdata.export.directory";
+	public static final String EXPORT_DIRECTORY_DEFAULT = "export";
+	public static final String EXPORT_COMPRESSION_PROPERTY = "inmetdata.export.compression";
+	public static final String EXPORT_COMPRESSION_GZIP = "gzip";
+	public static final String EXPORT_COMPRESSION_NONE = "none";
+	public static final String EXPORT_COMPRESSION_DEFAULT = EXPORT_COMPRESSION_GZIP;
+	public static final String EXPORT_FORMAT_PROPERTY = "inmetdata.export.format";
+	public static final String EXPORT_FORMAT_PARQUET = "parquet"; // hourly and daily data, partitioned by state, station and year
+	public static final String EXPORT_FORMAT_CSV = "csv"; // daily data, one file per station
+	public static final String EXPORT_FORMAT_DEFAULT = EXPORT_FORMAT_PARQUET;
+	public static final String EXPORT_THREADS_PROPERTY = "inmetdata.export.threads";
+	public static final int EXPORT_THREADS_DEFAULT = 4;
+
+	private static final Parameter<Integer> CONFIGURATION_RELOAD_INTERVAL = new Parameter<Integer>(CONFIGURATION_RELOAD_INTERVAL_PROPERTY, CONFIGURATION_RELOAD_INTERVAL_DEFAULT, value -> parseInteger(value, 0, 86400));
+	private static final Parameter<Level> LOG_LEVEL = new Parameter<Level>(LOG_LEVEL_PROPERTY, LOG_LEVEL_DEFAULT, ConfigurationService::parseLevel);
+	private static final Parameter<Integer> METRICS_PORT = new Parameter<Integer>(METRICS_PORT_PROPERTY, METRICS_PORT_DEFAULT, value -> parseInteger(value, 0, 65535));
+	private static final Parameter<String> INMET_URL = new Parameter<String>(INMET_URL_PROPERTY, INMET_URL_DEFAULT, value -> parsePrefixed(value, "http"));
+	private static final Parameter<Integer> INMET_ATTEMPTS = new Parameter<Integer>(INMET_ATTEMPTS_PROPERTY, INMET_ATTEMPTS_DEFAULT, value -> parseInteger(value, 1, 100));
+	private static final Parameter<Integer> INMET_ATTEMPT_INTERVAL = new Parameter<Integer>(INMET_ATTEMPT_INTERVAL_PROPERTY, INMET_ATTEMPT_INTERVAL_DEFAULT, value -> parseInteger(value, 0, 60000));
+	private static final Parameter<Integer> INMET_ATTEMPT_RANDOMIZE = new Parameter<Integer>(INMET_ATTEMPT_RANDOMIZE_PROPERTY, INMET_ATTEMPT_RANDOMIZE_DEFAULT, value -> parseInteger(value, 1, 1000));
+	private static final Parameter<String> DATABASE_URI = new Parameter<String>(DATABASE_URI_PROPERTY, DATABASE_URI_DEFAULT, value -> parsePrefixed(value, "jdbc:"));
+	private static final Parameter<String> DATABASE_USER = new Parameter<String>(DATABASE_USER_PROPERTY, DATABASE_USER_DEFAULT, value -> value);
+	private static final Parameter<String> DATABASE_PASSWORD = new Parameter<String>(DATABASE_PASSWORD_PROPERTY, DATABASE_PASSWORD_DEFAULT, value -> value);
+	private static final Parameter<Set<String>> STATIONS = new Parameter<Set<String>>(STATIONS_PROPERTY, Collections.<String>emptySet(), ConfigurationService::parseStations);
+	private static final Parameter<Map<String, Integer>> STATIONS_PRIORITY = new Parameter<Map<String, Integer>>(STATIONS_PRIORITY_PROPERTY, Collections.<String, Integer>emptyMap(), ConfigurationService::parsePriorities);
+	private static final Parameter<String> SCHEDULE = new Parameter<String>(SCHEDULE_PROPERTY, SCHEDULE_DEFAULT, ConfigurationService::parseSchedule);
+	private static final Parameter<Integer> PIPELINE_FETCH_THREADS = new Parameter<Integer>(PIPELINE_FETCH_THREADS_PROPERTY, PIPELINE_FETCH_THREADS_DEFAULT, value -> parseInteger(value, 1, 64));
+	private static final Parameter<String> PIPELINE_FETCH_MODE = new Parameter<String>(PIPELINE_FETCH_MODE_PROPERTY, PIPELINE_FETCH_MODE_DEFAULT,
+			value -> parseOption(value, PIPELINE_FETCH_MODE_PLATFORM, PIPELINE_FETCH_MODE_VIRTUAL));
+	private static final Parameter<Integer> PIPELINE_FETCH_CONCURRENCY = new Parameter<Integer>(PIPELINE_FETCH_CONCURRENCY_PROPERTY, PIPELINE_FETCH_CONCURRENCY_DEFAULT, value -> parseInteger(value, 1, 10000));
+	private static final Parameter<Integer> PIPELINE_PARSE_THREADS = new Parameter<Integer>(PIPELINE_PARSE_THREADS_PROPERTY, PIPELINE_PARSE_THREADS_DEFAULT, value -> parseInteger(value, 1, 64));
+	private static final Parameter<Integer> PIPELINE_AGGREGATE_THREADS = new Parameter<Integer>(PIPELINE_AGGREGATE_THREADS_PROPERTY, PIPELINE_AGGREGATE_THREADS_DEFAULT, value -> parseInteger(value, 1, 64));
+	private static final Parameter<Integer> PIPELINE_QUEUE_CAPACITY = new Parameter<Integer>(PIPELINE_QUEUE_CAPACITY_PROPERTY, PIPELINE_QUEUE_CAPACITY_DEFAULT, value -> parseInteger(value, 1, 1024));
+	private static final Parameter<Integer> PIPELINE_BATCH_INSERT_ROWS = new Parameter<Integer>(PIPELINE_BATCH_INSERT_ROWS_PROPERTY, PIPELINE_BATCH_INSERT_ROWS_DEFAULT, value -> parseInteger(value, 1, 10000));
+	private static final Parameter<Integer> REPLAY_THREADS = new Parameter<Integer>(REPLAY_THREADS_PROPERTY, REPLAY_THREADS_DEFAULT, value -> parseInteger(value, 1, 64));
+	private static final Parameter<String> ARCHIVE_DIRECTORY = new Parameter<String>(ARCHIVE_DIRECTORY_PROPERTY, ARCHIVE_DIRECTORY_DEFAULT, value -> value.trim());
+	private static final Parameter<String> EXPORT_DIRECTORY = new Parameter<String>(EXPORT_DIRECTORY_PROPERTY, EXPORT_DIRECTORY_DEFAULT, value -> value.trim());
+	private static final Parameter<String> EXPORT_COMPRESSION = new Parameter<String>(EXPORT_COMPRESSION_PROPERTY, EXPORT_COMPRESSION_DEFAULT,
+			value -> parseOption(value, EXPORT_COMPRESSION_GZIP, EXPORT_COMPRESSION_NONE));
+	private static final Parameter<String> EXPORT_FORMAT = new Parameter<String>(EXPORT_FORMAT_PROPERTY, EXPORT_FORMAT_DEFAULT, value -> parseOption(value, EXPORT_FORMAT_PARQUET, EXPORT_FORMAT_CSV));
+	private static final Parameter<Integer> EXPORT_THREADS = new Parameter<Integer>(EXPORT_THREADS_PROPERTY, EXPORT_THREADS_DEFAULT, value -> parseInteger(value, 1, 64));
+	private static final List<Parameter<?>> PARAMETERS = Arrays.<Parameter<?>>asList(CONFIGURATION_RELOAD_INTERVAL, LOG_LEVEL, METRICS_PORT, INMET_URL, INMET_ATTEMPTS, INMET_ATTEMPT_INTERVAL,
+			INMET_ATTEMPT_RANDOMIZE, DATABASE_URI, DATABASE_USER, DATABASE_PASSWORD, STATIONS, STATIONS_PRIORITY, SCHEDULE, PIPELINE_FETCH_THREADS, PIPELINE_FETCH_MODE,
+			PIPELINE_FETCH_CONCURRENCY, PIPELINE_PARSE_THREADS, PIPELINE_AGGREGATE_THREADS, PIPELINE_QUEUE_CAPACITY, PIPELINE_BATCH_INSERT_ROWS,
+			REPLAY_THREADS, ARCHIVE_DIRECTORY, EXPORT_DIRECTORY, EXPORT_COMPRESSION, EXPORT_FORMAT, EXPORT_THREADS);
 
 	private static ConfigurationService instance;
+	private final String logClientName;
+	private final Path configurationFile;
+	private final List<ConfigurationListener> listeners;
+	private volatile Snapshot snapshot;
+	private volatile FileTime fileLastModified;
+	private ScheduledExecutorService reloadExecutor;
+	private LogService logService;
 
 	/**
 	 * Private class constructor.
@@ -49,6 +181,14 @@ public class ConfigurationService {
 	 */
 	private ConfigurationService(String logClientName, Level logLevel) throws ServiceException {
 		super();
+		this.logClientName = logClientName;
+		this.listeners = new CopyOnWriteArrayList<ConfigurationListener>();
+
+		// loading the configuration file, if any
+		String fileName = System.getProperty(CONFIGURATION_FILE_PROPERTY, System.getenv(getEnvironmentName(CONFIGURATION_FILE_PROPERTY)));
+		this.configurationFile = Paths.get(fileName != null ? fileName : CONFIGURATION_FILE_DEFAULT);
+		this.fileLastModified = this.getFileLastModified();
+		this.snapshot = this.parse(this.loadFile());
 	}
 
 	/**
@@ -80,6 +220,70 @@ public class ConfigurationService {
 		return ConfigurationService.getInstanceOf(ConfigurationService.class.getSimpleName(), null);
 	}
 
+	/**
+	 * Validates all the parameters of the configuration, reporting at once every invalid value found in the system properties, environment variables or
+	 * configuration file.
+	 * 
+	 * @return Service instance.
+	 * @throws ServiceException
+	 *             Some parameter has an invalid value.
+	 */
+	public ConfigurationService validate() throws ServiceException {
+		List<String> errors = this.snapshot.errors;
+		if (!errors.isEmpty()) {
+			throw ErrorUtil.getServiceExceptionError(NetworkUtil.getLocalIpAddress(), MessageEnum.CONFIGURATION_SERVICE_ERROR_INVALID_CONFIGURATION, this.getClass().getSimpleName(), "validate",
+					String.join("; ", errors), null, NetworkUtil.getLocalIpAddress(), this.configurationFile.toString());
+		}
+		return this;
+	}
+
+	/**
+	 * Starts watching the configuration file, reloading it when modified. An invalid file is not applied and the previous configuration is kept. If the
+	 * reload interval is zero or the watch is already started, nothing is done.
+	 * 
+	 * @return Service instance.
+	 */
+	public synchronized ConfigurationService startReload() {
+		int interval = this.get(CONFIGURATION_RELOAD_INTERVAL);
+		if (interval == 0 || this.reloadExecutor != null) {
+			return this;
+		}
+
+		// checking the file in a daemon thread, so it never holds the end of the execution
+		this.reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, ConfigurationService.class.getSimpleName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.reloadExecutor.scheduleWithFixedDelay(this::reload, interval, interval, TimeUnit.SECONDS);
+		return this;
+	}
+
+	/**
+	 * Parses again all the parameters from the current system properties, environment variables and configuration file, even if the file was not
+	 * modified, and notifies the listeners. As at startup, an invalid value is replaced by the default value of the parameter.
+	 * 
+	 * @return Service instance.
+	 * @throws ServiceException
+	 *             Error in reading the configuration file.
+	 */
+	public ConfigurationService load() throws ServiceException {
+		this.apply(this.parse(this.loadFile()));
+		return this;
+	}
+
+	/**
+	 * Registers a listener to be notified after each reload of the configuration file.
+	 * 
+	 * @param listener
+	 *            Listener to be notified.
+	 * @return Service instance.
+	 */
+	public ConfigurationService addListener(ConfigurationListener listener) {
+		this.listeners.add(listener);
+		return this;
+	}
+
 	/**
 	 * Retrieves the operating language of the system.<br>
 	 * All messages registered by the system, use this parameter to select the current language, in order to support internationalization.<br>
@@ -92,14 +296,14 @@ public class ConfigurationService {
 	}
 
 	/**
-	 * Retrieves the log level to be used in all system services.<br>
+	 * Retrieves the log level to be used in all system services, informed by the parameter <tt>inmetdata.log.level</tt> (reloadable).<br>
 	 * The system log level may contain the following levels, from least restrictive to most restrictive: <br>
 	 * <tt>ALL -> DEBUG -> INFO -> WARNING -> ERROR -> FATAL.</tt>
 	 * 
 	 * @return The log level to be used in all system services.
 	 */
 	public Level getLogLevel() {
-		return LOG_LEVEL_DEFAULT;
+		return this.get(LOG_LEVEL);
 	};
 
 	/**
@@ -112,4 +316,513 @@ public class ConfigurationService {
 		return TIME_ZONE_DEFAULT;
 	};
 
+	/**
+	 * Retrieves the port of the HTTP endpoint of the metrics, informed by the parameter <tt>inmetdata.metrics.port</tt>.<br>
+	 * The port zero (default) means that the endpoint is disabled.
+	 * 
+	 * @return The port of the HTTP endpoint of the metrics.
+	 */
+	public int getMetricsPort() {
+		return this.get(METRICS_PORT);
+	}
+
+	/**
+	 * Retrieves the address of the INMET web service, informed by the parameter <tt>inmetdata.inmet.url</tt>.
+	 * 
+	 * @return The address of the INMET web service.
+	 */
+	public String getInmetUrl() {
+		return this.get(INMET_URL);
+	}
+
+	/**
+	 * Retrieves the maximum number of attempts of each request to the INMET web service, informed by the parameter <tt>inmetdata.inmet.attempts</tt>
+	 * (reloadable).
+	 * 
+	 * @return The maximum number of attempts of each request to the INMET web service.
+	 */
+	public int getInmetAttempts() {
+		return this.get(INMET_ATTEMPTS);
+	}
+
+	/**
+	 * Retrieves the base interval in milliseconds between the requests to the INMET web service, informed by the parameter
+	 * <tt>inmetdata.inmet.attempt.interval</tt> (reloadable).<br>
+	 * Each request waits a random multiple of this interval, in order to not overload the web service.
+	 * 
+	 * @return The base interval in milliseconds between the requests to the INMET web service.
+	 */
+	public int getInmetAttemptInterval() {
+		return this.get(INMET_ATTEMPT_INTERVAL);
+	}
+
+	/**
+	 * Retrieves the upper bound (exclusive) of the random multiple of the attempt interval waited before each request to the INMET web service, informed by
+	 * the parameter <tt>inmetdata.inmet.attempt.randomize</tt> (reloadable).
+	 * 
+	 * @return The upper bound of the random multiple of the attempt interval.
+	 */
+	public int getInmetAttemptRandomize() {
+		return this.get(INMET_ATTEMPT_RANDOMIZE);
+	}
+
+	/**
+	 * Retrieves the JDBC address of the database server, informed by the parameter <tt>inmetdata.database.uri</tt>.
+	 * 
+	 * @return The JDBC address of the database server.
+	 */
+	public String getDatabaseUri() {
+		return this.get(DATABASE_URI);
+	}
+
+	/**
+	 * Retrieves the user of the database server, informed by the parameter <tt>inmetdata.database.user</tt>.
+	 * 
+	 * @return The user of the database server.
+	 */
+	public String getDatabaseUser() {
+		return this.get(DATABASE_USER);
+	}
+
+	/**
+	 * Retrieves the password of the database server, informed by the parameter <tt>inmetdata.database.password</tt>.
+	 * 
+	 * @return The password of the database server.
+	 */
+	public String getDatabasePassword() {
+		return this.get(DATABASE_PASSWORD);
+	}
+
+	/**
+	 * Retrieves the codes of the stations to be ingested, informed by the parameter <tt>inmetdata.stations</tt> (codes separated by comma).<br>
+	 * An empty set means that all stations are ingested.
+	 * 
+	 * @return The codes of the stations to be ingested.
+	 */
+	public Set<String> getStations() {
+		return this.get(STATIONS);
+	}
+
+	/**
+	 * Retrieves the priorities of the stations, informed by the parameter <tt>inmetdata.stations.priority</tt> (pairs <tt>code:priority</tt> separated by
+	 * comma, e.g. <tt>A001:10,A045:5</tt>).
+	 * 
+	 * @return The priorities of the stations, by station code.
+	 */
+	public Map<String, Integer> getStationPriorities() {
+		return this.get(STATIONS_PRIORITY);
+	}
+
+	/**
+	 * Retrieves the cron expression of the daemon mode, informed by the parameter <tt>inmetdata.schedule</tt> (e.g. <tt>30 2 * * *</tt>).<br>
+	 * An empty expression means that the system runs once and exits.
+	 * 
+	 * @return The cron expression of the daemon mode.
+	 */
+	public String getSchedule() {
+		return this.get(SCHEDULE);
+	}
+
+	/**
+	 * Retrieves the number of threads of the fetch stage of the ingestion pipeline, informed by the parameter <tt>inmetdata.pipeline.fetch.threads</tt>
+	 * (applied at the next ingestion).
+	 * 
+	 * @return The number of threads of the fetch stage.
+	 */
+	public int getPipelineFetchThreads() {
+		return this.get(PIPELINE_FETCH_THREADS);
+	}
+
+	/**
+	 * Retrieves the execution mode of the fetch stage of the ingestion pipeline, informed by the parameter <tt>inmetdata.pipeline.fetch.mode</tt> (applied
+	 * at the next ingestion): <tt>platform</tt> (default) uses a pool of <tt>inmetdata.pipeline.fetch.threads</tt> threads and <tt>virtual</tt> runs each
+	 * fetch in its own virtual thread, up to <tt>inmetdata.pipeline.fetch.concurrency</tt> at a time, when the runtime supports it (Java 21 or newer).
+	 * 
+	 * @return The execution mode of the fetch stage.
+	 */
+	public String getPipelineFetchMode() {
+		return this.get(PIPELINE_FETCH_MODE);
+	}
+
+	/**
+	 * Retrieves the maximum number of fetches in flight in the virtual mode of the fetch stage, informed by the parameter
+	 * <tt>inmetdata.pipeline.fetch.concurrency</tt> (applied at the next ingestion).
+	 * 
+	 * @return The maximum number of fetches in flight in the virtual mode.
+	 */
+	public int getPipelineFetchConcurrency() {
+		return this.get(PIPELINE_FETCH_CONCURRENCY);
+	}
+
+	/**
+	 * Retrieves the number of threads of the parse stage of the ingestion pipeline, informed by the parameter <tt>inmetdata.pipeline.parse.threads</tt>
+	 * (applied at the next ingestion).
+	 * 
+	 * @return The number of threads of the parse stage.
+	 */
+	public int getPipelineParseThreads() {
+		return this.get(PIPELINE_PARSE_THREADS);
+	}
+
+	/**
+	 * Retrieves the number of threads of the aggregate stage of the ingestion pipeline, informed by the parameter
+	 * <tt>inmetdata.pipeline.aggregate.threads</tt> (applied at the next ingestion).
+	 * 
+	 * @return The number of threads of the aggregate stage.
+	 */
+	public int getPipelineAggregateThreads() {
+		return this.get(PIPELINE_AGGREGATE_THREADS);
+	}
+
+	/**
+	 * Retrieves the capacity of the queues between the stages of the ingestion pipeline, informed by the parameter
+	 * <tt>inmetdata.pipeline.queue.capacity</tt> (applied at the next ingestion). A full queue blocks the previous stage until the next one catches up.
+	 * 
+	 * @return The capacity of the queues between the stages.
+	 */
+	public int getPipelineQueueCapacity() {
+		return this.get(PIPELINE_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Retrieves the maximum number of hourly rows of each INSERT when a batch of the ingestion pipeline is saved, informed by the parameter
+	 * <tt>inmetdata.pipeline.batch.insert.rows</tt> (applied at the next batch saved).
+	 * 
+	 * @return The maximum number of rows of each INSERT of a batch.
+	 */
+	public int getPipelineBatchInsertRows() {
+		return this.get(PIPELINE_BATCH_INSERT_ROWS);
+	}
+
+	/**
+	 * Retrieves the number of threads of the fetch stage in the replay of the dead letters (<tt>--replay</tt>), informed by the parameter
+	 * <tt>inmetdata.replay.threads</tt>.
+	 * 
+	 * @return The number of threads of the fetch stage in the replay.
+	 */
+	public int getReplayThreads() {
+		return this.get(REPLAY_THREADS);
+	}
+
+	/**
+	 * Retrieves the directory of the local columnar archive of the hourly data, informed by the parameter <tt>inmetdata.archive.directory</tt>. The
+	 * archive is written after the ingestion of each period only when the directory is informed.
+	 * 
+	 * @return The directory of the local archive, or an empty string if it is disabled.
+	 */
+	public String getArchiveDirectory() {
+		return this.get(ARCHIVE_DIRECTORY);
+	}
+
+	/**
+	 * Retrieves the directory of the Parquet files written by the export of the data (<tt>--export</tt>), informed by the parameter
+	 * <tt>inmetdata.export.directory</tt>.
+	 * 
+	 * @return The directory of the export.
+	 */
+	public String getExportDirectory() {
+		return this.get(EXPORT_DIRECTORY);
+	}
+
+	/**
+	 * Retrieves the compression of the pages of the Parquet files written by the export of the data, informed by the parameter
+	 * <tt>inmetdata.export.compression</tt>: <tt>gzip</tt> (default) or <tt>none</tt>, which writes larger files faster.
+	 * 
+	 * @return The compression of the export.
+	 */
+	public String getExportCompression() {
+		return this.get(EXPORT_COMPRESSION);
+	}
+
+	/**
+	 * Retrieves the format of the export of the data, informed by the parameter <tt>inmetdata.export.format</tt>: <tt>parquet</tt> (default) exports the
+	 * hourly and daily data to Parquet files partitioned by state, station and year, and <tt>csv</tt> exports the daily data to a CSV file per station.
+	 * 
+	 * @return The format of the export.
+	 */
+	public String getExportFormat() {
+		return this.get(EXPORT_FORMAT);
+	}
+
+	/**
+	 * Retrieves the number of threads that write the CSV files of the stations in parallel, informed by the parameter
+	 * <tt>inmetdata.export.threads</tt>.
+	 * 
+	 * @return The number of threads of the CSV export.
+	 */
+	public int getExportThreads() {
+		return this.get(EXPORT_THREADS);
+	}
+
+	/**
+	 * Retrieves the value of the parameter from the current snapshot of the configuration.
+	 * 
+	 * @param parameter
+	 *            Parameter to be retrieved.
+	 * @return Value of the parameter.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T get(Parameter<T> parameter) {
+		return (T) this.snapshot.values[parameter.index];
+	}
+
+	/**
+	 * Retrieves the raw value of the parameter from the system properties, environment variables or configuration file, in this order.
+	 * 
+	 * @param key
+	 *            Key of the parameter.
+	 * @param fileProperties
+	 *            Properties of the configuration file.
+	 * @return Raw value of the parameter or null if the parameter is not informed.
+	 */
+	private String getProperty(String key, Properties fileProperties) {
+		String value = System.getProperty(key);
+		if (value == null) {
+			value = System.getenv(getEnvironmentName(key));
+		}
+		if (value == null) {
+			value = fileProperties.getProperty(key);
+		}
+		return value;
+	}
+
+	/**
+	 * Parses all the parameters. Each value is searched, in this order, in the system properties (<tt>-Dinmetdata.inmet.attempts=6</tt>), in the
+	 * environment variables (<tt>INMETDATA_INMET_ATTEMPTS=6</tt>) and in the configuration file (<tt>inmetdata.inmet.attempts=6</tt>). When the parameter
+	 * is not informed or its value is invalid, the default value is used, and the invalid value is reported in the errors of the snapshot.
+	 * 
+	 * @param fileProperties
+	 *            Properties of the configuration file.
+	 * @return Snapshot with the values of all the parameters.
+	 */
+	private Snapshot parse(Properties fileProperties) {
+		Object[] values = new Object[PARAMETERS.size()];
+		List<String> errors = new ArrayList<String>();
+		for (Parameter<?> parameter : PARAMETERS) {
+			Object parsed = parameter.defaultValue;
+			String value = this.getProperty(parameter.key, fileProperties);
+			if (value != null) {
+				try {
+					parsed = parameter.parser.apply(value.trim());
+				} catch (RuntimeException e) {
+					errors.add(parameter.key + "=\"" + value + "\" (" + e.getMessage() + ")");
+				}
+			}
+			values[parameter.index] = parsed;
+		}
+		return new Snapshot(values, errors);
+	}
+
+	/**
+	 * Replaces the snapshot of the configuration and notifies the listeners.
+	 * 
+	 * @param snapshot
+	 *            New snapshot of the configuration.
+	 */
+	private void apply(Snapshot snapshot) {
+		this.snapshot = snapshot;
+		for (ConfigurationListener listener : this.listeners) {
+			listener.reloaded(this);
+		}
+	}
+
+	/**
+	 * Reloads the configuration file, if it was modified since the last load, and notifies the listeners.
+	 */
+	private void reload() {
+		FileTime lastModified = this.getFileLastModified();
+		if (Objects.equals(lastModified, this.fileLastModified)) {
+			return;
+		}
+		this.fileLastModified = lastModified;
+
+		try {
+			// applying the new file only if it is valid
+			Snapshot snapshot = this.parse(this.loadFile());
+			if (!snapshot.errors.isEmpty()) {
+				throw ErrorUtil.getServiceExceptionError(NetworkUtil.getLocalIpAddress(), MessageEnum.CONFIGURATION_SERVICE_ERROR_INVALID_CONFIGURATION, this.getClass().getSimpleName(), "reload",
+						String.join("; ", snapshot.errors), null, NetworkUtil.getLocalIpAddress(), this.configurationFile.toString());
+			}
+			this.apply(snapshot);
+			this.getLogService().info(MessageService.getInstanceOf().getMessage(MessageEnum.CONFIGURATION_SERVICE_INFO_SUCCESS_RELOAD.name(), NetworkUtil.getLocalIpAddress(),
+					this.configurationFile.toString()));
+
+		} catch (Throwable e) {
+			try {
+				this.getLogService().error(e.getMessage());
+			} catch (Throwable e1) {
+			}
+		}
+	}
+
+	/**
+	 * Loads the properties of the configuration file.
+	 * 
+	 * @return Properties of the configuration file, empty if the file does not exist.
+	 * @throws ServiceException
+	 *             Error in reading the configuration file.
+	 */
+	private Properties loadFile() throws ServiceException {
+		Properties fileProperties = new Properties();
+		if (Files.isRegularFile(this.configurationFile)) {
+			try (Reader reader = Files.newBufferedReader(this.configurationFile, StandardCharsets.UTF_8)) {
+				fileProperties.load(reader);
+			} catch (Exception e) {
+				throw ErrorUtil.getServiceExceptionError(NetworkUtil.getLocalIpAddress(), MessageEnum.CONFIGURATION_SERVICE_ERROR_LOAD_FILE, this.getClass().getSimpleName(), "loadFile",
+						e.getMessage(), null, NetworkUtil.getLocalIpAddress(), this.configurationFile.toString());
+			}
+		}
+		return fileProperties;
+	}
+
+	/**
+	 * @return Last modification time of the configuration file or null if the file does not exist.
+	 */
+	private FileTime getFileLastModified() {
+		try {
+			return Files.getLastModifiedTime(this.configurationFile);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Retrieves the log service of the configuration service, created only when needed, since the log service itself depends on the configuration.
+	 * 
+	 * @return Log service.
+	 * @throws ServiceException
+	 *             Error in creating the log service.
+	 */
+	private synchronized LogService getLogService() throws ServiceException {
+		if (this.logService == null) {
+			this.logService = new LogService(MessageService.getInstanceOf(), this.logClientName, this.getLogLevel());
+		}
+		return this.logService;
+	}
+
+	/**
+	 * Retrieves the name of the environment variable of the parameter: the key in upper case with the dots replaced by underscores.
+	 * 
+	 * @param key
+	 *            Key of the parameter.
+	 * @return Name of the environment variable.
+	 */
+	private static String getEnvironmentName(String key) {
+		return key.toUpperCase(Locale.ROOT).replace('.', '_');
+	}
+
+	private static Integer parseInteger(String value, int minimum, int maximum) {
+		int number = Integer.parseInt(value);
+		if (number < minimum || number > maximum) {
+			throw new IllegalArgumentException("expected a value between " + minimum + " and " + maximum);
+		}
+		return number;
+	}
+
+	private static Level parseLevel(String value) {
+		Level level = Level.toLevel(value, null);
+		if (level == null) {
+			throw new IllegalArgumentException("expected ALL, DEBUG, INFO, WARN, ERROR, FATAL or OFF");
+		}
+		return level;
+	}
+
+	private static String parseOption(String value, String... options) {
+		for (String option : options) {
+			if (option.equalsIgnoreCase(value)) {
+				return option;
+			}
+		}
+		throw new IllegalArgumentException("expected one of " + String.join(", ", options));
+	}
+
+	private static String parsePrefixed(String value, String prefix) {
+		if (!value.startsWith(prefix)) {
+			throw new IllegalArgumentException("expected a value starting with \"" + prefix + "\"");
+		}
+		return value;
+	}
+
+	private static Set<String> parseStations(String value) {
+		Set<String> stations = new HashSet<String>();
+		for (String station : value.split(",")) {
+			if (!station.trim().isEmpty()) {
+				stations.add(station.trim());
+			}
+		}
+		return Collections.unmodifiableSet(stations);
+	}
+
+	private static Map<String, Integer> parsePriorities(String value) {
+		Map<String, Integer> priorities = new HashMap<String, Integer>();
+		for (String entry : value.split(",")) {
+			if (!entry.trim().isEmpty()) {
+				int separator = entry.lastIndexOf(':');
+				if (separator <= 0) {
+					throw new IllegalArgumentException("expected pairs code:priority");
+				}
+				priorities.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+			}
+		}
+		return Collections.unmodifiableMap(priorities);
+	}
+
+	private static String parseSchedule(String value) {
+		if (!value.isEmpty()) {
+			try {
+				CronExpression.parse(value);
+			} catch (ParameterValueInvalidException e) {
+				throw new IllegalArgumentException(e.getMessage(), e);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Listener notified after each reload of the configuration file.
+	 */
+	public interface ConfigurationListener {
+
+		/**
+		 * Method called after the configuration file is reloaded.
+		 * 
+		 * @param configurationService
+		 *            Configuration service with the new values.
+		 */
+		void reloaded(ConfigurationService configurationService);
+	}
+
+	/**
+	 * Typed parameter of the configuration, with the index of its value in the snapshots.
+	 */
+	private static final class Parameter<T> {
+
+		private static int count;
+		private final int index;
+		private final String key;
+		private final T defaultValue;
+		private final Function<String, T> parser;
+
+		private Parameter(String key, T defaultValue, Function<String, T> parser) {
+			this.index = count++;
+			this.key = key;
+			this.defaultValue = defaultValue;
+			this.parser = parser;
+		}
+	}
+
+	/**
+	 * Immutable snapshot with the parsed values of all the parameters, by index, and the invalid values found.
+	 */
+	private static final class Snapshot {
+
+		private final Object[] values;
+		private final List<String> errors;
+
+		private Snapshot(Object[] values, List<String> errors) {
+			this.values = values;
+			this.errors = Collections.unmodifiableList(errors);
+		}
+	}
+
 }
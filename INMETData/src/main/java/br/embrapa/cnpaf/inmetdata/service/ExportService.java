@@ -0,0 +1,600 @@
+package br.embrapa.cnpaf.inmetdata.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Level;
+
+import br.embrapa.cnpaf.inmetdata.dao.GenericDAO;
+import br.embrapa.cnpaf.inmetdata.dao.InmetDiarlyDataDAO;
+import br.embrapa.cnpaf.inmetdata.dao.InmetHourlyDataDAO;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.GenericException;
+import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.export.CsvWriter;
+import br.embrapa.cnpaf.inmetdata.export.ParquetWriter;
+import br.embrapa.cnpaf.inmetdata.export.ParquetWriter.Column;
+import br.embrapa.cnpaf.inmetdata.export.ParquetWriter.Type;
+import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+import br.embrapa.cnpaf.inmetdata.util.TemporalKeyUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Singleton class responsible for the export of the hourly and daily data of the stations to Parquet files.</b>
+ * </p>
+ * <p>
+ * The rows of each station are streamed from the database through a server-side cursor (see GenericDAO.stream()) into a ParquetWriter, which writes
+ * them in columnar row groups, so the memory used does not depend on the volume exported. The files are partitioned by state, station and year, in the
+ * directory informed by <tt>inmetdata.export.directory</tt>, with one dataset for each kind of data:
+ * </p>
+ * <p>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt>&lt;directory&gt;/hourly/state=&lt;state&gt;/station=&lt;station code&gt;/year=&lt;year&gt;/data.parquet</tt><br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt>&lt;directory&gt;/daily/state=&lt;state&gt;/station=&lt;station code&gt;/year=&lt;year&gt;/data.parquet</tt>
+ * </p>
+ * <p>
+ * The partitions follow the layout of Hive, so each dataset is loaded as a single table by Spark, pyarrow or DuckDB, with the state, the station and
+ * the year as columns, and the filters on them read only the matching files. Each file is written in a temporary file and moved over the previous one
+ * only when complete, so a reader never finds a partial file.
+ * </p>
+ * <p>
+ * The daily data can also be exported to CSV, one file per station (<tt>&lt;directory&gt;/csv/daily/&lt;station code&gt;.csv</tt>), by
+ * exportDailyCsv(). The rows of all the stations are read by a single cursor and handed in chunks to <tt>inmetdata.export.threads</tt> threads, each
+ * one writing the files of some stations with a CsvWriter, which formats the cells directly in a direct buffer written to a FileChannel.
+ * </p>
+ * <p>
+ * To retrieve an instance of this class use the static method getInstanceOf ():<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt> ExportService exportService = ExportService.getInstanceOf();</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class ExportService extends GenericService<ExportService> {
+
+	public static final String HOURLY_DATASET = "hourly";
+	public static final String DAILY_DATASET = "daily";
+	public static final String DATA_FILE = "data" + ParquetWriter.FILE_EXTENSION;
+	public static final String UNKNOWN_PARTITION = "unknown";
+	public static final String CSV_DIRECTORY = "csv";
+	public static final int CSV_CHUNK_ROWS = 4096; // rows handed at a time to the thread of a station
+
+	private static final String HOUR_COLUMN = "hour";
+	private static final List<Column> HOURLY_COLUMNS = Arrays.asList( //
+			new Column("measurement_date", Type.DATE, false), //
+			new Column(HOUR_COLUMN, Type.INT32, false), //
+			new Column("minimum_temperature", Type.FLOAT, true), //
+			new Column("maximum_temperature", Type.FLOAT, true), //
+			new Column("instant_temperature", Type.FLOAT, true), //
+			new Column("minimum_precipitation", Type.FLOAT, true), //
+			new Column("maximum_precipitation", Type.FLOAT, true), //
+			new Column("instant_precipitation", Type.FLOAT, true), //
+			new Column("minimum_relative_air_humidity", Type.FLOAT, true), //
+			new Column("maximum_relative_air_humidity", Type.FLOAT, true), //
+			new Column("instant_relative_air_humidity", Type.FLOAT, true), //
+			new Column("wind_speed", Type.FLOAT, true), //
+			new Column("wind_direction", Type.INT32, true), //
+			new Column("blast", Type.FLOAT, true), //
+			new Column("global_radiation", Type.FLOAT, true), //
+			new Column("minimum_dew_point", Type.FLOAT, true), //
+			new Column("maximum_dew_point", Type.FLOAT, true), //
+			new Column("instant_dew_point", Type.FLOAT, true), //
+			new Column("rain", Type.FLOAT, true));
+	private static final List<Column> DAILY_COLUMNS = Arrays.asList( //
+			new Column("measurement_date", Type.DATE, false), //
+			new Column("minimum_temperature", Type.FLOAT, true), //
+			new Column("maximum_temperature", Type.FLOAT, true), //
+			new Column("minimum_precipitation", Type.FLOAT, true), //
+			new Column("maximum_precipitation", Type.FLOAT, true), //
+			new Column("minimum_relative_air_humidity", Type.FLOAT, true), //
+			new Column("maximum_relative_air_humidity", Type.FLOAT, true), //
+			new Column("wind_speed", Type.FLOAT, true), //
+			new Column("wind_direction", Type.INT32, true), //
+			new Column("global_radiation", Type.FLOAT, true), //
+			new Column("minimum_dew_point", Type.FLOAT, true), //
+			new Column("maximum_dew_point", Type.FLOAT, true), //
+			new Column("rain", Type.FLOAT, true));
+
+	private static ExportService instance;
+
+	/**
+	 * Partition (file of a year) being written by the export of a station.
+	 */
+	private static class Partition {
+
+		private final int year;
+		private final Path file;
+		private final Path temporaryFile;
+		private final ParquetWriter writer;
+
+		private Partition(int year, Path file, List<Column> columns, boolean compressed) throws IOException {
+			this.year = year;
+			this.file = file;
+			this.temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+			Files.createDirectories(file.getParent());
+			this.writer = new ParquetWriter(new BufferedOutputStream(Files.newOutputStream(this.temporaryFile)), columns, ParquetWriter.DEFAULT_ROW_GROUP_ROWS,
+					compressed);
+		}
+
+		/**
+		 * Writes the footer and replaces the previous file of the partition.
+		 */
+		private void commit() throws IOException {
+			this.writer.close();
+			Files.move(this.temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+
+		/**
+		 * Discards the file being written.
+		 */
+		private void discard() {
+			try {
+				this.writer.close();
+			} catch (IOException e) {
+			}
+			try {
+				Files.deleteIfExists(this.temporaryFile);
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * Rows of the daily data of a station, by column, handed from the query to the thread that writes its CSV file.
+	 */
+	private static class CsvChunk {
+
+		private final LocalDate[] dates;
+		private final int[][] values; // floats as their bits
+		private final boolean[][] valid;
+		private int size;
+
+		private CsvChunk(int capacity) {
+			this.dates = new LocalDate[capacity];
+			this.values = new int[DAILY_COLUMNS.size()][capacity];
+			this.valid = new boolean[DAILY_COLUMNS.size()][capacity];
+		}
+
+		/**
+		 * Adds a row of the query result, returning true when the chunk is full.
+		 */
+		private boolean add(LocalDate date, ResultSet row) throws SQLException {
+			this.dates[this.size] = date;
+			for (int column = 1; column < DAILY_COLUMNS.size(); column++) {
+				Column schema = DAILY_COLUMNS.get(column);
+				this.values[column][this.size] = (schema.getType() == Type.FLOAT) ? Float.floatToRawIntBits(row.getFloat(schema.getName())) : row.getInt(schema.getName());
+				this.valid[column][this.size] = !row.wasNull();
+			}
+			return ++this.size == this.dates.length;
+		}
+	}
+
+	/**
+	 * CSV file of the daily data of a station, written only by the thread (lane) of the station.
+	 */
+	private static class CsvFile {
+
+		private final InmetStationEntity station;
+		private final byte[] code;
+		private final Path file;
+		private final Path temporaryFile;
+		private final ExecutorService lane;
+		private CsvWriter writer;
+		private long rows;
+		private Throwable failure;
+
+		private CsvFile(InmetStationEntity station, Path file, ExecutorService lane) {
+			this.station = station;
+			this.code = station.getCode().getBytes(StandardCharsets.UTF_8);
+			this.file = file;
+			this.temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+			this.lane = lane;
+		}
+
+		/**
+		 * Writes the rows of a chunk, after the header if the file is not open yet.
+		 */
+		private void write(CsvChunk chunk) throws IOException {
+			if (this.writer == null) {
+				Files.createDirectories(this.file.getParent());
+				this.writer = new CsvWriter(FileChannel.open(this.temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING),
+						CsvWriter.DEFAULT_BUFFER_SIZE);
+				this.writer.writeText("station");
+				for (Column column : DAILY_COLUMNS) {
+					this.writer.writeText(column.getName());
+				}
+				this.writer.endLine();
+			}
+			for (int row = 0; row < chunk.size; row++) {
+				this.writer.writeText(this.code).writeDate(chunk.dates[row]);
+				for (int column = 1; column < DAILY_COLUMNS.size(); column++) {
+					if (!chunk.valid[column][row]) {
+						this.writer.writeNull();
+					} else if (DAILY_COLUMNS.get(column).getType() == Type.FLOAT) {
+						this.writer.writeFloat(Float.intBitsToFloat(chunk.values[column][row]));
+					} else {
+						this.writer.writeInt(chunk.values[column][row]);
+					}
+				}
+				this.writer.endLine();
+			}
+			this.rows += chunk.size;
+		}
+
+		/**
+		 * Closes the file and replaces the previous file of the station.
+		 */
+		private void commit() throws IOException {
+			if (this.writer != null) {
+				this.writer.close();
+				this.writer = null;
+				Files.move(this.temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+		}
+
+		/**
+		 * Discards the file being written.
+		 */
+		private void discard() {
+			if (this.writer != null) {
+				try {
+					this.writer.close();
+				} catch (IOException e) {
+				}
+				this.writer = null;
+			}
+			try {
+				Files.deleteIfExists(this.temporaryFile);
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * Task of the thread of a station.
+	 */
+	private interface CsvTask {
+		void run() throws IOException;
+	}
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param logClientName Name of the client object of the logging service.
+	 * @param logLevel      Log level to be used in log service.
+	 * @throws ServiceException Occurrence of any problems at start of system service.
+	 */
+	private ExportService(String logClientName, Level logLevel) throws ServiceException {
+		super(logClientName, logLevel);
+
+		// writing of the service creation details in log
+		this.success(MessageEnum.EXPORT_SERVICE_INFO_SUCCESS_CREATING_SERVICE, NetworkUtil.getLocalIpAddress(), this.getConfigurationService().getExportDirectory());
+	}
+
+	/**
+	 * Method to retrieve the instance of service. This class has a single instance for any application (Singleton).
+	 *
+	 * @param logClientName Name of the client object of the logging service.
+	 * @param logLevel      Log level to be used in log service.
+	 * @return Returns the instance of service.
+	 * @throws ServiceException Occurrence of any problems in creating of the service.
+	 */
+	public static synchronized ExportService getInstanceOf(String logClientName, Level logLevel) throws ServiceException {
+		if (ExportService.instance == null) {
+			ExportService.instance = new ExportService(logClientName, logLevel);
+		}
+		return ExportService.instance;
+	}
+
+	/**
+	 * Method to retrieve the instance of service. This class has a single instance for any application (Singleton).
+	 *
+	 * @return Returns the instance of service.
+	 * @throws ServiceException Occurrence of any problems in creating of the service.
+	 */
+	public static synchronized ExportService getInstanceOf() throws ServiceException {
+		return ExportService.getInstanceOf(ExportService.class.getSimpleName(), null);
+	}
+
+	/**
+	 * Retrieves the Parquet file of a dataset, station and year.
+	 *
+	 * @param dataset Dataset of the file (HOURLY_DATASET or DAILY_DATASET).
+	 * @param station Station of the data.
+	 * @param year    Year of the data.
+	 * @return Path of the file, which may not exist.
+	 */
+	public Path getFile(String dataset, InmetStationEntity station, int year) {
+		String state = (station.getCityEntily() != null && station.getCityEntily().getStateEntily() != null) ? station.getCityEntily().getStateEntily().getName()
+				: null;
+		return Paths.get(this.getConfigurationService().getExportDirectory(), dataset, "state=" + getPartitionValue(state), "station=" + getPartitionValue(station.getCode()),
+				"year=" + year, DATA_FILE);
+	}
+
+	/**
+	 * Exports the hourly and daily data of a station, replacing the files of the years exported before.
+	 *
+	 * @param station Station of the data.
+	 * @return Number of rows exported.
+	 * @throws ServiceException Occurrence of any problems in reading the data or writing the files.
+	 */
+	public long export(InmetStationEntity station) throws ServiceException {
+		return this.exportHourly(station) + this.exportDaily(station);
+	}
+
+	/**
+	 * Exports the hourly data of a station.
+	 *
+	 * @param station Station of the data.
+	 * @return Number of rows exported.
+	 * @throws ServiceException Occurrence of any problems in reading the data or writing the files.
+	 */
+	public long exportHourly(InmetStationEntity station) throws ServiceException {
+		return this.export(HOURLY_DATASET, HOURLY_COLUMNS, station, visitor -> InmetHourlyDataDAO.getInstanceOf().streamByStation(station.getId(), visitor));
+	}
+
+	/**
+	 * Exports the daily data of a station.
+	 *
+	 * @param station Station of the data.
+	 * @return Number of rows exported.
+	 * @throws ServiceException Occurrence of any problems in reading the data or writing the files.
+	 */
+	public long exportDaily(InmetStationEntity station) throws ServiceException {
+		return this.export(DAILY_DATASET, DAILY_COLUMNS, station, visitor -> InmetDiarlyDataDAO.getInstanceOf().streamByStation(station.getId(), visitor));
+	}
+
+	/**
+	 * Retrieves the CSV file of the daily data of a station.
+	 *
+	 * @param station Station of the data.
+	 * @return Path of the file, which may not exist.
+	 */
+	public Path getCsvFile(InmetStationEntity station) {
+		return Paths.get(this.getConfigurationService().getExportDirectory(), CSV_DIRECTORY, DAILY_DATASET, getPartitionValue(station.getCode()) + CsvWriter.FILE_EXTENSION);
+	}
+
+	/**
+	 * Exports the daily data of the stations to CSV files, one per station, written in parallel. The failure of a station is logged and does not stop
+	 * the others.
+	 *
+	 * @param stations Stations of the data.
+	 * @return Number of rows exported.
+	 * @throws ServiceException Occurrence of any problems in reading the data.
+	 */
+	public long exportDailyCsv(List<InmetStationEntity> stations) throws ServiceException {
+		Map<Long, InmetStationEntity> stationsById = new HashMap<Long, InmetStationEntity>();
+		for (InmetStationEntity station : stations) {
+			stationsById.put(station.getId(), station);
+		}
+
+		// one thread per lane, each one with the files of some stations, and a limit of chunks in memory
+		ExecutorService[] lanes = new ExecutorService[this.getConfigurationService().getExportThreads()];
+		for (int lane = 0; lane < lanes.length; lane++) {
+			String name = ExportService.class.getSimpleName() + "-" + CSV_DIRECTORY + "-" + (lane + 1);
+			lanes[lane] = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, name));
+		}
+		Semaphore inFlight = new Semaphore(lanes.length * 2);
+		List<CsvFile> files = new ArrayList<CsvFile>();
+		CsvChunk[] chunk = new CsvChunk[1];
+		try {
+			InmetDiarlyDataDAO.getInstanceOf().streamByStations(new ArrayList<Long>(stationsById.keySet()), row -> {
+
+				// the rows of a station are consecutive, so its file is finished at the first row of the next one
+				long stationId = row.getLong("station_id");
+				CsvFile file = files.isEmpty() ? null : files.get(files.size() - 1);
+				if (file == null || file.station.getId() != stationId) {
+					if (file != null) {
+						finish(file, chunk[0], inFlight);
+					}
+					InmetStationEntity station = stationsById.get(stationId);
+					file = new CsvFile(station, this.getCsvFile(station), lanes[files.size() % lanes.length]);
+					files.add(file);
+					chunk[0] = new CsvChunk(CSV_CHUNK_ROWS);
+				}
+				if (chunk[0].add(row.getDate("measurement_date").toLocalDate(), row)) {
+					CsvFile target = file;
+					CsvChunk full = chunk[0];
+					submit(target, inFlight, () -> target.write(full));
+					chunk[0] = new CsvChunk(CSV_CHUNK_ROWS);
+				}
+			});
+			if (!files.isEmpty()) {
+				finish(files.get(files.size() - 1), chunk[0], inFlight);
+			}
+			awaitLanes(lanes, false);
+
+		} catch (GenericException | InterruptedException | RuntimeException e) {
+
+			// stopping the threads and discarding the files not finished
+			try {
+				awaitLanes(lanes, true);
+			} catch (InterruptedException e1) {
+			}
+			for (CsvFile file : files) {
+				file.discard();
+			}
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.EXPORT_SERVICE_ERROR_EXPORT_CSV_QUERY, this.getClass().getSimpleName(), "exportDailyCsv",
+					e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), e.getMessage());
+		}
+
+		// writing the failures of the stations in log
+		long rows = 0;
+		int exported = 0;
+		for (CsvFile file : files) {
+			if (file.failure != null) {
+				this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.EXPORT_SERVICE_ERROR_EXPORT_CSV, this.getClass().getSimpleName(), "exportDailyCsv",
+						file.failure.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), file.station.getCode(), file.failure.getMessage());
+			} else {
+				rows += file.rows;
+				exported++;
+			}
+		}
+		this.success(MessageEnum.EXPORT_SERVICE_INFO_SUCCESS_EXPORT_CSV, NetworkUtil.getLocalIpAddress(), String.valueOf(exported), String.valueOf(rows));
+		return rows;
+	}
+
+	/**
+	 * Hands the last chunk of a station and the closing of its file to the thread of the station.
+	 */
+	private static void finish(CsvFile file, CsvChunk chunk, Semaphore inFlight) throws InterruptedException {
+		if (chunk.size > 0) {
+			submit(file, inFlight, () -> file.write(chunk));
+		}
+		submit(file, inFlight, file::commit);
+	}
+
+	/**
+	 * Runs a task in the thread of the station, unless a previous task of the station failed. Blocks while the limit of chunks in memory is reached.
+	 */
+	private static void submit(CsvFile file, Semaphore inFlight, CsvTask task) throws InterruptedException {
+		inFlight.acquire();
+		file.lane.execute(() -> {
+			try {
+				if (file.failure == null) {
+					task.run();
+				}
+			} catch (Throwable e) {
+				file.failure = e;
+				file.discard();
+			} finally {
+				inFlight.release();
+			}
+		});
+	}
+
+	/**
+	 * Waits for the threads of the stations to finish their tasks or, if interrupted, to stop.
+	 */
+	private static void awaitLanes(ExecutorService[] lanes, boolean interrupted) throws InterruptedException {
+		for (ExecutorService lane : lanes) {
+			if (interrupted) {
+				lane.shutdownNow();
+			} else {
+				lane.shutdown();
+			}
+		}
+		for (ExecutorService lane : lanes) {
+			lane.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+		}
+	}
+
+	/**
+	 * Source of the rows of a dataset, streamed by a DAO.
+	 */
+	private interface RowSource {
+		int stream(GenericDAO.RowVisitor visitor) throws GenericException;
+	}
+
+	/**
+	 * Streams the rows of a dataset of the station, in order of date, into the files of their years.
+	 */
+	private long export(String dataset, List<Column> columns, InmetStationEntity station, RowSource source) throws ServiceException {
+		boolean compressed = ConfigurationService.EXPORT_COMPRESSION_GZIP.equals(this.getConfigurationService().getExportCompression());
+		Partition[] partition = new Partition[1];
+		int[] files = new int[1];
+		try {
+			int rows = source.stream(row -> {
+
+				// starting the file of the next year
+				LocalDate date = row.getDate("measurement_date").toLocalDate();
+				if (partition[0] == null || partition[0].year != date.getYear()) {
+					if (partition[0] != null) {
+						partition[0].commit();
+						partition[0] = null;
+					}
+					partition[0] = new Partition(date.getYear(), this.getFile(dataset, station, date.getYear()), columns, compressed);
+					files[0]++;
+				}
+				writeRow(partition[0].writer, columns, date, row);
+			});
+			if (partition[0] != null) {
+				partition[0].commit();
+				partition[0] = null;
+			}
+			this.success(MessageEnum.EXPORT_SERVICE_INFO_SUCCESS_EXPORT, NetworkUtil.getLocalIpAddress(), station.getCode(), dataset, String.valueOf(files[0]),
+					String.valueOf(rows));
+			return rows;
+
+		} catch (GenericException | IOException | RuntimeException e) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.EXPORT_SERVICE_ERROR_EXPORT, this.getClass().getSimpleName(), "export", e.getMessage(), null, true,
+					NetworkUtil.getLocalIpAddress(), station.getCode(), dataset, e.getMessage());
+
+		} finally {
+			if (partition[0] != null) {
+				partition[0].discard();
+			}
+		}
+	}
+
+	/**
+	 * Writes a row of the query result, with the columns of the table of the same names.
+	 */
+	private static void writeRow(ParquetWriter writer, List<Column> columns, LocalDate date, ResultSet row) throws Exception {
+		writer.writeDate(0, date);
+		for (int column = 1; column < columns.size(); column++) {
+			Column schema = columns.get(column);
+			if (HOUR_COLUMN.equals(schema.getName())) {
+				writer.writeInt(column, TemporalKeyUtil.parseHour(row.getString("measure_time")));
+			} else if (schema.getType() == Type.FLOAT) {
+				float value = row.getFloat(schema.getName());
+				if (row.wasNull()) {
+					writer.writeNull(column);
+				} else {
+					writer.writeFloat(column, value);
+				}
+			} else {
+				int value = row.getInt(schema.getName());
+				if (row.wasNull()) {
+					writer.writeNull(column);
+				} else {
+					writer.writeInt(column, value);
+				}
+			}
+		}
+		writer.endRow();
+	}
+
+	/**
+	 * Retrieves the value of a partition in a directory name, replacing the characters that are not letters, digits, hyphens or underscores.
+	 */
+	static String getPartitionValue(String value) {
+		if (value == null || value.trim().isEmpty()) {
+			return UNKNOWN_PARTITION;
+		}
+		StringBuilder partition = new StringBuilder(value.trim());
+		for (int index = 0; index < partition.length(); index++) {
+			char character = partition.charAt(index);
+			if (!Character.isLetterOrDigit(character) && character != '-' && character != '_') {
+				partition.setCharAt(index, '_');
+			}
+		}
+		return partition.toString();
+	}
+}
@@ -35,6 +35,7 @@ abstract class GenericService<E> {
 	protected final MessageService messageService;
 	protected final LogService logService;
 	protected final TimeService timeService;
+	protected final MetricsService metricsService;
 
 	/**
 	 * Private class constructor.
@@ -53,7 +54,12 @@ abstract class GenericService<E> {
 			this.configurationService = ConfigurationService.getInstanceOf();
 			this.messageService = MessageService.getInstanceOf();
 			this.logService = new LogService(messageService, logClientName, (logLevel != null) ? logLevel : this.getConfigurationService().getLogLevel());
+			if (logLevel == null) {
+				// following the log level of the configuration when it is reloaded
+				this.configurationService.addListener(configuration -> this.logService.setLogLevel(configuration.getLogLevel()));
+			}
 			this.timeService = TimeService.getInstanceOf();
+			this.metricsService = MetricsService.getInstanceOf();
 
 		} catch (Throwable e) {
 			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.GENERIC_SERVICE_ERROR_CREATE, this.getClass().getSimpleName(), "GenericService", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), this.getServiceDescriptor());
@@ -105,6 +111,15 @@ abstract class GenericService<E> {
 		return timeService;
 	}
 
+	/**
+	 * Retrieves the metrics service.
+	 * 
+	 * @return Metrics Service.
+	 */
+	protected MetricsService getMetricsService() {
+		return metricsService;
+	}
+
 	/**
 	 * Writing success message with the parameters informed.
 	 * 
@@ -1,11 +1,20 @@
 package br.embrapa.cnpaf.inmetdata.service;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
 import java.nio.file.DirectoryStream.Filter;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.WebTarget;
@@ -14,24 +23,23 @@ import org.apache.log4j.Level;
 import org.glassfish.jersey.jackson.JacksonFeature;
 
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
 import br.embrapa.cnpaf.inmetdata.entity.InmetDiarlyDataEntity;
 import br.embrapa.cnpaf.inmetdata.entity.InmetHourlyDataEntity;
 import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+import br.embrapa.cnpaf.inmetdata.enumerate.FailureClassEnum;
 import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.FetchException;
 import br.embrapa.cnpaf.inmetdata.exception.PersistenceException;
 import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.metric.MetricTimer;
 import br.embrapa.cnpaf.inmetdata.util.JsonUtil;
 import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+import br.embrapa.cnpaf.inmetdata.util.TemporalKeyUtil;
 import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
-import tech.tablesaw.api.DateColumn;
-import tech.tablesaw.api.DateTimeColumn;
-import tech.tablesaw.api.FloatColumn;
-import tech.tablesaw.api.LongColumn;
-import tech.tablesaw.api.StringColumn;
-import tech.tablesaw.api.Table;
-import tech.tablesaw.columns.Column;
-import tech.tablesaw.selection.Selection;
 
 /**
  * <br>
@@ -55,11 +63,7 @@ import tech.tablesaw.selection.Selection;
  */
 public class InmetService extends GenericService<InmetService> {
 
-	public static final String INMET_WEB_SERVICE_URL = "https://apitempo.inmet.gov.br/estacao";
-
-	public static final int REQUEST_ATTEMPTS = 6;
-	public static final int RANDOMIZE_TIME_BETWEEN_ATTEMPTS = 20;
-	public static final int MINIMUM_TIME_BETWEEN_ATTEMPTS = 20;
+	public static final int MAXIMUM_MISSING_HOURS = 12; // missing measurements tolerated in the daily aggregation
 
 	private static InmetService instance;
 	private final Client moduleClient;
@@ -114,40 +118,71 @@ public class InmetService extends GenericService<InmetService> {
 	}
 
 	/**
-	 * Retrieves the hourly data from INMET.
+	 * Retrieves the hourly data from INMET, fetching and parsing it.
 	 * 
 	 * @param station  The station date for data recovery.
 	 * @param initDate The start date for data recovery.
 	 * @param endDate  The end date for data recovery.
 	 * @return The list of the hourly data from INMET.
+	 * @throws FetchException Failure in fetching or parsing the data, with its
+	 *                        classification.
 	 * @throws ServiceException Occurrence of any problems in creating of the
 	 *                          service.
 	 */
 	public List<InmetHourlyDataEntity> getHourlyData(InmetStationEntity station, LocalDate initDate, LocalDate endDate)
 			throws ServiceException {
+		return this.parseHourlyData(station, initDate, endDate, this.fetchHourlyData(station, initDate, endDate));
+	}
+
+	/**
+	 * Fetches the hourly data from INMET, without parsing it.<br>
+	 * Transient failures (timeouts, connection errors, rate limiting and server
+	 * errors) are retried up to <tt>inmetdata.inmet.attempts</tt> times, while a
+	 * request rejected by the server fails at once.
+	 * 
+	 * @param station  The station date for data recovery.
+	 * @param initDate The start date for data recovery.
+	 * @param endDate  The end date for data recovery.
+	 * @return The JSON response of INMET.
+	 * @throws FetchException All the attempts failed or the failure is not
+	 *                        transient.
+	 * @throws ServiceException Occurrence of any problems in creating of the
+	 *                          service.
+	 */
+	public String fetchHourlyData(InmetStationEntity station, LocalDate initDate, LocalDate endDate)
+			throws ServiceException {
 
 		// http://apitempo.inmet.gov.br/estacao + datainicio + datafim + codigo estacao
 		// http://apitempo.inmet.gov.br/estacao/2019-10-23/2019-10-23/A301
 		Random randomGenerator = new Random();
 		WebTarget serviceUrl;
 		String response = null;
-		List<InmetHourlyDataEntity> result = null;
+		FailureClassEnum failureClass = FailureClassEnum.UNKNOWN;
+		MetricTimer fetchTimer = this.getMetricsService().getTimer(MetricsService.TIMER_HTTP_FETCH, MetricsService.TAG_STATION, station.getCode());
 
 		ServiceException error = this.error(NetworkUtil.getLocalIpAddress(),
-				MessageEnum.INMET_SERVICE_ERROR_GET_HOURLY_DATA, this.getClass().getSimpleName(), "getHourlyData", null,
+				MessageEnum.INMET_SERVICE_ERROR_GET_HOURLY_DATA, this.getClass().getSimpleName(), "fetchHourlyData", null,
 				null, false, NetworkUtil.getLocalIpAddress(), station.getCode(),
 				TimeUtil.formatterLocalDateToDDMMYYYY(initDate), TimeUtil.formatterLocalDateToDDMMYYYY(endDate));
-		for (int ctAttempts = 0; ctAttempts < REQUEST_ATTEMPTS; ctAttempts++) {
+		int attempts = this.getConfigurationService().getInmetAttempts();
+		int ctAttempts = 0;
+		while (ctAttempts < attempts) {
 			try {
+				// counting the new attempts
+				if (ctAttempts > 0) {
+					this.getMetricsService().getCounter(MetricsService.COUNTER_RETRIES, MetricsService.TAG_STATION, station.getCode()).increment();
+				}
+				ctAttempts++;
+
 				// random timeout to try again
 				try {
 					Thread.sleep(
-							randomGenerator.nextInt(RANDOMIZE_TIME_BETWEEN_ATTEMPTS) * MINIMUM_TIME_BETWEEN_ATTEMPTS);
+							randomGenerator.nextInt(this.getConfigurationService().getInmetAttemptRandomize()) * this.getConfigurationService().getInmetAttemptInterval());
 				} catch (InterruptedException e) {
 				}
 
 				// performing web serive
-				serviceUrl = this.moduleClient.target(INMET_WEB_SERVICE_URL)//
+				serviceUrl = this.moduleClient.target(this.getConfigurationService().getInmetUrl())//
 						.path("{initDate}")//
 						.path("{endDate}")//
 						.path("{stationCode}")//
@@ -156,190 +191,495 @@ public class InmetService extends GenericService<InmetService> {
 						.resolveTemplate("stationCode", station.getCode())//
 				;
 				
+				long fetchStart = fetchTimer.start();
 				response = serviceUrl.request().get(String.class);
-
-				// retrieving result from response
-				result = JsonUtil.getJsonConverter().fromJson(response, new TypeToken<List<InmetHourlyDataEntity>>() {
-				}.getType());
-
-				// setting station id
-				for (int i = 0; i < result.size(); i++) {
-					result.get(i).setEntilyStation(station);
-				}
-
-				// checking if the execution successfully
-				if (result != null) {
-					this.success(MessageEnum.INMET_SERVICE_INFO_SUCCESS_GET_HOURLY_DATA,
-							NetworkUtil.getLocalIpAddress(), station.getCode(),
-							TimeUtil.formatterLocalDateToDDMMYYYY(initDate),
-							TimeUtil.formatterLocalDateToDDMMYYYY(endDate));
-					return result;
-				} else {
-					error.addCause(this.error(NetworkUtil.getLocalIpAddress(),
-							MessageEnum.INMET_SERVICE_ERROR_EMPTY_HOURLY_DATA, this.getClass().getSimpleName(),
-							"getHourlyData", null, null, true, NetworkUtil.getLocalIpAddress(), station.getCode(),
-							TimeUtil.formatterLocalDateToDDMMYYYY(initDate),
-							TimeUtil.formatterLocalDateToDDMMYYYY(endDate)));
-					return null;
-				}
+				fetchTimer.stop(fetchStart);
+				return response;
 
 			} catch (Exception e) {
+				this.getMetricsService().getCounter(MetricsService.COUNTER_FAILURES, MetricsService.TAG_STATION, station.getCode()).increment();
 				error.addCause(this.error(NetworkUtil.getLocalIpAddress(),
 						MessageEnum.INMET_SERVICE_ERROR_GET_HOURLY_DATA, this.getClass().getSimpleName(),
-						"getHourlyData", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), station.getCode(),
+						"fetchHourlyData", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), station.getCode(),
 						TimeUtil.formatterLocalDateToDDMMYYYY(initDate),
 						TimeUtil.formatterLocalDateToDDMMYYYY(endDate)));
 
-				return null;
+				// a request rejected by the server fails the same way again
+				failureClass = classify(e);
+				if (!failureClass.isRetryable()) {
+					break;
+				}
 			}
 		}
 
 		// error in execute action on remote module
-		throw error;
+		throw new FetchException(error, failureClass, ctAttempts);
+	}
+
+	/**
+	 * Parses the hourly data fetched from INMET.
+	 * 
+	 * @param station  The station date for data recovery.
+	 * @param initDate The start date for data recovery.
+	 * @param endDate  The end date for data recovery.
+	 * @param response The JSON response of INMET.
+	 * @return The list of the hourly data from INMET.
+	 * @throws FetchException The response is empty or invalid.
+	 */
+	public List<InmetHourlyDataEntity> parseHourlyData(InmetStationEntity station, LocalDate initDate, LocalDate endDate, String response)
+			throws FetchException {
+		List<InmetHourlyDataEntity> result = null;
+		MetricTimer parseTimer = this.getMetricsService().getTimer(MetricsService.TIMER_JSON_PARSE, MetricsService.TAG_STATION, station.getCode());
+
+		try {
+			// retrieving result from response
+			long parseStart = parseTimer.start();
+			result = JsonUtil.getJsonConverter().fromJson(response, new TypeToken<List<InmetHourlyDataEntity>>() {
+			}.getType());
+			parseTimer.stop(parseStart);
+
+		} catch (Exception e) {
+			this.getMetricsService().getCounter(MetricsService.COUNTER_FAILURES, MetricsService.TAG_STATION, station.getCode()).increment();
+			throw new FetchException(this.error(NetworkUtil.getLocalIpAddress(),
+					MessageEnum.INMET_SERVICE_ERROR_GET_HOURLY_DATA, this.getClass().getSimpleName(),
+					"parseHourlyData", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), station.getCode(),
+					TimeUtil.formatterLocalDateToDDMMYYYY(initDate),
+					TimeUtil.formatterLocalDateToDDMMYYYY(endDate)), FailureClassEnum.PARSE, 1);
+		}
+
+		// checking if the execution successfully
+		if (result == null) {
+			throw new FetchException(this.error(NetworkUtil.getLocalIpAddress(),
+					MessageEnum.INMET_SERVICE_ERROR_EMPTY_HOURLY_DATA, this.getClass().getSimpleName(),
+					"parseHourlyData", null, null, true, NetworkUtil.getLocalIpAddress(), station.getCode(),
+					TimeUtil.formatterLocalDateToDDMMYYYY(initDate),
+					TimeUtil.formatterLocalDateToDDMMYYYY(endDate)), FailureClassEnum.EMPTY_RESPONSE, 1);
+		}
+
+		// setting station id
+		for (int i = 0; i < result.size(); i++) {
+			result.get(i).setEntilyStation(station);
+		}
+		this.getMetricsService().getCounter(MetricsService.COUNTER_ROWS_FETCHED, MetricsService.TAG_STATION, station.getCode()).add(result.size());
+		this.success(MessageEnum.INMET_SERVICE_INFO_SUCCESS_GET_HOURLY_DATA,
+				NetworkUtil.getLocalIpAddress(), station.getCode(),
+				TimeUtil.formatterLocalDateToDDMMYYYY(initDate),
+				TimeUtil.formatterLocalDateToDDMMYYYY(endDate));
+		return result;
+	}
+
+	/**
+	 * Parses the hourly data fetched from INMET into a columnar batch, reading the
+	 * tokens of the JSON one at a time, without creating an entity per
+	 * measurement. A missing (null) measurement stays missing in the validity
+	 * bitmap of the batch, instead of becoming zero as in the entities.
+	 * 
+	 * @param station  The station date for data recovery.
+	 * @param initDate The start date for data recovery.
+	 * @param endDate  The end date for data recovery.
+	 * @param response The JSON response of INMET.
+	 * @return The batch of the hourly data from INMET.
+	 * @throws FetchException The response is empty or invalid.
+	 */
+	public HourlyBatch parseHourlyBatch(InmetStationEntity station, LocalDate initDate, LocalDate endDate, String response)
+			throws FetchException {
+		HourlyBatch result = null;
+		MetricTimer parseTimer = this.getMetricsService().getTimer(MetricsService.TIMER_JSON_PARSE, MetricsService.TAG_STATION, station.getCode());
+
+		try {
+			// retrieving result from response
+			long parseStart = parseTimer.start();
+			if (response != null && !response.trim().isEmpty()) {
+				result = this.readHourlyBatch(station, new JsonReader(new StringReader(response)));
+			}
+			parseTimer.stop(parseStart);
+
+		} catch (Exception e) {
+			this.getMetricsService().getCounter(MetricsService.COUNTER_FAILURES, MetricsService.TAG_STATION, station.getCode()).increment();
+			throw new FetchException(this.error(NetworkUtil.getLocalIpAddress(),
+					MessageEnum.INMET_SERVICE_ERROR_GET_HOURLY_DATA, this.getClass().getSimpleName(),
+					"parseHourlyBatch", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), station.getCode(),
+					TimeUtil.formatterLocalDateToDDMMYYYY(initDate),
+					TimeUtil.formatterLocalDateToDDMMYYYY(endDate)), FailureClassEnum.PARSE, 1);
+		}
+
+		// checking if the execution successfully
+		if (result == null) {
+			throw new FetchException(this.error(NetworkUtil.getLocalIpAddress(),
+					MessageEnum.INMET_SERVICE_ERROR_EMPTY_HOURLY_DATA, this.getClass().getSimpleName(),
+					"parseHourlyBatch", null, null, true, NetworkUtil.getLocalIpAddress(), station.getCode(),
+					TimeUtil.formatterLocalDateToDDMMYYYY(initDate),
+					TimeUtil.formatterLocalDateToDDMMYYYY(endDate)), FailureClassEnum.EMPTY_RESPONSE, 1);
+		}
+
+		this.getMetricsService().getCounter(MetricsService.COUNTER_ROWS_FETCHED, MetricsService.TAG_STATION, station.getCode()).add(result.size());
+		this.success(MessageEnum.INMET_SERVICE_INFO_SUCCESS_GET_HOURLY_DATA,
+				NetworkUtil.getLocalIpAddress(), station.getCode(),
+				TimeUtil.formatterLocalDateToDDMMYYYY(initDate),
+				TimeUtil.formatterLocalDateToDDMMYYYY(endDate));
+		return result;
+	}
+
+	/**
+	 * Reads the array of measurements of INMET into a batch.
+	 * 
+	 * @param station Station of the measurements.
+	 * @param reader  Reader positioned at the beginning of the array.
+	 * @return The batch of the hourly data or null if the JSON is null.
+	 * @throws IOException The JSON is invalid.
+	 */
+	private HourlyBatch readHourlyBatch(InmetStationEntity station, JsonReader reader) throws IOException {
+		if (reader.peek() == JsonToken.NULL) {
+			return null;
+		}
+
+		// initializing variables
+		HourlyBatch batch = new HourlyBatch(station, HourlyBatch.DEFAULT_CAPACITY);
+		float[] values = new float[HourlyBatch.FLOAT_COLUMNS];
+		String lastDate = null;
+		int lastEpochDay = 0;
+
+		reader.beginArray();
+		while (reader.hasNext()) {
+
+			// reading the fields of the measurement, marking the ones present
+			String date = null;
+			String time = null;
+			int windDirection = 0;
+			long present = 0;
+			reader.beginObject();
+			while (reader.hasNext()) {
+				String name = reader.nextName();
+				int column = getBatchColumn(name);
+				if (reader.peek() == JsonToken.NULL) {
+					reader.nextNull();
+				} else if (column >= 0) {
+					values[column] = (float) reader.nextDouble();
+					present |= 1L << column;
+				} else if ("VEN_DIR".equals(name)) {
+					windDirection = (int) reader.nextDouble();
+					present |= 1L << HourlyBatch.WIND_DIRECTION;
+				} else if ("DT_MEDICAO".equals(name)) {
+					date = reader.nextString();
+				} else if ("HR_MEDICAO".equals(name)) {
+					time = reader.nextString();
+				} else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+
+			// appending the measurement, usually of the same day of the previous one
+			if (date == null) {
+				throw new IllegalArgumentException("Measurement without date");
+			} else if (!date.equals(lastDate)) {
+				lastEpochDay = (int) this.getTimeService().toLocalDateFromSql(date).toEpochDay();
+				lastDate = date;
+			}
+			int row = batch.add(lastEpochDay, TemporalKeyUtil.parseHour(time));
+			if ((present & (1L << HourlyBatch.WIND_DIRECTION)) != 0) {
+				batch.setWindDirection(row, windDirection);
+			}
+			for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+				if ((present & (1L << column)) != 0) {
+					batch.setValue(column, row, values[column]);
+				}
+			}
+		}
+		reader.endArray();
+		return batch;
+	}
+
+	/**
+	 * Retrieves the float column of the batch of a field of the INMET JSON.
+	 * 
+	 * @param name Name of the field.
+	 * @return Column of the batch or -1 if the field is not a float measurement.
+	 */
+	private static int getBatchColumn(String name) {
+		switch (name) {
+		case "TEM_MIN":
+			return HourlyBatch.MINIMUM_TEMPERATURE;
+		case "TEM_MAX":
+			return HourlyBatch.MAXIMUM_TEMPERATURE;
+		case "TEM_INS":
+			return HourlyBatch.INSTANT_TEMPERATURE;
+		case "PRE_MIN":
+			return HourlyBatch.MINIMUM_PRECIPITATION;
+		case "PRE_MAX":
+			return HourlyBatch.MAXIMUM_PRECIPITATION;
+		case "PRE_INS":
+			return HourlyBatch.INSTANT_PRECIPITATION;
+		case "UMD_MIN":
+			return HourlyBatch.MINIMUM_RELATIVE_AIR_HUMIDITY;
+		case "UMD_MAX":
+			return HourlyBatch.MAXIMUM_RELATIVE_AIR_HUMIDITY;
+		case "UMD_INS":
+			return HourlyBatch.INSTANT_RELATIVE_AIR_HUMIDITY;
+		case "VEN_VEL":
+			return HourlyBatch.WIND_SPEED;
+		case "VEN_RAJ":
+			return HourlyBatch.BLAST;
+		case "RAD_GLO":
+			return HourlyBatch.GLOBAL_RADIATION;
+		case "PTO_MIN":
+			return HourlyBatch.MINIMUM_DEW_POINT;
+		case "PTO_MAX":
+			return HourlyBatch.MAXIMUM_DEW_POINT;
+		case "PTO_INS":
+			return HourlyBatch.INSTANT_DEW_POINT;
+		case "CHUVA":
+			return HourlyBatch.RAIN;
+		default:
+			return -1;
+		}
+	}
+
+	/**
+	 * Classifies the failure of a request to the INMET web service.
+	 * 
+	 * @param exception Exception thrown by the request.
+	 * @return Class of the failure.
+	 */
+	public static FailureClassEnum classify(Throwable exception) {
+		if (exception instanceof WebApplicationException && ((WebApplicationException) exception).getResponse() != null) {
+			int status = ((WebApplicationException) exception).getResponse().getStatus();
+			return (status == 429) ? FailureClassEnum.RATE_LIMITED : (status >= 500) ? FailureClassEnum.HTTP_SERVER : FailureClassEnum.HTTP_CLIENT;
+		}
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SocketTimeoutException) {
+				return FailureClassEnum.TIMEOUT;
+			} else if (cause instanceof ConnectException || cause instanceof UnknownHostException || cause instanceof NoRouteToHostException) {
+				return FailureClassEnum.CONNECTION;
+			}
+		}
+		return FailureClassEnum.UNKNOWN;
 	}
 
 	/**
-	 * Transform hourly to daily data
+	 * Transform hourly to daily data. The hourly data are grouped by station into
+	 * columnar batches, aggregated by getDailyData(HourlyBatch).
 	 * 
 	 * @param HourlyData Daily data achieved by INMET
 	 * @return list with daily data
 	 */
 
 	public List<InmetDiarlyDataEntity> getDailyData(List<InmetHourlyDataEntity> HourlyData) {
-		
-		//Starting variables
-		InmetDiarlyDataEntity  DiarlyData = null ;
-		List<InmetDiarlyDataEntity> diarlyData = new ArrayList<InmetDiarlyDataEntity>();
 
-		// Creating dataframe
-		Table dataFrameHourly = Table.create("Data").addColumns(StringColumn.create("CD_ESTACAO"),
-				LongColumn.create("idStation"), StringColumn.create("DT_MEDICAO"), FloatColumn.create("TEM_MIN"),
-				FloatColumn.create("TEM_MAX"), FloatColumn.create("PRE_MIN"), FloatColumn.create("PRE_MAX"),
-				FloatColumn.create("UMD_MIN"), FloatColumn.create("UMD_MAX"), FloatColumn.create("VENT_VEL"),
-				FloatColumn.create("VENT_DIR"), FloatColumn.create("RAD_GLO"), FloatColumn.create("PTO_MIN"),
-				FloatColumn.create("PTO_MAX"), FloatColumn.create("CHUVA"));
-
-		// populating dataframe
+		// grouping the hourly data by station
+		Map<Long, HourlyBatch> batches = new LinkedHashMap<Long, HourlyBatch>();
 		for (InmetHourlyDataEntity data : HourlyData) {
-			dataFrameHourly.stringColumn(0).append(data.getEntilyStation().getCode());
-			dataFrameHourly.longColumn(1).append(data.getEntilyStation().getId());
-			dataFrameHourly.stringColumn(2).append(data.getMeasurementDate().toString());
-			dataFrameHourly.floatColumn(3).append(data.getMinimumTemperature());
-			dataFrameHourly.floatColumn(4).append(data.getMaximumTemperature());
-			dataFrameHourly.floatColumn(5).append(data.getMinimumPrecipitation());
-			dataFrameHourly.floatColumn(6).append(data.getMaximumPrecipitation());
-			dataFrameHourly.floatColumn(7).append(data.getMinimumRelativeAirHumidity());
-			dataFrameHourly.floatColumn(8).append(data.getMaximumRelativeAirHumidity());
-			dataFrameHourly.floatColumn(9).append(data.getWindSpeed());
-			dataFrameHourly.floatColumn(10).append(data.getWindDirection());
-			dataFrameHourly.floatColumn(11).append(data.getGlobalRadiation());
-			dataFrameHourly.floatColumn(12).append(data.getMinimumDewPoint());
-			dataFrameHourly.floatColumn(13).append(data.getMaximumDewPoint());
-			dataFrameHourly.floatColumn(14).append(data.getRain());
+			InmetStationEntity station = data.getEntilyStation();
+			batches.computeIfAbsent((station != null) ? station.getId() : null, id -> new HourlyBatch(station, HourlyData.size())).add(data);
 		}
 
-		Column<?> uniqueDates = dataFrameHourly.column("DT_MEDICAO").unique();
+		// aggregating each station
+		List<InmetDiarlyDataEntity> diarlyData = new ArrayList<InmetDiarlyDataEntity>();
+		for (HourlyBatch batch : batches.values()) {
+			diarlyData.addAll(this.getDailyData(batch));
+		}
+		return diarlyData;
+	}
 
-		for (int i = 0; i < uniqueDates.size(); i++) {
-			
-			Table FiltredByDate = dataFrameHourly.where(dataFrameHourly.stringColumn("DT_MEDICAO")//
-					.isEqualTo(uniqueDates.getString(i)));//
-			
-			FiltredByDate = FiltredByDate.sortDescendingOn("DT_MEDICAO");
+	/**
+	 * Transform hourly to daily data, scanning the columns of the batch once per
+	 * day, whose rows are contiguous once sorted by their time keys. The missing
+	 * measurements come from the validity bitmaps of the batch: a daily value is
+	 * null when more than MAXIMUM_MISSING_HOURS measurements of the day (or all
+	 * of them) are missing.
+	 * 
+	 * @param batch Hourly data achieved by INMET
+	 * @return list with daily data
+	 */
+	public List<InmetDiarlyDataEntity> getDailyData(HourlyBatch batch) {
 
-			LocalDate date = TimeUtil.stringToLocalDate(FiltredByDate.getString(0, 2));
+		// starting variables
+		List<InmetDiarlyDataEntity> diarlyData = new ArrayList<InmetDiarlyDataEntity>();
+		MetricTimer aggregationTimer = (batch.getStation() == null) ? this.getMetricsService().getTimer(MetricsService.TIMER_DAILY_AGGREGATION)
+				: this.getMetricsService().getTimer(MetricsService.TIMER_DAILY_AGGREGATION, MetricsService.TAG_STATION, batch.getStation().getCode());
+		long aggregationStart = aggregationTimer.start();
+
+		// the rows of each day are contiguous once sorted
+		batch.sortByTime();
+		int first = 0;
+		while (first < batch.size()) {
+			int end = first + 1;
+			while (end < batch.size() && batch.getEpochDay(end) == batch.getEpochDay(first)) {
+				end++;
+			}
 
-			 DiarlyData = new InmetDiarlyDataEntity( //
+			diarlyData.add(new InmetDiarlyDataEntity( //
 					null, //
-					HourlyData.get(i).getEntilyStation(),
-					date, //
-					findSmaller(FiltredByDate.floatColumn(3)), //
-					findBigger(FiltredByDate.floatColumn(4)), //
-					findSmaller(FiltredByDate.floatColumn(5)), //
-					findBigger(FiltredByDate.floatColumn(6)), //
-					findSmaller(FiltredByDate.floatColumn(7)),
-					findBigger(FiltredByDate.floatColumn(8)), //
-					mean(FiltredByDate.floatColumn(9)), //
-					mean(FiltredByDate.floatColumn(10)), //
-					positiveNumbers(FiltredByDate.floatColumn(11)), //
-					findSmaller(FiltredByDate.floatColumn(12)), //
-					findBigger(FiltredByDate.floatColumn(13)), //
-					addAll(FiltredByDate.floatColumn(14)));//
-			 
-			 diarlyData.add(DiarlyData);
+					batch.getStation(), //
+					batch.getMeasurementDate(first), //
+					findSmaller(batch, HourlyBatch.MINIMUM_TEMPERATURE, first, end), //
+					findBigger(batch, HourlyBatch.MAXIMUM_TEMPERATURE, first, end), //
+					findSmaller(batch, HourlyBatch.MINIMUM_PRECIPITATION, first, end), //
+					findBigger(batch, HourlyBatch.MAXIMUM_PRECIPITATION, first, end), //
+					findSmaller(batch, HourlyBatch.MINIMUM_RELATIVE_AIR_HUMIDITY, first, end), //
+					findBigger(batch, HourlyBatch.MAXIMUM_RELATIVE_AIR_HUMIDITY, first, end), //
+					mean(batch, HourlyBatch.WIND_SPEED, first, end), //
+					meanWindDirection(batch, first, end), //
+					positiveNumbers(batch, HourlyBatch.GLOBAL_RADIATION, first, end), //
+					findSmaller(batch, HourlyBatch.MINIMUM_DEW_POINT, first, end), //
+					findBigger(batch, HourlyBatch.MAXIMUM_DEW_POINT, first, end), //
+					addAll(batch, HourlyBatch.RAIN, first, end)));
+			first = end;
 		}
-		
+
+		aggregationTimer.stop(aggregationStart);
 		return diarlyData;
 	}
 
 	/**
-	 * find higher column value
+	 * find higher value of the rows of a day of the batch
 	 * 
-	 * @param column dataframe column
-	 * @return returns highest column value
+	 * @param batch  hourly data
+	 * @param column column of the batch
+	 * @param first  first row of the day
+	 * @param end    row after the last row of the day
+	 * @return returns highest value or null if too many values are missing
 	 */
-
-	private Float findBigger(FloatColumn column) {
-		if (column.countMissing() <= 12) {
-			return (float) column.max();
+	private static Float findBigger(HourlyBatch batch, int column, int first, int end) {
+		if (!isComplete(batch, column, first, end)) {
+			return null;
 		}
-		return null;
+		float bigger = Float.NEGATIVE_INFINITY;
+		for (int row = first; row < end; row++) {
+			if (batch.isValid(column, row) && batch.getValue(column, row) > bigger) {
+				bigger = batch.getValue(column, row);
+			}
+		}
+		return bigger;
 	}
 
 	/**
-	 * find lower value
+	 * find lower value of the rows of a day of the batch
 	 * 
-	 * @param column dataframe column
-	 * @return returns the lowest column value
+	 * @param batch  hourly data
+	 * @param column column of the batch
+	 * @param first  first row of the day
+	 * @param end    row after the last row of the day
+	 * @return returns the lowest value or null if too many values are missing
 	 */
-
-	private Float findSmaller(FloatColumn column) {
-		if (column.countMissing() <= 12) {
-			return (float) column.min();
+	private static Float findSmaller(HourlyBatch batch, int column, int first, int end) {
+		if (!isComplete(batch, column, first, end)) {
+			return null;
 		}
-		return null;
+		float smaller = Float.POSITIVE_INFINITY;
+		for (int row = first; row < end; row++) {
+			if (batch.isValid(column, row) && batch.getValue(column, row) < smaller) {
+				smaller = batch.getValue(column, row);
+			}
+		}
+		return smaller;
 	}
 
 	/**
-	 * find mean
+	 * find mean of the rows of a day of the batch
 	 * 
-	 * @param column dataframe column
-	 * @return returns highest column value
+	 * @param batch  hourly data
+	 * @param column column of the batch
+	 * @param first  first row of the day
+	 * @param end    row after the last row of the day
+	 * @return returns the mean or null if too many values are missing
 	 */
-
-	private Float mean(FloatColumn column) {
-		if (column.countMissing() <= 12) {
-			return (float) column.mean();
+	private static Float mean(HourlyBatch batch, int column, int first, int end) {
+		if (!isComplete(batch, column, first, end)) {
+			return null;
+		}
+		double sum = 0;
+		int count = 0;
+		for (int row = first; row < end; row++) {
+			if (batch.isValid(column, row)) {
+				sum += batch.getValue(column, row);
+				count++;
+			}
 		}
-		return null;
+		return (float) (sum / count);
 	}
 
 	/**
-	 * add positive column numbers
+	 * find mean of the wind direction of the rows of a day of the batch
 	 * 
-	 * @param column dataframe column
-	 * @return returns sum of positive numbers
+	 * @param batch hourly data
+	 * @param first first row of the day
+	 * @param end   row after the last row of the day
+	 * @return returns the mean or null if too many values are missing
 	 */
-
-	private Float positiveNumbers(FloatColumn column) {
-		Selection filter = column.isPositive();
-		if (column.countMissing() <= 12) {
-			return (float) column.where(filter).sum();
+	private static Float meanWindDirection(HourlyBatch batch, int first, int end) {
+		if (!isComplete(batch, HourlyBatch.WIND_DIRECTION, first, end)) {
+			return null;
+		}
+		double sum = 0;
+		int count = 0;
+		for (int row = first; row < end; row++) {
+			if (batch.isValid(HourlyBatch.WIND_DIRECTION, row)) {
+				sum += batch.getWindDirection(row);
+				count++;
+			}
 		}
-		return null;
+		return (float) (sum / count);
 	}
 
 	/**
-	 * add up all column values
+	 * add positive numbers of the rows of a day of the batch
 	 * 
-	 * @param column dataframe column
-	 * @return returns sum of all column elements
+	 * @param batch  hourly data
+	 * @param column column of the batch
+	 * @param first  first row of the day
+	 * @param end    row after the last row of the day
+	 * @return returns sum of positive numbers or null if too many values are
+	 *         missing
 	 */
+	private static Float positiveNumbers(HourlyBatch batch, int column, int first, int end) {
+		if (!isComplete(batch, column, first, end)) {
+			return null;
+		}
+		double sum = 0;
+		for (int row = first; row < end; row++) {
+			if (batch.isValid(column, row) && batch.getValue(column, row) > 0) {
+				sum += batch.getValue(column, row);
+			}
+		}
+		return (float) sum;
+	}
 
-	private Float addAll(FloatColumn column) {
-		if (column.countMissing() <= 12) {
-			return (float) column.sum();
+	/**
+	 * add up all values of the rows of a day of the batch
+	 * 
+	 * @param batch  hourly data
+	 * @param column column of the batch
+	 * @param first  first row of the day
+	 * @param end    row after the last row of the day
+	 * @return returns sum of all values or null if too many values are missing
+	 */
+	private static Float addAll(HourlyBatch batch, int column, int first, int end) {
+		if (!isComplete(batch, column, first, end)) {
+			return null;
 		}
-		return null;
+		double sum = 0;
+		for (int row = first; row < end; row++) {
+			if (batch.isValid(column, row)) {
+				sum += batch.getValue(column, row);
+			}
+		}
+		return (float) sum;
+	}
+
+	/**
+	 * check whether a day of the batch has enough values of the column to be
+	 * aggregated
+	 * 
+	 * @param batch  hourly data
+	 * @param column column of the batch
+	 * @param first  first row of the day
+	 * @param end    row after the last row of the day
+	 * @return returns true if at most MAXIMUM_MISSING_HOURS values are missing
+	 *         and at least one is present
+	 */
+	private static boolean isComplete(HourlyBatch batch, int column, int first, int end) {
+		int missing = batch.countMissing(column, first, end);
+		return missing <= MAXIMUM_MISSING_HOURS && missing < end - first;
 	}
 }
@@ -5,12 +5,13 @@ import java.io.FileNotFoundException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.log4j.Appender;
+import org.apache.log4j.AsyncAppender;
 import org.apache.log4j.BasicConfigurator;
 import org.apache.log4j.Layout;
 import org.apache.log4j.Level;
@@ -42,6 +43,11 @@ import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
  * If prompted to write a message from a lower level (less restrictive) than the level set for the system log, it will simply be discarded. For example, say
  * that the level set for the system is "ERROR", then only messages with the level "ERROR" and "FATAL" will be written in the log.
  * </p>
+ * <p>
+ * All the log service instances that write to the same log file publish into a single shared pipeline (one asynchronous appender feeding one rolling file
+ * appender). Each message is tagged with the name of the client object of the logging service, so concurrent clients never compete for the log file nor
+ * interleave their lines.
+ * </p>
  * <br>
  * <p>
  * <i>The system log is implemented using the framework Log4J.</i>
@@ -64,7 +70,9 @@ public class LogService {
 	public static final String MANDATORY_PATTERN_LOG = "%2d{dd/MM/yyyy HH:mm} ; %5p ; ";
 	public static final int MANDATORY_PATTERN_LOG_SIZE = 19;
 	public static final String LOG_SIZE_MEASUREMENT_UNIT = "MB";
-	// public static final String LOG_FILE_APPENDER_NAME = "FILE_APENDER";
+	public static final String LOG_FILE_APPENDER_NAME = "FILE_APPENDER_";
+	public static final String LOG_PIPELINE_APPENDER_NAME = "PIPELINE_APPENDER_";
+	public static final int LOG_PIPELINE_BUFFER_SIZE = 1024; // maximum number of messages waiting to be written in the log file
 
 	public static final String SEPARATOR = ";--------------------------------------------------------------------------------";
 	public static final String SPACE = "";
@@ -76,10 +84,15 @@ public class LogService {
 	public static final int LEVEL_START_POSITION = 17;
 	public static final int LEVEL_END_POSITION = 22;
 
-	public static List<LogService> logServices;
+	private static final ConcurrentMap<String, LogPipeline> logPipelines = new ConcurrentHashMap<String, LogPipeline>();
+
+	static {
+		// flushing the messages waiting in the pipelines at the end of execution
+		Runtime.getRuntime().addShutdownHook(new Thread(LogService::closePipelines, LogService.class.getSimpleName()));
+	}
 
 	private Logger logger;
-	private RollingFileAppender logFileAppender;
+	private LogPipeline logPipeline;
 	private SitisPatternLayout logLayout;
 
 	private MessageService messageService;
@@ -188,12 +201,6 @@ public class LogService {
 			logFileName = DEFAULT_LOG_FILE;
 		}
 
-		// creating collection of the log services
-		if (logServices == null) {
-			logServices = new ArrayList<LogService>();
-			logServices = Collections.synchronizedList(logServices);
-		}
-
 		// initializing parameters
 		this.setMessageService(messageService);
 		this.setTimeService(TimeService.getInstanceOf());
@@ -204,15 +211,6 @@ public class LogService {
 		this.setLogHeader(logHeader);
 		this.setLogFileName(logFileName);
 
-		// adding log service into collection of the log services
-		try {
-			synchronized (logServices) {
-				logServices.add(this);
-			}
-		} catch (Exception e) {
-			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.LOG_SERVICE_ERROR_UNABLE_RETRIEVE_LOG_SERVICE_LIST, this.getClass().getSimpleName(), "LogService", e.getMessage(), null, NetworkUtil.getLocalIpAddress(), logClientName);
-		}
-
 		// writing the initialization information log
 		this.success(MessageEnum.LOG_SERVICE_INFO_SUCCESS_CREATING_SERVICE, NetworkUtil.getLocalIpAddress(), logClientName);
 	}
@@ -358,7 +356,7 @@ public class LogService {
 	public LogService setLogMaxSize(int logMaxSize) {
 		if (logMaxSize >= 1 && logMaxSize != this.getLogMaxSize()) {
 			if (this.getFileAppender() != null) {
-				((RollingFileAppender) this.getFileAppender()).setMaxFileSize(this.getLogMaxSize() + LOG_SIZE_MEASUREMENT_UNIT);
+				((RollingFileAppender) this.getFileAppender()).setMaxFileSize(logMaxSize + LOG_SIZE_MEASUREMENT_UNIT);
 			}
 			this.logMaxSize = logMaxSize;
 		}
@@ -734,8 +732,8 @@ public class LogService {
 		if (this.getLogLevel() != null) {
 			newLogger.setLevel(this.getLogLevel());
 		}
-		if (this.getFileAppender() != null) {
-			newLogger.addAppender(this.getFileAppender());
+		if (this.getPipelineAppender() != null) {
+			newLogger.addAppender(this.getPipelineAppender());
 		}
 		this.logger = newLogger;
 
@@ -749,11 +747,21 @@ public class LogService {
 	 * @return Appender object associated to log file.
 	 */
 	private Appender getFileAppender() {
-		return this.logFileAppender;
+		return (this.logPipeline != null) ? this.logPipeline.getFileAppender() : null;
+	}
+
+	/**
+	 * Gets Appender object of the shared pipeline used by the logger to publish messages into log file.
+	 * 
+	 * @return Appender object of the shared pipeline associated to log file.
+	 */
+	private Appender getPipelineAppender() {
+		return (this.logPipeline != null) ? this.logPipeline.getPipelineAppender() : null;
 	}
 
 	/**
-	 * Update file appender to Logger object at log service.
+	 * Update file appender to Logger object at log service.<br>
+	 * The appenders are shared by all log service instances that write to the same log file.
 	 * 
 	 * @param logFileName
 	 *            Log file name.
@@ -771,42 +779,18 @@ public class LogService {
 			return this;
 		}
 
-		// checking if there is already a created appender to log file
-		try {
-			synchronized (logServices) {
-				for (LogService logService : logServices) {
-					if (logFileName.equals(logService.getLogFileName())) {
-						if (this.getLogger() != null) {
-							this.getLogger().addAppender(logService.getFileAppender());
-						}
-						this.logFileAppender = (RollingFileAppender) logService.getFileAppender();
-						return this;
-					}
-				}
-			}
-		} catch (Exception e) {
-			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.LOG_SERVICE_ERROR_UNABLE_RETRIEVE_LOG_SERVICE_LIST, this.getClass().getSimpleName(), "updateFileAppender", e.getMessage(), null, NetworkUtil.getLocalIpAddress(), this.getLogClientName(), logFileName);
-		}
-
 		try {
-			// creating new file appender
-			RollingFileAppender newFileAppender = new RollingFileAppender();
-			newFileAppender.setFile(logFileName);
-			if (this.getLogLayout() != null) {
-				newFileAppender.setLayout(this.getLogLayout());
-			}
-			newFileAppender.setMaxBackupIndex(0);
-			newFileAppender.setEncoding(LogService.CHARSET);
-			newFileAppender.activateOptions();
+			// retrieving the pipeline of the log file, creating it only once
+			LogPipeline newLogPipeline = logPipelines.computeIfAbsent(logFileName, this::createLogPipeline);
 
-			// updating new file appender
-			if (this.getFileAppender() != null && this.getLogger() != null) {
-				this.getLogger().removeAppender(this.getFileAppender());
-			}
+			// updating the pipeline appender of the logger
 			if (this.getLogger() != null) {
-				this.getLogger().addAppender(newFileAppender);
+				if (this.getPipelineAppender() != null) {
+					this.getLogger().removeAppender(this.getPipelineAppender());
+				}
+				this.getLogger().addAppender(newLogPipeline.getPipelineAppender());
 			}
-			this.logFileAppender = newFileAppender;
+			this.logPipeline = newLogPipeline;
 			return this;
 
 		} catch (Exception e) {
@@ -814,6 +798,50 @@ public class LogService {
 		}
 	}
 
+	/**
+	 * Creates the pipeline used by all log service instances to write messages in the log file.
+	 * 
+	 * @param logFileName
+	 *            Log file name.
+	 * @return Pipeline associated to the log file.
+	 */
+	private LogPipeline createLogPipeline(String logFileName) {
+
+		// creating the file appender
+		RollingFileAppender fileAppender = new RollingFileAppender();
+		fileAppender.setName(LOG_FILE_APPENDER_NAME + logFileName);
+		fileAppender.setFile(logFileName);
+		if (this.getLogLayout() != null) {
+			fileAppender.setLayout(this.getLogLayout());
+		}
+		fileAppender.setMaxFileSize(this.getLogMaxSize() + LOG_SIZE_MEASUREMENT_UNIT);
+		fileAppender.setMaxBackupIndex(0);
+		fileAppender.setEncoding(LogService.CHARSET);
+		fileAppender.activateOptions();
+
+		// creating the asynchronous appender that serializes the writing of the messages of all clients
+		AsyncAppender pipelineAppender = new AsyncAppender();
+		pipelineAppender.setName(LOG_PIPELINE_APPENDER_NAME + logFileName);
+		pipelineAppender.setBufferSize(LOG_PIPELINE_BUFFER_SIZE);
+		pipelineAppender.setBlocking(true);
+		pipelineAppender.setLocationInfo(true);
+		pipelineAppender.addAppender(fileAppender);
+
+		return new LogPipeline(fileAppender, pipelineAppender);
+	}
+
+	/**
+	 * Closes all pipelines, writing the messages still waiting in the log files.
+	 */
+	private static void closePipelines() {
+		for (LogPipeline pipeline : logPipelines.values()) {
+			try {
+				pipeline.getPipelineAppender().close();
+			} catch (Exception e) {
+			}
+		}
+	}
+
 	/**
 	 * Gets Layout object from logger.
 	 * 
@@ -892,11 +920,11 @@ public class LogService {
 		@Override
 		public String format(LoggingEvent event) {
 
-			// changing the date of the event
+			// changing the date of the event to the time service date at its creation, since it is formatted later by the thread of the pipeline
 			try {
-				long currentTime = getTimeService().getDateMillis();
-				String dateTime = getTimeService().getFormatterDateTime().format(Instant.ofEpochMilli(currentTime));
-				return dateTime + " ; " + currentTime + " ; " + super.format(event).substring(MANDATORY_PATTERN_LOG_SIZE);
+				long eventTime = getTimeService().getDateMillis(event.getTimeStamp());
+				String dateTime = getTimeService().getFormatterDateTime().format(Instant.ofEpochMilli(eventTime));
+				return dateTime + " ; " + eventTime + " ; " + super.format(event).substring(MANDATORY_PATTERN_LOG_SIZE);
 			} catch (Exception e) {
 				return getTimeService().getDateString() + " ; " + super.format(event);
 			}
@@ -908,4 +936,37 @@ public class LogService {
 		}
 	}
 
+	/**
+	 * Nested class holding the appenders shared by all log service instances that write to the same log file.
+	 * 
+	 */
+	private static class LogPipeline {
+
+		private final RollingFileAppender fileAppender;
+		private final AsyncAppender pipelineAppender;
+
+		/**
+		 * Private constructor with the file appender and the asynchronous appender feeding it.
+		 * 
+		 */
+		private LogPipeline(RollingFileAppender fileAppender, AsyncAppender pipelineAppender) {
+			this.fileAppender = fileAppender;
+			this.pipelineAppender = pipelineAppender;
+		}
+
+		/**
+		 * @return Appender that writes the messages in the log file.
+		 */
+		private RollingFileAppender getFileAppender() {
+			return fileAppender;
+		}
+
+		/**
+		 * @return Asynchronous appender where the loggers publish their messages.
+		 */
+		private AsyncAppender getPipelineAppender() {
+			return pipelineAppender;
+		}
+	}
+
 }
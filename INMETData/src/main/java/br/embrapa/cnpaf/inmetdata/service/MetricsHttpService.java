@@ -0,0 +1,298 @@
+package br.embrapa.cnpaf.inmetdata.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.log4j.Level;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.metric.Metric;
+import br.embrapa.cnpaf.inmetdata.metric.MetricCounter;
+import br.embrapa.cnpaf.inmetdata.metric.MetricGauge;
+import br.embrapa.cnpaf.inmetdata.metric.MetricTimer;
+import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Singleton class responsible for exposing the metrics of the system through an embedded HTTP endpoint.</b>
+ * </p>
+ * <p>
+ * The endpoint publishes, in the Prometheus text format (version 0.0.4), all the counters, timers (as histograms in seconds) and gauges registered in the
+ * metrics service, together with the memory, garbage collection and thread metrics of the JVM. It uses only the HTTP server of the JDK, so it can be checked
+ * locally with:<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt>curl http://localhost:9400/metrics</tt>
+ * </p>
+ * <p>
+ * To retrieve an instance of this class use the static method getInstanceOf ():<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt> MetricsHttpService metricsHttpService = MetricsHttpService.getInstanceOf();</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class MetricsHttpService extends GenericService<MetricsHttpService> {
+
+	public static final String METRICS_PATH = "/metrics";
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private static MetricsHttpService instance;
+	private HttpServer server;
+	private ExecutorService executor;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param logClientName
+	 *            Name of the client object of the logging service.
+	 * @param logLevel
+	 *            Log level to be used in log service.
+	 * @throws ServiceException
+	 *             Occurrence of any problems in creating of the service.
+	 */
+	private MetricsHttpService(String logClientName, Level logLevel) throws ServiceException {
+		super(logClientName, logLevel);
+	}
+
+	/**
+	 * Method to retrieve the instance of service. This class has a single instance for any application (Singleton).
+	 *
+	 * @param logClientName
+	 *            Name of the client object of the logging service.
+	 * @param logLevel
+	 *            Log level to be used in log service.
+	 * @return Returns the instance of service.
+	 * @throws ServiceException
+	 *             Occurrence of any problems in creating of the service.
+	 */
+	public static synchronized MetricsHttpService getInstanceOf(String logClientName, Level logLevel) throws ServiceException {
+		if (MetricsHttpService.instance == null) {
+			MetricsHttpService.instance = new MetricsHttpService(logClientName, logLevel);
+		}
+		return MetricsHttpService.instance;
+	}
+
+	/**
+	 * Method to retrieve the instance of service. This class has a single instance for any application (Singleton).
+	 *
+	 * @return Returns the instance of service.
+	 * @throws ServiceException
+	 *             Occurrence of any problems in creating of the service.
+	 */
+	public static synchronized MetricsHttpService getInstanceOf() throws ServiceException {
+		return MetricsHttpService.getInstanceOf(MetricsHttpService.class.getSimpleName(), null);
+	}
+
+	/**
+	 * Starts the HTTP endpoint in the informed port. If the endpoint is already running, nothing is done.
+	 *
+	 * @param port
+	 *            Port of the HTTP endpoint.
+	 * @return Service instance.
+	 * @throws ServiceException
+	 *             Error in starting the HTTP endpoint.
+	 */
+	public synchronized MetricsHttpService start(int port) throws ServiceException {
+		if (this.server != null) {
+			return this;
+		}
+
+		try {
+			// creating the server with a single daemon thread, so it never holds the end of the execution
+			this.executor = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, MetricsHttpService.class.getSimpleName());
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.server = HttpServer.create(new InetSocketAddress(port), 0);
+			this.server.createContext(METRICS_PATH, this::handle);
+			this.server.setExecutor(this.executor);
+			this.server.start();
+
+		} catch (Exception e) {
+			this.server = null;
+			if (this.executor != null) {
+				this.executor.shutdownNow();
+			}
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.METRICS_HTTP_SERVICE_ERROR_START, this.getClass().getSimpleName(), "start", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress(), String.valueOf(port));
+		}
+
+		return this.success(MessageEnum.METRICS_HTTP_SERVICE_INFO_SUCCESS_START, NetworkUtil.getLocalIpAddress(), String.valueOf(port));
+	}
+
+	/**
+	 * Stops the HTTP endpoint, if it is running.
+	 *
+	 * @return Service instance.
+	 */
+	public synchronized MetricsHttpService stop() {
+		if (this.server != null) {
+			this.server.stop(0);
+			this.executor.shutdownNow();
+			this.server = null;
+			this.executor = null;
+		}
+		return this;
+	}
+
+	/**
+	 * Handles a request to the HTTP endpoint, writing the metrics in the response.
+	 *
+	 * @param exchange
+	 *            Request and response of the HTTP endpoint.
+	 * @throws IOException
+	 *             Error in writing the response.
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			byte[] body = this.getMetrics().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Retrieves all metrics in the Prometheus text format.
+	 *
+	 * @return Metrics in the Prometheus text format.
+	 */
+	public String getMetrics() {
+
+		// initializing variables
+		StringBuilder text = new StringBuilder();
+
+		// writing the counters
+		for (Map.Entry<String, List<MetricCounter>> family : MetricsHttpService.groupByName(this.getMetricsService().getCounters()).entrySet()) {
+			String name = family.getKey() + "_total";
+			text.append("# TYPE ").append(name).append(" counter\n");
+			for (MetricCounter counter : family.getValue()) {
+				text.append(name).append(MetricsHttpService.labels(counter, null)).append(' ').append(counter.getValue()).append('\n');
+			}
+		}
+
+		// writing the timers as histograms in seconds
+		for (Map.Entry<String, List<MetricTimer>> family : MetricsHttpService.groupByName(this.getMetricsService().getTimers()).entrySet()) {
+			String name = family.getKey() + "_seconds";
+			text.append("# TYPE ").append(name).append(" histogram\n");
+			for (MetricTimer timer : family.getValue()) {
+				long[] buckets = timer.getBuckets();
+				int lastBucket = buckets.length - 1;
+				while (lastBucket > 0 && buckets[lastBucket] == 0) {
+					lastBucket--;
+				}
+				long accumulated = 0;
+				for (int i = 0; i <= lastBucket && i < MetricTimer.HISTOGRAM_BUCKETS - 1; i++) {
+					accumulated += buckets[i];
+					String upperBound = String.valueOf(MetricTimer.getBucketUpperBound(i) / 1e9);
+					text.append(name).append("_bucket").append(MetricsHttpService.labels(timer, upperBound)).append(' ').append(accumulated).append('\n');
+				}
+				text.append(name).append("_bucket").append(MetricsHttpService.labels(timer, "+Inf")).append(' ').append(timer.getCount()).append('\n');
+				text.append(name).append("_sum").append(MetricsHttpService.labels(timer, null)).append(' ').append(timer.getSum() / 1e9).append('\n');
+				text.append(name).append("_count").append(MetricsHttpService.labels(timer, null)).append(' ').append(timer.getCount()).append('\n');
+			}
+		}
+
+		// writing the gauges
+		for (Map.Entry<String, List<MetricGauge>> family : MetricsHttpService.groupByName(this.getMetricsService().getGauges()).entrySet()) {
+			text.append("# TYPE ").append(family.getKey()).append(" gauge\n");
+			for (MetricGauge gauge : family.getValue()) {
+				text.append(family.getKey()).append(MetricsHttpService.labels(gauge, null)).append(' ').append(gauge.getValue()).append('\n');
+			}
+		}
+
+		// writing the JVM metrics
+		MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+		MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+		text.append("# TYPE jvm_memory_bytes_used gauge\n");
+		text.append("jvm_memory_bytes_used{area=\"heap\"} ").append(heap.getUsed()).append('\n');
+		text.append("jvm_memory_bytes_used{area=\"nonheap\"} ").append(nonHeap.getUsed()).append('\n');
+		text.append("# TYPE jvm_memory_bytes_committed gauge\n");
+		text.append("jvm_memory_bytes_committed{area=\"heap\"} ").append(heap.getCommitted()).append('\n');
+		text.append("jvm_memory_bytes_committed{area=\"nonheap\"} ").append(nonHeap.getCommitted()).append('\n');
+		text.append("# TYPE jvm_memory_bytes_max gauge\n");
+		text.append("jvm_memory_bytes_max{area=\"heap\"} ").append(heap.getMax()).append('\n');
+		text.append("# TYPE jvm_gc_collection_seconds summary\n");
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			String label = "{gc=\"" + MetricsHttpService.escape(collector.getName()) + "\"}";
+			text.append("jvm_gc_collection_seconds_count").append(label).append(' ').append(collector.getCollectionCount()).append('\n');
+			text.append("jvm_gc_collection_seconds_sum").append(label).append(' ').append(collector.getCollectionTime() / 1e3).append('\n');
+		}
+		text.append("# TYPE jvm_threads_current gauge\n");
+		text.append("jvm_threads_current ").append(ManagementFactory.getThreadMXBean().getThreadCount()).append('\n');
+
+		return text.toString();
+	}
+
+	/**
+	 * Groups the metrics by name, keeping the order of the keys.
+	 *
+	 * @param metrics
+	 *            Metrics ordered by key.
+	 * @return Metrics grouped by name.
+	 */
+	private static <M extends Metric> Map<String, List<M>> groupByName(List<M> metrics) {
+		Map<String, List<M>> families = new LinkedHashMap<String, List<M>>();
+		for (M metric : metrics) {
+			families.computeIfAbsent(metric.getName(), name -> new ArrayList<M>()).add(metric);
+		}
+		return families;
+	}
+
+	/**
+	 * Retrieves the labels of a metric in the Prometheus text format.
+	 *
+	 * @param metric
+	 *            Metric whose labels will be written.
+	 * @param upperBound
+	 *            Upper bound of the histogram bucket (label "le") or null if it is not a bucket.
+	 * @return Labels of the metric.
+	 */
+	private static String labels(Metric metric, String upperBound) {
+		List<String> labels = new ArrayList<String>(2);
+		if (metric.getTagName() != null) {
+			labels.add(metric.getTagName() + "=\"" + MetricsHttpService.escape(metric.getTagValue()) + "\"");
+		}
+		if (upperBound != null) {
+			labels.add("le=\"" + upperBound + "\"");
+		}
+		return labels.isEmpty() ? "" : "{" + String.join(",", labels) + "}";
+	}
+
+	/**
+	 * Escapes a label value according to the Prometheus text format.
+	 *
+	 * @param value
+	 *            Label value.
+	 * @return Escaped label value.
+	 */
+	private static String escape(String value) {
+		if (value == null) {
+			return "";
+		}
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+}
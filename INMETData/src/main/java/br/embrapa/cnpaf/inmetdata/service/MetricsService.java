@@ -0,0 +1,212 @@
+package br.embrapa.cnpaf.inmetdata.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import br.embrapa.cnpaf.inmetdata.metric.Metric;
+import br.embrapa.cnpaf.inmetdata.metric.MetricCounter;
+import br.embrapa.cnpaf.inmetdata.metric.MetricGauge;
+import br.embrapa.cnpaf.inmetdata.metric.MetricTimer;
+
+/**
+ * <br>
+ * <p>
+ * <b>Singleton class responsible for the registry of the metrics collected by the system.</b>
+ * </p>
+ * <p>
+ * The registry keeps the timers of the ingestion stages (HTTP fetch, JSON parse, daily aggregation and database access) and the counters of rows and errors,
+ * tagged by station or by DAO, and the gauges of the ingestion progress. The metrics are created on the first use and can be updated by several threads without locks.
+ * </p>
+ * <p>
+ * To retrieve an instance of this class use the static method getInstanceOf ():<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt> MetricsService metricsService = MetricsService.getInstanceOf();</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class MetricsService {
+
+	public static final String TAG_STATION = "station";
+	public static final String TAG_DAO = "dao";
+	public static final String TAG_STAGE = "stage";
+
+	public static final String TIMER_HTTP_FETCH = "inmet_http_fetch";
+	public static final String TIMER_JSON_PARSE = "inmet_json_parse";
+	public static final String TIMER_DAILY_AGGREGATION = "inmet_daily_aggregation";
+	public static final String TIMER_DB_WRITE = "inmet_db_write";
+	public static final String TIMER_DB_LIST = "inmet_db_list";
+
+	public static final String COUNTER_ROWS_FETCHED = "inmet_rows_fetched";
+	public static final String COUNTER_ROWS_PERSISTED = "inmet_rows_persisted"; // hourly rows only
+	public static final String COUNTER_RETRIES = "inmet_retries";
+	public static final String COUNTER_FAILURES = "inmet_failures";
+	public static final String COUNTER_SCHEDULER_EXECUTIONS = "inmet_scheduler_executions";
+	public static final String COUNTER_DEAD_LETTERS = "inmet_dead_letters";
+
+	public static final String GAUGE_STATIONS = "inmet_stations";
+	public static final String GAUGE_STATIONS_COMPLETED = "inmet_stations_completed";
+	public static final String GAUGE_STATION_LAST_DATE = "inmet_station_last_date_seconds";
+	public static final String GAUGE_QUEUE_WORK_ITEMS = "inmet_queue_work_items";
+	public static final String GAUGE_SCHEDULER_NEXT_EXECUTION = "inmet_scheduler_next_execution_seconds";
+	public static final String GAUGE_PIPELINE_QUEUE_DEPTH = "inmet_pipeline_queue_depth";
+	public static final String GAUGE_PIPELINE_FETCHES_IN_FLIGHT = "inmet_pipeline_fetches_in_flight";
+
+	private static MetricsService instance;
+
+	private final ConcurrentMap<String, MetricCounter> counters;
+	private final ConcurrentMap<String, MetricTimer> timers;
+	private final ConcurrentMap<String, MetricGauge> gauges;
+
+	/**
+	 * Private class constructor.
+	 */
+	private MetricsService() {
+		super();
+		this.counters = new ConcurrentHashMap<String, MetricCounter>();
+		this.timers = new ConcurrentHashMap<String, MetricTimer>();
+		this.gauges = new ConcurrentHashMap<String, MetricGauge>();
+	}
+
+	/**
+	 * Method to retrieve the instance of service. This class has a single instance for any application (Singleton).
+	 *
+	 * @return Returns the instance of service.
+	 */
+	public static synchronized MetricsService getInstanceOf() {
+		if (MetricsService.instance == null) {
+			MetricsService.instance = new MetricsService();
+		}
+		return MetricsService.instance;
+	}
+
+	/**
+	 * Retrieves a counter without tag, creating it on the first use.
+	 *
+	 * @param name
+	 *            Name of the counter.
+	 * @return Counter associated with the name.
+	 */
+	public MetricCounter getCounter(String name) {
+		return this.getCounter(name, null, null);
+	}
+
+	/**
+	 * Retrieves a tagged counter, creating it on the first use.
+	 *
+	 * @param name
+	 *            Name of the counter.
+	 * @param tagName
+	 *            Name of the tag.
+	 * @param tagValue
+	 *            Value of the tag.
+	 * @return Counter associated with the name and the tag.
+	 */
+	public MetricCounter getCounter(String name, String tagName, String tagValue) {
+		return this.counters.computeIfAbsent(Metric.getKey(name, tagName, tagValue), key -> new MetricCounter(name, tagName, tagValue));
+	}
+
+	/**
+	 * Retrieves a timer without tag, creating it on the first use.
+	 *
+	 * @param name
+	 *            Name of the timer.
+	 * @return Timer associated with the name.
+	 */
+	public MetricTimer getTimer(String name) {
+		return this.getTimer(name, null, null);
+	}
+
+	/**
+	 * Retrieves a tagged timer, creating it on the first use.
+	 *
+	 * @param name
+	 *            Name of the timer.
+	 * @param tagName
+	 *            Name of the tag.
+	 * @param tagValue
+	 *            Value of the tag.
+	 * @return Timer associated with the name and the tag.
+	 */
+	public MetricTimer getTimer(String name, String tagName, String tagValue) {
+		return this.timers.computeIfAbsent(Metric.getKey(name, tagName, tagValue), key -> new MetricTimer(name, tagName, tagValue));
+	}
+
+	/**
+	 * Retrieves a gauge without tag, creating it on the first use.
+	 *
+	 * @param name
+	 *            Name of the gauge.
+	 * @return Gauge associated with the name.
+	 */
+	public MetricGauge getGauge(String name) {
+		return this.getGauge(name, null, null);
+	}
+
+	/**
+	 * Retrieves a tagged gauge, creating it on the first use.
+	 *
+	 * @param name
+	 *            Name of the gauge.
+	 * @param tagName
+	 *            Name of the tag.
+	 * @param tagValue
+	 *            Value of the tag.
+	 * @return Gauge associated with the name and the tag.
+	 */
+	public MetricGauge getGauge(String name, String tagName, String tagValue) {
+		return this.gauges.computeIfAbsent(Metric.getKey(name, tagName, tagValue), key -> new MetricGauge(name, tagName, tagValue));
+	}
+
+	/**
+	 * @return All the counters registered, ordered by key.
+	 */
+	public List<MetricCounter> getCounters() {
+		List<MetricCounter> result = new ArrayList<MetricCounter>(this.counters.values());
+		result.sort(Comparator.comparing(Metric::getKey));
+		return result;
+	}
+
+	/**
+	 * @return All the timers registered, ordered by key.
+	 */
+	public List<MetricTimer> getTimers() {
+		List<MetricTimer> result = new ArrayList<MetricTimer>(this.timers.values());
+		result.sort(Comparator.comparing(Metric::getKey));
+		return result;
+	}
+
+	/**
+	 * @return All the gauges registered, ordered by key.
+	 */
+	public List<MetricGauge> getGauges() {
+		List<MetricGauge> result = new ArrayList<MetricGauge>(this.gauges.values());
+		result.sort(Comparator.comparing(Metric::getKey));
+		return result;
+	}
+
+	/**
+	 * Retrieves the summary of all metrics registered, one line per metric.
+	 *
+	 * @return Lines of the summary of the metrics.
+	 */
+	public List<String> getSummary() {
+		List<String> summary = new ArrayList<String>();
+		for (MetricTimer timer : this.getTimers()) {
+			summary.add(timer.toString());
+		}
+		for (MetricCounter counter : this.getCounters()) {
+			summary.add(counter.toString());
+		}
+		for (MetricGauge gauge : this.getGauges()) {
+			summary.add(gauge.toString());
+		}
+		return summary;
+	}
+}
@@ -0,0 +1,202 @@
+package br.embrapa.cnpaf.inmetdata.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Level;
+
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.util.CronExpression;
+import br.embrapa.cnpaf.inmetdata.util.NetworkUtil;
+
+/**
+ * <br>
+ * <p>
+ * <b>Singleton class responsible for running a job at the times of a cron expression (daemon mode).</b>
+ * </p>
+ * <p>
+ * The job runs in a single non-daemon thread, so the executions never overlap and the JVM, with its connections and caches already warmed up, stays alive
+ * between them. The next execution is always calculated after the end of the current one; the times missed by a long execution are skipped.
+ * </p>
+ * <p>
+ * To retrieve an instance of this class use the static method getInstanceOf ():<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt> SchedulerService schedulerService = SchedulerService.getInstanceOf();</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class SchedulerService extends GenericService<SchedulerService> {
+
+	private static SchedulerService instance;
+	private final CountDownLatch stopped;
+	private ScheduledExecutorService executor;
+	private CronExpression expression;
+	private Runnable job;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param logClientName
+	 *            Name of the client object of the logging service.
+	 * @param logLevel
+	 *            Log level to be used in log service.
+	 * @throws ServiceException
+	 *             Occurrence of any problems in creating of the service.
+	 */
+	private SchedulerService(String logClientName, Level logLevel) throws ServiceException {
+		super(logClientName, logLevel);
+		this.stopped = new CountDownLatch(1);
+	}
+
+	/**
+	 * Method to retrieve the instance of service. This class has a single instance for any application (Singleton).
+	 *
+	 * @param logClientName
+	 *            Name of the client object of the logging service.
+	 * @param logLevel
+	 *            Log level to be used in log service.
+	 * @return Returns the instance of service.
+	 * @throws ServiceException
+	 *             Occurrence of any problems in creating of the service.
+	 */
+	public static synchronized SchedulerService getInstanceOf(String logClientName, Level logLevel) throws ServiceException {
+		if (SchedulerService.instance == null) {
+			SchedulerService.instance = new SchedulerService(logClientName, logLevel);
+		}
+		return SchedulerService.instance;
+	}
+
+	/**
+	 * Method to retrieve the instance of service. This class has a single instance for any application (Singleton).
+	 *
+	 * @return Returns the instance of service.
+	 * @throws ServiceException
+	 *             Occurrence of any problems in creating of the service.
+	 */
+	public static synchronized SchedulerService getInstanceOf() throws ServiceException {
+		return SchedulerService.getInstanceOf(SchedulerService.class.getSimpleName(), null);
+	}
+
+	/**
+	 * Starts running the job at the times of the cron expression. If the scheduler is already running, nothing is done.
+	 *
+	 * @param expression
+	 *            Cron expression with the times of the executions.
+	 * @param job
+	 *            Job to be executed. Any exception thrown by the job is written in the log and does not cancel the next executions.
+	 * @return Service instance.
+	 * @throws ServiceException
+	 *             The cron expression has no future execution.
+	 */
+	public synchronized SchedulerService start(CronExpression expression, Runnable job) throws ServiceException {
+		if (this.executor != null) {
+			return this;
+		}
+
+		// checking the expression before creating the thread
+		if (expression.next(this.getTimeService().getDateTime()) == null) {
+			throw this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.SCHEDULER_SERVICE_ERROR_NO_NEXT_EXECUTION, this.getClass().getSimpleName(), "start", null, null, true, NetworkUtil.getLocalIpAddress(), expression.getExpression());
+		}
+
+		// creating the executor with a single non-daemon thread, which keeps the JVM alive between executions; the execution still waiting for its time is
+		// discarded by the shutdown, so a stop only waits for the execution in progress
+		this.expression = expression;
+		this.job = job;
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> new Thread(runnable, SchedulerService.class.getSimpleName()));
+		executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		this.executor = executor;
+		this.success(MessageEnum.SCHEDULER_SERVICE_INFO_SUCCESS_START, NetworkUtil.getLocalIpAddress(), expression.getExpression());
+		return this.scheduleNext();
+	}
+
+	/**
+	 * Stops the scheduler, waiting for the end of the execution in progress, if any. The next execution, not started yet, is canceled.
+	 *
+	 * @param timeout
+	 *            Maximum time to wait for the execution in progress.
+	 * @return Service instance.
+	 */
+	public SchedulerService stop(Duration timeout) {
+		ScheduledExecutorService executor;
+		synchronized (this) {
+			executor = this.executor;
+			if (executor == null || executor.isShutdown()) {
+				return this;
+			}
+			executor.shutdown();
+		}
+
+		// waiting for the execution in progress
+		try {
+			if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				executor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+		this.stopped.countDown();
+		return this.success(MessageEnum.SCHEDULER_SERVICE_INFO_SUCCESS_STOP, NetworkUtil.getLocalIpAddress());
+	}
+
+	/**
+	 * Blocks the current thread until the scheduler is stopped.
+	 *
+	 * @return Service instance.
+	 * @throws InterruptedException
+	 *             The current thread was interrupted while waiting.
+	 */
+	public SchedulerService await() throws InterruptedException {
+		this.stopped.await();
+		return this;
+	}
+
+	/**
+	 * Schedules the next execution of the job, according to the current time of the time service.
+	 *
+	 * @return Service instance.
+	 */
+	private synchronized SchedulerService scheduleNext() {
+		if (this.executor.isShutdown()) {
+			return this;
+		}
+
+		// calculating the next execution
+		LocalDateTime now = this.getTimeService().getDateTime();
+		LocalDateTime next = this.expression.next(now);
+		if (next == null) {
+			this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.SCHEDULER_SERVICE_ERROR_NO_NEXT_EXECUTION, this.getClass().getSimpleName(), "scheduleNext", null, null, true, NetworkUtil.getLocalIpAddress(), this.expression.getExpression());
+			this.executor.shutdown();
+			this.stopped.countDown();
+			return this;
+		}
+
+		// scheduling the execution
+		this.getMetricsService().getGauge(MetricsService.GAUGE_SCHEDULER_NEXT_EXECUTION).set(next.atZone(this.getConfigurationService().getTimeZone()).toEpochSecond());
+		this.executor.schedule(this::execute, Duration.between(now, next).toMillis(), TimeUnit.MILLISECONDS);
+		return this.success(MessageEnum.SCHEDULER_SERVICE_INFO_NEXT_EXECUTION, NetworkUtil.getLocalIpAddress(), next.toString());
+	}
+
+	/**
+	 * Executes the job and schedules the next execution.
+	 */
+	private void execute() {
+		try {
+			this.getMetricsService().getCounter(MetricsService.COUNTER_SCHEDULER_EXECUTIONS).increment();
+			this.job.run();
+		} catch (Throwable e) {
+			this.error(NetworkUtil.getLocalIpAddress(), MessageEnum.SCHEDULER_SERVICE_ERROR_EXECUTION, this.getClass().getSimpleName(), "execute", e.getMessage(), null, true, NetworkUtil.getLocalIpAddress());
+		} finally {
+			this.scheduleNext();
+		}
+	}
+}
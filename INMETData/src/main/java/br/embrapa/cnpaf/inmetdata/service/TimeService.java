@@ -1,25 +1,19 @@
 package br.embrapa.cnpaf.inmetdata.service;
 
-import java.text.ParseException;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Period;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
-import org.checkerframework.checker.units.qual.s;
-import org.joda.time.Period;
-
-import com.ibm.icu.text.SimpleDateFormat;
-import com.ibm.icu.util.Calendar;
-
 import br.embrapa.cnpaf.inmetdata.exception.ServiceException;
+import br.embrapa.cnpaf.inmetdata.period.PeriodPlanner;
 import br.embrapa.cnpaf.inmetdata.period.period;
 import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
 
@@ -34,6 +28,12 @@ import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
  * time required for the execution of test cases.
  * </p>
  * <p>
+ * The accelerated time is calculated on demand from a base instant, the moment
+ * in which it was set and the acceleration rate, so no thread is needed to keep
+ * the time running. The clock used as reference can be replaced (for example,
+ * by a fixed clock in tests).
+ * </p>
+ * <p>
  * To retrieve an instance of this class use the static method getInstanceOf
  * ():<br>
  * <br>
@@ -47,7 +47,7 @@ import br.embrapa.cnpaf.inmetdata.util.TimeUtil;
  * @since 03/03/2020 (creation date)
  * 
  */
-public class TimeService implements Runnable {
+public class TimeService {
 
 	public static final String SQL_DATE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
 	public static final String SQL_DATE_FORMAT = "yyyy-MM-dd";
@@ -57,8 +57,10 @@ public class TimeService implements Runnable {
 	public static final String TIME_FORMAT_HHMM = "HH:mm";
 	public static final String TIME_FORMAT_HHMMSS = "HH:mm:ss";
 
-	public static final String THREAD_NAME = "TimeService";
-	public static final int TIME_BETWEEN_THREADS = 10;
+	public static final long MILLIS_PER_DAY = 86400000L;
+	public static final PeriodPlanner INMET_PERIOD_PLANNER = PeriodPlanner.of(Period.of(1, 0, 1));
+
+	private static final Clock SYSTEM_CLOCK = Clock.systemUTC();
 
 	private ZoneId timeZone;
 	private DateTimeFormatter formatterSqlDateTime;
@@ -71,10 +73,8 @@ public class TimeService implements Runnable {
 	private ZoneOffset zoneOffSet;
 
 	private static TimeService instance;
-	private double rate;
-	private double intervalBetweenJumps;
-	private Instant currentDate;
-	private Thread timeAccelerationThread;
+	private volatile Clock clock;
+	private volatile ClockState clockState;
 
 	/**
 	 * Private class constructor.
@@ -97,14 +97,8 @@ public class TimeService implements Runnable {
 		this.zoneOffSet = ZoneOffset.of(this.getTimeZone().getId());
 
 		// initializing attributes
-		this.rate = 0.0;
-		this.intervalBetweenJumps = 0.0;
-		this.currentDate = ZonedDateTime.now(this.getTimeZone()).toInstant();
-
-		// creating the thread to the acceleration time
-		this.timeAccelerationThread = new Thread(this);
-		this.timeAccelerationThread.setName(THREAD_NAME);
-		this.timeAccelerationThread.start();
+		this.clock = SYSTEM_CLOCK;
+		this.clockState = new ClockState(this.clock.millis(), this.clock.millis(), 0.0);
 	}
 
 	/**
@@ -130,7 +124,10 @@ public class TimeService implements Runnable {
 	 */
 	public TimeService setStartDate(LocalDateTime date) {
 		if (date != null) {
-			this.currentDate = date.atZone(this.getTimeZone()).toInstant();
+			synchronized (this) {
+				ClockState state = this.clockState;
+				this.clockState = new ClockState(date.toInstant(this.getZoneOffSet()).toEpochMilli(), this.clock.millis(), state.rate);
+			}
 		}
 		return this;
 	}
@@ -143,10 +140,29 @@ public class TimeService implements Runnable {
 	 */
 	public TimeService setTimeAcceleration(double rate) {
 		if (rate >= 0) {
-			this.rate = rate;
-			this.intervalBetweenJumps = 1000 / rate;
 			synchronized (this) {
-				this.notifyAll();
+				ClockState state = this.clockState;
+				long now = this.clock.millis();
+				this.clockState = new ClockState(state.getSimulatedMillis(now), now, rate);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Sets the clock used as reference by the time service. By default, it is the
+	 * system clock in UTC.
+	 * 
+	 * @param clock Clock used as reference by the time service.
+	 * @return Entity instance.
+	 */
+	public TimeService setClock(Clock clock) {
+		if (clock != null) {
+			synchronized (this) {
+				ClockState state = this.clockState;
+				long now = clock.millis();
+				this.clockState = new ClockState(state.getSimulatedMillis(this.clock.millis()), now, state.rate);
+				this.clock = clock;
 			}
 		}
 		return this;
@@ -159,7 +175,8 @@ public class TimeService implements Runnable {
 	 * @return The date calculated by the time service.
 	 */
 	public LocalDate getDate() {
-		return LocalDateTime.ofInstant(this.getCurrentTime(), this.getTimeZone()).toLocalDate();
+		long millis = this.getCurrentMillis() + this.getZoneOffSet().getTotalSeconds() * 1000L;
+		return LocalDate.ofEpochDay(Math.floorDiv(millis, MILLIS_PER_DAY));
 	}
 
 	/**
@@ -169,7 +186,8 @@ public class TimeService implements Runnable {
 	 * @return The date calculated by the time service in LocalDateTime format.
 	 */
 	public LocalDateTime getDateTime() {
-		return LocalDateTime.ofInstant(this.getCurrentTime(), this.getTimeZone());
+		long millis = this.getCurrentMillis();
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L), (int) Math.floorMod(millis, 1000L) * 1000000, this.getZoneOffSet());
 	}
 
 	/**
@@ -181,7 +199,25 @@ public class TimeService implements Runnable {
 	 *         from the epoch of 1970-01-01T00:00:00Z.
 	 */
 	public long getDateMillis() {
-		return this.getCurrentTime().toEpochMilli();
+		return this.getCurrentMillis();
+	}
+
+	/**
+	 * Retrieving the date calculated by the time service at a past moment of the
+	 * system clock, as the time stamp of a logging event, in number of milliseconds
+	 * from the epoch of 1970-01-01T00:00:00Z. The moment is converted to the clock
+	 * of the service and the acceleration is applied, so a message formatted later
+	 * by another thread is stamped with the time it was created.
+	 * 
+	 * @param systemMillis Moment of the system clock in milliseconds.
+	 * @return The date calculated by the time service at that moment in number of
+	 *         milliseconds from the epoch of 1970-01-01T00:00:00Z.
+	 */
+	public long getDateMillis(long systemMillis) {
+		ClockState state = this.clockState;
+		Clock clock = this.clock;
+		long realMillis = clock.equals(SYSTEM_CLOCK) ? systemMillis : clock.millis() - (System.currentTimeMillis() - systemMillis);
+		return (state.rate > 0) ? state.getSimulatedMillis(realMillis) : realMillis;
 	}
 
 	/**
@@ -192,65 +228,19 @@ public class TimeService implements Runnable {
 	 *         HH:mm:ss".
 	 */
 	public String getDateString() {
-		return this.getFormatterDateTime().format(this.getCurrentTime());
-	}
-
-	@Override
-	public void run() {
-
-		// variables to control the elapsed time since the last acceleration jump time
-		long currentTime = 0;
-		long timeLastJump = ZonedDateTime.now(this.getTimeZone()).toInstant().toEpochMilli();
-
-		// infinite loop
-		while (true) {
-
-			// checking that the thread is disabled
-			while (this.rate == 0) {
-				try {
-					synchronized (this) {
-						this.wait();
-					}
-				} catch (Exception e) {
-				}
-			}
-
-			// retrieving the current system date
-			currentTime = ZonedDateTime.now(this.getTimeZone()).toInstant().toEpochMilli();
-
-			if (this.rate == 1) {
-
-				// calculating the time to be accomplished without its acceleration and
-				// maintaining the test dates
-				this.currentDate = this.currentDate.plusMillis(currentTime - timeLastJump);
-				timeLastJump = currentTime;
-
-			} else {
-
-				// checking that it is time to accelerate time
-				if (currentTime - timeLastJump > this.intervalBetweenJumps) {
-
-					// calculating the jump time to be carried out
-					this.currentDate = this.currentDate.plusMillis((long) ((currentTime - timeLastJump) * this.rate));
-					timeLastJump = currentTime;
-				}
-			}
-
-			// facilitating the scaling of the CPU to other threads
-			try {
-				Thread.sleep(TimeService.TIME_BETWEEN_THREADS);
-			} catch (InterruptedException e) {
-			}
-		}
+		return this.getFormatterDateTime().format(Instant.ofEpochMilli(this.getCurrentMillis()));
 	}
 
 	/**
-	 * Gets current instant time.
+	 * Gets current time in number of milliseconds from the epoch of
+	 * 1970-01-01T00:00:00Z. Without acceleration, it is a single read of the clock.
 	 * 
-	 * @return Current instant time.
+	 * @return Current time in number of milliseconds.
 	 */
-	private Instant getCurrentTime() {
-		return (this.rate > 0) ? this.currentDate : ZonedDateTime.now(this.getTimeZone()).toInstant();
+	private long getCurrentMillis() {
+		ClockState state = this.clockState;
+		long now = this.clock.millis();
+		return (state.rate > 0) ? state.getSimulatedMillis(now) : now;
 	}
 
 	/**
@@ -345,7 +335,7 @@ public class TimeService implements Runnable {
 	}
 
 	public LocalDate toLocalDateFromSql(String date) {
-		return LocalDate.parse(date, this.getFormatterSqlDate());
+		return TimeUtil.parseSqlDate(date);
 	}
 
 	public LocalDate toLocalDate(Date date) {
@@ -404,41 +394,48 @@ public class TimeService implements Runnable {
 	}
 
 	/**
-	 * Sets the time acceleration rate to the time service.
+	 * Splits a range of dates into the periods requested to INMET: each period
+	 * starts one day after the end of the previous one and lasts one year plus one
+	 * day (start and end included), the last one ending at the end of the range.
 	 * 
-	 * @param start Start of period
-	 * @param end   End of period
+	 * @param startPeriod Start of the range.
+	 * @param endPeriod   End of the range.
 	 * @return list with periods
 	 */
+	public List<period> intervalos(LocalDate startPeriod, LocalDate endPeriod) {
+		return INMET_PERIOD_PLANNER.plan(startPeriod, endPeriod);
+	}
 
-	public ArrayList<period> intervalos(LocalDate startPeriod, LocalDate endPeriod) {
-		Calendar startDate = Calendar.getInstance();
-		Calendar endDate = Calendar.getInstance();
-		SimpleDateFormat parseDate = new SimpleDateFormat("yyyy-MM-dd");
-		ArrayList<period> listPeriod = new ArrayList<period>();
-
-		// Converting objects to date
-		try {
-			startDate.setTime(parseDate.parse(startPeriod.toString()));
-			endDate.setTime(parseDate.parse(endPeriod.toString()));
-
-			// Building ranges
-			while (startDate.getTimeInMillis() <= endDate.getTimeInMillis()) {
-				String data_backup = parseDate.format(startDate.getTime()).toString();
-				// Adding a year
-				startDate.set(Calendar.YEAR, startDate.get(Calendar.YEAR) + 1);
-				String backup = parseDate.format(startDate.getTime()).toString();
-				// Checking if the date is greater than the limit
-				if (startDate.getTimeInMillis() >= endDate.getTimeInMillis()) {
-					backup = parseDate.format(endDate.getTime()).toString();
-				}
-				startDate.set(Calendar.DAY_OF_MONTH, startDate.get(Calendar.DAY_OF_MONTH) + 1);
-				listPeriod.add(new period(TimeUtil.stringToLocalDate(data_backup), TimeUtil.stringToLocalDate(backup)));
-			}
-		} catch (ParseException e) {
-			e.printStackTrace();
+	/**
+	 * Nested immutable class with the state of the accelerated clock: the simulated
+	 * time at a reference moment of the real clock and the acceleration rate.
+	 * 
+	 */
+	private static class ClockState {
+
+		private final long baseSimulatedMillis;
+		private final long baseRealMillis;
+		private final double rate;
+
+		/**
+		 * Private constructor with the base instants and the acceleration rate.
+		 * 
+		 */
+		private ClockState(long baseSimulatedMillis, long baseRealMillis, double rate) {
+			this.baseSimulatedMillis = baseSimulatedMillis;
+			this.baseRealMillis = baseRealMillis;
+			this.rate = rate;
 		}
 
-		return listPeriod;
+		/**
+		 * Calculates the simulated time at the informed moment of the real clock. With
+		 * rate zero the simulated time is stopped.
+		 * 
+		 * @param realMillis Moment of the real clock in milliseconds.
+		 * @return Simulated time in milliseconds.
+		 */
+		private long getSimulatedMillis(long realMillis) {
+			return this.baseSimulatedMillis + (long) ((realMillis - this.baseRealMillis) * this.rate);
+		}
 	}
 }
@@ -0,0 +1,269 @@
+package br.embrapa.cnpaf.inmetdata.util;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Locale;
+
+import br.embrapa.cnpaf.inmetdata.enumerate.MessageEnum;
+import br.embrapa.cnpaf.inmetdata.exception.ParameterValueInvalidException;
+
+/**
+ * <br>
+ * <p>
+ * <b>Immutable cron expression, used to schedule the executions of the system in daemon mode.</b>
+ * </p>
+ * <p>
+ * It accepts the five fields of the standard cron (minute, hour, day of month, month and day of week) separated by spaces, each one with the values, ranges
+ * (<tt>1-5</tt>), lists (<tt>0,30</tt>), steps (<tt>*&#47;15</tt>, <tt>10-50/20</tt>) and names (<tt>JAN</tt>, <tt>MON</tt>) of the crontab format, and
+ * the macros <tt>@yearly</tt>, <tt>@monthly</tt>, <tt>@weekly</tt>, <tt>@daily</tt> and <tt>@hourly</tt>. As in crontab, when both the day of month and
+ * the day of week are restricted, a day matching any one of them is accepted; otherwise the day must match both. As in Vixie cron, a day field starting
+ * with <tt>*</tt>, as <tt>*&#47;2</tt>, is not restricted, so <tt>0 0 *&#47;2 * MON</tt> runs on the odd days that are mondays. For example, every day at
+ * 02:30:<br>
+ * <br>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt>CronExpression.parse("30 2 * * *").next(now);</tt>
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public final class CronExpression {
+
+	private static final String[] MONTH_NAMES = { "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC" };
+	private static final String[] DAY_OF_WEEK_NAMES = { "SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT" };
+	private static final int MAXIMUM_YEARS_SEARCHED = 8; // covers the 29th of February of any leap year
+
+	private final String expression;
+	private final BitSet minutes;
+	private final BitSet hours;
+	private final BitSet daysOfMonth;
+	private final BitSet months;
+	private final BitSet daysOfWeek;
+	private final boolean daysOfMonthRestricted;
+	private final boolean daysOfWeekRestricted;
+
+	/**
+	 * Private class constructor.
+	 *
+	 * @param expression
+	 *            Cron expression.
+	 * @param fields
+	 *            The five fields of the cron expression.
+	 * @throws IllegalArgumentException
+	 *             Some field of the expression is invalid.
+	 */
+	private CronExpression(String expression, String[] fields) {
+		super();
+		this.expression = expression;
+		this.minutes = parseField(fields[0], 0, 59, null);
+		this.hours = parseField(fields[1], 0, 23, null);
+		this.daysOfMonth = parseField(fields[2], 1, 31, null);
+		this.months = parseField(fields[3], 1, 12, MONTH_NAMES);
+		this.daysOfWeek = parseField(fields[4], 0, 7, DAY_OF_WEEK_NAMES);
+		this.daysOfMonthRestricted = !isUnrestrictedDay(fields[2]);
+		this.daysOfWeekRestricted = !isUnrestrictedDay(fields[4]);
+
+		// sunday can be informed as 0 or 7
+		if (this.daysOfWeek.get(7)) {
+			this.daysOfWeek.set(0);
+		}
+	}
+
+	/**
+	 * Parses the informed cron expression.
+	 *
+	 * @param expression
+	 *            Cron expression with five fields or a macro.
+	 * @return Cron expression parsed.
+	 * @throws ParameterValueInvalidException
+	 *             The informed expression is not a valid cron expression.
+	 */
+	public static CronExpression parse(String expression) throws ParameterValueInvalidException {
+		try {
+			String[] fields = expandMacro(expression.trim()).split("\\s+");
+			if (fields.length != 5) {
+				throw new IllegalArgumentException("expected 5 fields but found " + fields.length);
+			}
+			return new CronExpression(expression.trim(), fields);
+
+		} catch (RuntimeException e) {
+			throw ErrorUtil.getParameterValueInvalidExceptionError(NetworkUtil.getLocalIpAddress(), MessageEnum.CRON_EXPRESSION_ERROR_INVALID_EXPRESSION,
+					CronExpression.class.getSimpleName(), "parse", e.getMessage(), null, NetworkUtil.getLocalIpAddress(), String.valueOf(expression));
+		}
+	}
+
+	/**
+	 * Calculates the first date and time matching the expression strictly after the informed one.
+	 *
+	 * @param dateTime
+	 *            Date and time from which the next execution is searched.
+	 * @return Date and time of the next execution, or null if the expression never matches (for example, the 31st of February).
+	 */
+	public LocalDateTime next(LocalDateTime dateTime) {
+		LocalDateTime next = dateTime.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+		LocalDateTime limit = next.plusYears(MAXIMUM_YEARS_SEARCHED);
+
+		while (next.isBefore(limit)) {
+			if (!this.months.get(next.getMonthValue())) {
+				next = next.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).plusMonths(1);
+			} else if (!this.matchesDay(next)) {
+				next = next.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+			} else if (!this.hours.get(next.getHour())) {
+				next = next.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+			} else if (!this.minutes.get(next.getMinute())) {
+				next = next.plusMinutes(1);
+			} else {
+				return next;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return Cron expression as informed.
+	 */
+	public String getExpression() {
+		return expression;
+	}
+
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+
+	/**
+	 * Checks whether the day of the informed date matches the day of month and day of week fields.
+	 *
+	 * @param dateTime
+	 *            Date to be checked.
+	 * @return True if the day matches the expression, false otherwise.
+	 */
+	private boolean matchesDay(LocalDateTime dateTime) {
+		boolean dayOfMonth = this.daysOfMonth.get(dateTime.getDayOfMonth());
+		boolean dayOfWeek = this.daysOfWeek.get(dateTime.getDayOfWeek().getValue() % 7);
+		if (this.daysOfMonthRestricted && this.daysOfWeekRestricted) {
+			return dayOfMonth || dayOfWeek;
+		}
+		return dayOfMonth && dayOfWeek;
+	}
+
+	/**
+	 * Replaces the informed macro by its cron expression.
+	 *
+	 * @param expression
+	 *            Cron expression or macro.
+	 * @return Cron expression.
+	 */
+	private static String expandMacro(String expression) {
+		switch (expression.toLowerCase(Locale.ROOT)) {
+		case "@yearly":
+		case "@annually":
+			return "0 0 1 1 *";
+		case "@monthly":
+			return "0 0 1 * *";
+		case "@weekly":
+			return "0 0 * * 0";
+		case "@daily":
+		case "@midnight":
+			return "0 0 * * *";
+		case "@hourly":
+			return "0 * * * *";
+		default:
+			return expression;
+		}
+	}
+
+	/**
+	 * @param field
+	 *            Field of the expression.
+	 * @return True if the field accepts any value.
+	 */
+	private static boolean isUnrestricted(String field) {
+		return field.equals("*") || field.equals("?");
+	}
+
+	/**
+	 * @param field
+	 *            Day of month or day of week field of the expression.
+	 * @return True if the field does not restrict the days, as in Vixie cron: it starts with * (as * or *&#47;2) or is ?.
+	 */
+	private static boolean isUnrestrictedDay(String field) {
+		return field.startsWith("*") || field.equals("?");
+	}
+
+	/**
+	 * Parses one field of the expression.
+	 *
+	 * @param field
+	 *            Field of the expression.
+	 * @param minimum
+	 *            Minimum value of the field.
+	 * @param maximum
+	 *            Maximum value of the field.
+	 * @param names
+	 *            Names of the values, starting from the minimum value, or null if the field has no names.
+	 * @return Values accepted by the field.
+	 */
+	private static BitSet parseField(String field, int minimum, int maximum, String[] names) {
+		BitSet values = new BitSet(maximum + 1);
+
+		for (String item : field.split(",")) {
+
+			// splitting the range and the step
+			int step = 1;
+			int slash = item.indexOf('/');
+			if (slash >= 0) {
+				step = Integer.parseInt(item.substring(slash + 1));
+				if (step <= 0) {
+					throw new IllegalArgumentException("invalid step in \"" + field + "\"");
+				}
+				item = item.substring(0, slash);
+			}
+
+			// getting the range
+			int start;
+			int end;
+			if (isUnrestricted(item)) {
+				start = minimum;
+				end = maximum;
+			} else {
+				int dash = item.indexOf('-');
+				start = parseValue(dash >= 0 ? item.substring(0, dash) : item, minimum, names);
+				end = (dash >= 0) ? parseValue(item.substring(dash + 1), minimum, names) : (slash >= 0 ? maximum : start);
+			}
+			if (start < minimum || end > maximum || start > end) {
+				throw new IllegalArgumentException("value out of range " + minimum + "-" + maximum + " in \"" + field + "\"");
+			}
+
+			// setting the values
+			for (int value = start; value <= end; value += step) {
+				values.set(value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Parses one value of a field, given as number or name.
+	 *
+	 * @param value
+	 *            Value to be parsed.
+	 * @param minimum
+	 *            Minimum value of the field, associated with the first name.
+	 * @param names
+	 *            Names of the values or null if the field has no names.
+	 * @return Numeric value.
+	 */
+	private static int parseValue(String value, int minimum, String[] names) {
+		if (names != null) {
+			for (int i = 0; i < names.length; i++) {
+				if (names[i].equalsIgnoreCase(value)) {
+					return minimum + i;
+				}
+			}
+		}
+		return Integer.parseInt(value);
+	}
+}
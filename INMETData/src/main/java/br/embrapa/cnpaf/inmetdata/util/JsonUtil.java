@@ -10,6 +10,7 @@ import org.apache.log4j.Level;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import br.embrapa.cnpaf.inmetdata.converter.InmetEntityConverterFactoryJson;
 import br.embrapa.cnpaf.inmetdata.converter.LocalDateConverterJson;
 import br.embrapa.cnpaf.inmetdata.converter.LocalDateTimeConverterJson;
 import br.embrapa.cnpaf.inmetdata.converter.LocalTimeConverterJson;
@@ -30,12 +31,14 @@ import br.embrapa.cnpaf.inmetdata.converter.UUIDConverterJson;
  */
 public class JsonUtil {
 
+	// the INMET entities are converted without reflection; the converter with expose annotation keeps the reflective conversion, used by toString()
 	private static final Gson gsonConverter = new GsonBuilder()//
 			.registerTypeAdapter(LocalDateTime.class, new LocalDateTimeConverterJson())//
 			.registerTypeAdapter(LocalDate.class, new LocalDateConverterJson())//
 			.registerTypeAdapter(LocalTime.class, new LocalTimeConverterJson())//
 			.registerTypeAdapter(Level.class, new LogLevelConverterJson())//
 			.registerTypeAdapter(UUID.class, new UUIDConverterJson())//
+			.registerTypeAdapterFactory(new InmetEntityConverterFactoryJson())//
 			.enableComplexMapKeySerialization()//
 			.create();
 
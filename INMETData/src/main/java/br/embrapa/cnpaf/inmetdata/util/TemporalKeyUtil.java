@@ -0,0 +1,167 @@
+package br.embrapa.cnpaf.inmetdata.util;
+
+import java.time.LocalDate;
+
+/**
+ * <br>
+ * <p>
+ * <b>Utility class with methods for working with compact temporal keys of the measurements.</b>
+ * </p>
+ * <p>
+ * A temporal key packs the station id, the date (as an epoch day) and the hour of the day of a measurement into a single long:
+ * </p>
+ * <p>
+ * &nbsp;&nbsp;&nbsp;&nbsp; <tt>0 | station id (36 bits) | epoch day (22 bits) | hour (5 bits)</tt>
+ * </p>
+ * <p>
+ * So the keys order as (station, date, hour) and grouping, sorting and deduplication become comparisons of primitive longs. The time key is the lower
+ * part, without the station, for the measurements of a single station. LocalDate and the text of the dates are only created at the edges (JSON, database
+ * and log messages).
+ * </p>
+ * <br>
+ *
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class TemporalKeyUtil {
+
+	public static final int HOUR_BITS = 5;
+	public static final int EPOCH_DAY_BITS = 22;
+	public static final int TIME_BITS = EPOCH_DAY_BITS + HOUR_BITS;
+	public static final long MAXIMUM_STATION_ID = (1L << (63 - TIME_BITS)) - 1;
+	public static final int MAXIMUM_EPOCH_DAY = (1 << EPOCH_DAY_BITS) - 1;
+
+	/**
+	 * Private class constructor.
+	 */
+	private TemporalKeyUtil() {
+		super();
+	}
+
+	/**
+	 * Packs the temporal key of a measurement.
+	 *
+	 * @param stationId
+	 *            Identifier of the station.
+	 * @param epochDay
+	 *            Date of the measurement, as the number of days since 1970-01-01.
+	 * @param hour
+	 *            Hour of the day of the measurement (0 to 23).
+	 * @return Temporal key.
+	 * @throws IllegalArgumentException
+	 *             Some of the values does not fit in the key.
+	 */
+	public static long pack(long stationId, int epochDay, int hour) {
+		if (stationId < 0 || stationId > MAXIMUM_STATION_ID) {
+			throw new IllegalArgumentException("Station id out of the range of the temporal key: " + stationId);
+		}
+		return (stationId << TIME_BITS) | timeKey(epochDay, hour);
+	}
+
+	/**
+	 * Packs the time key of a measurement, that is, the temporal key without the station.
+	 *
+	 * @param epochDay
+	 *            Date of the measurement, as the number of days since 1970-01-01.
+	 * @param hour
+	 *            Hour of the day of the measurement (0 to 23).
+	 * @return Time key.
+	 * @throws IllegalArgumentException
+	 *             Some of the values does not fit in the key.
+	 */
+	public static int timeKey(int epochDay, int hour) {
+		if (epochDay < 0 || epochDay > MAXIMUM_EPOCH_DAY) {
+			throw new IllegalArgumentException("Date out of the range of the temporal key: " + epochDay);
+		}
+		if (hour < 0 || hour > 23) {
+			throw new IllegalArgumentException("Hour out of the range of the temporal key: " + hour);
+		}
+		return (epochDay << HOUR_BITS) | hour;
+	}
+
+	/**
+	 * Parses the hour of the day of a measure time of INMET, as "1200" or "12:00".
+	 *
+	 * @param measureTime
+	 *            Measure time.
+	 * @return Hour of the day.
+	 * @throws IllegalArgumentException
+	 *             The measure time is invalid.
+	 */
+	public static int parseHour(String measureTime) {
+		if (measureTime == null || measureTime.length() < 2 || !Character.isDigit(measureTime.charAt(0)) || !Character.isDigit(measureTime.charAt(1))) {
+			throw new IllegalArgumentException("Invalid measure time: " + measureTime);
+		}
+		int hour = (measureTime.charAt(0) - '0') * 10 + (measureTime.charAt(1) - '0');
+		if (hour > 23) {
+			throw new IllegalArgumentException("Invalid measure time: " + measureTime);
+		}
+		return hour;
+	}
+
+	/**
+	 * @param key
+	 *            Temporal key.
+	 * @return Identifier of the station.
+	 */
+	public static long getStationId(long key) {
+		return key >>> TIME_BITS;
+	}
+
+	/**
+	 * @param key
+	 *            Temporal or time key.
+	 * @return Date of the measurement, as the number of days since 1970-01-01.
+	 */
+	public static int getEpochDay(long key) {
+		return (int) (key >>> HOUR_BITS) & MAXIMUM_EPOCH_DAY;
+	}
+
+	/**
+	 * @param key
+	 *            Temporal or time key.
+	 * @return Hour of the day of the measurement.
+	 */
+	public static int getHour(long key) {
+		return (int) key & ((1 << HOUR_BITS) - 1);
+	}
+
+	/**
+	 * @param key
+	 *            Temporal or time key.
+	 * @return Date of the measurement.
+	 */
+	public static LocalDate toLocalDate(long key) {
+		return LocalDate.ofEpochDay(getEpochDay(key));
+	}
+
+	/**
+	 * Appends the date of an epoch day in the SQL format (yyyy-MM-dd) to the builder, without creating a LocalDate. Uses the conversion of days to the
+	 * proleptic Gregorian calendar by eras of 400 years.
+	 *
+	 * @param builder
+	 *            Builder where the date is appended.
+	 * @param epochDay
+	 *            Date, as the number of days since 1970-01-01.
+	 * @return The builder.
+	 */
+	public static StringBuilder appendSqlDate(StringBuilder builder, int epochDay) {
+		long days = epochDay + 719468L; // days since 0000-03-01
+		long era = Math.floorDiv(days, 146097L);
+		long dayOfEra = days - era * 146097L;
+		long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		long monthFromMarch = (5 * dayOfYear + 2) / 153;
+		int day = (int) (dayOfYear - (153 * monthFromMarch + 2) / 5 + 1);
+		int month = (int) (monthFromMarch < 10 ? monthFromMarch + 3 : monthFromMarch - 9);
+		long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+		// yyyy-MM-dd
+		if (year < 1000) {
+			builder.append(year < 10 ? "000" : year < 100 ? "00" : "0");
+		}
+		builder.append(year).append(month < 10 ? "-0" : "-").append(month).append(day < 10 ? "-0" : "-").append(day);
+		return builder;
+	}
+}
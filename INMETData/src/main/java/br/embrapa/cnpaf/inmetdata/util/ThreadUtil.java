@@ -0,0 +1,37 @@
+package br.embrapa.cnpaf.inmetdata.util;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * This class contains static methods for working with threads that depend on the version of the Java runtime.<br>
+ * This is the version for Java 8 to 20, without virtual threads. The version for Java 21 or newer is in <tt>src/main/java21</tt> and is packaged in
+ * <tt>META-INF/versions/21</tt> of the multi-release jar by the <tt>java21</tt> profile of the build.
+ * 
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ * 
+ */
+public class ThreadUtil {
+
+	/**
+	 * Checks if the runtime supports virtual threads.
+	 * 
+	 * @return True if the runtime supports virtual threads.
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return false;
+	}
+
+	/**
+	 * Creates an executor that runs each task in a new virtual thread.
+	 * 
+	 * @param name
+	 *            Prefix of the names of the threads.
+	 * @return Executor of virtual threads.
+	 * @throws UnsupportedOperationException
+	 *             The runtime does not support virtual threads.
+	 */
+	public static ExecutorService newVirtualThreadPerTaskExecutor(String name) {
+		throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+	}
+}
@@ -3,6 +3,7 @@ package br.embrapa.cnpaf.inmetdata.util;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -31,6 +32,14 @@ import br.embrapa.cnpaf.inmetdata.service.TimeService;
 
 public class TimeUtil {
 
+	// formatters are immutable and thread safe, so they are created once
+	private static final DateTimeFormatter FORMATTER_SQL_DATE = DateTimeFormatter.ofPattern(TimeService.SQL_DATE_FORMAT);
+	private static final DateTimeFormatter FORMATTER_DDMMYYYY = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+	private static final DateTimeFormatter FORMATTER_YYYYMMDD = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+	// last date parsed by parseSqlDate, since consecutive values usually repeat it
+	private static volatile ParsedDate lastSqlDate = new ParsedDate("", null);
+
 	/**
 	 * This method formats a date using the Brazilian convention
 	 * 
@@ -252,13 +261,73 @@ public class TimeUtil {
 	}
 
 	public static String formatterLocalDateToDDMMYYYY(LocalDate localDate) {
-		DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-		return localDate != null ? localDate.format(dtf) : "";
+		return localDate != null ? localDate.format(FORMATTER_DDMMYYYY) : "";
 	}
 
 	public static String formatterLocalDateToYYYYMMDD(LocalDate localDate) {
-		DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy/MM/dd");
-		return localDate != null ? localDate.format(dtf) : "";
+		return localDate != null ? localDate.format(FORMATTER_YYYYMMDD) : "";
+	}
+
+	/**
+	 * Parses a date in the SQL format (yyyy-MM-dd) without locks. The digits are
+	 * read directly and the last date parsed is reused when the same text comes
+	 * again; other layouts fall back to a cached formatter.
+	 * 
+	 * @param date Text of the date.
+	 * @return The date.
+	 * @throws DateTimeParseException The text is not a valid date.
+	 */
+	public static LocalDate parseSqlDate(String date) {
+		ParsedDate last = lastSqlDate;
+		if (last.text.equals(date)) {
+			return last.date;
+		}
+
+		// reading the digits of yyyy-MM-dd
+		LocalDate result = null;
+		if (date.length() == 10 && date.charAt(4) == '-' && date.charAt(7) == '-') {
+			int year = digits(date, 0, 4);
+			int month = digits(date, 5, 7);
+			int day = digits(date, 8, 10);
+			if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= 31) {
+				try {
+					result = LocalDate.of(year, month, day);
+				} catch (DateTimeException e) {
+				}
+			}
+		}
+		if (result == null) {
+			result = LocalDate.parse(date, FORMATTER_SQL_DATE);
+		}
+		lastSqlDate = new ParsedDate(date, result);
+		return result;
+	}
+
+	/**
+	 * Formats a date in the SQL format (yyyy-MM-dd).
+	 * 
+	 * @param localDate The date.
+	 * @return Text of the date.
+	 */
+	public static String formatSqlDate(LocalDate localDate) {
+		return localDate.format(FORMATTER_SQL_DATE);
+	}
+
+	/**
+	 * Reads the decimal digits of a range of the text.
+	 * 
+	 * @return The number or -1 if some character is not a digit.
+	 */
+	private static int digits(String text, int start, int end) {
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
 	}
 
 	public static boolean isValidLocalTime(String value) {
@@ -396,4 +465,18 @@ public class TimeUtil {
 		);
 		return (!duration.isEmpty() ? " (" + duration + ") " : "");
 	}
+
+	/**
+	 * Text of a date and the date parsed from it, published as a whole.
+	 */
+	private static final class ParsedDate {
+
+		private final String text;
+		private final LocalDate date;
+
+		private ParsedDate(String text, LocalDate date) {
+			this.text = text;
+			this.date = date;
+		}
+	}
 }
\ No newline at end of file
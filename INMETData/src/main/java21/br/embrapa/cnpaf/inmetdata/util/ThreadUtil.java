@@ -0,0 +1,36 @@
+package br.embrapa.cnpaf.inmetdata.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class contains static methods for working with threads that depend on the version of the Java runtime.<br>
+ * This is the version for Java 21 or newer, with virtual threads, packaged in <tt>META-INF/versions/21</tt> of the multi-release jar. It must keep the
+ * same public methods of the version for Java 8 in <tt>src/main/java</tt>.
+ * 
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ * 
+ */
+public class ThreadUtil {
+
+	/**
+	 * Checks if the runtime supports virtual threads.
+	 * 
+	 * @return True if the runtime supports virtual threads.
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return true;
+	}
+
+	/**
+	 * Creates an executor that runs each task in a new virtual thread.
+	 * 
+	 * @param name
+	 *            Prefix of the names of the threads.
+	 * @return Executor of virtual threads.
+	 */
+	public static ExecutorService newVirtualThreadPerTaskExecutor(String name) {
+		return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+	}
+}
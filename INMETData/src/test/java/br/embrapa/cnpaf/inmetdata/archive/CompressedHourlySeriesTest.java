@@ -0,0 +1,174 @@
+package br.embrapa.cnpaf.inmetdata.archive;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import br.embrapa.cnpaf.inmetdata.batch.HourlyBatch;
+import br.embrapa.cnpaf.inmetdata.entity.InmetStationEntity;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the compressed hourly series: the rows are restored with their gaps, missing measurements and the exact bits of the values, with the
+ * codec chosen for each column.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class CompressedHourlySeriesTest {
+
+	private static final InmetStationEntity STATION = new InmetStationEntity(7L, "A002", null, null);
+	private static final int FIRST_EPOCH_DAY = (int) LocalDate.of(2026, 1, 1).toEpochDay();
+
+	@Test
+	public void seriesWithGapsAndMissingValues() throws Exception {
+		HourlyBatch batch = createBatch(24 * 60, new Random(42));
+		byte[] bytes = assertRoundTrip(batch, 0, batch.size());
+		int[] codecs = readCodecs(bytes);
+
+		// measurements with a decimal digit, the rain mostly zero and values without a decimal digit changing slowly
+		assertEquals(CompressedHourlySeries.CODEC_DECIMAL_DELTA, codecs[HourlyBatch.INSTANT_TEMPERATURE]);
+		assertEquals(CompressedHourlySeries.CODEC_RUN_LENGTH, codecs[HourlyBatch.RAIN]);
+		assertEquals(CompressedHourlySeries.CODEC_XOR, codecs[HourlyBatch.GLOBAL_RADIATION]);
+	}
+
+	@Test
+	public void rangeOfTheBatch() throws Exception {
+		HourlyBatch batch = createBatch(500, new Random(7));
+		assertRoundTrip(batch, 100, 101);
+		assertRoundTrip(batch, 123, 456);
+		assertRoundTrip(batch, 200, 200);
+	}
+
+	@Test
+	public void emptyAndSingleRowSeries() throws Exception {
+		assertRoundTrip(new HourlyBatch(STATION, 0), 0, 0);
+
+		HourlyBatch batch = new HourlyBatch(STATION, 1);
+		int row = batch.add(FIRST_EPOCH_DAY, 23);
+		batch.setValue(HourlyBatch.INSTANT_TEMPERATURE, row, -0.0f);
+		batch.setValue(HourlyBatch.RAIN, row, Float.intBitsToFloat(0x7FC00001));
+		batch.setWindDirection(row, 359);
+		assertRoundTrip(batch, 0, 1);
+
+		// a row without any measurement
+		HourlyBatch missing = new HourlyBatch(STATION, 1);
+		missing.add(0, 0);
+		assertRoundTrip(missing, 0, 1);
+	}
+
+	@Test
+	public void invalidStreamsAreRejected() throws Exception {
+		HourlyBatch batch = createBatch(48, new Random(1));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CompressedHourlySeries.write(out, batch, 0, batch.size());
+		byte[] bytes = out.toByteArray();
+		assertRejected(Arrays.copyOf(bytes, bytes.length - 1));
+		assertRejected(new byte[0]);
+		byte[] magic = bytes.clone();
+		magic[0] ^= 1;
+		assertRejected(magic);
+		byte[] version = bytes.clone();
+		version[7] = 2;
+		assertRejected(version);
+	}
+
+	/**
+	 * Creates a series of hours with gaps of a few hours and of days, with missing measurements and values of every kind of codec.
+	 */
+	private static HourlyBatch createBatch(int hours, Random random) {
+		HourlyBatch batch = new HourlyBatch(STATION, 16);
+		long hour = FIRST_EPOCH_DAY * 24L;
+		float temperature = 22.0f;
+		for (int index = 0; index < hours; index++) {
+			int chance = random.nextInt(100);
+			hour += (chance == 0) ? 24 * (1 + random.nextInt(40)) : (chance < 5) ? 1 + random.nextInt(6) : 1;
+			int row = batch.add((int) (hour / 24), (int) (hour % 24));
+			temperature = Math.round(temperature * 10 + random.nextInt(5) - 2) / 10f;
+			for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+				if (random.nextInt(20) != 0) {
+					batch.setValue(column, row, temperature + column);
+				}
+			}
+			batch.setValue(HourlyBatch.RAIN, row, (random.nextInt(10) == 0) ? random.nextFloat() * 20 : 0f);
+			batch.setValue(HourlyBatch.GLOBAL_RADIATION, row, 300 + (float) Math.sin(index / 24.0) * 200);
+			batch.setValue(HourlyBatch.BLAST, row, (index % 3 == 0) ? -0.0f : (index % 3 == 1) ? Float.intBitsToFloat(0x7FC00000 | index) : index);
+			if (random.nextInt(10) == 0) {
+				batch.setMissing(HourlyBatch.INSTANT_TEMPERATURE, row);
+			}
+			if (random.nextInt(4) != 0) {
+				batch.setWindDirection(row, random.nextInt(361));
+			}
+		}
+		return batch;
+	}
+
+	private static byte[] assertRoundTrip(HourlyBatch batch, int first, int end) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long written = CompressedHourlySeries.write(out, batch, first, end);
+		byte[] bytes = out.toByteArray();
+		assertEquals(bytes.length, written);
+
+		ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+		HourlyBatch read = CompressedHourlySeries.read(in, STATION);
+		assertEquals(0, in.available());
+		assertSame(STATION, read.getStation());
+		assertEquals(end - first, read.size());
+		for (int row = 0; row < read.size(); row++) {
+			int source = first + row;
+			assertEquals(batch.getEpochDay(source), read.getEpochDay(row));
+			assertEquals(batch.getHour(source), read.getHour(row));
+			for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+				assertEquals("column " + column + " row " + source, batch.isValid(column, source), read.isValid(column, row));
+				assertEquals("column " + column + " row " + source, Float.floatToRawIntBits(batch.getValue(column, source)),
+						Float.floatToRawIntBits(read.getValue(column, row)));
+			}
+			assertEquals(batch.isValid(HourlyBatch.WIND_DIRECTION, source), read.isValid(HourlyBatch.WIND_DIRECTION, row));
+			assertEquals(batch.getWindDirection(source), read.getWindDirection(row));
+		}
+		return bytes;
+	}
+
+	/**
+	 * Reads the codec of each column, skipping the sections.
+	 */
+	private static int[] readCodecs(byte[] bytes) throws IOException {
+		DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+		assertEquals(CompressedHourlySeries.MAGIC, data.readInt());
+		assertEquals(CompressedHourlySeries.VERSION, data.readInt());
+		assertEquals((long) STATION.getId(), data.readLong());
+		data.readInt();
+		data.skipBytes(data.readInt());
+		int[] codecs = new int[HourlyBatch.COLUMNS];
+		for (int column = 0; column < HourlyBatch.COLUMNS; column++) {
+			codecs[column] = data.readByte();
+			data.skipBytes(data.readInt());
+		}
+		assertEquals(-1, data.read());
+		return codecs;
+	}
+
+	private static void assertRejected(byte[] bytes) {
+		try {
+			CompressedHourlySeries.read(new ByteArrayInputStream(bytes), STATION);
+			fail("invalid series accepted");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+}
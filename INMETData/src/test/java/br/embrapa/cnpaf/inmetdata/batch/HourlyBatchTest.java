@@ -0,0 +1,171 @@
+package br.embrapa.cnpaf.inmetdata.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.Test;
+
+import br.embrapa.cnpaf.inmetdata.entity.InmetDiarlyDataEntity;
+import br.embrapa.cnpaf.inmetdata.service.InmetService;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the validity bitmaps of the hourly batch: counting across the words of the bitmap, sorting, deduplication and reuse of the rows, and the
+ * missing hours tolerated by the daily aggregation.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class HourlyBatchTest {
+
+	private static final int EPOCH_DAY = (int) LocalDate.of(2026, 10, 19).toEpochDay();
+
+	@Test
+	public void countMissingAcrossWordBoundaries() {
+		HourlyBatch batch = new HourlyBatch(null, 1);
+		for (int row = 0; row < 200; row++) {
+			batch.add(EPOCH_DAY + row / 24, row % 24);
+			if (row % 3 == 0) {
+				batch.setValue(HourlyBatch.RAIN, row, row);
+			}
+		}
+		assertEquals(133, batch.countMissing(HourlyBatch.RAIN, 0, 200));
+		assertEquals(200, batch.countMissing(HourlyBatch.WIND_SPEED, 0, 200));
+
+		// every range, including the ones starting or ending at the boundaries of the words
+		int[] limits = { 0, 1, 63, 64, 65, 127, 128, 129, 191, 192, 199, 200 };
+		for (int first : limits) {
+			for (int end : limits) {
+				if (first <= end) {
+					int expected = 0;
+					for (int row = first; row < end; row++) {
+						expected += (row % 3 == 0) ? 0 : 1;
+					}
+					assertEquals(first + ".." + end, expected, batch.countMissing(HourlyBatch.RAIN, first, end));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void sortByTimeMovesTheValidityWithTheRows() {
+		HourlyBatch batch = new HourlyBatch(null, 1);
+		for (int index = 149; index >= 0; index--) {
+			int row = batch.add(EPOCH_DAY + index / 24, index % 24);
+			if (index % 2 == 0) {
+				batch.setValue(HourlyBatch.INSTANT_TEMPERATURE, row, index);
+			}
+			if (index % 5 == 0) {
+				batch.setWindDirection(row, index);
+			}
+		}
+		assertFalse(batch.isSortedByTime());
+
+		batch.sortByTime();
+		assertTrue(batch.isSortedByTime());
+		for (int row = 0; row < 150; row++) {
+			assertEquals(EPOCH_DAY + row / 24, batch.getEpochDay(row));
+			assertEquals(row % 24, batch.getHour(row));
+			assertEquals(row % 2 == 0, batch.isValid(HourlyBatch.INSTANT_TEMPERATURE, row));
+			assertEquals((row % 2 == 0) ? row : 0, batch.getValue(HourlyBatch.INSTANT_TEMPERATURE, row), 0);
+			assertEquals(row % 5 == 0, batch.isValid(HourlyBatch.WIND_DIRECTION, row));
+			assertEquals((row % 5 == 0) ? row : 0, batch.getWindDirection(row));
+		}
+	}
+
+	@Test
+	public void removeDuplicatesCopiesTheValidityOfTheKeptRows() {
+
+		// each hour twice: the first one present only in the even hours, the repeated one always present
+		HourlyBatch batch = new HourlyBatch(null, 1);
+		for (int index = 0; index < 100; index++) {
+			int row = batch.add(EPOCH_DAY + index / 24, index % 24);
+			if (index % 2 == 0) {
+				batch.setValue(HourlyBatch.WIND_SPEED, row, index);
+			}
+			int repeated = batch.add(EPOCH_DAY + index / 24, index % 24);
+			batch.setValue(HourlyBatch.WIND_SPEED, repeated, -1);
+		}
+
+		assertEquals(100, batch.removeDuplicates());
+		assertEquals(100, batch.size());
+		for (int row = 0; row < 100; row++) {
+			assertEquals(EPOCH_DAY + row / 24, batch.getEpochDay(row));
+			assertEquals(row % 24, batch.getHour(row));
+			assertEquals(row % 2 == 0, batch.isValid(HourlyBatch.WIND_SPEED, row));
+			assertEquals((row % 2 == 0) ? row : 0, batch.getValue(HourlyBatch.WIND_SPEED, row), 0);
+		}
+		assertEquals(50, batch.countMissing(HourlyBatch.WIND_SPEED, 0, 100));
+	}
+
+	@Test
+	public void addClearsTheValidityOfAReusedRow() {
+		HourlyBatch batch = new HourlyBatch(null, 1);
+		for (int index = 0; index < 140; index++) {
+			int row = batch.add(EPOCH_DAY, 0);
+			for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+				batch.setValue(column, row, 1);
+			}
+			batch.setWindDirection(row, 1);
+		}
+		assertEquals(139, batch.removeDuplicates());
+
+		// the rows removed are appended again, over their old values
+		for (int index = 1; index < 140; index++) {
+			int row = batch.add(EPOCH_DAY + 1 + index / 24, index % 24);
+			assertEquals(index, row);
+			for (int column = 0; column < HourlyBatch.COLUMNS; column++) {
+				assertFalse(batch.isValid(column, row));
+			}
+			for (int column = 0; column < HourlyBatch.FLOAT_COLUMNS; column++) {
+				assertEquals(0, batch.getValue(column, row), 0);
+			}
+			assertEquals(0, batch.getWindDirection(row));
+		}
+		assertEquals(0, batch.countMissing(HourlyBatch.RAIN, 0, 1));
+		assertEquals(139, batch.countMissing(HourlyBatch.RAIN, 1, 140));
+	}
+
+	@Test
+	public void dailyDataKeepsTwelveMissingHours() throws Exception {
+		InmetDiarlyDataEntity daily = aggregate(12);
+		assertNotNull(daily.getRain());
+		assertEquals(12, daily.getRain(), 0);
+		assertEquals(12, daily.getMaximumTemperature(), 0);
+	}
+
+	@Test
+	public void dailyDataDiscardsThirteenMissingHours() throws Exception {
+		InmetDiarlyDataEntity daily = aggregate(13);
+		assertNull(daily.getRain());
+		assertNull(daily.getMaximumTemperature());
+	}
+
+	/**
+	 * Aggregates a day whose last hours are missing.
+	 */
+	private static InmetDiarlyDataEntity aggregate(int missingHours) throws Exception {
+		HourlyBatch batch = new HourlyBatch(null, 24);
+		for (int hour = 0; hour < 24; hour++) {
+			int row = batch.add(EPOCH_DAY, hour);
+			if (hour < 24 - missingHours) {
+				batch.setValue(HourlyBatch.RAIN, row, 1);
+				batch.setValue(HourlyBatch.MAXIMUM_TEMPERATURE, row, hour + 1);
+			}
+		}
+		List<InmetDiarlyDataEntity> dailyData = InmetService.getInstanceOf().getDailyData(batch);
+		assertEquals(1, dailyData.size());
+		return dailyData.get(0);
+	}
+}
@@ -0,0 +1,60 @@
+package br.embrapa.cnpaf.inmetdata.codec;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the delta-of-delta codec: regular series, gaps of every size of the prefix and the extreme values.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class DeltaOfDeltaCodecTest {
+
+	@Test
+	public void regularSeriesUsesOneBitPerValue() throws Exception {
+		long[] hours = new long[1000];
+		for (int index = 0; index < hours.length; index++) {
+			hours[index] = 490000 + index;
+		}
+
+		// 64 bits of the first value, 9 of the first delta and one bit for each next value
+		assertEquals(64 + 9 + 998, assertRoundTrip(hours));
+	}
+
+	@Test
+	public void gapsAndExtremes() throws Exception {
+		assertRoundTrip(new long[0]);
+		assertRoundTrip(new long[] { 490000 });
+		assertRoundTrip(new long[] { 10, 11, 12, 14, 15, 16, 16, 17, 100, 101, 400, 401, 5000, 5001, 1000000, 1000001, 999999, 0, -24, -23 });
+		assertRoundTrip(new long[] { Long.MIN_VALUE, Long.MAX_VALUE, 0, Long.MAX_VALUE, Long.MIN_VALUE, -1, 1 });
+	}
+
+	private static long assertRoundTrip(long[] values) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		BitWriter out = new BitWriter(bytes);
+		DeltaOfDeltaCodec.Encoder encoder = new DeltaOfDeltaCodec.Encoder(out);
+		for (long value : values) {
+			encoder.write(value);
+		}
+		long bits = out.getBitCount();
+		out.flush();
+
+		DeltaOfDeltaCodec.Decoder decoder = new DeltaOfDeltaCodec.Decoder(new BitReader(new ByteArrayInputStream(bytes.toByteArray())));
+		for (int index = 0; index < values.length; index++) {
+			assertEquals("value " + index, values[index], decoder.read());
+		}
+		return bits;
+	}
+}
@@ -0,0 +1,175 @@
+package br.embrapa.cnpaf.inmetdata.codec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the float codecs: the series are restored bit by bit, including the negative zero, the bit patterns of NaN, the empty series and the
+ * single values.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class FloatCodecTest {
+
+	private static final float[] SPECIAL_VALUES = { 0.0f, -0.0f, 0.0f, Float.intBitsToFloat(0x7FC00000), Float.intBitsToFloat(0x7F800001),
+			Float.intBitsToFloat(0xFFC00001), Float.intBitsToFloat(0x7FFFFFFF), Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.MIN_VALUE,
+			-Float.MIN_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE, Float.MIN_NORMAL, 1.0f, 1.0f, -1.0f };
+
+	@Test
+	public void xorRestoresAnyBitPattern() throws Exception {
+		assertAnySeries(XorFloatCodec.Encoder::new, XorFloatCodec.Decoder::new);
+	}
+
+	@Test
+	public void runLengthRestoresAnyBitPattern() throws Exception {
+		assertAnySeries(out -> new RunLengthCodec.Encoder(out, RunLengthCodec.FLOAT_BITS), in -> new RunLengthCodec.Decoder(in, RunLengthCodec.FLOAT_BITS));
+	}
+
+	@Test
+	public void xorWritesARepeatedValueAsOneBit() throws Exception {
+		float[] values = new float[65];
+		Arrays.fill(values, 22.3f);
+		assertEquals(32 + 64, encode(XorFloatCodec.Encoder::new, values).getBitCount());
+	}
+
+	@Test
+	public void runLengthWritesARunOnce() throws Exception {
+		float[] values = new float[1000];
+
+		// 32 bits of the value and 19 bits of the gamma code of 1000, completed to 7 bytes
+		assertEquals(7 * 8, encode(out -> new RunLengthCodec.Encoder(out, RunLengthCodec.FLOAT_BITS), values).getBitCount());
+		assertRoundTrip(out -> new RunLengthCodec.Encoder(out, RunLengthCodec.FLOAT_BITS), in -> new RunLengthCodec.Decoder(in, RunLengthCodec.FLOAT_BITS),
+				values);
+	}
+
+	@Test
+	public void runLengthOfFlags() throws Exception {
+		Random random = new Random(42);
+		boolean[] flags = new boolean[5000];
+		for (int index = 0; index < flags.length; index++) {
+			flags[index] = (index % 700 < 500) ? true : random.nextBoolean();
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		BitWriter out = new BitWriter(bytes);
+		RunLengthCodec.Encoder encoder = new RunLengthCodec.Encoder(out, RunLengthCodec.FLAG_BITS);
+		for (boolean flag : flags) {
+			encoder.writeFlag(flag);
+		}
+		encoder.finish();
+
+		// a value written after the flags in the same stream, as the compressed series do
+		out.writeBits(0xABCDL, 16);
+		out.flush();
+		BitReader in = new BitReader(new ByteArrayInputStream(bytes.toByteArray()));
+		RunLengthCodec.Decoder decoder = new RunLengthCodec.Decoder(in, RunLengthCodec.FLAG_BITS);
+		for (boolean flag : flags) {
+			assertEquals(flag, decoder.readFlag());
+		}
+		assertEquals(0xABCDL, in.readBits(16));
+	}
+
+	@Test
+	public void decimalDeltaRestoresTheMeasurements() throws Exception {
+		Random random = new Random(42);
+		float[] values = new float[10000];
+		long tenths = 200;
+		for (int index = 0; index < values.length; index++) {
+			tenths += (index % 1000 == 0) ? random.nextInt(2000000) - 1000000 : random.nextInt(7) - 3;
+			values[index] = (float) (tenths / DecimalDeltaCodec.SCALE);
+		}
+		assertRoundTrip(DecimalDeltaCodec.Encoder::new, DecimalDeltaCodec.Decoder::new, values);
+		assertRoundTrip(DecimalDeltaCodec.Encoder::new, DecimalDeltaCodec.Decoder::new, new float[] { 0.0f, -0.1f, 0.1f, 1013.5f, -40.0f, 0.0f });
+		assertRoundTrip(DecimalDeltaCodec.Encoder::new, DecimalDeltaCodec.Decoder::new, new float[] { 22.3f });
+		assertRoundTrip(DecimalDeltaCodec.Encoder::new, DecimalDeltaCodec.Decoder::new, new float[0]);
+	}
+
+	@Test
+	public void decimalDeltaRejectsTheValuesNotRestored() throws Exception {
+		float[] values = { -0.0f, Float.NaN, Float.intBitsToFloat(0x7F800001), Float.POSITIVE_INFINITY, 0.05f, 22.35f, 1e13f, Float.MIN_VALUE };
+		for (float value : values) {
+			assertFalse(Float.toString(value), DecimalDeltaCodec.isEncodable(value));
+			try {
+				new DecimalDeltaCodec.Encoder(new BitWriter(new ByteArrayOutputStream())).write(value);
+				fail("accepted " + value);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+		assertTrue(DecimalDeltaCodec.isEncodable(0.0f));
+		assertTrue(DecimalDeltaCodec.isEncodable(-12.3f));
+	}
+
+	@Test
+	public void readingBeyondTheStreamFails() throws Exception {
+		try {
+			new XorFloatCodec.Decoder(new BitReader(new ByteArrayInputStream(new byte[3]))).read();
+			fail("read a value from a truncated stream");
+		} catch (EOFException e) {
+			// expected
+		}
+	}
+
+	private static void assertAnySeries(Function<BitWriter, FloatEncoder> encoder, Function<BitReader, FloatDecoder> decoder) throws IOException {
+		assertRoundTrip(encoder, decoder, new float[0]);
+		assertRoundTrip(encoder, decoder, new float[] { 22.3f });
+		assertRoundTrip(encoder, decoder, new float[] { -0.0f });
+		assertRoundTrip(encoder, decoder, new float[] { Float.intBitsToFloat(0xFFC00001) });
+		assertRoundTrip(encoder, decoder, SPECIAL_VALUES);
+
+		// measurements changing slowly and arbitrary bit patterns
+		Random random = new Random(42);
+		float[] values = new float[10000];
+		for (int index = 0; index < values.length; index++) {
+			values[index] = (index < 5000) ? 20 + (float) Math.sin(index / 24.0) * 5 : Float.intBitsToFloat(random.nextInt());
+		}
+		assertRoundTrip(encoder, decoder, values);
+	}
+
+	private static void assertRoundTrip(Function<BitWriter, FloatEncoder> encoder, Function<BitReader, FloatDecoder> decoder, float[] values)
+			throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		BitWriter out = new BitWriter(bytes);
+		FloatEncoder floatEncoder = encoder.apply(out);
+		for (float value : values) {
+			floatEncoder.write(value);
+		}
+		floatEncoder.finish();
+		out.flush();
+		assertEquals(out.getBitCount(), bytes.size() * 8L);
+
+		FloatDecoder in = decoder.apply(new BitReader(new ByteArrayInputStream(bytes.toByteArray())));
+		for (int index = 0; index < values.length; index++) {
+			assertEquals("value " + index, Float.floatToRawIntBits(values[index]), Float.floatToRawIntBits(in.read()));
+		}
+	}
+
+	private static BitWriter encode(Function<BitWriter, FloatEncoder> encoder, float[] values) throws IOException {
+		BitWriter out = new BitWriter(new ByteArrayOutputStream());
+		FloatEncoder floatEncoder = encoder.apply(out);
+		for (float value : values) {
+			floatEncoder.write(value);
+		}
+		floatEncoder.finish();
+		out.flush();
+		return out;
+	}
+}
@@ -0,0 +1,54 @@
+package br.embrapa.cnpaf.inmetdata.entity;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the natural order of the daily data, including the keys that do not fit in the packed key.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetDiarlyDataEntityTest {
+
+	private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+
+	@Test
+	public void orderOfTheNaturalKey() {
+		List<InmetDiarlyDataEntity> expected = Arrays.asList( //
+				createDaily(null, DATE), //
+				createDaily(1L, null), //
+				createDaily(1L, LocalDate.of(1969, 12, 31)), //
+				createDaily(1L, DATE), //
+				createDaily(2L, LocalDate.of(1900, 1, 1)), //
+				createDaily(2L, DATE));
+		List<InmetDiarlyDataEntity> sorted = new ArrayList<InmetDiarlyDataEntity>(expected);
+		for (int attempt = 0; attempt < 20; attempt++) {
+			Collections.shuffle(sorted, new Random(attempt));
+			Collections.sort(sorted);
+			assertEquals(expected, sorted);
+		}
+		assertEquals(0, createDaily(null, null).compareTo(createDaily(null, null)));
+	}
+
+	private static InmetDiarlyDataEntity createDaily(Long stationId, LocalDate date) {
+		InmetDiarlyDataEntity entity = new InmetDiarlyDataEntity();
+		entity.setEntilyStation(new InmetStationEntity(stationId, "A00" + stationId, null, null));
+		entity.setMeasurementDate(date);
+		return entity;
+	}
+}
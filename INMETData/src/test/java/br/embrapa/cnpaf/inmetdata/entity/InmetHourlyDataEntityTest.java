@@ -0,0 +1,72 @@
+package br.embrapa.cnpaf.inmetdata.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the natural order of the hourly data: the packed keys and the comparison of the fields agree, including the keys that do not fit in
+ * the packed key.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class InmetHourlyDataEntityTest {
+
+	private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+
+	@Test
+	public void orderOfTheNaturalKey() {
+		List<InmetHourlyDataEntity> expected = Arrays.asList( //
+				createHourly(null, DATE, "0000"), //
+				createHourly(1L, null, "0000"), //
+				createHourly(1L, LocalDate.of(1969, 12, 31), "2300"), //
+				createHourly(1L, DATE, null), //
+				createHourly(1L, DATE, "25h"), //
+				createHourly(1L, DATE, "0000"), //
+				createHourly(1L, DATE, "01:00"), //
+				createHourly(1L, DATE, "2300"), //
+				createHourly(1L, DATE.plusDays(1), "0000"), //
+				createHourly(2L, LocalDate.of(1900, 1, 1), "0000"), //
+				createHourly(2L, DATE, "1200"));
+		List<InmetHourlyDataEntity> sorted = new ArrayList<InmetHourlyDataEntity>(expected);
+		for (int attempt = 0; attempt < 20; attempt++) {
+			Collections.shuffle(sorted, new Random(attempt));
+			Collections.sort(sorted);
+			assertEquals(expected, sorted);
+		}
+	}
+
+	@Test
+	public void sameNaturalKeyComparesAsEqual() {
+		InmetHourlyDataEntity first = createHourly(1L, DATE, "12:00");
+		InmetHourlyDataEntity second = createHourly(1L, DATE, "1200");
+		second.setId(10L);
+		assertEquals(0, first.compareTo(second));
+		assertNotEquals(first, second);
+		assertEquals(0, createHourly(null, null, null).compareTo(createHourly(null, null, null)));
+		assertEquals(0, createHourly(1L, LocalDate.of(1969, 1, 1), "0100").compareTo(createHourly(1L, LocalDate.of(1969, 1, 1), "01:00")));
+	}
+
+	private static InmetHourlyDataEntity createHourly(Long stationId, LocalDate date, String measureTime) {
+		InmetHourlyDataEntity entity = new InmetHourlyDataEntity();
+		entity.setEntilyStation(new InmetStationEntity(stationId, "A00" + stationId, null, null));
+		entity.setMeasurementDate(date);
+		entity.setMeasureTime(measureTime);
+		return entity;
+	}
+}
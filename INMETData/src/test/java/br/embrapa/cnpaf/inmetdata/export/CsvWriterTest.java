@@ -0,0 +1,122 @@
+package br.embrapa.cnpaf.inmetdata.export;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the CSV writer: the floats read back as the same value in the shortest form, the integers, dates and nulls, and the lines crossing the
+ * flushes of a small buffer.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class CsvWriterTest {
+
+	@Test
+	public void floatsAreWrittenInTheShortestForm() throws Exception {
+		assertEquals("23.4", formatFloat(23.4f));
+		assertEquals("-5.25", formatFloat(-5.25f));
+		assertEquals("0.1", formatFloat(0.1f));
+		assertEquals("100", formatFloat(100f));
+		assertEquals("0", formatFloat(0f));
+		assertEquals("0.000001", formatFloat(0.000001f));
+		assertEquals("1013.7", formatFloat(1013.7f));
+		assertEquals("-0.5", formatFloat(-0.5f));
+
+		// a negative zero is written as 0, the same number for the readers of the file
+		assertEquals("0", formatFloat(-0.0f));
+
+		// the values out of the fixed notation fall back to Float.toString()
+		assertEquals("1.0E-7", formatFloat(1e-7f));
+		assertEquals("1.0E10", formatFloat(1e10f));
+		assertEquals("NaN", formatFloat(Float.NaN));
+		assertEquals("-Infinity", formatFloat(Float.NEGATIVE_INFINITY));
+	}
+
+	@Test
+	public void floatsReadBackAsTheSameValue() throws Exception {
+		Random random = new Random(42);
+		for (int i = 0; i < 100000; i++) {
+
+			// measurements with a few decimals and arbitrary bit patterns
+			float value = (i % 2 == 0) ? Math.round(random.nextGaussian() * 100000) / 100f : Float.intBitsToFloat(random.nextInt());
+			String cell = formatFloat(value);
+			float parsed = Float.parseFloat(cell);
+			if (Float.isNaN(value)) {
+				assertTrue(cell, Float.isNaN(parsed));
+			} else {
+				assertEquals(cell, value, parsed, 0f);
+				if (Math.abs(value) >= 1e-3f && Math.abs(value) < 1e7f) {
+
+					// in the range Float.toString() does not use the scientific notation, no longer than it
+					assertTrue(cell, cell.length() <= Float.toString(value).length());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void cellsAndLines() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (CsvWriter writer = new CsvWriter(Channels.newChannel(out), CsvWriter.DEFAULT_BUFFER_SIZE)) {
+			writer.writeText("A002").writeDate(LocalDate.of(2026, 1, 5)).writeInt(-42).writeNull().writeFloat(23.4f).endLine();
+			writer.writeNull().writeInt(0).writeInt(Integer.MIN_VALUE).writeDate(LocalDate.of(999, 12, 31)).writeNull().endLine();
+			writer.writeText("S\u00e3o Paulo").endLine();
+		}
+		assertEquals("A002,2026-01-05,-42,,23.4\n,0,-2147483648,0999-12-31,\nS\u00e3o Paulo\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void linesCrossTheFlushesOfTheBuffer() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		WritableByteChannel channel = Channels.newChannel(out);
+		StringBuilder expected = new StringBuilder();
+		StringBuilder longText = new StringBuilder();
+		for (int i = 0; i < 500; i++) {
+			longText.append((char) ('a' + i % 26));
+		}
+		CsvWriter writer = new CsvWriter(channel, 1);
+		for (int line = 0; line < 1000; line++) {
+			LocalDate date = LocalDate.of(2026, 1, 1).plusDays(line);
+			writer.writeDate(date).writeInt(line).writeFloat(line / 4f);
+			expected.append(date).append(',').append(line).append(',').append(formatFloat(line / 4f));
+			if (line % 100 == 0) {
+
+				// a text larger than the buffer is written directly to the channel
+				writer.writeText(longText.toString());
+				expected.append(',').append(longText);
+			}
+			writer.endLine();
+			expected.append('\n');
+			assertEquals(expected.length(), writer.getBytes());
+		}
+		writer.close();
+		assertFalse(channel.isOpen());
+		assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	private static String formatFloat(float value) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (CsvWriter writer = new CsvWriter(Channels.newChannel(out), 0)) {
+			writer.writeFloat(value);
+		}
+		return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+	}
+}
@@ -0,0 +1,428 @@
+package br.embrapa.cnpaf.inmetdata.export;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import br.embrapa.cnpaf.inmetdata.export.ParquetWriter.Column;
+import br.embrapa.cnpaf.inmetdata.export.ParquetWriter.Type;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the Parquet writer: the files are decoded by a reader of the Thrift compact protocol independent of the writer, checking the footer,
+ * the page headers, the definition levels and the values of every row group, with and without compression.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class ParquetWriterTest {
+
+	private static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+	private static final List<Column> COLUMNS = Arrays.asList( //
+			new Column("date", Type.DATE, false), //
+			new Column("hour", Type.INT32, true), //
+			new Column("temperature", Type.FLOAT, true));
+	private static final int ROW_GROUP_ROWS = 3;
+	private static final LocalDate FIRST_DATE = LocalDate.of(2026, 10, 19);
+
+	// rows of the files; a null is written as null, the NaN does not count in the statistics
+	private static final Integer[] HOURS = { 0, null, 2, 3, null, null, 6, 7 };
+	private static final Float[] TEMPERATURES = { 23.4f, -0.0f, null, Float.NaN, -5.25f, null, null, null };
+
+	@Test
+	public void uncompressedRoundTrip() throws Exception {
+		assertRoundTrip(false);
+	}
+
+	@Test
+	public void compressedRoundTrip() throws Exception {
+		assertRoundTrip(true);
+	}
+
+	@Test
+	public void emptyFileHasNoRowGroups() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ParquetWriter writer = new ParquetWriter(out, COLUMNS, ROW_GROUP_ROWS, true)) {
+			assertEquals(0, writer.getRows());
+		}
+		Map<Integer, Object> metadata = readFooter(out.toByteArray());
+		assertEquals(0L, metadata.get(3));
+		assertTrue(getList(metadata, 4).isEmpty());
+		assertEquals(COLUMNS.size() + 1, getList(metadata, 2).size());
+	}
+
+	@Test
+	public void invalidWritesAreRejected() throws Exception {
+		ParquetWriter writer = new ParquetWriter(new ByteArrayOutputStream(), COLUMNS, ROW_GROUP_ROWS, false);
+		try {
+			writer.writeNull(0);
+			fail("null accepted in a required column");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			writer.writeInt(2, 1);
+			fail("integer accepted in a float column");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		writer.writeDate(0, FIRST_DATE).writeInt(1, 1);
+		try {
+			writer.endRow();
+			fail("row ended without all the columns");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		try {
+			writer.writeInt(1, 2);
+			fail("column written twice in a row");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	private static void assertRoundTrip(boolean compressed) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ParquetWriter writer = new ParquetWriter(out, COLUMNS, ROW_GROUP_ROWS, compressed)) {
+			for (int row = 0; row < HOURS.length; row++) {
+				writer.writeDate(0, FIRST_DATE.plusDays(row));
+				if (HOURS[row] == null) {
+					writer.writeNull(1);
+				} else {
+					writer.writeInt(1, HOURS[row]);
+				}
+				if (TEMPERATURES[row] == null) {
+					writer.writeNull(2);
+				} else {
+					writer.writeFloat(2, TEMPERATURES[row]);
+				}
+				writer.endRow();
+			}
+			assertEquals(HOURS.length, writer.getRows());
+		}
+		byte[] file = out.toByteArray();
+		Map<Integer, Object> metadata = readFooter(file);
+
+		// schema: the root followed by the columns
+		assertEquals(1L, metadata.get(1));
+		assertEquals(ParquetWriter.CREATED_BY, getString(metadata, 6));
+		List<Object> schema = getList(metadata, 2);
+		assertEquals(COLUMNS.size() + 1, schema.size());
+		assertEquals("schema", getString(getStruct(schema, 0), 4));
+		assertEquals((long) COLUMNS.size(), getStruct(schema, 0).get(5));
+		long[] physicalTypes = { 1, 1, 4 };
+		for (int column = 0; column < COLUMNS.size(); column++) {
+			Map<Integer, Object> element = getStruct(schema, column + 1);
+			assertEquals(COLUMNS.get(column).getName(), getString(element, 4));
+			assertEquals(physicalTypes[column], element.get(1));
+			assertEquals(COLUMNS.get(column).isOptional() ? 1L : 0L, element.get(3));
+			assertEquals(COLUMNS.get(column).getType() == Type.DATE ? (Object) 6L : null, element.get(6));
+		}
+
+		// row groups of three rows, the last one partial
+		assertEquals((long) HOURS.length, metadata.get(3));
+		List<Object> rowGroups = getList(metadata, 4);
+		assertEquals(3, rowGroups.size());
+		long position = MAGIC.length;
+		for (int group = 0; group < rowGroups.size(); group++) {
+			Map<Integer, Object> rowGroup = getStruct(rowGroups, group);
+			int first = group * ROW_GROUP_ROWS;
+			int rows = Math.min(ROW_GROUP_ROWS, HOURS.length - first);
+			assertEquals((long) rows, rowGroup.get(3));
+			List<Object> chunks = getList(rowGroup, 1);
+			assertEquals(COLUMNS.size(), chunks.size());
+			long groupBytes = 0;
+			for (int column = 0; column < COLUMNS.size(); column++) {
+				Map<Integer, Object> chunk = getStruct(chunks, column);
+				Map<Integer, Object> columnMetadata = getStruct(chunk, 3);
+				assertEquals(position, chunk.get(2));
+				assertEquals(position, columnMetadata.get(9));
+				assertEquals(physicalTypes[column], columnMetadata.get(1));
+				assertEquals(Arrays.asList((Object) 0L, 3L), getList(columnMetadata, 2));
+				assertEquals(COLUMNS.get(column).getName(), new String((byte[]) getList(columnMetadata, 3).get(0), StandardCharsets.UTF_8));
+				assertEquals(compressed ? 2L : 0L, columnMetadata.get(4));
+				assertEquals((long) rows, columnMetadata.get(5));
+
+				// the page: header, definition levels of the optional columns and the values not null
+				ThriftReader reader = new ThriftReader(file, (int) position);
+				Map<Integer, Object> pageHeader = reader.readStruct();
+				int headerSize = reader.position - (int) position;
+				int uncompressedSize = getInt(pageHeader, 2);
+				int compressedSize = getInt(pageHeader, 3);
+				assertEquals(0L, pageHeader.get(1));
+				assertEquals((long) (headerSize + uncompressedSize), columnMetadata.get(6));
+				assertEquals((long) (headerSize + compressedSize), columnMetadata.get(7));
+				Map<Integer, Object> dataPageHeader = getStruct(pageHeader, 5);
+				assertEquals((long) rows, dataPageHeader.get(1));
+				assertEquals(0L, dataPageHeader.get(2));
+				byte[] body = Arrays.copyOfRange(file, reader.position, reader.position + compressedSize);
+				if (compressed) {
+					body = gunzip(body);
+				}
+				assertEquals(uncompressedSize, body.length);
+				Object[] expected = getExpectedValues(column, first, rows);
+				Object[] values = readPage(body, COLUMNS.get(column), rows);
+				assertArrayEquals(expected, values);
+				assertStatistics(getStruct(columnMetadata, 12), COLUMNS.get(column), expected);
+
+				position += headerSize + compressedSize;
+				groupBytes += headerSize + uncompressedSize;
+			}
+			assertEquals(groupBytes, rowGroup.get(2));
+		}
+
+		// the footer follows the last page
+		int footerLength = ByteBuffer.wrap(file, file.length - 8, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+		assertEquals(file.length - 8 - footerLength, position);
+	}
+
+	private static Object[] getExpectedValues(int column, int first, int rows) {
+		Object[] values = new Object[rows];
+		for (int row = 0; row < rows; row++) {
+			switch (column) {
+			case 0:
+				values[row] = (int) FIRST_DATE.plusDays(first + row).toEpochDay();
+				break;
+			case 1:
+				values[row] = HOURS[first + row];
+				break;
+			default:
+				values[row] = TEMPERATURES[first + row];
+			}
+		}
+		return values;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void assertStatistics(Map<Integer, Object> statistics, Column column, Object[] values) {
+		int nulls = 0;
+		Object minimum = null;
+		Object maximum = null;
+		for (Object value : values) {
+			if (value == null) {
+				nulls++;
+			} else if (!(value instanceof Float && ((Float) value).isNaN())) {
+				if (minimum == null || ((Comparable<Object>) minimum).compareTo(value) > 0) {
+					minimum = value;
+				}
+				if (maximum == null || ((Comparable<Object>) maximum).compareTo(value) < 0) {
+					maximum = value;
+				}
+			}
+		}
+		assertEquals((long) nulls, statistics.get(3));
+		if (minimum == null) {
+			assertNull(statistics.get(5));
+			assertNull(statistics.get(6));
+		} else {
+			assertEquals(maximum, decodeValue(column, (byte[]) statistics.get(5)));
+			assertEquals(minimum, decodeValue(column, (byte[]) statistics.get(6)));
+		}
+	}
+
+	/**
+	 * Decodes a PLAIN page preceded, in the optional columns, by the definition levels in the RLE/bit-packed hybrid encoding of width 1.
+	 */
+	private static Object[] readPage(byte[] body, Column column, int rows) {
+		ByteBuffer buffer = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+		boolean[] defined = new boolean[rows];
+		if (column.isOptional()) {
+			int length = buffer.getInt();
+			int end = buffer.position() + length;
+			int row = 0;
+			while (buffer.position() < end) {
+				int header = readUnsignedVarint(buffer);
+				if ((header & 1) == 0) {
+					boolean value = buffer.get() != 0;
+					for (int count = header >>> 1; count > 0; count--) {
+						defined[row++] = value;
+					}
+				} else {
+					for (int count = (header >>> 1) * 8; count > 0; count -= 8) {
+						int bits = buffer.get() & 0xFF;
+						for (int bit = 0; bit < 8 && row < rows; bit++) {
+							defined[row++] = ((bits >>> bit) & 1) != 0;
+						}
+					}
+				}
+			}
+			assertEquals(rows, row);
+		} else {
+			Arrays.fill(defined, true);
+		}
+		Object[] values = new Object[rows];
+		byte[] value = new byte[4];
+		for (int row = 0; row < rows; row++) {
+			if (defined[row]) {
+				buffer.get(value);
+				values[row] = decodeValue(column, value);
+			}
+		}
+		assertFalse("bytes left in the page", buffer.hasRemaining());
+		return values;
+	}
+
+	private static Object decodeValue(Column column, byte[] value) {
+		assertEquals(4, value.length);
+		int bits = ByteBuffer.wrap(value).order(ByteOrder.LITTLE_ENDIAN).getInt();
+		return column.getType() == Type.FLOAT ? (Object) Float.intBitsToFloat(bits) : (Object) bits;
+	}
+
+	private static Map<Integer, Object> readFooter(byte[] file) {
+		assertArrayEquals(MAGIC, Arrays.copyOfRange(file, 0, MAGIC.length));
+		assertArrayEquals(MAGIC, Arrays.copyOfRange(file, file.length - MAGIC.length, file.length));
+		int footerLength = ByteBuffer.wrap(file, file.length - 8, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+		ThriftReader reader = new ThriftReader(file, file.length - 8 - footerLength);
+		Map<Integer, Object> metadata = reader.readStruct();
+		assertEquals(file.length - 8, reader.position);
+		return metadata;
+	}
+
+	private static byte[] gunzip(byte[] bytes) throws IOException {
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		}
+	}
+
+	private static int readUnsignedVarint(ByteBuffer buffer) {
+		int value = 0;
+		for (int shift = 0;; shift += 7) {
+			int read = buffer.get() & 0xFF;
+			value |= (read & 0x7F) << shift;
+			if ((read & 0x80) == 0) {
+				return value;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Integer, Object> getStruct(Map<Integer, Object> struct, int field) {
+		return (Map<Integer, Object>) struct.get(field);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Integer, Object> getStruct(List<Object> list, int index) {
+		return (Map<Integer, Object>) list.get(index);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> getList(Map<Integer, Object> struct, int field) {
+		return (List<Object>) struct.get(field);
+	}
+
+	private static String getString(Map<Integer, Object> struct, int field) {
+		return new String((byte[]) struct.get(field), StandardCharsets.UTF_8);
+	}
+
+	private static int getInt(Map<Integer, Object> struct, int field) {
+		return ((Long) struct.get(field)).intValue();
+	}
+
+	/**
+	 * Reader of the Thrift compact protocol returning the structs as maps of the field ids to the values: the integers as longs, the binaries as arrays
+	 * of bytes and the lists as lists.
+	 */
+	private static class ThriftReader {
+
+		private final byte[] bytes;
+		private int position;
+
+		private ThriftReader(byte[] bytes, int position) {
+			this.bytes = bytes;
+			this.position = position;
+		}
+
+		private Map<Integer, Object> readStruct() {
+			Map<Integer, Object> struct = new HashMap<>();
+			int field = 0;
+			for (int header = readByte(); header != 0; header = readByte()) {
+				int delta = header >>> 4;
+				field = (delta == 0) ? (int) readZigzag() : field + delta;
+				struct.put(field, readValue(header & 0x0F));
+			}
+			return struct;
+		}
+
+		private Object readValue(int type) {
+			switch (type) {
+			case 1:
+				return Boolean.TRUE;
+			case 2:
+				return Boolean.FALSE;
+			case 3:
+				return (long) (byte) readByte();
+			case 4:
+			case 5:
+			case 6:
+				return readZigzag();
+			case 8:
+				int length = (int) readVarint();
+				byte[] binary = Arrays.copyOfRange(bytes, position, position + length);
+				position += binary.length;
+				return binary;
+			case 9:
+				int header = readByte();
+				int size = (header >>> 4 == 15) ? (int) readVarint() : header >>> 4;
+				List<Object> list = new ArrayList<>();
+				for (int index = 0; index < size; index++) {
+					list.add(readValue(header & 0x0F));
+				}
+				return list;
+			case 12:
+				return readStruct();
+			default:
+				throw new AssertionError("Unexpected Thrift type " + type + " at " + position);
+			}
+		}
+
+		private int readByte() {
+			return bytes[position++] & 0xFF;
+		}
+
+		private long readVarint() {
+			long value = 0;
+			for (int shift = 0;; shift += 7) {
+				int read = readByte();
+				value |= (long) (read & 0x7F) << shift;
+				if ((read & 0x80) == 0) {
+					return value;
+				}
+			}
+		}
+
+		private long readZigzag() {
+			long value = readVarint();
+			return (value >>> 1) ^ -(value & 1);
+		}
+	}
+}
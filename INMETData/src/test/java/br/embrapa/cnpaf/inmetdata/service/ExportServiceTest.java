@@ -0,0 +1,37 @@
+package br.embrapa.cnpaf.inmetdata.service;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the values of the partitions in the directory names of the exportation.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class ExportServiceTest {
+
+	@Test
+	public void missingValuesGoToTheUnknownPartition() {
+		assertEquals(ExportService.UNKNOWN_PARTITION, ExportService.getPartitionValue(null));
+		assertEquals(ExportService.UNKNOWN_PARTITION, ExportService.getPartitionValue(""));
+		assertEquals(ExportService.UNKNOWN_PARTITION, ExportService.getPartitionValue(" \t "));
+	}
+
+	@Test
+	public void charactersOutsideNamesAreReplaced() {
+		assertEquals("GO", ExportService.getPartitionValue(" GO "));
+		assertEquals("A002", ExportService.getPartitionValue("A002"));
+		assertEquals("Santo_Ant\u00f4nio_de_Goi\u00e1s", ExportService.getPartitionValue("Santo Ant\u00f4nio de Goi\u00e1s"));
+		assertEquals("a-b_c", ExportService.getPartitionValue("a-b_c"));
+		assertEquals("___a____", ExportService.getPartitionValue("../a/..\\"));
+		assertEquals("x__y", ExportService.getPartitionValue("x=\0y"));
+	}
+}
@@ -0,0 +1,130 @@
+package br.embrapa.cnpaf.inmetdata.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import br.embrapa.cnpaf.inmetdata.exception.ParameterValueInvalidException;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the cron expression: fields, ranges, steps, names, the day of month and day of week semantics and next() across month and year ends.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class CronExpressionTest {
+
+	private static final LocalDateTime MONDAY_NOON = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+	@Test
+	public void nextIsStrictlyAfterTheInformedMinute() throws Exception {
+		CronExpression expression = CronExpression.parse("15 10 * * *");
+		assertEquals(LocalDateTime.of(2026, 10, 19, 10, 15), expression.next(LocalDateTime.of(2026, 10, 19, 10, 14, 59)));
+		assertEquals(LocalDateTime.of(2026, 10, 20, 10, 15), expression.next(LocalDateTime.of(2026, 10, 19, 10, 15)));
+		assertEquals(LocalDateTime.of(2026, 10, 20, 10, 15), expression.next(LocalDateTime.of(2026, 10, 19, 10, 15, 30)));
+	}
+
+	@Test
+	public void stepsAndRanges() throws Exception {
+		CronExpression quarters = CronExpression.parse("*/15 * * * *");
+		assertEquals(LocalDateTime.of(2026, 10, 19, 10, 15), quarters.next(LocalDateTime.of(2026, 10, 19, 10, 7)));
+		assertEquals(LocalDateTime.of(2026, 10, 19, 11, 0), quarters.next(LocalDateTime.of(2026, 10, 19, 10, 45)));
+
+		CronExpression range = CronExpression.parse("10-50/20 * * * *");
+		assertEquals(LocalDateTime.of(2026, 10, 19, 10, 10), range.next(LocalDateTime.of(2026, 10, 19, 10, 0)));
+		assertEquals(LocalDateTime.of(2026, 10, 19, 10, 30), range.next(LocalDateTime.of(2026, 10, 19, 10, 10)));
+		assertEquals(LocalDateTime.of(2026, 10, 19, 11, 10), range.next(LocalDateTime.of(2026, 10, 19, 10, 50)));
+
+		CronExpression startStep = CronExpression.parse("0 5/6 * * *");
+		assertEquals(LocalDateTime.of(2026, 10, 19, 17, 0), startStep.next(MONDAY_NOON));
+		assertEquals(LocalDateTime.of(2026, 10, 20, 5, 0), startStep.next(LocalDateTime.of(2026, 10, 19, 23, 0)));
+	}
+
+	@Test
+	public void listsAndNames() throws Exception {
+		CronExpression list = CronExpression.parse("0,30 9,18 * * *");
+		assertEquals(LocalDateTime.of(2026, 10, 19, 18, 0), list.next(MONDAY_NOON));
+		assertEquals(LocalDateTime.of(2026, 10, 19, 18, 30), list.next(LocalDateTime.of(2026, 10, 19, 18, 0)));
+		assertEquals(LocalDateTime.of(2026, 10, 20, 9, 0), list.next(LocalDateTime.of(2026, 10, 19, 18, 30)));
+
+		assertEquals(LocalDateTime.of(2027, 1, 4, 12, 0), CronExpression.parse("0 12 * jan MON").next(MONDAY_NOON));
+		assertEquals(LocalDateTime.of(2027, 3, 1, 0, 0), CronExpression.parse("0 0 * MAR-MAY MON-FRI").next(MONDAY_NOON));
+	}
+
+	@Test
+	public void sundayIsZeroOrSeven() throws Exception {
+		LocalDateTime sunday = LocalDateTime.of(2026, 10, 25, 0, 0);
+		assertEquals(sunday, CronExpression.parse("0 0 * * 0").next(MONDAY_NOON));
+		assertEquals(sunday, CronExpression.parse("0 0 * * 7").next(MONDAY_NOON));
+		assertEquals(sunday, CronExpression.parse("0 0 * * SUN").next(MONDAY_NOON));
+	}
+
+	@Test
+	public void restrictedDayOfMonthAndDayOfWeekMatchAnyOfThem() throws Exception {
+
+		// friday the 23rd comes before the 13th of november
+		CronExpression expression = CronExpression.parse("0 0 13 * FRI");
+		assertEquals(LocalDateTime.of(2026, 10, 23, 0, 0), expression.next(MONDAY_NOON));
+		assertEquals(LocalDateTime.of(2026, 11, 13, 0, 0), expression.next(LocalDateTime.of(2026, 11, 7, 0, 0)));
+	}
+
+	@Test
+	public void dayFieldStartingWithStarIsUnrestricted() throws Exception {
+
+		// as in Vixie cron, */2 does not restrict the days, so the day must be odd and a monday
+		assertEquals(LocalDateTime.of(2026, 11, 9, 0, 0), CronExpression.parse("0 0 */2 * MON").next(MONDAY_NOON));
+
+		// the day of month alone still selects the odd days
+		assertEquals(LocalDateTime.of(2026, 10, 21, 0, 0), CronExpression.parse("0 0 */2 * *").next(MONDAY_NOON));
+
+		// a day of week starting with * does not restrict the days either
+		assertEquals(LocalDateTime.of(2026, 11, 13, 0, 0), CronExpression.parse("0 0 13 * */5").next(MONDAY_NOON));
+	}
+
+	@Test
+	public void nextAcrossMonthAndYearEnds() throws Exception {
+		assertEquals(LocalDateTime.of(2026, 2, 1, 0, 0), CronExpression.parse("@monthly").next(LocalDateTime.of(2026, 1, 31, 12, 0)));
+		assertEquals(LocalDateTime.of(2027, 1, 1, 2, 30), CronExpression.parse("30 2 * * *").next(LocalDateTime.of(2026, 12, 31, 3, 0)));
+		assertEquals(LocalDateTime.of(2027, 1, 1, 0, 0), CronExpression.parse("@yearly").next(LocalDateTime.of(2026, 12, 31, 23, 59)));
+		assertEquals(LocalDateTime.of(2026, 12, 31, 0, 0), CronExpression.parse("0 0 31 * *").next(LocalDateTime.of(2026, 11, 1, 0, 0)));
+		assertEquals(LocalDateTime.of(2028, 2, 29, 0, 0), CronExpression.parse("0 0 29 2 *").next(LocalDateTime.of(2026, 3, 1, 0, 0)));
+	}
+
+	@Test
+	public void impossibleDateHasNoNextExecution() throws Exception {
+		assertNull(CronExpression.parse("0 0 31 2 *").next(MONDAY_NOON));
+		assertNull(CronExpression.parse("0 0 30 FEB *").next(MONDAY_NOON));
+	}
+
+	@Test
+	public void macros() throws Exception {
+		assertEquals(LocalDateTime.of(2026, 10, 19, 13, 0), CronExpression.parse("@hourly").next(MONDAY_NOON));
+		assertEquals(LocalDateTime.of(2026, 10, 20, 0, 0), CronExpression.parse("@daily").next(MONDAY_NOON));
+		assertEquals(LocalDateTime.of(2026, 10, 25, 0, 0), CronExpression.parse("@weekly").next(MONDAY_NOON));
+		assertEquals("@daily", CronExpression.parse(" @daily ").getExpression());
+	}
+
+	@Test
+	public void invalidExpressionsAreRejected() {
+		String[] expressions = { "* * * *", "* * * * * *", "60 * * * *", "0 24 * * *", "0 0 0 * *", "0 0 32 * *", "0 0 * 0 *", "0 0 * 13 *", "0 0 * * 8",
+				"*/0 * * * *", "5-1 * * * *", "-1 * * * *", "x * * * *", "0 0 * FOO *" };
+		for (String expression : expressions) {
+			try {
+				CronExpression.parse(expression);
+				fail("accepted \"" + expression + "\"");
+			} catch (ParameterValueInvalidException e) {
+				// expected
+			}
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package br.embrapa.cnpaf.inmetdata.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <br>
+ * <p>
+ * <b>Tests of the packing of the temporal keys: the boundaries of each part, the rejection of the values out of range, the order of the keys and the
+ * conversion of the dates.</b>
+ * </p>
+ * <br>
+ *
+ * @author Feliphe Stival Valadares Guiliane.
+ * @version 0.1
+ * @since 19/10/2026 (creation date)
+ *
+ */
+public class TemporalKeyUtilTest {
+
+	private static final int LAST_FOUR_DIGIT_EPOCH_DAY = (int) LocalDate.of(9999, 12, 31).toEpochDay();
+
+	@Test
+	public void boundariesRoundTrip() {
+		long[] stationIds = { 0, 1, TemporalKeyUtil.MAXIMUM_STATION_ID };
+		int[] epochDays = { 0, 1, TemporalKeyUtil.MAXIMUM_EPOCH_DAY };
+		int[] hours = { 0, 23 };
+		for (long stationId : stationIds) {
+			for (int epochDay : epochDays) {
+				for (int hour : hours) {
+					long key = TemporalKeyUtil.pack(stationId, epochDay, hour);
+					assertTrue("negative key", key >= 0);
+					assertEquals(stationId, TemporalKeyUtil.getStationId(key));
+					assertEquals(epochDay, TemporalKeyUtil.getEpochDay(key));
+					assertEquals(hour, TemporalKeyUtil.getHour(key));
+
+					int timeKey = TemporalKeyUtil.timeKey(epochDay, hour);
+					assertTrue("negative time key", timeKey >= 0);
+					assertEquals(epochDay, TemporalKeyUtil.getEpochDay(timeKey));
+					assertEquals(hour, TemporalKeyUtil.getHour(timeKey));
+				}
+			}
+		}
+
+		// the largest key uses every bit above the hour, without reaching the sign bit
+		assertEquals(Long.MAX_VALUE >>> TemporalKeyUtil.HOUR_BITS,
+				TemporalKeyUtil.pack(TemporalKeyUtil.MAXIMUM_STATION_ID, TemporalKeyUtil.MAXIMUM_EPOCH_DAY, 23) >>> TemporalKeyUtil.HOUR_BITS);
+		assertEquals(LocalDate.of(1970, 1, 1), TemporalKeyUtil.toLocalDate(TemporalKeyUtil.pack(7, 0, 23)));
+	}
+
+	@Test
+	public void valuesOutOfRangeAreRejected() {
+		assertRejected(() -> TemporalKeyUtil.pack(-1, 0, 0));
+		assertRejected(() -> TemporalKeyUtil.pack(Long.MIN_VALUE, 0, 0));
+		assertRejected(() -> TemporalKeyUtil.pack(TemporalKeyUtil.MAXIMUM_STATION_ID + 1, 0, 0));
+		assertRejected(() -> TemporalKeyUtil.pack(1, -1, 0));
+		assertRejected(() -> TemporalKeyUtil.pack(1, TemporalKeyUtil.MAXIMUM_EPOCH_DAY + 1, 0));
+		assertRejected(() -> TemporalKeyUtil.pack(1, 0, -1));
+		assertRejected(() -> TemporalKeyUtil.pack(1, 0, 24));
+		assertRejected(() -> TemporalKeyUtil.timeKey(-1, 0));
+		assertRejected(() -> TemporalKeyUtil.timeKey(Integer.MIN_VALUE, 0));
+		assertRejected(() -> TemporalKeyUtil.timeKey(TemporalKeyUtil.MAXIMUM_EPOCH_DAY + 1, 0));
+		assertRejected(() -> TemporalKeyUtil.timeKey(0, -1));
+		assertRejected(() -> TemporalKeyUtil.timeKey(0, 24));
+	}
+
+	@Test
+	public void keysOrderAsStationDateAndHour() {
+		Random random = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			long stationA = random.nextInt(3);
+			long stationB = random.nextInt(3);
+			int dayA = random.nextInt(TemporalKeyUtil.MAXIMUM_EPOCH_DAY + 1);
+			int dayB = random.nextBoolean() ? dayA : random.nextInt(TemporalKeyUtil.MAXIMUM_EPOCH_DAY + 1);
+			int hourA = random.nextInt(24);
+			int hourB = random.nextInt(24);
+			int expected = (stationA != stationB) ? Long.compare(stationA, stationB)
+					: (dayA != dayB) ? Integer.compare(dayA, dayB) : Integer.compare(hourA, hourB);
+			assertEquals(Integer.signum(expected),
+					Integer.signum(Long.compare(TemporalKeyUtil.pack(stationA, dayA, hourA), TemporalKeyUtil.pack(stationB, dayB, hourB))));
+			if (stationA == stationB) {
+				assertEquals(Integer.signum(expected), Integer.signum(Integer.compare(TemporalKeyUtil.timeKey(dayA, hourA), TemporalKeyUtil.timeKey(dayB, hourB))));
+			}
+		}
+	}
+
+	@Test
+	public void parseHour() {
+		assertEquals(0, TemporalKeyUtil.parseHour("0000"));
+		assertEquals(12, TemporalKeyUtil.parseHour("1200"));
+		assertEquals(12, TemporalKeyUtil.parseHour("12:00"));
+		assertEquals(23, TemporalKeyUtil.parseHour("23:00:00"));
+		assertRejected(() -> TemporalKeyUtil.parseHour(null));
+		assertRejected(() -> TemporalKeyUtil.parseHour("1"));
+		assertRejected(() -> TemporalKeyUtil.parseHour("2400"));
+		assertRejected(() -> TemporalKeyUtil.parseHour("-100"));
+		assertRejected(() -> TemporalKeyUtil.parseHour("ab00"));
+	}
+
+	@Test
+	public void appendSqlDateMatchesLocalDate() {
+		for (int epochDay = 0; epochDay <= LAST_FOUR_DIGIT_EPOCH_DAY; epochDay += (epochDay < 100000) ? 1 : 97) {
+			assertEquals(LocalDate.ofEpochDay(epochDay).toString(), TemporalKeyUtil.appendSqlDate(new StringBuilder(), epochDay).toString());
+		}
+		assertEquals("9999-12-31", TemporalKeyUtil.appendSqlDate(new StringBuilder(), LAST_FOUR_DIGIT_EPOCH_DAY).toString());
+		assertEquals("1969-12-31", TemporalKeyUtil.appendSqlDate(new StringBuilder(), -1).toString());
+		assertEquals("x2024-02-29", TemporalKeyUtil.appendSqlDate(new StringBuilder("x"), (int) LocalDate.of(2024, 2, 29).toEpochDay()).toString());
+	}
+
+	private static void assertRejected(Runnable runnable) {
+		try {
+			runnable.run();
+			fail("value out of range accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}